@@ -0,0 +1,441 @@
+package GrimmPackage.DateTime;
+
+import java.lang.invoke.*;
+import java.time.*;
+
+import static GrimmPackage.DateTime.GTimeArithmetic.*;
+import static GrimmPackage.DateTime.GTimeCalculate.*;
+import static GrimmPackage.DateTime.GTimeZoneCache.*;
+
+/**
+ * <b>Provides a lock-free holder of an instant, which can be shared and updated by any number of threads.</b><p>
+ * The instant is stored as one long of nanoseconds from the epoch of 1970-01-01T00:00:00Z, the key of GTimeIndex, therefore it is limited to the instants from 1677-09-21 to 2262-04-11. The time zone, ID and description are fixed when the holder is created and are used by the GTime views and by the calendar units of getAndIncrease().<p>
+ * Reading the instant is a single volatile read: it is wait-free and does not allocate; a GTime view is created only by getGTime().<p>
+ * Updates are compare-and-set loops on the long. accumulateMax() and accumulateMin() read before writing and leave the value untouched when it would not change, therefore a watermark which is updated by many threads is written only when it really moves, and the threads which lose a race re-check instead of writing again.<p>
+ * For write-heavy watermarks, a striped AtomicGTime accumulates either the maximum or the minimum in one cell per stripe, about one stripe per core and each on its own cache lines, so threads reporting at once mostly update different cells. Reading folds the base value and the fixed array of cells, the same as LongAccumulator.get(): it stays wait-free and does not allocate, but costs one read per stripe and is not a snapshot of concurrent accumulations.<p>
+ * In a striped AtomicGTime, accumulateMax() or accumulateMin() of its direction returns whether the cell of the thread changed, and the other one returns false. setEpochNanoseconds(), setGTime(), compareAndSet() and getAndIncrease() keep working on the single linearizable base value and do not touch the cells, therefore the read value does not move behind an accumulated cell; e.g. a maximum cannot be set back to an earlier instant.<p>
+ * Units of getAndIncrease: year, month, week, day, hour, minute, second, nanosecond. Year, month, week and day follow the calendar of the time zone; the other units are exact.<p>
+ * In case wrong input is given or the result would leave the range, the value does not change; methods returning long return Long.MIN_VALUE for failure, which is never a held value.<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.AtomicGTime.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * getAtomicGTime(GTime gTime) -> AtomicGTime<p>
+ * getAtomicGTime(long epochNanoseconds, String timezone) -> AtomicGTime<p>
+ * getStripedAtomicGTime(GTime gTime, boolean maximum) -> AtomicGTime<p>
+ * getStripedAtomicGTime(long epochNanoseconds, String timezone, boolean maximum) -> AtomicGTime<p>
+ * isStriped(AtomicGTime atomic) -> boolean<p>
+ * getEpochNanoseconds(AtomicGTime atomic) -> long<p>
+ * getGTime(AtomicGTime atomic) -> GTime<p>
+ * getTimezone(AtomicGTime atomic) -> String<p>
+ * setEpochNanoseconds(AtomicGTime atomic, long epochNanoseconds) -> boolean<p>
+ * setGTime(AtomicGTime atomic, GTime gTime) -> boolean<p>
+ * compareAndSet(AtomicGTime atomic, long expectedEpochNanoseconds, long newEpochNanoseconds) -> boolean<p>
+ * compareAndSet(AtomicGTime atomic, GTime expectedGTime, GTime newGTime) -> boolean<p>
+ * accumulateMax(AtomicGTime atomic, long epochNanoseconds) -> boolean<p>
+ * accumulateMax(AtomicGTime atomic, GTime gTime) -> boolean<p>
+ * accumulateMin(AtomicGTime atomic, long epochNanoseconds) -> boolean<p>
+ * accumulateMin(AtomicGTime atomic, GTime gTime) -> boolean<p>
+ * getAndIncrease(AtomicGTime atomic, String unit, long offset) -> long<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class AtomicGTime {
+	private static final long[] unitNanoseconds = new long[unitNames.length];
+	private static final int CELL_SPACING = 16;
+	private static final int STRIPES = Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors() * 2 - 1, 1));
+	private static final VarHandle CELLS = MethodHandles.arrayElementVarHandle(long[].class);
+	private static final VarHandle VALUE;
+
+	static {
+		unitNanoseconds[HOUR] = 3_600_000_000_000L;
+		unitNanoseconds[MINUTE] = 60_000_000_000L;
+		unitNanoseconds[SECOND] = 1_000_000_000L;
+		unitNanoseconds[NANOSECOND] = 1L;
+		try {
+			VALUE = MethodHandles.lookup().findVarHandle(AtomicGTime.class, "value", long.class);
+		}
+		catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	protected final ZoneId zone;
+	protected final String ID, description;
+	protected final long[] cells;
+	protected final boolean maximum;
+	private volatile long value;
+
+	/**
+	 * <b>Constructs AtomicGTime.</b><p>
+	 * The cells of a striped AtomicGTime are CELL_SPACING longs apart, so that no two cells share a cache line.
+	 * @param value			the long of epoch nanoseconds.
+	 * @param zone			the ZoneId of time zone.
+	 * @param ID			the String of ID.
+	 * @param description	the String of description.
+	 * @param stripes		the int of stripes, 0 for not striped.
+	 * @param maximum		the boolean value marks whether the stripes accumulate the maximum, otherwise the minimum.
+	 */
+	private AtomicGTime(long value, ZoneId zone, String ID, String description, int stripes, boolean maximum) {
+		this.value = value;
+		this.zone = zone;
+		this.ID = ID;
+		this.description = description;
+		this.maximum = maximum;
+		if (stripes == 0) {
+			this.cells = null;
+		}
+		else {
+			this.cells = new long[stripes * CELL_SPACING];
+			for (int i = 0; i < cells.length; i += CELL_SPACING) {
+				cells[i] = value;
+			}
+		}
+	}
+
+	/**
+	 * <b>Returns an AtomicGTime holding the instant, time zone, ID and description of GTime.</b><p>
+	 * In case the GTime is null or outside the range of epoch nanoseconds, returns null.
+	 * @param gTime	the GTime of datetime.
+	 * @return		the AtomicGTime of instant.
+	 */
+	public static AtomicGTime getAtomicGTime(GTime gTime) {
+		long epochNanoseconds = getKey(gTime);
+		if (epochNanoseconds == Long.MIN_VALUE) {
+			return null;
+		}
+		return new AtomicGTime(epochNanoseconds, gTime.time.getZone(), gTime.ID, gTime.description, 0, false);
+	}
+
+	/**
+	 * <b>Returns an AtomicGTime holding an instant on a given time zone.</b><p>
+	 * In case wrong time zone is given, or the instant is Long.MIN_VALUE or Long.MAX_VALUE, returns null.
+	 * @param epochNanoseconds	the long of epoch nanoseconds.
+	 * @param timezone			the String of time zone.
+	 * @return					the AtomicGTime of instant.
+	 */
+	public static AtomicGTime getAtomicGTime(long epochNanoseconds, String timezone) {
+		ZoneId zi = getZone(timezone);
+		if ((zi == null) || !isValue(epochNanoseconds)) {
+			return null;
+		}
+		return new AtomicGTime(epochNanoseconds, zi, "", "", 0, false);
+	}
+
+	/**
+	 * <b>Returns a striped AtomicGTime holding the instant, time zone, ID and description of GTime, for accumulating the maximum or the minimum by many threads.</b><p>
+	 * In case the GTime is null or outside the range of epoch nanoseconds, returns null.
+	 * @param gTime		the GTime of datetime.
+	 * @param maximum	the boolean value marks whether the maximum is accumulated, otherwise the minimum.
+	 * @return			the AtomicGTime of instant.
+	 */
+	public static AtomicGTime getStripedAtomicGTime(GTime gTime, boolean maximum) {
+		long epochNanoseconds = getKey(gTime);
+		if (epochNanoseconds == Long.MIN_VALUE) {
+			return null;
+		}
+		return new AtomicGTime(epochNanoseconds, gTime.time.getZone(), gTime.ID, gTime.description, STRIPES, maximum);
+	}
+
+	/**
+	 * <b>Returns a striped AtomicGTime holding an instant on a given time zone, for accumulating the maximum or the minimum by many threads.</b><p>
+	 * In case wrong time zone is given, or the instant is Long.MIN_VALUE or Long.MAX_VALUE, returns null.
+	 * @param epochNanoseconds	the long of epoch nanoseconds.
+	 * @param timezone			the String of time zone.
+	 * @param maximum			the boolean value marks whether the maximum is accumulated, otherwise the minimum.
+	 * @return					the AtomicGTime of instant.
+	 */
+	public static AtomicGTime getStripedAtomicGTime(long epochNanoseconds, String timezone, boolean maximum) {
+		ZoneId zi = getZone(timezone);
+		if ((zi == null) || !isValue(epochNanoseconds)) {
+			return null;
+		}
+		return new AtomicGTime(epochNanoseconds, zi, "", "", STRIPES, maximum);
+	}
+
+	/**
+	 * <b>Checks whether AtomicGTime is striped.</b>
+	 * @param atomic	the AtomicGTime of instant.
+	 * @return			the boolean value marks whether AtomicGTime is striped.
+	 */
+	public static boolean isStriped(AtomicGTime atomic) {
+		return atomic.cells != null;
+	}
+
+	/**
+	 * <b>Returns the instant of AtomicGTime in nanoseconds from the epoch of 1970-01-01T00:00:00Z.</b><p>
+	 * For a striped AtomicGTime, the base value and the cells are folded.
+	 * @param atomic	the AtomicGTime of instant.
+	 * @return			the long of epoch nanoseconds.
+	 */
+	public static long getEpochNanoseconds(AtomicGTime atomic) {
+		long result = atomic.value;
+		long[] cells = atomic.cells;
+		if (cells != null) {
+			for (int i = 0; i < cells.length; i += CELL_SPACING) {
+				long cell = (long) CELLS.getVolatile(cells, i);
+				result = atomic.maximum ? Math.max(result, cell) : Math.min(result, cell);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * <b>Returns a new GTime of the instant of AtomicGTime, with its time zone, ID and description.</b>
+	 * @param atomic	the AtomicGTime of instant.
+	 * @return			the GTime of datetime.
+	 */
+	public static GTime getGTime(AtomicGTime atomic) {
+		return new GTime(toZonedDateTime(getEpochNanoseconds(atomic), atomic.zone), atomic.ID, atomic.description);
+	}
+
+	/**
+	 * <b>Returns the time zone ID of AtomicGTime.</b>
+	 * @param atomic	the AtomicGTime of instant.
+	 * @return			the String of time zone.
+	 */
+	public static String getTimezone(AtomicGTime atomic) {
+		return atomic.zone.getId();
+	}
+
+	/**
+	 * <b>Sets AtomicGTime on an instant.</b><p>
+	 * For a striped AtomicGTime, the base value is set.<p>
+	 * In case the instant is Long.MIN_VALUE or Long.MAX_VALUE, the value does not change.
+	 * @param atomic			the AtomicGTime of instant.
+	 * @param epochNanoseconds	the long of epoch nanoseconds.
+	 * @return					the boolean value marks whether the method succeeded.
+	 */
+	public static boolean setEpochNanoseconds(AtomicGTime atomic, long epochNanoseconds) {
+		if (!isValue(epochNanoseconds)) {
+			return false;
+		}
+		atomic.value = epochNanoseconds;
+		return true;
+	}
+
+	/**
+	 * <b>Sets AtomicGTime on the instant of GTime.</b><p>
+	 * The time zone, ID and description of AtomicGTime do not change. In case the GTime is null or outside the range of epoch nanoseconds, the value does not change.
+	 * @param atomic	the AtomicGTime of instant.
+	 * @param gTime		the GTime of datetime.
+	 * @return			the boolean value marks whether the method succeeded.
+	 */
+	public static boolean setGTime(AtomicGTime atomic, GTime gTime) {
+		return setEpochNanoseconds(atomic, getKey(gTime));
+	}
+
+	/**
+	 * <b>Sets AtomicGTime on an instant if it holds the expected instant.</b><p>
+	 * For a striped AtomicGTime, the base value is compared and set.
+	 * @param atomic					the AtomicGTime of instant.
+	 * @param expectedEpochNanoseconds	the long of expected epoch nanoseconds.
+	 * @param newEpochNanoseconds		the long of new epoch nanoseconds.
+	 * @return							the boolean value marks whether the value was set.
+	 */
+	public static boolean compareAndSet(AtomicGTime atomic, long expectedEpochNanoseconds, long newEpochNanoseconds) {
+		return isValue(newEpochNanoseconds) && VALUE.compareAndSet(atomic, expectedEpochNanoseconds, newEpochNanoseconds);
+	}
+
+	/**
+	 * <b>Sets AtomicGTime on the instant of a GTime if it holds the instant of the expected GTime.</b><p>
+	 * Instants are compared, therefore GTimes of the same instant on different time zones are equal. For a striped AtomicGTime, the base value is compared and set.
+	 * @param atomic		the AtomicGTime of instant.
+	 * @param expectedGTime	the GTime of expected datetime.
+	 * @param newGTime		the GTime of new datetime.
+	 * @return				the boolean value marks whether the value was set.
+	 */
+	public static boolean compareAndSet(AtomicGTime atomic, GTime expectedGTime, GTime newGTime) {
+		long expected = getKey(expectedGTime);
+		return (expected != Long.MIN_VALUE) && compareAndSet(atomic, expected, getKey(newGTime));
+	}
+
+	/**
+	 * <b>Sets AtomicGTime on an instant if it is later than the held instant.</b><p>
+	 * For a striped AtomicGTime, the cell of the thread is set; in case it accumulates the minimum, returns false.
+	 * @param atomic			the AtomicGTime of instant.
+	 * @param epochNanoseconds	the long of epoch nanoseconds.
+	 * @return					the boolean value marks whether the value changed.
+	 */
+	public static boolean accumulateMax(AtomicGTime atomic, long epochNanoseconds) {
+		if (!isValue(epochNanoseconds)) {
+			return false;
+		}
+		if (atomic.cells != null) {
+			return atomic.maximum && accumulateCell(atomic, epochNanoseconds);
+		}
+		long current = atomic.value;
+		while (epochNanoseconds > current) {
+			long witness = (long) VALUE.compareAndExchange(atomic, current, epochNanoseconds);
+			if (witness == current) {
+				return true;
+			}
+			current = witness;
+		}
+		return false;
+	}
+
+	/**
+	 * <b>Sets AtomicGTime on the instant of GTime if it is later than the held instant.</b>
+	 * @param atomic	the AtomicGTime of instant.
+	 * @param gTime		the GTime of datetime.
+	 * @return			the boolean value marks whether the value changed.
+	 */
+	public static boolean accumulateMax(AtomicGTime atomic, GTime gTime) {
+		return accumulateMax(atomic, getKey(gTime));
+	}
+
+	/**
+	 * <b>Sets AtomicGTime on an instant if it is earlier than the held instant.</b><p>
+	 * For a striped AtomicGTime, the cell of the thread is set; in case it accumulates the maximum, returns false.
+	 * @param atomic			the AtomicGTime of instant.
+	 * @param epochNanoseconds	the long of epoch nanoseconds.
+	 * @return					the boolean value marks whether the value changed.
+	 */
+	public static boolean accumulateMin(AtomicGTime atomic, long epochNanoseconds) {
+		if (!isValue(epochNanoseconds)) {
+			return false;
+		}
+		if (atomic.cells != null) {
+			return !atomic.maximum && accumulateCell(atomic, epochNanoseconds);
+		}
+		long current = atomic.value;
+		while (epochNanoseconds < current) {
+			long witness = (long) VALUE.compareAndExchange(atomic, current, epochNanoseconds);
+			if (witness == current) {
+				return true;
+			}
+			current = witness;
+		}
+		return false;
+	}
+
+	/**
+	 * <b>Sets AtomicGTime on the instant of GTime if it is earlier than the held instant.</b>
+	 * @param atomic	the AtomicGTime of instant.
+	 * @param gTime		the GTime of datetime.
+	 * @return			the boolean value marks whether the value changed.
+	 */
+	public static boolean accumulateMin(AtomicGTime atomic, GTime gTime) {
+		return accumulateMin(atomic, getKey(gTime));
+	}
+
+	/**
+	 * <b>Increase/decrease AtomicGTime by an offset of a unit, and returns the previous instant.</b><p>
+	 * Giving negative offset results decreasing. Year, month, week and day follow the calendar of the time zone of AtomicGTime. For a striped AtomicGTime, the base value is increased and returned.<p>
+	 * In case wrong unit is given or the result would leave the range of epoch nanoseconds, the value does not change and returns Long.MIN_VALUE.
+	 * @param atomic	the AtomicGTime of instant.
+	 * @param unit		the String of unit (year, month, week, day, hour, minute, second, nanosecond).
+	 * @param offset	the long of offset.
+	 * @return			the long of previous epoch nanoseconds.
+	 */
+	public static long getAndIncrease(AtomicGTime atomic, String unit, long offset) {
+		int operation = getUnitIndex(unitNames, unit);
+		if (operation < 0) {
+			return Long.MIN_VALUE;
+		}
+		long current = atomic.value;
+		while (true) {
+			long next = increase(current, atomic.zone, operation, offset);
+			if (next == Long.MIN_VALUE) {
+				return Long.MIN_VALUE;
+			}
+			long witness = (long) VALUE.compareAndExchange(atomic, current, next);
+			if (witness == current) {
+				return current;
+			}
+			current = witness;
+		}
+	}
+
+	/**
+	 * <b>Accumulates an instant into the cell of the current thread of a striped AtomicGTime.</b>
+	 * @param atomic			the AtomicGTime of instant.
+	 * @param epochNanoseconds	the long of epoch nanoseconds.
+	 * @return					the boolean value marks whether the cell changed.
+	 */
+	private static boolean accumulateCell(AtomicGTime atomic, long epochNanoseconds) {
+		long[] cells = atomic.cells;
+		int index = ((int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 32) & (STRIPES - 1)) * CELL_SPACING;
+		long current = (long) CELLS.getVolatile(cells, index);
+		while (atomic.maximum ? (epochNanoseconds > current) : (epochNanoseconds < current)) {
+			long witness = (long) CELLS.compareAndExchange(cells, index, current, epochNanoseconds);
+			if (witness == current) {
+				return true;
+			}
+			current = witness;
+		}
+		return false;
+	}
+
+	/**
+	 * <b>Returns an instant increased by an offset of a unit.</b>
+	 * @param epochNanoseconds	the long of epoch nanoseconds.
+	 * @param zone				the ZoneId of calendar units.
+	 * @param operation			the int of unit.
+	 * @param offset			the long of offset.
+	 * @return					the long of epoch nanoseconds, Long.MIN_VALUE for out of range.
+	 */
+	private static long increase(long epochNanoseconds, ZoneId zone, int operation, long offset) {
+		try {
+			long next;
+			if (unitNanoseconds[operation] != 0) {
+				next = Math.addExact(epochNanoseconds, Math.multiplyExact(offset, unitNanoseconds[operation]));
+			}
+			else {
+				ZonedDateTime time = toZonedDateTime(epochNanoseconds, zone);
+				switch (operation) {
+					case YEAR:
+						time = time.plusYears(offset);
+						break;
+					case MONTH:
+						time = time.plusMonths(offset);
+						break;
+					case WEEK:
+						time = time.plusWeeks(offset);
+						break;
+					default:
+						time = time.plusDays(offset);
+				}
+				next = Math.addExact(Math.multiplyExact(time.toEpochSecond(), (long) NANOSECONDS_PER_SECOND), time.getNano());
+			}
+			return isValue(next) ? next : Long.MIN_VALUE;
+		}
+		catch (Exception e) {
+			return Long.MIN_VALUE;
+		}
+	}
+
+	/**
+	 * <b>Returns the ZonedDateTime of an instant on a time zone.</b>
+	 * @param epochNanoseconds	the long of epoch nanoseconds.
+	 * @param zone				the ZoneId of time zone.
+	 * @return					the ZonedDateTime of instant.
+	 */
+	private static ZonedDateTime toZonedDateTime(long epochNanoseconds, ZoneId zone) {
+		return ZonedDateTime.ofInstant(Instant.ofEpochSecond(Math.floorDiv(epochNanoseconds, (long) NANOSECONDS_PER_SECOND), Math.floorMod(epochNanoseconds, (long) NANOSECONDS_PER_SECOND)), zone);
+	}
+
+	/**
+	 * <b>Returns the instant of GTime in epoch nanoseconds.</b>
+	 * @param gTime	the GTime of datetime.
+	 * @return		the long of epoch nanoseconds, Long.MIN_VALUE for null or out of range.
+	 */
+	private static long getKey(GTime gTime) {
+		if (gTime == null) {
+			return Long.MIN_VALUE;
+		}
+		long key = GTimeIndex.getEpochNanoseconds(gTime);
+		return isValue(key) ? key : Long.MIN_VALUE;
+	}
+
+	/**
+	 * <b>Checks whether an instant can be held.</b>
+	 * @param epochNanoseconds	the long of epoch nanoseconds.
+	 * @return					the boolean value marks whether the instant is not a sentinel.
+	 */
+	private static boolean isValue(long epochNanoseconds) {
+		return (epochNanoseconds != Long.MIN_VALUE) && (epochNanoseconds != Long.MAX_VALUE);
+	}
+}
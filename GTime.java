@@ -7,6 +7,11 @@ package GrimmPackage.DateTime;
 
 import java.time.*;
 
+import static GrimmPackage.DateTime.GTimeAnalyse.*;
+import static GrimmPackage.DateTime.GTimeClock.*;
+import static GrimmPackage.DateTime.GTimeMetrics.*;
+import static GrimmPackage.DateTime.GTimeZoneCache.*;
+
 /**
  * <b>Provides a zoned date and datetime type.</b><p>
  * <p><p>
@@ -27,7 +32,7 @@ public class GTime {
 	 * <b>Constructs GTime on current local datetime and local time zone.</b>
  	 */
 	public GTime() {
-		time = ZonedDateTime.now();
+		time = getCurrentTime();
 		ID = "";
 		description = "";
 	}
@@ -44,11 +49,13 @@ public class GTime {
 	 * @param timezone	the String of time zone.
 	 */
 	public GTime(String timezone) {
-		try {
-			time = ZonedDateTime.now(ZoneId.of(timezone));
+		ZoneId zi = getZone(timezone);
+		if (zi == null) {
+			recordFallback(TIMEZONE_FALLBACK, timezone);
+			time = getCurrentTime();
 		}
-		catch (Exception e) {
-			time = ZonedDateTime.now();
+		else {
+			time = getCurrentTime(zi);
 		}
 		ID = "";
 		description = "";
@@ -74,25 +81,17 @@ public class GTime {
 	 * @param timezone		the String of time zone.
 	 */
 	public GTime(int year, int month, int day, int hour24, int minute, int second, int nanosecond, String timezone) {
-		ZoneId zi;
-		try {
-			zi = ZoneId.of(timezone);
-			try {
-				time = ZonedDateTime.of(year, month, day, hour24, minute, second, nanosecond, zi);
-			}
-			catch (Exception e) {
-				time = ZonedDateTime.now(zi);
-			}
+		ZoneId zi = getZone(timezone);
+		if (zi == null) {
+			recordFallback(TIMEZONE_FALLBACK, timezone);
+			zi = ZoneId.systemDefault();
+		}
+		if (isDate(year, month, day) && isTime(hour24, minute, second, nanosecond)) {
+			time = ZonedDateTime.of(year, month, day, hour24, minute, second, nanosecond, zi);
 		}
-		catch (Exception e) {
-			time = ZonedDateTime.now();
-			zi = time.getZone();
-			try {
-				time = ZonedDateTime.of(year, month, day, hour24, minute, second, nanosecond, zi);
-			}
-			catch (Exception e2) {
-				time = ZonedDateTime.now(zi);
-			}
+		else {
+			recordFallback(DATETIME_FALLBACK, timezone);
+			time = getCurrentTime(zi);
 		}
 		ID = "";
 		description = "";
@@ -115,27 +114,32 @@ public class GTime {
 	 * @param timezone			the String of time zone.
 	 */
 	public GTime(int[] dateComponents, int[] timeComponents, String timezone) {
-		ZoneId zi;
-		try {
-			zi = ZoneId.of(timezone);
-			try {
-				time = ZonedDateTime.of(dateComponents[0], dateComponents[1], dateComponents[2], timeComponents[0], timeComponents[1], timeComponents[2], timeComponents[3], zi);
-			}
-			catch (Exception e) {
-				time = ZonedDateTime.now(zi);
-			}
+		ZoneId zi = getZone(timezone);
+		if (zi == null) {
+			recordFallback(TIMEZONE_FALLBACK, timezone);
+			zi = ZoneId.systemDefault();
 		}
-		catch (Exception e) {
-			time = ZonedDateTime.now();
-			zi = time.getZone();
-			try {
-				time = ZonedDateTime.of(dateComponents[0], dateComponents[1], dateComponents[2], timeComponents[0], timeComponents[1], timeComponents[2], timeComponents[3], zi);
-			}
-			catch (Exception e2) {
-				time = ZonedDateTime.now(zi);
-			}
+		if (isDateTime(dateComponents, timeComponents)) {
+			time = ZonedDateTime.of(dateComponents[0], dateComponents[1], dateComponents[2], timeComponents[0], timeComponents[1], timeComponents[2], timeComponents[3], zi);
+		}
+		else {
+			recordFallback(DATETIME_FALLBACK, timezone);
+			time = getCurrentTime(zi);
 		}
 		ID = "";
 		description = "";
 	}
+
+	/**
+	 * <b>Constructs GTime on given ZonedDateTime, ID and description.</b><p>
+	 * The ZonedDateTime is immutable, therefore it is shared without copying.
+	 * @param time			the ZonedDateTime of datetime.
+	 * @param ID			the String of ID.
+	 * @param description	the String of description.
+	 */
+	GTime(ZonedDateTime time, String ID, String description) {
+		this.time = time;
+		this.ID = ID;
+		this.description = description;
+	}
 }
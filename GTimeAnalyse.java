@@ -3,9 +3,7 @@ package GrimmPackage.DateTime;
 import java.time.*;
 import java.util.*;
 
-import static GrimmPackage.DateTime.GTimeCalculate.*;
 import static GrimmPackage.DateTime.GTimeInfo.*;
-import static GrimmPackage.DateTime.GTimeEdit.*;
 
 /**
  * <b>Provides analysis helper methods for GTime objects.</b><p>
@@ -16,6 +14,10 @@ import static GrimmPackage.DateTime.GTimeEdit.*;
  * PUBLIC METHODS:<p>
  * isDate(String year, String month, String day) -> boolean<p>
  * isDate(int year, int month, int day) -> boolean<p>
+ * isDate(int[] years, int[] months, int[] days) -> BitSet<p>
+ * isTime(int hour24, int minute, int second, int nanosecond) -> boolean<p>
+ * isTime(int[] hours24, int[] minutes, int[] seconds, int[] nanoseconds) -> BitSet<p>
+ * isLeapYear(int year) -> boolean<p>
  * isLeapYear(GTime gTime) -> boolean<p>
  * isEqualForDateTimeTimezone(GTime gTime1, GTime gTime2) -> boolean<p>
  * isEqualForDays(GTime gTime1, GTime gTime2) -> boolean<p>
@@ -27,6 +29,10 @@ import static GrimmPackage.DateTime.GTimeEdit.*;
  * differenceInSeconds(GTime gTime1, GTime gTime2) -> long<p>
  * differenceInNanoseconds(GTime gTime1, GTime gTime2) -> long<p>
  * difference(GTime gTime1, GTime gTime2) -> long[]<p>
+ * difference(GTime gTime1, GTime gTime2, long[] differences) -> long[]<p>
+ * differenceInSeconds(long epochSecond1, int nanosecond1, long epochSecond2, int nanosecond2) -> long<p>
+ * differenceInNanoseconds(long epochSecond1, int nanosecond1, long epochSecond2, int nanosecond2) -> long<p>
+ * difference(long epochSecond1, int nanosecond1, long epochSecond2, int nanosecond2, long[] differences) -> long[]<p>
  *
  * @author	Laszlo Karoly Grimm
  * @since 2022-06-05
@@ -60,9 +66,105 @@ public class GTimeAnalyse {
 	 * @return		the boolean value marks whether the parameters qualify.
 	 */
 	public static boolean isDate(int year, int month, int day) {
-		GTime gTime = new GTime();
-		setDateTime(gTime, year, month, day, 1, 1, 1, 1, getTimeZoneID(gTime));
-		return getEditSuccess();
+		return (year >= Year.MIN_VALUE) && (year <= Year.MAX_VALUE) && (month > 0) && (month < 13) && (day > 0) && (day <= getDaysOfMonth(year, month));
+	}
+
+	/**
+	 * <b>Checks whether the given parameter columns form legal GTime dates, row by row.</b><p>
+	 * The arrays are read in parallel; the number of checked rows is the length of the shortest array.<p>
+	 * Bit i of the result is set when row i is a legal date.
+	 * @param years		the int[] of years.
+	 * @param months	the int[] of months.
+	 * @param days		the int[] of days.
+	 * @return			the BitSet marks which rows qualify.
+	 */
+	public static BitSet isDate(int[] years, int[] months, int[] days) {
+		int rows = Math.min(years.length, Math.min(months.length, days.length));
+		long[] words = new long[(rows + 63) >>> 6];
+		for (int i = 0; i < rows; i++) {
+			if (isDate(years[i], months[i], days[i])) {
+				words[i >>> 6] |= 1L << i;
+			}
+		}
+		return BitSet.valueOf(words);
+	}
+
+	/**
+	 * <b>Checks whether the given parameters form a legal GTime time.</b>
+	 * @param hour24		the int of hour.
+	 * @param minute		the int of minute.
+	 * @param second		the int of second.
+	 * @param nanosecond	the int of nanosecond.
+	 * @return				the boolean value marks whether the parameters qualify.
+	 */
+	public static boolean isTime(int hour24, int minute, int second, int nanosecond) {
+		return (hour24 >= 0) && (hour24 < 24) && (minute >= 0) && (minute < 60) && (second >= 0) && (second < 60) && (nanosecond >= 0) && (nanosecond < 1_000_000_000);
+	}
+
+	/**
+	 * <b>Checks whether the given parameter columns form legal GTime times, row by row.</b><p>
+	 * The arrays are read in parallel; the number of checked rows is the length of the shortest array.<p>
+	 * Bit i of the result is set when row i is a legal time.
+	 * @param hours24		the int[] of hours.
+	 * @param minutes		the int[] of minutes.
+	 * @param seconds		the int[] of seconds.
+	 * @param nanoseconds	the int[] of nanoseconds.
+	 * @return				the BitSet marks which rows qualify.
+	 */
+	public static BitSet isTime(int[] hours24, int[] minutes, int[] seconds, int[] nanoseconds) {
+		int rows = Math.min(Math.min(hours24.length, minutes.length), Math.min(seconds.length, nanoseconds.length));
+		long[] words = new long[(rows + 63) >>> 6];
+		for (int i = 0; i < rows; i++) {
+			if (isTime(hours24[i], minutes[i], seconds[i], nanoseconds[i])) {
+				words[i >>> 6] |= 1L << i;
+			}
+		}
+		return BitSet.valueOf(words);
+	}
+
+	/**
+	 * <b>Checks whether the given components form a legal GTime date and time.</b><p>
+	 * Date components are year, month and day, in their respective order.<p>
+	 * Time components are hour24, minute, second and nanosecond, in their respective order.<p>
+	 * Missing components do not qualify.
+	 * @param dateComponents	the int[] of date components.
+	 * @param timeComponents	the int[] of time components.
+	 * @return					the boolean value marks whether the components qualify.
+	 */
+	static boolean isDateTime(int[] dateComponents, int[] timeComponents) {
+		return (dateComponents != null) && (dateComponents.length > 2) && (timeComponents != null) && (timeComponents.length > 3) &&
+				isDate(dateComponents[0], dateComponents[1], dateComponents[2]) &&
+				isTime(timeComponents[0], timeComponents[1], timeComponents[2], timeComponents[3]);
+	}
+
+	/**
+	 * <b>Checks whether a year is a leap year.</b><p>
+	 * Uses the proleptic Gregorian calendar, the same as GTime does.
+	 * @param year	the int of year.
+	 * @return		the boolean value marks whether the year is a leap year.
+	 */
+	public static boolean isLeapYear(int year) {
+		return ((year & 3) == 0) && ((year % 100 != 0) || (year % 400 == 0));
+	}
+
+	/**
+	 * <b>Returns the number of days in a month.</b>
+	 * @param year	the int of year.
+	 * @param month	the int of month.
+	 * @return		the int of number-of-days-in-month.
+	 */
+	static int getDaysOfMonth(int year, int month) {
+		switch (month) {
+			case 2:
+				return isLeapYear(year) ? 29 : 28;
+			case 4:
+			case 6:
+			case 9:
+			case 11:
+				return 30;
+			default:
+				return 31;
+		}
 	}
 
 	/**
@@ -71,7 +173,7 @@ public class GTimeAnalyse {
 	 * @return		the boolean value marks whether the year of GTime is a leap year.
 	 */
 	public static boolean isLeapYear(GTime gTime) {
-		return new GregorianCalendar().isLeapYear(getYear(gTime));
+		return isLeapYear(gTime.time.getYear());
 	}
 
 	/**
@@ -122,11 +224,7 @@ public class GTimeAnalyse {
 	 * @return			the long of difference.
 	 */
 	public static long differenceInDays(GTime gTime1, GTime gTime2) {
-		GTime gTime1Clone = cloneGTime(gTime1);
-		changeTimezone(gTime1Clone, "GMT+00:00");
-		GTime gTime2Clone = cloneGTime(gTime2);
-		changeTimezone(gTime2Clone, "GMT+00:00");
-		return Duration.between(gTime1Clone.time, gTime2Clone.time).toDays();
+		return differenceInSeconds(gTime1.time.toEpochSecond(), gTime1.time.getNano(), gTime2.time.toEpochSecond(), gTime2.time.getNano()) / 86_400L;
 	}
 
 	/**
@@ -137,11 +235,18 @@ public class GTimeAnalyse {
 	 * @return			the long of difference.
 	 */
 	public static long differenceInHours(GTime gTime1, GTime gTime2) {
-		GTime gTime1Clone = cloneGTime(gTime1);
-		changeTimezone(gTime1Clone, "GMT+00:00");
-		GTime gTime2Clone = cloneGTime(gTime2);
-		changeTimezone(gTime2Clone, "GMT+00:00");
-		return Duration.between(gTime1Clone.time, gTime2Clone.time).toHours();
+		return differenceInSeconds(gTime1.time.toEpochSecond(), gTime1.time.getNano(), gTime2.time.toEpochSecond(), gTime2.time.getNano()) / 3_600L;
+	}
+
+	/**
+	 * <b>Calculates the difference between two GTimes in whole minutes.</b><p>
+	 * Positive result marks the second is greater, negative marks the first is greater.
+	 * @param gTime1	the GTime of first datetime.
+	 * @param gTime2	the GTime of second datetime.
+	 * @return			the long of difference.
+	 */
+	public static long differenceInMinutes(GTime gTime1, GTime gTime2) {
+		return differenceInSeconds(gTime1.time.toEpochSecond(), gTime1.time.getNano(), gTime2.time.toEpochSecond(), gTime2.time.getNano()) / 60L;
 	}
 
 	/**
@@ -152,11 +257,7 @@ public class GTimeAnalyse {
 	 * @return			the long of difference.
 	 */
 	public static long differenceInSeconds(GTime gTime1, GTime gTime2) {
-		GTime gTime1Clone = cloneGTime(gTime1);
-		changeTimezone(gTime1Clone, "GMT+00:00");
-		GTime gTime2Clone = cloneGTime(gTime2);
-		changeTimezone(gTime2Clone, "GMT+00:00");
-		return Duration.between(gTime1Clone.time, gTime2Clone.time).toSeconds();
+		return differenceInSeconds(gTime1.time.toEpochSecond(), gTime1.time.getNano(), gTime2.time.toEpochSecond(), gTime2.time.getNano());
 	}
 
 	/**
@@ -167,11 +268,7 @@ public class GTimeAnalyse {
 	 * @return			the long of difference.
 	 */
 	public static long differenceInNanoseconds(GTime gTime1, GTime gTime2) {
-		GTime gTime1Clone = cloneGTime(gTime1);
-		changeTimezone(gTime1Clone, "GMT+00:00");
-		GTime gTime2Clone = cloneGTime(gTime2);
-		changeTimezone(gTime2Clone, "GMT+00:00");
-		return Duration.between(gTime1Clone.time, gTime2Clone.time).toNanos();
+		return differenceInNanoseconds(gTime1.time.toEpochSecond(), gTime1.time.getNano(), gTime2.time.toEpochSecond(), gTime2.time.getNano());
 	}
 
 	/**
@@ -183,11 +280,73 @@ public class GTimeAnalyse {
 	 * @return			the long[] of difference.
 	 */
 	public static long[] difference(GTime gTime1, GTime gTime2) {
-		GTime gTime1Clone = cloneGTime(gTime1);
-		changeTimezone(gTime1Clone, "GMT+00:00");
-		GTime gTime2Clone = cloneGTime(gTime2);
-		changeTimezone(gTime2Clone, "GMT+00:00");
-		Duration d = Duration.between(gTime1Clone.time, gTime2Clone.time);
-		return new long[]{d.toDaysPart(), d.toHoursPart(), d.toMinutesPart(), d.toSecondsPart(), d.toNanosPart()};
+		return difference(gTime1, gTime2, new long[5]);
+	}
+
+	/**
+	 * <b>Calculates the true difference between two GTimes into a given array.</b><p>
+	 * Positive result marks the second is greater, negative marks the first is greater.<p>
+	 * The array is filled with difference in days, hours, minutes, seconds and nanoseconds, in their respective order, therefore it must have at least 5 elements.<p>
+	 * Reusing the same array for subsequent calls avoids creating a new array on every call.
+	 * @param gTime1		the GTime of first datetime.
+	 * @param gTime2		the GTime of second datetime.
+	 * @param differences	the long[] to fill with the difference.
+	 * @return				the long[] of difference, the same as the given one.
+	 */
+	public static long[] difference(GTime gTime1, GTime gTime2, long[] differences) {
+		return difference(gTime1.time.toEpochSecond(), gTime1.time.getNano(), gTime2.time.toEpochSecond(), gTime2.time.getNano(), differences);
+	}
+
+	/**
+	 * <b>Calculates the difference between two instants in whole seconds.</b><p>
+	 * An instant is given by its seconds from the epoch of 1970-01-01T00:00:00Z and its nanosecond-of-second.<p>
+	 * Positive result marks the second is greater, negative marks the first is greater.
+	 * @param epochSecond1	the long of epoch seconds of the first instant.
+	 * @param nanosecond1	the int of nanosecond of the first instant.
+	 * @param epochSecond2	the long of epoch seconds of the second instant.
+	 * @param nanosecond2	the int of nanosecond of the second instant.
+	 * @return				the long of difference.
+	 */
+	public static long differenceInSeconds(long epochSecond1, int nanosecond1, long epochSecond2, int nanosecond2) {
+		long seconds = epochSecond2 - epochSecond1;
+		return (nanosecond2 < nanosecond1) ? seconds - 1L : seconds;
+	}
+
+	/**
+	 * <b>Calculates the difference between two instants in whole nanoseconds.</b><p>
+	 * An instant is given by its seconds from the epoch of 1970-01-01T00:00:00Z and its nanosecond-of-second.<p>
+	 * Positive result marks the second is greater, negative marks the first is greater.
+	 * @param epochSecond1	the long of epoch seconds of the first instant.
+	 * @param nanosecond1	the int of nanosecond of the first instant.
+	 * @param epochSecond2	the long of epoch seconds of the second instant.
+	 * @param nanosecond2	the int of nanosecond of the second instant.
+	 * @return				the long of difference.
+	 * @throws ArithmeticException	in case the difference does not fit into a long (approximately 292 years).
+	 */
+	public static long differenceInNanoseconds(long epochSecond1, int nanosecond1, long epochSecond2, int nanosecond2) {
+		return Math.addExact(Math.multiplyExact(epochSecond2 - epochSecond1, 1_000_000_000L), (long) nanosecond2 - nanosecond1);
+	}
+
+	/**
+	 * <b>Calculates the true difference between two instants into a given array.</b><p>
+	 * An instant is given by its seconds from the epoch of 1970-01-01T00:00:00Z and its nanosecond-of-second.<p>
+	 * Positive result marks the second is greater, negative marks the first is greater.<p>
+	 * The array is filled with difference in days, hours, minutes, seconds and nanoseconds, in their respective order, therefore it must have at least 5 elements.
+	 * @param epochSecond1	the long of epoch seconds of the first instant.
+	 * @param nanosecond1	the int of nanosecond of the first instant.
+	 * @param epochSecond2	the long of epoch seconds of the second instant.
+	 * @param nanosecond2	the int of nanosecond of the second instant.
+	 * @param differences	the long[] to fill with the difference.
+	 * @return				the long[] of difference, the same as the given one.
+	 */
+	public static long[] difference(long epochSecond1, int nanosecond1, long epochSecond2, int nanosecond2, long[] differences) {
+		long seconds = differenceInSeconds(epochSecond1, nanosecond1, epochSecond2, nanosecond2);
+		int nanoseconds = nanosecond2 - nanosecond1;
+		differences[0] = seconds / 86_400L;
+		differences[1] = (seconds / 3_600L) % 24L;
+		differences[2] = (seconds / 60L) % 60L;
+		differences[3] = seconds % 60L;
+		differences[4] = (nanoseconds < 0) ? nanoseconds + 1_000_000_000L : nanoseconds;
+		return differences;
 	}
 }
@@ -0,0 +1,129 @@
+package GrimmPackage.DateTime;
+
+import java.time.*;
+import java.time.zone.*;
+
+/**
+ * <b>Provides primitive calendar arithmetic for the GTime helper classes.</b><p>
+ * All methods are static and work on the proleptic Gregorian calendar, the same as GTime does.<p>
+ * Epoch days count the days from 1970-01-01, epoch seconds count the seconds from 1970-01-01T00:00:00Z.<p>
+ * Dates are packed into a long as year, month and day, see packDate().
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+final class GTimeArithmetic {
+	static final long SECONDS_PER_DAY = 86_400L;
+	static final int NANOSECONDS_PER_SECOND = 1_000_000_000;
+	static final long MIN_LOCAL_SECOND = LocalDateTime.MIN.toEpochSecond(ZoneOffset.UTC);
+	static final long MAX_LOCAL_SECOND = LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC);
+
+	private GTimeArithmetic() {
+	}
+
+	/**
+	 * <b>Returns the epoch day of a date.</b>
+	 * @param year	the int of year.
+	 * @param month	the int of month.
+	 * @param day	the int of day.
+	 * @return		the long of epoch day.
+	 */
+	static long getEpochDay(int year, int month, int day) {
+		long y = (month <= 2) ? (long) year - 1 : year;
+		long era = Math.floorDiv(y, 400L);
+		long yearOfEra = y - era * 400L;
+		long dayOfYear = (153L * ((month > 2) ? month - 3 : month + 9) + 2L) / 5L + day - 1L;
+		long dayOfEra = yearOfEra * 365L + yearOfEra / 4L - yearOfEra / 100L + dayOfYear;
+		return era * 146_097L + dayOfEra - 719_468L;
+	}
+
+	/**
+	 * <b>Returns the date of an epoch day, packed.</b>
+	 * @param epochDay	the long of epoch day.
+	 * @return			the long of packed date.
+	 */
+	static long getDateOfEpochDay(long epochDay) {
+		long z = epochDay + 719_468L;
+		long era = Math.floorDiv(z, 146_097L);
+		long dayOfEra = z - era * 146_097L;
+		long yearOfEra = (dayOfEra - dayOfEra / 1_460L + dayOfEra / 36_524L - dayOfEra / 146_096L) / 365L;
+		long dayOfYear = dayOfEra - (365L * yearOfEra + yearOfEra / 4L - yearOfEra / 100L);
+		long monthIndex = (5L * dayOfYear + 2L) / 153L;
+		int day = (int) (dayOfYear - (153L * monthIndex + 2L) / 5L + 1L);
+		int month = (int) ((monthIndex < 10L) ? monthIndex + 3L : monthIndex - 9L);
+		long year = yearOfEra + era * 400L + ((month <= 2) ? 1L : 0L);
+		return packDate((int) year, month, day);
+	}
+
+	/**
+	 * <b>Packs a date into a long.</b><p>
+	 * The packed dates sort in the same order as the dates.
+	 * @param year	the int of year.
+	 * @param month	the int of month.
+	 * @param day	the int of day.
+	 * @return		the long of packed date.
+	 */
+	static long packDate(int year, int month, int day) {
+		return ((long) year << 9) | ((long) month << 5) | day;
+	}
+
+	/**
+	 * <b>Returns the year of a packed date.</b>
+	 * @param packedDate	the long of packed date.
+	 * @return				the int of year.
+	 */
+	static int getPackedYear(long packedDate) {
+		return (int) (packedDate >> 9);
+	}
+
+	/**
+	 * <b>Returns the month of a packed date.</b>
+	 * @param packedDate	the long of packed date.
+	 * @return				the int of month.
+	 */
+	static int getPackedMonth(long packedDate) {
+		return (int) (packedDate >> 5) & 15;
+	}
+
+	/**
+	 * <b>Returns the day of a packed date.</b>
+	 * @param packedDate	the long of packed date.
+	 * @return				the int of day.
+	 */
+	static int getPackedDay(long packedDate) {
+		return (int) packedDate & 31;
+	}
+
+	/**
+	 * <b>Returns the day-of-week of an epoch day.</b><p>
+	 * Monday is 1, Sunday is 7.
+	 * @param epochDay	the long of epoch day.
+	 * @return			the int of day-of-week.
+	 */
+	static int getDayOfWeekOfEpochDay(long epochDay) {
+		return (int) Math.floorMod(epochDay + 3L, 7L) + 1;
+	}
+
+	/**
+	 * <b>Returns the offset of a time zone at an instant, in seconds, looked up in GTimeOffsetTable.</b>
+	 * @param zone			the ZoneId of time zone.
+	 * @param epochSecond	the long of epoch seconds.
+	 * @return				the int of offset seconds.
+	 */
+	static int getOffsetSeconds(ZoneId zone, long epochSecond) {
+		return GTimeOffsetTable.getZoneOffsetSeconds(zone, epochSecond);
+	}
+
+	/**
+	 * <b>Returns the fixed offset of a time zone in seconds, or Integer.MIN_VALUE when the time zone uses DST or other transitions.</b>
+	 * @param zone	the ZoneId of time zone.
+	 * @return		the int of offset seconds.
+	 */
+	static int getFixedOffsetSeconds(ZoneId zone) {
+		if (zone instanceof ZoneOffset) {
+			return ((ZoneOffset) zone).getTotalSeconds();
+		}
+		ZoneRules rules = zone.getRules();
+		return rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH).getTotalSeconds() : Integer.MIN_VALUE;
+	}
+}
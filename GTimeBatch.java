@@ -0,0 +1,752 @@
+package GrimmPackage.DateTime;
+
+import java.time.*;
+import java.util.*;
+
+import static GrimmPackage.DateTime.GTimeAnalyse.*;
+import static GrimmPackage.DateTime.GTimeArithmetic.*;
+import static GrimmPackage.DateTime.GTimeZoneCache.*;
+
+/**
+ * <b>Provides a columnar batch of zoned datetimes with bulk helper methods.</b><p>
+ * Every row is stored as epoch seconds in a long[], nanosecond-of-second in an int[] and a time zone index in an int[]; the time zones of a batch are interned.<p>
+ * Rows convert to and from GTime on demand; ID and description of a GTime are not stored.<p>
+ * All helper methods are static, the bulk methods work on all rows of the batch.<p>
+ * Bulk increasing methods return a BitSet where bit i marks that row i succeeded; failed rows do not change.<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeBatch.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * GTimeBatch()<p>
+ * GTimeBatch(int capacity)<p>
+ * GTimeBatch(Iterable&lt;GTime&gt; gTimes)<p>
+ * getSize(GTimeBatch batch) -> int<p>
+ * clearBatch(GTimeBatch batch)<p>
+ * addGTime(GTimeBatch batch, GTime gTime) -> int<p>
+ * addInstant(GTimeBatch batch, long epochSecond, int nanosecond, String timezone) -> int<p>
+ * setGTime(GTimeBatch batch, int row, GTime gTime) -> boolean<p>
+ * getGTime(GTimeBatch batch, int row) -> GTime<p>
+ * getEpochSecond(GTimeBatch batch, int row) -> long<p>
+ * getNanosecond(GTimeBatch batch, int row) -> int<p>
+ * getTimeZoneID(GTimeBatch batch, int row) -> String<p>
+ * increaseYear(GTimeBatch batch, long yearOffset) -> BitSet<p>
+ * increaseMonth(GTimeBatch batch, long monthOffset) -> BitSet<p>
+ * increaseWeek(GTimeBatch batch, long weekOffset) -> BitSet<p>
+ * increaseDay(GTimeBatch batch, long dayOffset) -> BitSet<p>
+ * increaseHour(GTimeBatch batch, long hourOffset) -> BitSet<p>
+ * increaseMinute(GTimeBatch batch, long minuteOffset) -> BitSet<p>
+ * increaseSecond(GTimeBatch batch, long secondOffset) -> BitSet<p>
+ * increaseNanosecond(GTimeBatch batch, long nanosecondOffset) -> BitSet<p>
+ * changeTimezone(GTimeBatch batch, String newTimezone) -> boolean<p>
+ * getYears(GTimeBatch batch) -> int[]<p>
+ * getMonths(GTimeBatch batch) -> int[]<p>
+ * getDays(GTimeBatch batch) -> int[]<p>
+ * getHours(GTimeBatch batch) -> int[]<p>
+ * getMinutes(GTimeBatch batch) -> int[]<p>
+ * getSeconds(GTimeBatch batch) -> int[]<p>
+ * getNanoseconds(GTimeBatch batch) -> int[]<p>
+ * getDaysOfWeek(GTimeBatch batch) -> int[]<p>
+ * getDaysOfYear(GTimeBatch batch) -> int[]<p>
+ * differenceInDays(GTimeBatch batch1, GTimeBatch batch2) -> long[]<p>
+ * differenceInHours(GTimeBatch batch1, GTimeBatch batch2) -> long[]<p>
+ * differenceInMinutes(GTimeBatch batch1, GTimeBatch batch2) -> long[]<p>
+ * differenceInSeconds(GTimeBatch batch1, GTimeBatch batch2) -> long[]<p>
+ * differenceInNanoseconds(GTimeBatch batch1, GTimeBatch batch2) -> long[]<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeBatch {
+	protected long[] epochSeconds;
+	protected int[] nanoseconds;
+	protected int[] zoneIndexes;
+	protected int size;
+	protected ZoneId[] zones;
+	protected int zoneCount;
+	protected HashMap<ZoneId, Integer> zoneDictionary;
+
+	/**
+	 * <b>Constructs an empty GTimeBatch.</b>
+	 */
+	public GTimeBatch() {
+		this(16);
+	}
+
+	/**
+	 * <b>Constructs an empty GTimeBatch with room for the given number of rows.</b><p>
+	 * The batch grows when more rows are added.
+	 * @param capacity	the int of initial number of rows.
+	 */
+	public GTimeBatch(int capacity) {
+		capacity = Math.max(capacity, 1);
+		epochSeconds = new long[capacity];
+		nanoseconds = new int[capacity];
+		zoneIndexes = new int[capacity];
+		size = 0;
+		zones = new ZoneId[4];
+		zoneCount = 0;
+		zoneDictionary = new HashMap<>();
+	}
+
+	/**
+	 * <b>Constructs a GTimeBatch containing the given GTimes, in their iteration order.</b>
+	 * @param gTimes	the Iterable of GTimes.
+	 */
+	public GTimeBatch(Iterable<GTime> gTimes) {
+		this((gTimes instanceof Collection) ? ((Collection<?>) gTimes).size() : 16);
+		for (GTime gTime : gTimes) {
+			addGTime(this, gTime);
+		}
+	}
+
+	/**
+	 * <b>Returns the number of rows of GTimeBatch.</b>
+	 * @param batch	the GTimeBatch of datetimes.
+	 * @return		the int of rows.
+	 */
+	public static int getSize(GTimeBatch batch) {
+		return batch.size;
+	}
+
+	/**
+	 * <b>Removes all rows of GTimeBatch.</b><p>
+	 * The allocated capacity is kept for reuse.
+	 * @param batch	the GTimeBatch of datetimes.
+	 */
+	public static void clearBatch(GTimeBatch batch) {
+		batch.size = 0;
+		batch.zoneCount = 0;
+		batch.zoneDictionary.clear();
+	}
+
+	/**
+	 * <b>Appends a GTime to GTimeBatch.</b>
+	 * @param batch	the GTimeBatch of datetimes.
+	 * @param gTime	the GTime of datetime.
+	 * @return		the int of the new row.
+	 */
+	public static int addGTime(GTimeBatch batch, GTime gTime) {
+		return addRow(batch, gTime.time.toEpochSecond(), gTime.time.getNano(), gTime.time.getZone());
+	}
+
+	/**
+	 * <b>Appends an instant on a given time zone to GTimeBatch.</b><p>
+	 * An instant is given by its seconds from the epoch of 1970-01-01T00:00:00Z and its nanosecond-of-second.<p>
+	 * In case wrong time zone or nanosecond is given, or the instant is out of the GTime range, nothing is appended and returns -1.
+	 * @param batch			the GTimeBatch of datetimes.
+	 * @param epochSecond	the long of epoch seconds.
+	 * @param nanosecond	the int of nanosecond.
+	 * @param timezone		the String of time zone.
+	 * @return				the int of the new row.
+	 */
+	public static int addInstant(GTimeBatch batch, long epochSecond, int nanosecond, String timezone) {
+		ZoneId zi = getZone(timezone);
+		if ((zi == null) || (nanosecond < 0) || (nanosecond >= NANOSECONDS_PER_SECOND) || !isInRange(zi, epochSecond)) {
+			return -1;
+		}
+		return addRow(batch, epochSecond, nanosecond, zi);
+	}
+
+	/**
+	 * <b>Overwrites a row of GTimeBatch with a GTime.</b><p>
+	 * In case wrong row is given, nothing changes.
+	 * @param batch	the GTimeBatch of datetimes.
+	 * @param row	the int of row.
+	 * @param gTime	the GTime of datetime.
+	 * @return		the boolean value marks whether the method succeeded.
+	 */
+	public static boolean setGTime(GTimeBatch batch, int row, GTime gTime) {
+		if ((row < 0) || (row >= batch.size)) {
+			return false;
+		}
+		batch.epochSeconds[row] = gTime.time.toEpochSecond();
+		batch.nanoseconds[row] = gTime.time.getNano();
+		batch.zoneIndexes[row] = internZone(batch, gTime.time.getZone());
+		return true;
+	}
+
+	/**
+	 * <b>Returns a row of GTimeBatch as a new GTime.</b><p>
+	 * In case wrong row is given, returns null.
+	 * @param batch	the GTimeBatch of datetimes.
+	 * @param row	the int of row.
+	 * @return		the GTime of datetime.
+	 */
+	public static GTime getGTime(GTimeBatch batch, int row) {
+		if ((row < 0) || (row >= batch.size)) {
+			return null;
+		}
+		return new GTime(ZonedDateTime.ofInstant(Instant.ofEpochSecond(batch.epochSeconds[row], batch.nanoseconds[row]), batch.zones[batch.zoneIndexes[row]]), "", "");
+	}
+
+	/**
+	 * <b>Returns the epoch seconds of a row of GTimeBatch.</b>
+	 * @param batch	the GTimeBatch of datetimes.
+	 * @param row	the int of row.
+	 * @return		the long of seconds from 1970-01-01T00:00:00Z.
+	 */
+	public static long getEpochSecond(GTimeBatch batch, int row) {
+		return batch.epochSeconds[row];
+	}
+
+	/**
+	 * <b>Returns the nanosecond of a row of GTimeBatch.</b>
+	 * @param batch	the GTimeBatch of datetimes.
+	 * @param row	the int of row.
+	 * @return		the int of nanosecond.
+	 */
+	public static int getNanosecond(GTimeBatch batch, int row) {
+		return batch.nanoseconds[row];
+	}
+
+	/**
+	 * <b>Returns the time zone ID of a row of GTimeBatch.</b>
+	 * @param batch	the GTimeBatch of datetimes.
+	 * @param row	the int of row.
+	 * @return		the String of time zone ID.
+	 */
+	public static String getTimeZoneID(GTimeBatch batch, int row) {
+		return batch.zones[batch.zoneIndexes[row]].getId();
+	}
+
+	/**
+	 * <b>Increase/decrease the year of all rows of GTimeBatch.</b><p>
+	 * Giving negative offset results decreasing.
+	 * @param batch			the GTimeBatch of datetimes.
+	 * @param yearOffset	the long of year offset.
+	 * @return				the BitSet marks which rows succeeded.
+	 */
+	public static BitSet increaseYear(GTimeBatch batch, long yearOffset) {
+		if ((yearOffset < -(2L * Year.MAX_VALUE)) || (yearOffset > 2L * Year.MAX_VALUE)) {
+			return new BitSet();
+		}
+		return increaseMonths(batch, yearOffset * 12L);
+	}
+
+	/**
+	 * <b>Increase/decrease the month of all rows of GTimeBatch.</b><p>
+	 * Giving negative offset results decreasing.
+	 * @param batch			the GTimeBatch of datetimes.
+	 * @param monthOffset	the long of month offset.
+	 * @return				the BitSet marks which rows succeeded.
+	 */
+	public static BitSet increaseMonth(GTimeBatch batch, long monthOffset) {
+		if ((monthOffset < -(24L * Year.MAX_VALUE)) || (monthOffset > 24L * Year.MAX_VALUE)) {
+			return new BitSet();
+		}
+		return increaseMonths(batch, monthOffset);
+	}
+
+	/**
+	 * <b>Increase/decrease the week of all rows of GTimeBatch.</b><p>
+	 * Giving negative offset results decreasing.
+	 * @param batch			the GTimeBatch of datetimes.
+	 * @param weekOffset	the long of week offset.
+	 * @return				the BitSet marks which rows succeeded.
+	 */
+	public static BitSet increaseWeek(GTimeBatch batch, long weekOffset) {
+		if ((weekOffset < -(MAX_LOCAL_SECOND / SECONDS_PER_DAY)) || (weekOffset > MAX_LOCAL_SECOND / SECONDS_PER_DAY)) {
+			return new BitSet();
+		}
+		return increaseDays(batch, weekOffset * 7L);
+	}
+
+	/**
+	 * <b>Increase/decrease the day of all rows of GTimeBatch.</b><p>
+	 * Giving negative offset results decreasing.
+	 * @param batch			the GTimeBatch of datetimes.
+	 * @param dayOffset		the long of day offset.
+	 * @return				the BitSet marks which rows succeeded.
+	 */
+	public static BitSet increaseDay(GTimeBatch batch, long dayOffset) {
+		if ((dayOffset < -(MAX_LOCAL_SECOND / SECONDS_PER_DAY * 2L)) || (dayOffset > MAX_LOCAL_SECOND / SECONDS_PER_DAY * 2L)) {
+			return new BitSet();
+		}
+		return increaseDays(batch, dayOffset);
+	}
+
+	/**
+	 * <b>Increase/decrease the hour of all rows of GTimeBatch.</b><p>
+	 * Giving negative offset results decreasing.
+	 * @param batch			the GTimeBatch of datetimes.
+	 * @param hourOffset	the long of hour offset.
+	 * @return				the BitSet marks which rows succeeded.
+	 */
+	public static BitSet increaseHour(GTimeBatch batch, long hourOffset) {
+		if ((hourOffset < -(MAX_LOCAL_SECOND / 3_600L * 2L)) || (hourOffset > MAX_LOCAL_SECOND / 3_600L * 2L)) {
+			return new BitSet();
+		}
+		return increaseInstant(batch, hourOffset * 3_600L, 0);
+	}
+
+	/**
+	 * <b>Increase/decrease the minute of all rows of GTimeBatch.</b><p>
+	 * Giving negative offset results decreasing.
+	 * @param batch			the GTimeBatch of datetimes.
+	 * @param minuteOffset	the long of minute offset.
+	 * @return				the BitSet marks which rows succeeded.
+	 */
+	public static BitSet increaseMinute(GTimeBatch batch, long minuteOffset) {
+		if ((minuteOffset < -(MAX_LOCAL_SECOND / 60L * 2L)) || (minuteOffset > MAX_LOCAL_SECOND / 60L * 2L)) {
+			return new BitSet();
+		}
+		return increaseInstant(batch, minuteOffset * 60L, 0);
+	}
+
+	/**
+	 * <b>Increase/decrease the second of all rows of GTimeBatch.</b><p>
+	 * Giving negative offset results decreasing.
+	 * @param batch			the GTimeBatch of datetimes.
+	 * @param secondOffset	the long of second offset.
+	 * @return				the BitSet marks which rows succeeded.
+	 */
+	public static BitSet increaseSecond(GTimeBatch batch, long secondOffset) {
+		if ((secondOffset < -(MAX_LOCAL_SECOND * 2L)) || (secondOffset > MAX_LOCAL_SECOND * 2L)) {
+			return new BitSet();
+		}
+		return increaseInstant(batch, secondOffset, 0);
+	}
+
+	/**
+	 * <b>Increase/decrease the nanosecond of all rows of GTimeBatch.</b><p>
+	 * Giving negative offset results decreasing.
+	 * @param batch				the GTimeBatch of datetimes.
+	 * @param nanosecondOffset	the long of nanosecond offset.
+	 * @return					the BitSet marks which rows succeeded.
+	 */
+	public static BitSet increaseNanosecond(GTimeBatch batch, long nanosecondOffset) {
+		return increaseInstant(batch, Math.floorDiv(nanosecondOffset, NANOSECONDS_PER_SECOND), Math.floorMod(nanosecondOffset, NANOSECONDS_PER_SECOND));
+	}
+
+	/**
+	 * <b>Sets all rows of GTimeBatch on a given time zone.</b><p>
+	 * Does not change the instances therefore the datetimes will change following the new time zone.<p>
+	 * In case wrong time zone is given, or a row would leave the GTime range, nothing changes.
+	 * @param batch			the GTimeBatch of datetimes.
+	 * @param newTimezone	the String of new time zone.
+	 * @return				the boolean value marks whether the method succeeded.
+	 */
+	public static boolean changeTimezone(GTimeBatch batch, String newTimezone) {
+		ZoneId zi = getZone(newTimezone);
+		if (zi == null) {
+			return false;
+		}
+		for (int i = 0; i < batch.size; i++) {
+			if (!isInRange(zi, batch.epochSeconds[i])) {
+				return false;
+			}
+		}
+		batch.zoneDictionary.clear();
+		batch.zoneCount = 0;
+		int index = internZone(batch, zi);
+		Arrays.fill(batch.zoneIndexes, 0, batch.size, index);
+		return true;
+	}
+
+	/**
+	 * <b>Returns the years of all rows of GTimeBatch.</b>
+	 * @param batch	the GTimeBatch of datetimes.
+	 * @return		the int[] of years.
+	 */
+	public static int[] getYears(GTimeBatch batch) {
+		int[] fixedOffsets = getFixedOffsets(batch);
+		int[] years = new int[batch.size];
+		for (int i = 0; i < batch.size; i++) {
+			years[i] = getPackedYear(getDateOfEpochDay(Math.floorDiv(getLocalSecond(batch, i, fixedOffsets), SECONDS_PER_DAY)));
+		}
+		return years;
+	}
+
+	/**
+	 * <b>Returns the months of all rows of GTimeBatch.</b>
+	 * @param batch	the GTimeBatch of datetimes.
+	 * @return		the int[] of months.
+	 */
+	public static int[] getMonths(GTimeBatch batch) {
+		int[] fixedOffsets = getFixedOffsets(batch);
+		int[] months = new int[batch.size];
+		for (int i = 0; i < batch.size; i++) {
+			months[i] = getPackedMonth(getDateOfEpochDay(Math.floorDiv(getLocalSecond(batch, i, fixedOffsets), SECONDS_PER_DAY)));
+		}
+		return months;
+	}
+
+	/**
+	 * <b>Returns the days of all rows of GTimeBatch.</b>
+	 * @param batch	the GTimeBatch of datetimes.
+	 * @return		the int[] of days.
+	 */
+	public static int[] getDays(GTimeBatch batch) {
+		int[] fixedOffsets = getFixedOffsets(batch);
+		int[] days = new int[batch.size];
+		for (int i = 0; i < batch.size; i++) {
+			days[i] = getPackedDay(getDateOfEpochDay(Math.floorDiv(getLocalSecond(batch, i, fixedOffsets), SECONDS_PER_DAY)));
+		}
+		return days;
+	}
+
+	/**
+	 * <b>Returns the hours of all rows of GTimeBatch.</b>
+	 * @param batch	the GTimeBatch of datetimes.
+	 * @return		the int[] of hours.
+	 */
+	public static int[] getHours(GTimeBatch batch) {
+		int[] fixedOffsets = getFixedOffsets(batch);
+		int[] hours = new int[batch.size];
+		for (int i = 0; i < batch.size; i++) {
+			hours[i] = (int) (Math.floorMod(getLocalSecond(batch, i, fixedOffsets), SECONDS_PER_DAY) / 3_600L);
+		}
+		return hours;
+	}
+
+	/**
+	 * <b>Returns the minutes of all rows of GTimeBatch.</b>
+	 * @param batch	the GTimeBatch of datetimes.
+	 * @return		the int[] of minutes.
+	 */
+	public static int[] getMinutes(GTimeBatch batch) {
+		int[] fixedOffsets = getFixedOffsets(batch);
+		int[] minutes = new int[batch.size];
+		for (int i = 0; i < batch.size; i++) {
+			minutes[i] = (int) (Math.floorMod(getLocalSecond(batch, i, fixedOffsets), 3_600L) / 60L);
+		}
+		return minutes;
+	}
+
+	/**
+	 * <b>Returns the seconds of all rows of GTimeBatch.</b>
+	 * @param batch	the GTimeBatch of datetimes.
+	 * @return		the int[] of seconds.
+	 */
+	public static int[] getSeconds(GTimeBatch batch) {
+		int[] fixedOffsets = getFixedOffsets(batch);
+		int[] seconds = new int[batch.size];
+		for (int i = 0; i < batch.size; i++) {
+			seconds[i] = (int) Math.floorMod(getLocalSecond(batch, i, fixedOffsets), 60L);
+		}
+		return seconds;
+	}
+
+	/**
+	 * <b>Returns the nanoseconds of all rows of GTimeBatch.</b>
+	 * @param batch	the GTimeBatch of datetimes.
+	 * @return		the int[] of nanoseconds.
+	 */
+	public static int[] getNanoseconds(GTimeBatch batch) {
+		return Arrays.copyOf(batch.nanoseconds, batch.size);
+	}
+
+	/**
+	 * <b>Returns the days-of-week of all rows of GTimeBatch.</b>
+	 * @param batch	the GTimeBatch of datetimes.
+	 * @return		the int[] of days-of-week.
+	 */
+	public static int[] getDaysOfWeek(GTimeBatch batch) {
+		int[] fixedOffsets = getFixedOffsets(batch);
+		int[] daysOfWeek = new int[batch.size];
+		for (int i = 0; i < batch.size; i++) {
+			daysOfWeek[i] = getDayOfWeekOfEpochDay(Math.floorDiv(getLocalSecond(batch, i, fixedOffsets), SECONDS_PER_DAY));
+		}
+		return daysOfWeek;
+	}
+
+	/**
+	 * <b>Returns the days-of-year of all rows of GTimeBatch.</b>
+	 * @param batch	the GTimeBatch of datetimes.
+	 * @return		the int[] of days-of-year.
+	 */
+	public static int[] getDaysOfYear(GTimeBatch batch) {
+		int[] fixedOffsets = getFixedOffsets(batch);
+		int[] daysOfYear = new int[batch.size];
+		for (int i = 0; i < batch.size; i++) {
+			long epochDay = Math.floorDiv(getLocalSecond(batch, i, fixedOffsets), SECONDS_PER_DAY);
+			daysOfYear[i] = (int) (epochDay - getEpochDay(getPackedYear(getDateOfEpochDay(epochDay)), 1, 1)) + 1;
+		}
+		return daysOfYear;
+	}
+
+	/**
+	 * <b>Calculates the differences between the rows of two GTimeBatches in whole days.</b><p>
+	 * Row i of the result belongs to row i of both batches; the number of rows is the size of the smaller batch.<p>
+	 * Positive result marks the second is greater, negative marks the first is greater.
+	 * @param batch1	the GTimeBatch of first datetimes.
+	 * @param batch2	the GTimeBatch of second datetimes.
+	 * @return			the long[] of differences.
+	 */
+	public static long[] differenceInDays(GTimeBatch batch1, GTimeBatch batch2) {
+		return differenceInSecondsDivided(batch1, batch2, SECONDS_PER_DAY);
+	}
+
+	/**
+	 * <b>Calculates the differences between the rows of two GTimeBatches in whole hours.</b><p>
+	 * Row i of the result belongs to row i of both batches; the number of rows is the size of the smaller batch.<p>
+	 * Positive result marks the second is greater, negative marks the first is greater.
+	 * @param batch1	the GTimeBatch of first datetimes.
+	 * @param batch2	the GTimeBatch of second datetimes.
+	 * @return			the long[] of differences.
+	 */
+	public static long[] differenceInHours(GTimeBatch batch1, GTimeBatch batch2) {
+		return differenceInSecondsDivided(batch1, batch2, 3_600L);
+	}
+
+	/**
+	 * <b>Calculates the differences between the rows of two GTimeBatches in whole minutes.</b><p>
+	 * Row i of the result belongs to row i of both batches; the number of rows is the size of the smaller batch.<p>
+	 * Positive result marks the second is greater, negative marks the first is greater.
+	 * @param batch1	the GTimeBatch of first datetimes.
+	 * @param batch2	the GTimeBatch of second datetimes.
+	 * @return			the long[] of differences.
+	 */
+	public static long[] differenceInMinutes(GTimeBatch batch1, GTimeBatch batch2) {
+		return differenceInSecondsDivided(batch1, batch2, 60L);
+	}
+
+	/**
+	 * <b>Calculates the differences between the rows of two GTimeBatches in whole seconds.</b><p>
+	 * Row i of the result belongs to row i of both batches; the number of rows is the size of the smaller batch.<p>
+	 * Positive result marks the second is greater, negative marks the first is greater.
+	 * @param batch1	the GTimeBatch of first datetimes.
+	 * @param batch2	the GTimeBatch of second datetimes.
+	 * @return			the long[] of differences.
+	 */
+	public static long[] differenceInSeconds(GTimeBatch batch1, GTimeBatch batch2) {
+		return differenceInSecondsDivided(batch1, batch2, 1L);
+	}
+
+	/**
+	 * <b>Calculates the differences between the rows of two GTimeBatches in whole nanoseconds.</b><p>
+	 * Row i of the result belongs to row i of both batches; the number of rows is the size of the smaller batch.<p>
+	 * Positive result marks the second is greater, negative marks the first is greater.
+	 * @param batch1	the GTimeBatch of first datetimes.
+	 * @param batch2	the GTimeBatch of second datetimes.
+	 * @return			the long[] of differences.
+	 * @throws ArithmeticException	in case a difference does not fit into a long (approximately 292 years).
+	 */
+	public static long[] differenceInNanoseconds(GTimeBatch batch1, GTimeBatch batch2) {
+		int rows = Math.min(batch1.size, batch2.size);
+		long[] differences = new long[rows];
+		for (int i = 0; i < rows; i++) {
+			differences[i] = GTimeAnalyse.differenceInNanoseconds(batch1.epochSeconds[i], batch1.nanoseconds[i], batch2.epochSeconds[i], batch2.nanoseconds[i]);
+		}
+		return differences;
+	}
+
+	/**
+	 * <b>Calculates the differences between the rows of two GTimeBatches in whole seconds, divided by a unit.</b>
+	 * @param batch1	the GTimeBatch of first datetimes.
+	 * @param batch2	the GTimeBatch of second datetimes.
+	 * @param unit		the long of seconds in the unit.
+	 * @return			the long[] of differences.
+	 */
+	private static long[] differenceInSecondsDivided(GTimeBatch batch1, GTimeBatch batch2, long unit) {
+		int rows = Math.min(batch1.size, batch2.size);
+		long[] differences = new long[rows];
+		for (int i = 0; i < rows; i++) {
+			differences[i] = GTimeAnalyse.differenceInSeconds(batch1.epochSeconds[i], batch1.nanoseconds[i], batch2.epochSeconds[i], batch2.nanoseconds[i]) / unit;
+		}
+		return differences;
+	}
+
+	/**
+	 * <b>Moves all rows by a fixed amount of time, independently of their time zones.</b>
+	 * @param batch			the GTimeBatch of datetimes.
+	 * @param secondOffset	the long of second offset.
+	 * @param nanoOffset	the int of nanosecond offset, between 0 and 999,999,999.
+	 * @return				the BitSet marks which rows succeeded.
+	 */
+	private static BitSet increaseInstant(GTimeBatch batch, long secondOffset, int nanoOffset) {
+		BitSet succeeded = new BitSet(batch.size);
+		if ((secondOffset < -(MAX_LOCAL_SECOND * 2L)) || (secondOffset > MAX_LOCAL_SECOND * 2L)) {
+			return succeeded;
+		}
+		int[] fixedOffsets = getFixedOffsets(batch);
+		for (int i = 0; i < batch.size; i++) {
+			int nanosecond = batch.nanoseconds[i] + nanoOffset;
+			long epochSecond = batch.epochSeconds[i] + secondOffset;
+			if (nanosecond >= NANOSECONDS_PER_SECOND) {
+				nanosecond -= NANOSECONDS_PER_SECOND;
+				epochSecond++;
+			}
+			int fixedOffset = fixedOffsets[batch.zoneIndexes[i]];
+			boolean inRange = (fixedOffset != Integer.MIN_VALUE) ? isLocalInRange(epochSecond + fixedOffset) : isInRange(batch.zones[batch.zoneIndexes[i]], epochSecond);
+			if (inRange) {
+				batch.epochSeconds[i] = epochSecond;
+				batch.nanoseconds[i] = nanosecond;
+				succeeded.set(i);
+			}
+		}
+		return succeeded;
+	}
+
+	/**
+	 * <b>Moves the local date of all rows by days, keeping the local time of day.</b>
+	 * @param batch		the GTimeBatch of datetimes.
+	 * @param days		the long of day offset.
+	 * @return			the BitSet marks which rows succeeded.
+	 */
+	private static BitSet increaseDays(GTimeBatch batch, long days) {
+		BitSet succeeded = new BitSet(batch.size);
+		int[] fixedOffsets = getFixedOffsets(batch);
+		for (int i = 0; i < batch.size; i++) {
+			int fixedOffset = fixedOffsets[batch.zoneIndexes[i]];
+			if (fixedOffset != Integer.MIN_VALUE) {
+				long localSecond = batch.epochSeconds[i] + fixedOffset + days * SECONDS_PER_DAY;
+				if (isLocalInRange(localSecond)) {
+					batch.epochSeconds[i] = localSecond - fixedOffset;
+					succeeded.set(i);
+				}
+			}
+			else if (increaseZoned(batch, i, days, false)) {
+				succeeded.set(i);
+			}
+		}
+		return succeeded;
+	}
+
+	/**
+	 * <b>Moves the local date of all rows by months, keeping the local time of day.</b><p>
+	 * In case the day does not exist in the resulted month, the last day of the month is used.
+	 * @param batch		the GTimeBatch of datetimes.
+	 * @param months	the long of month offset.
+	 * @return			the BitSet marks which rows succeeded.
+	 */
+	private static BitSet increaseMonths(GTimeBatch batch, long months) {
+		BitSet succeeded = new BitSet(batch.size);
+		int[] fixedOffsets = getFixedOffsets(batch);
+		for (int i = 0; i < batch.size; i++) {
+			int fixedOffset = fixedOffsets[batch.zoneIndexes[i]];
+			if (fixedOffset != Integer.MIN_VALUE) {
+				long localSecond = batch.epochSeconds[i] + fixedOffset;
+				long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+				long secondOfDay = localSecond - epochDay * SECONDS_PER_DAY;
+				long date = getDateOfEpochDay(epochDay);
+				long monthCount = getPackedYear(date) * 12L + getPackedMonth(date) - 1L + months;
+				long year = Math.floorDiv(monthCount, 12L);
+				if ((year >= Year.MIN_VALUE) && (year <= Year.MAX_VALUE)) {
+					int month = (int) Math.floorMod(monthCount, 12L) + 1;
+					int day = Math.min(getPackedDay(date), getDaysOfMonth((int) year, month));
+					batch.epochSeconds[i] = getEpochDay((int) year, month, day) * SECONDS_PER_DAY + secondOfDay - fixedOffset;
+					succeeded.set(i);
+				}
+			}
+			else if (increaseZoned(batch, i, months, true)) {
+				succeeded.set(i);
+			}
+		}
+		return succeeded;
+	}
+
+	/**
+	 * <b>Moves the local date of a row with a DST-aware time zone by days or months.</b>
+	 * @param batch		the GTimeBatch of datetimes.
+	 * @param row		the int of row.
+	 * @param offset	the long of offset.
+	 * @param inMonths	the boolean value marks whether the offset is in months instead of days.
+	 * @return			the boolean value marks whether the method succeeded.
+	 */
+	private static boolean increaseZoned(GTimeBatch batch, int row, long offset, boolean inMonths) {
+		try {
+			ZonedDateTime time = ZonedDateTime.ofInstant(Instant.ofEpochSecond(batch.epochSeconds[row], batch.nanoseconds[row]), batch.zones[batch.zoneIndexes[row]]);
+			time = (inMonths) ? time.plusMonths(offset) : time.plusDays(offset);
+			batch.epochSeconds[row] = time.toEpochSecond();
+			return true;
+		}
+		catch (DateTimeException | ArithmeticException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * <b>Returns the local epoch seconds of a row.</b>
+	 * @param batch			the GTimeBatch of datetimes.
+	 * @param row			the int of row.
+	 * @param fixedOffsets	the int[] of fixed offsets of the interned time zones.
+	 * @return				the long of local seconds from 1970-01-01T00:00:00.
+	 */
+	private static long getLocalSecond(GTimeBatch batch, int row, int[] fixedOffsets) {
+		int zoneIndex = batch.zoneIndexes[row];
+		int fixedOffset = fixedOffsets[zoneIndex];
+		long epochSecond = batch.epochSeconds[row];
+		return epochSecond + ((fixedOffset != Integer.MIN_VALUE) ? fixedOffset : getOffsetSeconds(batch.zones[zoneIndex], epochSecond));
+	}
+
+	/**
+	 * <b>Returns the fixed offsets of the interned time zones, Integer.MIN_VALUE for the time zones using DST.</b>
+	 * @param batch	the GTimeBatch of datetimes.
+	 * @return		the int[] of offset seconds.
+	 */
+	private static int[] getFixedOffsets(GTimeBatch batch) {
+		int[] fixedOffsets = new int[batch.zoneCount];
+		for (int i = 0; i < batch.zoneCount; i++) {
+			fixedOffsets[i] = getFixedOffsetSeconds(batch.zones[i]);
+		}
+		return fixedOffsets;
+	}
+
+	/**
+	 * <b>Checks whether the local datetime of an instant is in the GTime range.</b>
+	 * @param zone			the ZoneId of time zone.
+	 * @param epochSecond	the long of epoch seconds.
+	 * @return				the boolean value marks whether the instant qualifies.
+	 */
+	private static boolean isInRange(ZoneId zone, long epochSecond) {
+		if ((epochSecond > MIN_LOCAL_SECOND + SECONDS_PER_DAY) && (epochSecond < MAX_LOCAL_SECOND - SECONDS_PER_DAY)) {
+			return true;
+		}
+		return (epochSecond >= MIN_LOCAL_SECOND - SECONDS_PER_DAY) && (epochSecond <= MAX_LOCAL_SECOND + SECONDS_PER_DAY) && isLocalInRange(epochSecond + getOffsetSeconds(zone, epochSecond));
+	}
+
+	/**
+	 * <b>Checks whether local epoch seconds are in the GTime range.</b>
+	 * @param localSecond	the long of local seconds from 1970-01-01T00:00:00.
+	 * @return				the boolean value marks whether the local seconds qualify.
+	 */
+	private static boolean isLocalInRange(long localSecond) {
+		return (localSecond >= MIN_LOCAL_SECOND) && (localSecond <= MAX_LOCAL_SECOND);
+	}
+
+	/**
+	 * <b>Appends a row, growing the columns when needed.</b>
+	 * @param batch			the GTimeBatch of datetimes.
+	 * @param epochSecond	the long of epoch seconds.
+	 * @param nanosecond	the int of nanosecond.
+	 * @param zone			the ZoneId of time zone.
+	 * @return				the int of the new row.
+	 */
+	private static int addRow(GTimeBatch batch, long epochSecond, int nanosecond, ZoneId zone) {
+		if (batch.size == batch.epochSeconds.length) {
+			int capacity = batch.size + (batch.size >> 1) + 1;
+			batch.epochSeconds = Arrays.copyOf(batch.epochSeconds, capacity);
+			batch.nanoseconds = Arrays.copyOf(batch.nanoseconds, capacity);
+			batch.zoneIndexes = Arrays.copyOf(batch.zoneIndexes, capacity);
+		}
+		int row = batch.size;
+		batch.epochSeconds[row] = epochSecond;
+		batch.nanoseconds[row] = nanosecond;
+		batch.zoneIndexes[row] = internZone(batch, zone);
+		batch.size++;
+		return row;
+	}
+
+	/**
+	 * <b>Returns the index of a time zone in the time zone dictionary of the batch, adding it when needed.</b>
+	 * @param batch	the GTimeBatch of datetimes.
+	 * @param zone	the ZoneId of time zone.
+	 * @return		the int of time zone index.
+	 */
+	private static int internZone(GTimeBatch batch, ZoneId zone) {
+		if ((batch.zoneCount > 0) && batch.zones[batch.zoneCount - 1].equals(zone)) {
+			return batch.zoneCount - 1;
+		}
+		Integer index = batch.zoneDictionary.get(zone);
+		if (index != null) {
+			return index;
+		}
+		if (batch.zoneCount == batch.zones.length) {
+			batch.zones = Arrays.copyOf(batch.zones, batch.zoneCount * 2);
+		}
+		batch.zones[batch.zoneCount] = zone;
+		batch.zoneDictionary.put(zone, batch.zoneCount);
+		return batch.zoneCount++;
+	}
+}
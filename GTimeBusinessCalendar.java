@@ -0,0 +1,377 @@
+package GrimmPackage.DateTime;
+
+import java.time.*;
+import java.util.*;
+
+import static GrimmPackage.DateTime.GTimeArithmetic.*;
+
+/**
+ * <b>Provides business-day arithmetic along weekend days and holidays.</b><p>
+ * A business calendar consists of the weekend days (Monday is 1, Sunday is 7; at least one day of the week must be a business day) and a set of holidays. Every day which is neither a weekend day nor a holiday is a business day.<p>
+ * The days of the years between the first and the last holiday are stored as a bitset with the number of business days before every 64-day word; outside these years only the weekend days apply, and they are counted by whole weeks. Counting business days between two dates therefore takes O(1) regardless of the span, adding business days takes O(log n) of the number of stored words.<p>
+ * Dates are the local dates of GTimes, in their own timezones; the time of GTimes is kept.<p>
+ * A GTimeBusinessCalendar is immutable, therefore it can be shared between threads.<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeBusinessCalendar.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * getBusinessCalendar(Iterable&lt;GTime&gt; holidays) -> GTimeBusinessCalendar<p>
+ * getBusinessCalendar(int[] weekendDays, Iterable&lt;GTime&gt; holidays) -> GTimeBusinessCalendar<p>
+ * getBusinessCalendar(int[] weekendDays, long[] holidayEpochDays) -> GTimeBusinessCalendar<p>
+ * withHolidays(GTimeBusinessCalendar calendar, Iterable&lt;GTime&gt; holidays) -> GTimeBusinessCalendar<p>
+ * isBusinessDay(GTimeBusinessCalendar calendar, GTime gTime) -> boolean<p>
+ * isBusinessDay(GTimeBusinessCalendar calendar, long epochDay) -> boolean<p>
+ * addBusinessDays(GTimeBusinessCalendar calendar, GTime gTime, long businessDays) -> boolean<p>
+ * addBusinessDays(GTimeBusinessCalendar calendar, long epochDay, long businessDays) -> long<p>
+ * getBusinessDaysBetween(GTimeBusinessCalendar calendar, GTime gTime1, GTime gTime2) -> long<p>
+ * getBusinessDaysBetween(GTimeBusinessCalendar calendar, long fromEpochDay, long toEpochDay) -> long<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeBusinessCalendar {
+	private static final int MAX_HOLIDAY_YEARS = 10_000;
+	private static final long MAX_EPOCH_DAY = 1_000_000_000_000L;
+	private static final long MIN_DAY = LocalDate.MIN.toEpochDay();
+	private static final long MAX_DAY = LocalDate.MAX.toEpochDay();
+	private static final int[] SATURDAY_SUNDAY = new int[]{6, 7};
+
+	protected final int weekendDays;
+	protected final long[] holidays;
+	protected final int businessDaysPerWeek;
+	protected final int[] weekPrefix;
+	protected final int[] weekSelect;
+	protected final long firstDay;
+	protected final long lastDay;
+	protected final long[] bits;
+	protected final long[] wordPrefix;
+	protected final long businessDays;
+
+	/**
+	 * <b>Constructs GTimeBusinessCalendar.</b>
+	 * @param weekendDays	the int of weekend days as bits 1-7.
+	 * @param holidays		the long[] of sorted, distinct holiday epoch days.
+	 */
+	private GTimeBusinessCalendar(int weekendDays, long[] holidays) {
+		this.weekendDays = weekendDays;
+		this.holidays = holidays;
+		weekPrefix = new int[8];
+		weekSelect = new int[7];
+		int count = 0;
+		for (int dayOfWeek = 1; dayOfWeek <= 7; dayOfWeek++) {
+			weekPrefix[dayOfWeek - 1] = count;
+			if ((weekendDays & (1 << dayOfWeek)) == 0) {
+				weekSelect[count++] = dayOfWeek - 1;
+			}
+		}
+		weekPrefix[7] = count;
+		businessDaysPerWeek = count;
+		if (holidays.length == 0) {
+			firstDay = 0L;
+			lastDay = -1L;
+			bits = new long[0];
+			wordPrefix = new long[]{0L};
+			businessDays = 0L;
+			return;
+		}
+		firstDay = getEpochDay(getPackedYear(getDateOfEpochDay(holidays[0])), 1, 1);
+		lastDay = getEpochDay(getPackedYear(getDateOfEpochDay(holidays[holidays.length - 1])) + 1, 1, 1) - 1L;
+		int days = (int) (lastDay - firstDay + 1L);
+		bits = new long[(days + 63) >>> 6];
+		for (int day = 0; day < days; day++) {
+			if ((weekendDays & (1 << getDayOfWeekOfEpochDay(firstDay + day))) == 0) {
+				bits[day >>> 6] |= 1L << day;
+			}
+		}
+		for (long holiday : holidays) {
+			int day = (int) (holiday - firstDay);
+			bits[day >>> 6] &= ~(1L << day);
+		}
+		wordPrefix = new long[bits.length + 1];
+		for (int word = 0; word < bits.length; word++) {
+			wordPrefix[word + 1] = wordPrefix[word] + Long.bitCount(bits[word]);
+		}
+		businessDays = wordPrefix[bits.length];
+	}
+
+	/**
+	 * <b>Returns a business calendar with Saturday and Sunday as weekend days and the local dates of GTimes as holidays.</b><p>
+	 * Null GTimes are skipped. In case the holidays span more than 10000 years, returns null.
+	 * @param holidays	the Iterable of holiday GTimes.
+	 * @return			the GTimeBusinessCalendar of business days.
+	 */
+	public static GTimeBusinessCalendar getBusinessCalendar(Iterable<GTime> holidays) {
+		return getBusinessCalendar(SATURDAY_SUNDAY, holidays);
+	}
+
+	/**
+	 * <b>Returns a business calendar with the given weekend days and the local dates of GTimes as holidays.</b><p>
+	 * Null GTimes are skipped.<p>
+	 * In case a weekend day is out of range (1-7), all days of the week are weekend days, or the holidays span more than 10000 years, returns null.
+	 * @param weekendDays	the int[] of weekend days-of-week.
+	 * @param holidays		the Iterable of holiday GTimes.
+	 * @return				the GTimeBusinessCalendar of business days.
+	 */
+	public static GTimeBusinessCalendar getBusinessCalendar(int[] weekendDays, Iterable<GTime> holidays) {
+		return getBusinessCalendar(weekendDays, getEpochDays(holidays));
+	}
+
+	/**
+	 * <b>Returns a business calendar with the given weekend days and holidays given as epoch days (days from 1970-01-01).</b><p>
+	 * In case a weekend day is out of range (1-7), all days of the week are weekend days, a holiday is out of the date range of GTime, or the holidays span more than 10000 years, returns null.
+	 * @param weekendDays		the int[] of weekend days-of-week.
+	 * @param holidayEpochDays	the long[] of holiday epoch days.
+	 * @return					the GTimeBusinessCalendar of business days.
+	 */
+	public static GTimeBusinessCalendar getBusinessCalendar(int[] weekendDays, long[] holidayEpochDays) {
+		if ((weekendDays == null) || (holidayEpochDays == null)) {
+			return null;
+		}
+		int weekend = 0;
+		for (int dayOfWeek : weekendDays) {
+			if ((dayOfWeek < 1) || (dayOfWeek > 7)) {
+				return null;
+			}
+			weekend |= 1 << dayOfWeek;
+		}
+		if (weekend == 0xFE) {
+			return null;
+		}
+		return getBusinessCalendar(weekend, holidayEpochDays);
+	}
+
+	/**
+	 * <b>Returns a business calendar with the holidays of a calendar and the local dates of GTimes as further holidays.</b><p>
+	 * Null GTimes are skipped. In case the holidays span more than 10000 years, returns null.
+	 * @param calendar	the GTimeBusinessCalendar of business days.
+	 * @param holidays	the Iterable of holiday GTimes.
+	 * @return			the GTimeBusinessCalendar of business days.
+	 */
+	public static GTimeBusinessCalendar withHolidays(GTimeBusinessCalendar calendar, Iterable<GTime> holidays) {
+		long[] added = getEpochDays(holidays);
+		long[] all = Arrays.copyOf(calendar.holidays, calendar.holidays.length + added.length);
+		System.arraycopy(added, 0, all, calendar.holidays.length, added.length);
+		return getBusinessCalendar(calendar.weekendDays, all);
+	}
+
+	/**
+	 * <b>Checks whether the local date of GTime is a business day.</b>
+	 * @param calendar	the GTimeBusinessCalendar of business days.
+	 * @param gTime		the GTime of date.
+	 * @return			the boolean value marks whether the date is a business day.
+	 */
+	public static boolean isBusinessDay(GTimeBusinessCalendar calendar, GTime gTime) {
+		return isBusinessDay(calendar, getLocalEpochDay(gTime));
+	}
+
+	/**
+	 * <b>Checks whether an epoch day (days from 1970-01-01) is a business day.</b>
+	 * @param calendar	the GTimeBusinessCalendar of business days.
+	 * @param epochDay	the long of epoch day.
+	 * @return			the boolean value marks whether the date is a business day.
+	 */
+	public static boolean isBusinessDay(GTimeBusinessCalendar calendar, long epochDay) {
+		if ((epochDay >= calendar.firstDay) && (epochDay <= calendar.lastDay)) {
+			int day = (int) (epochDay - calendar.firstDay);
+			return (calendar.bits[day >>> 6] & (1L << day)) != 0L;
+		}
+		return (calendar.weekendDays & (1 << getDayOfWeekOfEpochDay(epochDay))) == 0;
+	}
+
+	/**
+	 * <b>Moves GTime by business days, keeping its time.</b><p>
+	 * A positive offset moves to the n-th business day after the local date, a negative one to the n-th business day before it; 0 keeps a business day and moves any other day to the next business day.<p>
+	 * In case the result is out of the GTime range, nothing changes and returns false.
+	 * @param calendar		the GTimeBusinessCalendar of business days.
+	 * @param gTime			the GTime of datetime.
+	 * @param businessDays	the long of business days.
+	 * @return				the boolean value marks whether the GTime was moved.
+	 */
+	public static boolean addBusinessDays(GTimeBusinessCalendar calendar, GTime gTime, long businessDays) {
+		long epochDay = getLocalEpochDay(gTime);
+		long result = addBusinessDays(calendar, epochDay, businessDays);
+		if (result == Long.MIN_VALUE) {
+			return false;
+		}
+		try {
+			gTime.time = gTime.time.plusDays(result - epochDay);
+			return true;
+		}
+		catch (Exception e) {
+			return false;
+		}
+	}
+
+	/**
+	 * <b>Moves an epoch day (days from 1970-01-01) by business days.</b><p>
+	 * A positive offset moves to the n-th business day after the date, a negative one to the n-th business day before it; 0 keeps a business day and moves any other day to the next business day.<p>
+	 * In case the epoch day or the offset is beyond 10^12, returns Long.MIN_VALUE.
+	 * @param calendar		the GTimeBusinessCalendar of business days.
+	 * @param epochDay		the long of epoch day.
+	 * @param businessDays	the long of business days.
+	 * @return				the long of epoch day.
+	 */
+	public static long addBusinessDays(GTimeBusinessCalendar calendar, long epochDay, long businessDays) {
+		if ((Math.abs(epochDay) > MAX_EPOCH_DAY) || (Math.abs(businessDays) > MAX_EPOCH_DAY)) {
+			return Long.MIN_VALUE;
+		}
+		if (businessDays > 0L) {
+			return select(calendar, rank(calendar, epochDay + 1L) + businessDays - 1L);
+		}
+		return select(calendar, rank(calendar, epochDay) + businessDays);
+	}
+
+	/**
+	 * <b>Counts the business days from the local date of the first GTime (inclusive) to the local date of the second GTime (exclusive).</b><p>
+	 * Negative result marks the first date is later.
+	 * @param calendar	the GTimeBusinessCalendar of business days.
+	 * @param gTime1	the GTime of first date.
+	 * @param gTime2	the GTime of second date.
+	 * @return			the long of business days.
+	 */
+	public static long getBusinessDaysBetween(GTimeBusinessCalendar calendar, GTime gTime1, GTime gTime2) {
+		return getBusinessDaysBetween(calendar, getLocalEpochDay(gTime1), getLocalEpochDay(gTime2));
+	}
+
+	/**
+	 * <b>Counts the business days from an epoch day (inclusive) to another (exclusive).</b><p>
+	 * Negative result marks the first date is later. In case an epoch day is beyond 10^12, returns Long.MIN_VALUE.
+	 * @param calendar		the GTimeBusinessCalendar of business days.
+	 * @param fromEpochDay	the long of first epoch day.
+	 * @param toEpochDay	the long of second epoch day.
+	 * @return				the long of business days.
+	 */
+	public static long getBusinessDaysBetween(GTimeBusinessCalendar calendar, long fromEpochDay, long toEpochDay) {
+		if ((Math.abs(fromEpochDay) > MAX_EPOCH_DAY) || (Math.abs(toEpochDay) > MAX_EPOCH_DAY)) {
+			return Long.MIN_VALUE;
+		}
+		return rank(calendar, toEpochDay) - rank(calendar, fromEpochDay);
+	}
+
+	/**
+	 * <b>Returns a business calendar of validated weekend days and unsorted holidays.</b>
+	 * @param weekendDays	the int of weekend days as bits 1-7.
+	 * @param holidays		the long[] of holiday epoch days.
+	 * @return				the GTimeBusinessCalendar of business days, or null.
+	 */
+	private static GTimeBusinessCalendar getBusinessCalendar(int weekendDays, long[] holidays) {
+		long[] sorted = holidays.clone();
+		Arrays.sort(sorted);
+		int count = 0;
+		for (int i = 0; i < sorted.length; i++) {
+			if ((i == 0) || (sorted[i] != sorted[i - 1])) {
+				sorted[count++] = sorted[i];
+			}
+		}
+		sorted = Arrays.copyOf(sorted, count);
+		if (count > 0) {
+			if ((sorted[0] < MIN_DAY) || (sorted[count - 1] > MAX_DAY)) {
+				return null;
+			}
+			if (getPackedYear(getDateOfEpochDay(sorted[count - 1])) - getPackedYear(getDateOfEpochDay(sorted[0])) >= MAX_HOLIDAY_YEARS) {
+				return null;
+			}
+		}
+		return new GTimeBusinessCalendar(weekendDays, sorted);
+	}
+
+	/**
+	 * <b>Returns the number of business days before an epoch day, counted from the first stored day; negative before it.</b>
+	 * @param calendar	the GTimeBusinessCalendar of business days.
+	 * @param epochDay	the long of epoch day.
+	 * @return			the long of rank.
+	 */
+	private static long rank(GTimeBusinessCalendar calendar, long epochDay) {
+		if (epochDay <= calendar.firstDay) {
+			return getWeekRank(calendar, epochDay) - getWeekRank(calendar, calendar.firstDay);
+		}
+		if (epochDay > calendar.lastDay) {
+			return calendar.businessDays + getWeekRank(calendar, epochDay) - getWeekRank(calendar, calendar.lastDay + 1L);
+		}
+		int day = (int) (epochDay - calendar.firstDay);
+		int word = day >>> 6;
+		return calendar.wordPrefix[word] + Long.bitCount(calendar.bits[word] & ((1L << day) - 1L));
+	}
+
+	/**
+	 * <b>Returns the business day of a rank.</b>
+	 * @param calendar	the GTimeBusinessCalendar of business days.
+	 * @param rank		the long of rank.
+	 * @return			the long of epoch day.
+	 */
+	private static long select(GTimeBusinessCalendar calendar, long rank) {
+		if (rank < 0L) {
+			return selectWeek(calendar, getWeekRank(calendar, calendar.firstDay) + rank);
+		}
+		if (rank >= calendar.businessDays) {
+			return selectWeek(calendar, getWeekRank(calendar, calendar.lastDay + 1L) + rank - calendar.businessDays);
+		}
+		int low = 0;
+		int high = calendar.bits.length - 1;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (calendar.wordPrefix[middle] <= rank) {
+				low = middle;
+			}
+			else {
+				high = middle - 1;
+			}
+		}
+		long word = calendar.bits[low];
+		for (long skip = rank - calendar.wordPrefix[low]; skip > 0L; skip--) {
+			word &= word - 1L;
+		}
+		return calendar.firstDay + ((long) low << 6) + Long.numberOfTrailingZeros(word);
+	}
+
+	/**
+	 * <b>Returns the number of business days by weekend days only, from the Monday of 1969-12-29 to an epoch day; negative before it.</b>
+	 * @param calendar	the GTimeBusinessCalendar of business days.
+	 * @param epochDay	the long of epoch day.
+	 * @return			the long of rank.
+	 */
+	private static long getWeekRank(GTimeBusinessCalendar calendar, long epochDay) {
+		long day = epochDay + 3L;
+		return Math.floorDiv(day, 7L) * calendar.businessDaysPerWeek + calendar.weekPrefix[(int) Math.floorMod(day, 7L)];
+	}
+
+	/**
+	 * <b>Returns the business day of a rank by weekend days only.</b>
+	 * @param calendar	the GTimeBusinessCalendar of business days.
+	 * @param weekRank	the long of rank from the Monday of 1969-12-29.
+	 * @return			the long of epoch day.
+	 */
+	private static long selectWeek(GTimeBusinessCalendar calendar, long weekRank) {
+		long week = Math.floorDiv(weekRank, (long) calendar.businessDaysPerWeek);
+		int index = (int) Math.floorMod(weekRank, (long) calendar.businessDaysPerWeek);
+		return week * 7L - 3L + calendar.weekSelect[index];
+	}
+
+	/**
+	 * <b>Returns the epoch day of the local date of GTime.</b>
+	 * @param gTime	the GTime of date.
+	 * @return		the long of epoch day.
+	 */
+	private static long getLocalEpochDay(GTime gTime) {
+		return getEpochDay(gTime.time.getYear(), gTime.time.getMonthValue(), gTime.time.getDayOfMonth());
+	}
+
+	/**
+	 * <b>Returns the epoch days of the local dates of GTimes, skipping nulls.</b>
+	 * @param gTimes	the Iterable of GTimes.
+	 * @return			the long[] of epoch days.
+	 */
+	private static long[] getEpochDays(Iterable<GTime> gTimes) {
+		long[] epochDays = new long[16];
+		int count = 0;
+		for (GTime gTime : gTimes) {
+			if (gTime != null) {
+				if (count == epochDays.length) {
+					epochDays = Arrays.copyOf(epochDays, count * 2);
+				}
+				epochDays[count++] = getLocalEpochDay(gTime);
+			}
+		}
+		return Arrays.copyOf(epochDays, count);
+	}
+}
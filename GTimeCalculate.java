@@ -1,38 +1,127 @@
 package GrimmPackage.DateTime;
 
 import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import static GrimmPackage.DateTime.GTimeMetrics.*;
+import static GrimmPackage.DateTime.GTimeZoneCache.*;
 
 /**
  * <b>Provides calculating helper methods for GTime objects.</b><p>
  * All methods are static.<p>
- * The successfulness can be read by invoking getCalculateSuccess() method.<p>
+ * The successfulness is returned by the calculating methods, and can also be read by invoking getCalculateSuccess() method.<p>
+ * Both ways are thread-safe: the success flag is stored per thread.<p>
+ * The bulk methods change all elements of an array or List in parallel on a configurable ForkJoinPool (by default the common pool), in parts of 4096 elements; they return a BitSet where bit i marks that element i failed, and the success flag marks whether all elements succeeded.<p>
+ * Units of bulk increasing: year, month, week, day, hour, minute, second, nanosecond.<p>
+ * Operations are measured by GTimeMetrics while it is enabled; a bulk method is measured as one operation.<p>
  * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
  * <i>import static GrimmPackage.DateTime.GTimeCalculate.*;</i><p>
  * <p><p>
  * PUBLIC METHODS:<p>
- * getCalculateSuccess()<p>
- * increaseYear(GTime gTime, long yearOffset)<p>
- * increaseMonth(GTime gTime, long monthOffset)<p>
- * increaseDay(GTime gTime, long dayOffset)<p>
- * increaseHour(GTime gTime, long hourOffset)<p>
- * increaseMinute(GTime gTime, long minuteOffset)<p>
- * increaseSecond(GTime gTime, long secondOffset)<p>
- * increaseNanosecond(GTime gTime, long nanosecondOffset)<p>
- * increaseWeek(GTime gTime, long weekOffset)<p>
- * changeTimezone(GTime gTime, String newTimezone)<p>
+ * getCalculateSuccess() -> boolean<p>
+ * increaseYear(GTime gTime, long yearOffset) -> boolean<p>
+ * increaseMonth(GTime gTime, long monthOffset) -> boolean<p>
+ * increaseDay(GTime gTime, long dayOffset) -> boolean<p>
+ * increaseHour(GTime gTime, long hourOffset) -> boolean<p>
+ * increaseMinute(GTime gTime, long minuteOffset) -> boolean<p>
+ * increaseSecond(GTime gTime, long secondOffset) -> boolean<p>
+ * increaseNanosecond(GTime gTime, long nanosecondOffset) -> boolean<p>
+ * increaseWeek(GTime gTime, long weekOffset) -> boolean<p>
+ * changeTimezone(GTime gTime, String newTimezone) -> boolean<p>
+ * getCalculatePool() -> ForkJoinPool<p>
+ * setCalculatePool(ForkJoinPool pool) -> boolean<p>
+ * increaseAll(GTime[] gTimes, String unit, long offset) -> BitSet<p>
+ * increaseAll(List&lt;GTime&gt; gTimes, String unit, long offset) -> BitSet<p>
+ * changeTimezoneAll(GTime[] gTimes, String newTimezone) -> BitSet<p>
+ * changeTimezoneAll(List&lt;GTime&gt; gTimes, String newTimezone) -> BitSet<p>
  *
  * @author	Laszlo Karoly Grimm
  * @since 2022-05-28
  */
 public class GTimeCalculate {
-	private static boolean calculateSuccess;
+	static final int YEAR = 0, MONTH = 1, WEEK = 2, DAY = 3, HOUR = 4, MINUTE = 5, SECOND = 6, NANOSECOND = 7;
+	private static final int TIMEZONE = 8;
+	protected static final String[] unitNames = new String[NANOSECOND + 1];
+	private static final int PART_SIZE = 4_096;
+	private static final ThreadLocal<boolean[]> calculateSuccess = ThreadLocal.withInitial(() -> new boolean[1]);
+	private static volatile ForkJoinPool calculatePool = ForkJoinPool.commonPool();
+
+	static {
+		unitNames[YEAR] = "year";
+		unitNames[MONTH] = "month";
+		unitNames[WEEK] = "week";
+		unitNames[DAY] = "day";
+		unitNames[HOUR] = "hour";
+		unitNames[MINUTE] = "minute";
+		unitNames[SECOND] = "second";
+		unitNames[NANOSECOND] = "nanosecond";
+	}
+
+	/**
+	 * <b>Changes a part of the elements and collects the indexes of failed elements, splitting larger parts in two.</b>
+	 */
+	private static final class PartTask extends RecursiveTask<int[]> {
+		private static final long serialVersionUID = 1L;
+		private final IntFunction<GTime> source;
+		private final int from;
+		private final int to;
+		private final int operation;
+		private final long offset;
+		private final ZoneId zone;
+
+		private PartTask(IntFunction<GTime> source, int from, int to, int operation, long offset, ZoneId zone) {
+			this.source = source;
+			this.from = from;
+			this.to = to;
+			this.operation = operation;
+			this.offset = offset;
+			this.zone = zone;
+		}
+
+		@Override
+		protected int[] compute() {
+			if (to - from <= PART_SIZE) {
+				return calculatePart(source, from, to, operation, offset, zone);
+			}
+			int middle = (from + to) >>> 1;
+			PartTask left = new PartTask(source, from, middle, operation, offset, zone);
+			left.fork();
+			int[] rightFailures = new PartTask(source, middle, to, operation, offset, zone).compute();
+			int[] leftFailures = left.join();
+			if (leftFailures.length == 0) {
+				return rightFailures;
+			}
+			if (rightFailures.length == 0) {
+				return leftFailures;
+			}
+			int[] failures = Arrays.copyOf(leftFailures, leftFailures.length + rightFailures.length);
+			System.arraycopy(rightFailures, 0, failures, leftFailures.length, rightFailures.length);
+			return failures;
+		}
+	}
 
 	/**
-	 * <b>Returns the success flag of GTimeEdit.</b>
+	 * <b>Returns the success flag of GTimeCalculate.</b><p>
+	 * The flag belongs to the current thread, therefore it marks the success of the last GTimeCalculate method invoked by the same thread.
 	 * @return	the boolean value of method success.
 	 */
 	public static boolean getCalculateSuccess() {
-		return calculateSuccess;
+		return calculateSuccess.get()[0];
+	}
+
+	/**
+	 * <b>Stores the success flag of the current thread and records the operation for GTimeMetrics.</b>
+	 * @param success	the boolean value of method success.
+	 * @param operation	the int of measured operation.
+	 * @param start		the long of start time by GTimeMetrics.
+	 * @return			the boolean value of method success.
+	 */
+	private static boolean setCalculateSuccess(boolean success, int operation, long start) {
+		calculateSuccess.get()[0] = success;
+		recordOperation(operation, start, success);
+		return success;
 	}
 
 	/**
@@ -40,14 +129,16 @@ public class GTimeCalculate {
 	 * Giving negative offset results decreasing.
 	 * @param gTime			the GTime of datetime.
 	 * @param yearOffset	the long of year offset.
+	 * @return				the boolean value marks whether the method succeeded.
 	 */
-	public static void increaseYear(GTime gTime, long yearOffset) {
+	public static boolean increaseYear(GTime gTime, long yearOffset) {
+		long start = startOperation();
 		try {
 			gTime.time = gTime.time.plusYears(yearOffset);
-			calculateSuccess = true;
+			return setCalculateSuccess(true, INCREASE_YEAR, start);
 		}
 		catch (Exception e) {
-			calculateSuccess = false;
+			return setCalculateSuccess(false, INCREASE_YEAR, start);
 		}
 	}
 
@@ -56,14 +147,16 @@ public class GTimeCalculate {
 	 * Giving negative offset results decreasing.
 	 * @param gTime			the GTime of datetime.
 	 * @param monthOffset	the long of month offset.
+	 * @return				the boolean value marks whether the method succeeded.
 	 */
-	public static void increaseMonth(GTime gTime, long monthOffset) {
+	public static boolean increaseMonth(GTime gTime, long monthOffset) {
+		long start = startOperation();
 		try {
 			gTime.time = gTime.time.plusMonths(monthOffset);
-			calculateSuccess = true;
+			return setCalculateSuccess(true, INCREASE_MONTH, start);
 		}
 		catch (Exception e) {
-			calculateSuccess = false;
+			return setCalculateSuccess(false, INCREASE_MONTH, start);
 		}
 	}
 
@@ -72,14 +165,16 @@ public class GTimeCalculate {
 	 * Giving negative offset results decreasing.
 	 * @param gTime			the GTime of datetime.
 	 * @param dayOffset	the long of day offset.
+	 * @return				the boolean value marks whether the method succeeded.
 	 */
-	public static void increaseDay(GTime gTime, long dayOffset) {
+	public static boolean increaseDay(GTime gTime, long dayOffset) {
+		long start = startOperation();
 		try {
 			gTime.time = gTime.time.plusDays(dayOffset);
-			calculateSuccess = true;
+			return setCalculateSuccess(true, INCREASE_DAY, start);
 		}
 		catch (Exception e) {
-			calculateSuccess = false;
+			return setCalculateSuccess(false, INCREASE_DAY, start);
 		}
 	}
 
@@ -88,14 +183,16 @@ public class GTimeCalculate {
 	 * Giving negative offset results decreasing.
 	 * @param gTime			the GTime of datetime.
 	 * @param hourOffset	the long of hour offset.
+	 * @return				the boolean value marks whether the method succeeded.
 	 */
-	public static void increaseHour(GTime gTime, long hourOffset) {
+	public static boolean increaseHour(GTime gTime, long hourOffset) {
+		long start = startOperation();
 		try {
 			gTime.time = gTime.time.plusHours(hourOffset);
-			calculateSuccess = true;
+			return setCalculateSuccess(true, INCREASE_HOUR, start);
 		}
 		catch (Exception e) {
-			calculateSuccess = false;
+			return setCalculateSuccess(false, INCREASE_HOUR, start);
 		}
 	}
 
@@ -104,14 +201,16 @@ public class GTimeCalculate {
 	 * Giving negative offset results decreasing.
 	 * @param gTime			the GTime of datetime.
 	 * @param minuteOffset	the long of minute offset.
+	 * @return				the boolean value marks whether the method succeeded.
 	 */
-	public static void increaseMinute(GTime gTime, long minuteOffset) {
+	public static boolean increaseMinute(GTime gTime, long minuteOffset) {
+		long start = startOperation();
 		try {
 			gTime.time = gTime.time.plusMinutes(minuteOffset);
-			calculateSuccess = true;
+			return setCalculateSuccess(true, INCREASE_MINUTE, start);
 		}
 		catch (Exception e) {
-			calculateSuccess = false;
+			return setCalculateSuccess(false, INCREASE_MINUTE, start);
 		}
 	}
 
@@ -120,14 +219,16 @@ public class GTimeCalculate {
 	 * Giving negative offset results decreasing.
 	 * @param gTime			the GTime of datetime.
 	 * @param secondOffset	the long of second offset.
+	 * @return				the boolean value marks whether the method succeeded.
 	 */
-	public static void increaseSecond(GTime gTime, long secondOffset) {
+	public static boolean increaseSecond(GTime gTime, long secondOffset) {
+		long start = startOperation();
 		try {
 			gTime.time = gTime.time.plusSeconds(secondOffset);
-			calculateSuccess = true;
+			return setCalculateSuccess(true, INCREASE_SECOND, start);
 		}
 		catch (Exception e) {
-			calculateSuccess = false;
+			return setCalculateSuccess(false, INCREASE_SECOND, start);
 		}
 	}
 
@@ -136,14 +237,16 @@ public class GTimeCalculate {
 	 * Giving negative offset results decreasing.
 	 * @param gTime				the GTime of datetime.
 	 * @param nanosecondOffset	the long of nanosecond offset.
+	 * @return					the boolean value marks whether the method succeeded.
 	 */
-	public static void increaseNanosecond(GTime gTime, long nanosecondOffset) {
+	public static boolean increaseNanosecond(GTime gTime, long nanosecondOffset) {
+		long start = startOperation();
 		try {
 			gTime.time = gTime.time.plusNanos(nanosecondOffset);
-			calculateSuccess = true;
+			return setCalculateSuccess(true, INCREASE_NANOSECOND, start);
 		}
 		catch (Exception e) {
-			calculateSuccess = false;
+			return setCalculateSuccess(false, INCREASE_NANOSECOND, start);
 		}
 	}
 
@@ -152,14 +255,16 @@ public class GTimeCalculate {
 	 * Giving negative offset results decreasing.
 	 * @param gTime				the GTime of datetime.
 	 * @param weekOffset	the long of week offset.
+	 * @return					the boolean value marks whether the method succeeded.
 	 */
-	public static void increaseWeek(GTime gTime, long weekOffset) {
+	public static boolean increaseWeek(GTime gTime, long weekOffset) {
+		long start = startOperation();
 		try {
 			gTime.time = gTime.time.plusWeeks(weekOffset);
-			calculateSuccess = true;
+			return setCalculateSuccess(true, INCREASE_WEEK, start);
 		}
 		catch (Exception e) {
-			calculateSuccess = false;
+			return setCalculateSuccess(false, INCREASE_WEEK, start);
 		}
 	}
 
@@ -175,14 +280,229 @@ public class GTimeCalculate {
 	 * In case wrong time zone is given, datetime and timezone will not change.
 	 * @param gTime			the GTime of datetime.
 	 * @param newTimezone	the String of new time zone.
+	 * @return				the boolean value marks whether the method succeeded.
 	 */
-	public static void changeTimezone(GTime gTime, String newTimezone) {
+	public static boolean changeTimezone(GTime gTime, String newTimezone) {
+		long start = startOperation();
+		ZoneId zi = getZone(newTimezone);
+		if (zi == null) {
+			return setCalculateSuccess(false, CHANGE_TIMEZONE, start);
+		}
 		try {
-			gTime.time = gTime.time.withZoneSameInstant(ZoneId.of(newTimezone));
-			calculateSuccess = true;
+			gTime.time = gTime.time.withZoneSameInstant(zi);
+			return setCalculateSuccess(true, CHANGE_TIMEZONE, start);
 		}
 		catch (Exception e) {
-			calculateSuccess = false;
+			return setCalculateSuccess(false, CHANGE_TIMEZONE, start);
+		}
+	}
+
+	/**
+	 * <b>Returns the ForkJoinPool of bulk methods.</b>
+	 * @return	the ForkJoinPool of bulk methods.
+	 */
+	public static ForkJoinPool getCalculatePool() {
+		return calculatePool;
+	}
+
+	/**
+	 * <b>Sets the ForkJoinPool of bulk methods.</b><p>
+	 * In case the pool is null, returns false and the pool is not changed.
+	 * @param pool	the ForkJoinPool of bulk methods.
+	 * @return		the boolean value marks whether the pool was set.
+	 */
+	public static boolean setCalculatePool(ForkJoinPool pool) {
+		if (pool == null) {
+			return false;
+		}
+		calculatePool = pool;
+		return true;
+	}
+
+	/**
+	 * <b>Increase/decrease all GTimes of an array by the same offset, in parallel.</b><p>
+	 * Giving negative offset results decreasing. Null elements and elements out of the GTime range fail and do not change.<p>
+	 * In case wrong unit is given, nothing changes and returns null.
+	 * @param gTimes	the GTime[] of datetimes.
+	 * @param unit		the String of unit (year, month, week, day, hour, minute, second, nanosecond).
+	 * @param offset	the long of offset.
+	 * @return			the BitSet marks which elements failed.
+	 */
+	public static BitSet increaseAll(GTime[] gTimes, String unit, long offset) {
+		long start = startOperation();
+		int operation = getUnitIndex(unitNames, unit);
+		if (operation < 0) {
+			setCalculateSuccess(false, INCREASE_ALL, start);
+			return null;
+		}
+		return calculateAll(i -> gTimes[i], gTimes.length, operation, offset, null, start);
+	}
+
+	/**
+	 * <b>Increase/decrease all GTimes of a List by the same offset, in parallel.</b><p>
+	 * Giving negative offset results decreasing. Null elements and elements out of the GTime range fail and do not change.<p>
+	 * A List without random access (e.g. LinkedList) is copied into an array first; the GTimes themselves are changed in both cases.<p>
+	 * In case wrong unit is given, nothing changes and returns null.
+	 * @param gTimes	the List of datetimes.
+	 * @param unit		the String of unit (year, month, week, day, hour, minute, second, nanosecond).
+	 * @param offset	the long of offset.
+	 * @return			the BitSet marks which elements failed.
+	 */
+	public static BitSet increaseAll(List<GTime> gTimes, String unit, long offset) {
+		if (!(gTimes instanceof RandomAccess)) {
+			return increaseAll(gTimes.toArray(new GTime[0]), unit, offset);
+		}
+		long start = startOperation();
+		int operation = getUnitIndex(unitNames, unit);
+		if (operation < 0) {
+			setCalculateSuccess(false, INCREASE_ALL, start);
+			return null;
+		}
+		return calculateAll(gTimes::get, gTimes.size(), operation, offset, null, start);
+	}
+
+	/**
+	 * <b>Sets all GTimes of an array on a given time zone, in parallel.</b><p>
+	 * Does not change the instances therefore the datetimes will change following the new time zone. Null elements fail.<p>
+	 * In case wrong time zone is given, nothing changes and returns null.
+	 * @param gTimes		the GTime[] of datetimes.
+	 * @param newTimezone	the String of new time zone.
+	 * @return				the BitSet marks which elements failed.
+	 */
+	public static BitSet changeTimezoneAll(GTime[] gTimes, String newTimezone) {
+		long start = startOperation();
+		ZoneId zi = getZone(newTimezone);
+		if (zi == null) {
+			setCalculateSuccess(false, CHANGE_TIMEZONE_ALL, start);
+			return null;
+		}
+		return calculateAll(i -> gTimes[i], gTimes.length, TIMEZONE, 0, zi, start);
+	}
+
+	/**
+	 * <b>Sets all GTimes of a List on a given time zone, in parallel.</b><p>
+	 * Does not change the instances therefore the datetimes will change following the new time zone. Null elements fail.<p>
+	 * A List without random access (e.g. LinkedList) is copied into an array first; the GTimes themselves are changed in both cases.<p>
+	 * In case wrong time zone is given, nothing changes and returns null.
+	 * @param gTimes		the List of datetimes.
+	 * @param newTimezone	the String of new time zone.
+	 * @return				the BitSet marks which elements failed.
+	 */
+	public static BitSet changeTimezoneAll(List<GTime> gTimes, String newTimezone) {
+		if (!(gTimes instanceof RandomAccess)) {
+			return changeTimezoneAll(gTimes.toArray(new GTime[0]), newTimezone);
+		}
+		long start = startOperation();
+		ZoneId zi = getZone(newTimezone);
+		if (zi == null) {
+			setCalculateSuccess(false, CHANGE_TIMEZONE_ALL, start);
+			return null;
+		}
+		return calculateAll(gTimes::get, gTimes.size(), TIMEZONE, 0, zi, start);
+	}
+
+	/**
+	 * <b>Returns the index of a unit name in a table of unit names.</b>
+	 * @param names	the String[] of unit names.
+	 * @param unit	the String of unit.
+	 * @return		the int of unit, -1 for wrong unit.
+	 */
+	static int getUnitIndex(String[] names, String unit) {
+		for (int i = 0; i < names.length; i++) {
+			if (names[i].equals(unit)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * <b>Changes all elements, in parallel when there is more than one part, and collects the failures into a BitSet.</b>
+	 * @param source	the IntFunction of element by index.
+	 * @param length	the int of elements.
+	 * @param operation	the int of unit or TIMEZONE.
+	 * @param offset	the long of offset.
+	 * @param zone		the ZoneId of new time zone.
+	 * @param start		the long of start time by GTimeMetrics.
+	 * @return			the BitSet marks which elements failed.
+	 */
+	private static BitSet calculateAll(IntFunction<GTime> source, int length, int operation, long offset, ZoneId zone, long start) {
+		int[] failures = (length <= PART_SIZE) ? calculatePart(source, 0, length, operation, offset, zone) : calculatePool.invoke(new PartTask(source, 0, length, operation, offset, zone));
+		BitSet failed = new BitSet();
+		for (int failure : failures) {
+			failed.set(failure);
+		}
+		setCalculateSuccess(failures.length == 0, (operation == TIMEZONE) ? CHANGE_TIMEZONE_ALL : INCREASE_ALL, start);
+		return failed;
+	}
+
+	/**
+	 * <b>Changes a range of elements and returns the indexes of failed elements.</b><p>
+	 * The success flag is not touched, since the range may be changed by a pool thread.
+	 * @param source	the IntFunction of element by index.
+	 * @param from		the int of first index (inclusive).
+	 * @param to		the int of last index (exclusive).
+	 * @param operation	the int of unit or TIMEZONE.
+	 * @param offset	the long of offset.
+	 * @param zone		the ZoneId of new time zone.
+	 * @return			the int[] of failed indexes, in ascending order.
+	 */
+	private static int[] calculatePart(IntFunction<GTime> source, int from, int to, int operation, long offset, ZoneId zone) {
+		int[] failures = null;
+		int failureCount = 0;
+		for (int i = from; i < to; i++) {
+			GTime gTime = source.apply(i);
+			boolean success = false;
+			if (gTime != null) {
+				try {
+					gTime.time = calculate(gTime.time, operation, offset, zone);
+					success = true;
+				}
+				catch (Exception e) {
+					success = false;
+				}
+			}
+			if (!success) {
+				if (failures == null) {
+					failures = new int[16];
+				}
+				else if (failureCount == failures.length) {
+					failures = Arrays.copyOf(failures, failureCount * 2);
+				}
+				failures[failureCount++] = i;
+			}
+		}
+		return (failures == null) ? new int[0] : Arrays.copyOf(failures, failureCount);
+	}
+
+	/**
+	 * <b>Returns the datetime changed by an operation.</b>
+	 * @param time		the ZonedDateTime of datetime.
+	 * @param operation	the int of unit or TIMEZONE.
+	 * @param offset	the long of offset.
+	 * @param zone		the ZoneId of new time zone.
+	 * @return			the ZonedDateTime of changed datetime.
+	 */
+	private static ZonedDateTime calculate(ZonedDateTime time, int operation, long offset, ZoneId zone) {
+		switch (operation) {
+			case YEAR:
+				return time.plusYears(offset);
+			case MONTH:
+				return time.plusMonths(offset);
+			case WEEK:
+				return time.plusWeeks(offset);
+			case DAY:
+				return time.plusDays(offset);
+			case HOUR:
+				return time.plusHours(offset);
+			case MINUTE:
+				return time.plusMinutes(offset);
+			case SECOND:
+				return time.plusSeconds(offset);
+			case NANOSECOND:
+				return time.plusNanos(offset);
+			default:
+				return time.withZoneSameInstant(zone);
 		}
 	}
 }
@@ -0,0 +1,208 @@
+package GrimmPackage.DateTime;
+
+import java.time.*;
+import java.util.concurrent.*;
+
+/**
+ * <b>Provides the shared clock which GTime objects are set on current datetime from.</b><p>
+ * GTime(), GTime(String timezone) and GTimeEdit.setCurrentTime() read the current datetime from this clock; by default it is the system clock.<p>
+ * The coarse clock is refreshed by a background daemon thread at a given resolution and is read without locks; it suits stamping a high rate of events where the resolution is enough.<p>
+ * The fixed and offset clocks make the current datetime predictable for testing.<p>
+ * Any java.time.Clock can also be set; its time zone is not used, GTime uses its own.<p>
+ * All methods are static and thread-safe.<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeClock.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * getClock() -> Clock<p>
+ * setClock(Clock clock) -> boolean<p>
+ * setSystemClock()<p>
+ * setCoarseClock(long resolutionMilliseconds) -> boolean<p>
+ * setFixedClock(GTime gTime) -> boolean<p>
+ * setOffsetClock(long offsetNanoseconds)<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeClock {
+	private static volatile Clock clock = Clock.systemUTC();
+	private static volatile boolean sharingCurrentTime = false;
+	private static final int CURRENT_TIMES_CAPACITY = 256;
+	private static final ConcurrentHashMap<ZoneId, CurrentTime> currentTimes = new ConcurrentHashMap<>();
+
+	/**
+	 * <b>Holds the last current datetime of a time zone, so that callers reading the same instant in the same time zone share it.</b><p>
+	 * One is kept per time zone, so callers alternating between time zones do not evict each other, and it is replaced only when the instant changes.
+	 */
+	private static final class CurrentTime {
+		private final Instant instant;
+		private final ZonedDateTime time;
+
+		private CurrentTime(Instant instant, ZonedDateTime time) {
+			this.instant = instant;
+			this.time = time;
+		}
+	}
+
+	/**
+	 * <b>Provides a clock which returns the instant stored by its ticker thread.</b>
+	 */
+	private static final class CoarseClock extends Clock {
+		private final CoarseClock source;
+		private final ZoneId zone;
+		private final ScheduledExecutorService ticker;
+		private volatile Instant instant;
+
+		private CoarseClock(long resolutionMilliseconds) {
+			source = this;
+			zone = ZoneOffset.UTC;
+			instant = Instant.now();
+			ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "GTimeClock-ticker");
+				thread.setDaemon(true);
+				return thread;
+			});
+			ticker.scheduleAtFixedRate(() -> instant = Instant.now(), resolutionMilliseconds, resolutionMilliseconds, TimeUnit.MILLISECONDS);
+		}
+
+		private CoarseClock(CoarseClock source, ZoneId zone) {
+			this.source = source;
+			this.zone = zone;
+			this.ticker = source.ticker;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return zone;
+		}
+
+		@Override
+		public Clock withZone(ZoneId newZone) {
+			return new CoarseClock(source, newZone);
+		}
+
+		@Override
+		public Instant instant() {
+			return source.instant;
+		}
+
+		@Override
+		public long millis() {
+			return source.instant.toEpochMilli();
+		}
+
+		private void stop() {
+			ticker.shutdownNow();
+		}
+	}
+
+	/**
+	 * <b>Returns the clock in use.</b>
+	 * @return	the Clock of current datetime.
+	 */
+	public static Clock getClock() {
+		return clock;
+	}
+
+	/**
+	 * <b>Sets the clock to use.</b><p>
+	 * In case the clock is null, returns false and the clock is not changed.
+	 * @param newClock	the Clock of current datetime.
+	 * @return			the boolean value marks whether the clock was set.
+	 */
+	public static boolean setClock(Clock newClock) {
+		return setClock(newClock, false);
+	}
+
+	/**
+	 * <b>Sets the clock to use and stops the ticker of the replaced coarse clock.</b>
+	 * @param newClock	the Clock of current datetime.
+	 * @param sharing	the boolean value marks whether the clock returns the same instant repeatedly, so the current datetime is worth sharing.
+	 * @return			the boolean value marks whether the clock was set.
+	 */
+	private static synchronized boolean setClock(Clock newClock, boolean sharing) {
+		if (newClock == null) {
+			return false;
+		}
+		Clock oldClock = clock;
+		sharingCurrentTime = sharing;
+		clock = newClock;
+		if ((oldClock instanceof CoarseClock) && (oldClock != newClock)) {
+			((CoarseClock) oldClock).stop();
+		}
+		return true;
+	}
+
+	/**
+	 * <b>Sets the system clock, which is the default.</b>
+	 */
+	public static void setSystemClock() {
+		setClock(Clock.systemUTC());
+	}
+
+	/**
+	 * <b>Sets a coarse clock, refreshed by a background daemon thread.</b><p>
+	 * The current datetime lags behind the system clock by at most the resolution.<p>
+	 * In case the resolution is less than 1 millisecond, returns false and the clock is not changed.
+	 * @param resolutionMilliseconds	the long of refresh period in milliseconds.
+	 * @return							the boolean value marks whether the clock was set.
+	 */
+	public static boolean setCoarseClock(long resolutionMilliseconds) {
+		if (resolutionMilliseconds < 1) {
+			return false;
+		}
+		return setClock(new CoarseClock(resolutionMilliseconds), true);
+	}
+
+	/**
+	 * <b>Sets a clock which always returns the instant of GTime.</b><p>
+	 * In case the GTime is null, returns false and the clock is not changed.
+	 * @param gTime	the GTime of datetime.
+	 * @return		the boolean value marks whether the clock was set.
+	 */
+	public static boolean setFixedClock(GTime gTime) {
+		if (gTime == null) {
+			return false;
+		}
+		return setClock(Clock.fixed(gTime.time.toInstant(), ZoneOffset.UTC), true);
+	}
+
+	/**
+	 * <b>Sets a clock which runs with the system clock, shifted by the given nanoseconds.</b>
+	 * @param offsetNanoseconds	the long of shift in nanoseconds, negative for the past.
+	 */
+	public static void setOffsetClock(long offsetNanoseconds) {
+		setClock(Clock.offset(Clock.systemUTC(), Duration.ofNanos(offsetNanoseconds)));
+	}
+
+	/**
+	 * <b>Returns the current datetime of the clock in a time zone.</b><p>
+	 * For the coarse and fixed clocks, while the clock returns the same instant, the ZonedDateTime of the last call in the same time zone is shared.
+	 * @param zone	the ZoneId of time zone.
+	 * @return		the ZonedDateTime of current datetime.
+	 */
+	static ZonedDateTime getCurrentTime(ZoneId zone) {
+		Instant instant = clock.instant();
+		if (!sharingCurrentTime) {
+			return ZonedDateTime.ofInstant(instant, zone);
+		}
+		CurrentTime last = currentTimes.get(zone);
+		if ((last != null) && last.instant.equals(instant)) {
+			return last.time;
+		}
+		ZonedDateTime time = ZonedDateTime.ofInstant(instant, zone);
+		if ((last == null) && (currentTimes.size() >= CURRENT_TIMES_CAPACITY)) {
+			currentTimes.clear();
+		}
+		currentTimes.put(zone, new CurrentTime(instant, time));
+		return time;
+	}
+
+	/**
+	 * <b>Returns the current datetime of the clock in the local time zone.</b>
+	 * @return	the ZonedDateTime of current datetime.
+	 */
+	static ZonedDateTime getCurrentTime() {
+		return getCurrentTime(ZoneId.systemDefault());
+	}
+}
@@ -0,0 +1,269 @@
+package GrimmPackage.DateTime;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.time.*;
+import java.util.*;
+
+import static GrimmPackage.DateTime.GTimeEncoder.*;
+import static GrimmPackage.DateTime.GTimeZoneCache.*;
+
+/**
+ * <b>Provides a streaming binary decoder of GTime objects.</b><p>
+ * Reads the stream written by GTimeEncoder; for the format, see GTimeEncoder.<p>
+ * Records are read through a ByteBuffer which is refilled from the channel when drained; without a channel, the ByteBuffer is read from its position to its limit.<p>
+ * Apart from the resulting GTime, its ZonedDateTime and its ID and description Strings, decoding does not create objects per record.<p>
+ * A malformed stream results in IOException, a truncated stream in EOFException.<p>
+ * The channel is expected to be in blocking mode.<p>
+ * A decoder is not thread-safe; the channel is not closed by the decoder.<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeDecoder.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * GTimeDecoder(ReadableByteChannel channel)<p>
+ * GTimeDecoder(ReadableByteChannel channel, int bufferSize)<p>
+ * GTimeDecoder(ByteBuffer buffer)<p>
+ * readGTime(GTimeDecoder decoder) -> GTime<p>
+ * readGTimeInto(GTimeDecoder decoder, GTime gTime) -> boolean<p>
+ * getDecodedCount(GTimeDecoder decoder) -> long<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeDecoder {
+	protected final ReadableByteChannel channel;
+	protected final ByteBuffer buffer;
+	protected ZoneId[] zones;
+	protected int zoneCount;
+	protected boolean headerRead;
+	protected byte[] textBytes;
+	protected long decodedCount;
+
+	/**
+	 * <b>Constructs GTimeDecoder reading from a channel (e.g. FileChannel) with a 64 KiB buffer.</b>
+	 * @param channel	the ReadableByteChannel of source.
+	 */
+	public GTimeDecoder(ReadableByteChannel channel) {
+		this(channel, 65_536);
+	}
+
+	/**
+	 * <b>Constructs GTimeDecoder reading from a channel (e.g. FileChannel) with a given buffer size.</b><p>
+	 * The buffer size is at least 64 bytes.
+	 * @param channel		the ReadableByteChannel of source.
+	 * @param bufferSize	the int of buffer size in bytes.
+	 */
+	public GTimeDecoder(ReadableByteChannel channel, int bufferSize) {
+		this.channel = channel;
+		this.buffer = ByteBuffer.allocateDirect(Math.max(bufferSize, 64));
+		this.buffer.flip();
+		this.zones = new ZoneId[16];
+		this.textBytes = new byte[64];
+	}
+
+	/**
+	 * <b>Constructs GTimeDecoder reading from a ByteBuffer, from its position to its limit.</b><p>
+	 * The position of the ByteBuffer moves as records are read.
+	 * @param buffer	the ByteBuffer of source.
+	 */
+	public GTimeDecoder(ByteBuffer buffer) {
+		this.channel = null;
+		this.buffer = buffer;
+		this.zones = new ZoneId[16];
+		this.textBytes = new byte[64];
+	}
+
+	/**
+	 * <b>Decodes the next GTime.</b>
+	 * @param decoder	the GTimeDecoder of stream.
+	 * @return			the GTime of datetime, or null at the end of stream.
+	 * @throws IOException	in case the channel fails or the stream is malformed.
+	 */
+	public static GTime readGTime(GTimeDecoder decoder) throws IOException {
+		GTime gTime = new GTime(null, "", "");
+		if (readGTimeInto(decoder, gTime)) {
+			return gTime;
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * <b>Decodes the next GTime into an existing GTime.</b><p>
+	 * At the end of stream, the GTime is not changed.
+	 * @param decoder	the GTimeDecoder of stream.
+	 * @param gTime		the GTime to overwrite.
+	 * @return			the boolean of whether a GTime was decoded.
+	 * @throws IOException	in case the channel fails or the stream is malformed.
+	 */
+	public static boolean readGTimeInto(GTimeDecoder decoder, GTime gTime) throws IOException {
+		if (!decoder.headerRead) {
+			if (!fill(decoder, MAGIC.length + 1)) {
+				if (decoder.buffer.hasRemaining()) {
+					throw new EOFException("Truncated GTime stream header.");
+				}
+				return false;
+			}
+			for (byte magic : MAGIC) {
+				if (decoder.buffer.get() != magic) {
+					throw new IOException("Not a GTime stream.");
+				}
+			}
+			byte version = decoder.buffer.get();
+			if ((version < 1) || (version > VERSION)) {
+				throw new IOException("Unsupported GTime stream version: " + version + ".");
+			}
+			decoder.headerRead = true;
+		}
+		while (true) {
+			if (!decoder.buffer.hasRemaining() && !fill(decoder, 1)) {
+				return false;
+			}
+			byte tag = decoder.buffer.get();
+			if (tag == TAG_ZONE) {
+				String zoneID = readString(decoder);
+				ZoneId zone = getZone(zoneID);
+				if (zone == null) {
+					throw new IOException("Unknown time zone in GTime stream: " + zoneID + ".");
+				}
+				if (decoder.zoneCount == decoder.zones.length) {
+					decoder.zones = Arrays.copyOf(decoder.zones, decoder.zoneCount * 2);
+				}
+				decoder.zones[decoder.zoneCount++] = zone;
+			}
+			else if (tag == TAG_GTIME) {
+				int flags = readByte(decoder);
+				long zoneIndex = readVarint(decoder);
+				if ((zoneIndex < 0) || (zoneIndex >= decoder.zoneCount)) {
+					throw new IOException("Undefined time zone index in GTime stream: " + zoneIndex + ".");
+				}
+				long zigzag = readVarint(decoder);
+				long epochSecond = (zigzag >>> 1) ^ -(zigzag & 1);
+				long nano = ((flags & FLAG_NANOSECOND) != 0) ? readVarint(decoder) : 0;
+				if ((nano < 0) || (nano >= GTimeArithmetic.NANOSECONDS_PER_SECOND)) {
+					throw new IOException("Invalid nanosecond in GTime stream: " + nano + ".");
+				}
+				String ID = ((flags & FLAG_ID) != 0) ? readString(decoder) : "";
+				String description = ((flags & FLAG_DESCRIPTION) != 0) ? readString(decoder) : "";
+				try {
+					gTime.time = ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), decoder.zones[(int) zoneIndex]);
+				}
+				catch (DateTimeException e) {
+					throw new IOException("Invalid epoch second in GTime stream: " + epochSecond + ".");
+				}
+				gTime.ID = ID;
+				gTime.description = description;
+				decoder.decodedCount++;
+				return true;
+			}
+			else {
+				throw new IOException("Unknown record tag in GTime stream: " + tag + ".");
+			}
+		}
+	}
+
+	/**
+	 * <b>Returns the number of GTimes decoded.</b>
+	 * @param decoder	the GTimeDecoder of stream.
+	 * @return			the long of decoded GTimes.
+	 */
+	public static long getDecodedCount(GTimeDecoder decoder) {
+		return decoder.decodedCount;
+	}
+
+	/**
+	 * <b>Reads a varint length and the UTF-8 bytes of a String.</b>
+	 * @param decoder	the GTimeDecoder of stream.
+	 * @return			the String read.
+	 * @throws IOException	in case the channel fails or the stream is malformed.
+	 */
+	private static String readString(GTimeDecoder decoder) throws IOException {
+		long length = readVarint(decoder);
+		if ((length < 0) || (length > Integer.MAX_VALUE - 8)) {
+			throw new IOException("Invalid text length in GTime stream: " + length + ".");
+		}
+		int size = (int) length;
+		ByteBuffer buffer = decoder.buffer;
+		if (buffer.hasArray() && fill(decoder, Math.min(size, buffer.capacity())) && (buffer.remaining() >= size)) {
+			String text = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), size, StandardCharsets.UTF_8);
+			buffer.position(buffer.position() + size);
+			return text;
+		}
+		if (decoder.textBytes.length < size) {
+			decoder.textBytes = new byte[Math.max(size, decoder.textBytes.length * 2)];
+		}
+		int read = 0;
+		while (read < size) {
+			if (!buffer.hasRemaining() && !fill(decoder, 1)) {
+				throw new EOFException("Truncated GTime stream.");
+			}
+			int chunk = Math.min(buffer.remaining(), size - read);
+			buffer.get(decoder.textBytes, read, chunk);
+			read += chunk;
+		}
+		return new String(decoder.textBytes, 0, size, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * <b>Reads an unsigned LEB128 varint.</b>
+	 * @param decoder	the GTimeDecoder of stream.
+	 * @return			the long of value.
+	 * @throws IOException	in case the channel fails or the stream is malformed.
+	 */
+	private static long readVarint(GTimeDecoder decoder) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = readByte(decoder);
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Invalid varint in GTime stream.");
+	}
+
+	/**
+	 * <b>Reads a byte.</b>
+	 * @param decoder	the GTimeDecoder of stream.
+	 * @return			the int of unsigned byte.
+	 * @throws IOException	in case the channel fails or the stream is truncated.
+	 */
+	private static int readByte(GTimeDecoder decoder) throws IOException {
+		if (!decoder.buffer.hasRemaining() && !fill(decoder, 1)) {
+			throw new EOFException("Truncated GTime stream.");
+		}
+		return decoder.buffer.get() & 0xFF;
+	}
+
+	/**
+	 * <b>Refills the buffer from the channel until it holds the needed bytes.</b>
+	 * @param decoder	the GTimeDecoder of stream.
+	 * @param bytes		the int of bytes needed, at most the buffer capacity.
+	 * @return			the boolean of whether the buffer holds the needed bytes.
+	 * @throws IOException	in case the channel fails.
+	 */
+	private static boolean fill(GTimeDecoder decoder, int bytes) throws IOException {
+		ByteBuffer buffer = decoder.buffer;
+		if (buffer.remaining() >= bytes) {
+			return true;
+		}
+		if (decoder.channel == null) {
+			return false;
+		}
+		buffer.compact();
+		try {
+			while (buffer.position() < bytes) {
+				if (decoder.channel.read(buffer) < 0) {
+					return false;
+				}
+			}
+		}
+		finally {
+			buffer.flip();
+		}
+		return true;
+	}
+}
@@ -2,87 +2,134 @@ package GrimmPackage.DateTime;
 
 import java.time.*;
 
+import static GrimmPackage.DateTime.GTimeAnalyse.*;
+import static GrimmPackage.DateTime.GTimeClock.*;
 import static GrimmPackage.DateTime.GTimeInfo.*;
+import static GrimmPackage.DateTime.GTimeMetrics.*;
+import static GrimmPackage.DateTime.GTimeZoneCache.*;
 
 /**
  * <b>Provides editing helper methods for GTime objects.</b><p>
  * All methods are static.<p>
- * The successfulness can be read by invoking getEditSuccess() method.<p>
+ * The successfulness is returned by the setter methods, and can also be read by invoking getEditSuccess() method.<p>
+ * Both ways are thread-safe: the success flag is stored per thread.<p>
+ * Setting the datetime or its components is measured by GTimeMetrics while it is enabled.<p>
  * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
  * <i>import static GrimmPackage.DateTime.GTimeEdit.*;</i><p>
  * <p><p>
  * PUBLIC METHODS:<p>
- * getSuccess()<p>
+ * getEditSuccess() -> boolean<p>
  * cloneGTime(GTime gTime) -> GTime<p>
- * setID(GTime gTime, String newID)<p>
- * setDescription(GTime gTime, String newDescription)<p>
- * setCurrentTime(GTime gTime)<p>
- * setCurrentTime(GTime gTime, String timezone)<p>
- * setDateTime(GTime gTime, int newYear, int newMonth, int newDay, int newHour24, int newMinute, int newSecond, int newNanosecond, String newTimezone)<p>
- * setDateTime(GTime gTime, int[] newDateComponents, int[] newTimeComponents, String newTimezone)<p>
- * setYear(GTime gTime, int newYear)<p>
- * setMonth(GTime gTime, int newMonth)<p>
- * setDay(GTime gTime, int newDay)<p>
- * setHour(GTime gTime, int newHour24)<p>
- * setMinute(GTime gTime, int newMinute)<p>
- * setSecond(GTime gTime, int newSecond)<p>
- * setNanosecond(GTime gTime, int newNanosecond)<p>
- * setDayOfYear(GTime gTime, int newDayOfYear)<p>
+ * copyInto(GTime sourceGTime, GTime targetGTime) -> boolean<p>
+ * setID(GTime gTime, String newID) -> boolean<p>
+ * setDescription(GTime gTime, String newDescription) -> boolean<p>
+ * setCurrentTime(GTime gTime) -> boolean<p>
+ * setCurrentTime(GTime gTime, String timezone) -> boolean<p>
+ * setDateTime(GTime gTime, int newYear, int newMonth, int newDay, int newHour24, int newMinute, int newSecond, int newNanosecond, String newTimezone) -> boolean<p>
+ * setDateTime(GTime gTime, int[] newDateComponents, int[] newTimeComponents, String newTimezone) -> boolean<p>
+ * setYear(GTime gTime, int newYear) -> boolean<p>
+ * setMonth(GTime gTime, int newMonth) -> boolean<p>
+ * setDay(GTime gTime, int newDay) -> boolean<p>
+ * setHour(GTime gTime, int newHour24) -> boolean<p>
+ * setMinute(GTime gTime, int newMinute) -> boolean<p>
+ * setSecond(GTime gTime, int newSecond) -> boolean<p>
+ * setNanosecond(GTime gTime, int newNanosecond) -> boolean<p>
+ * setDayOfYear(GTime gTime, int newDayOfYear) -> boolean<p>
  *
  * @author	Laszlo Karoly Grimm
  * @since 2022-05-28
  */
 public class GTimeEdit {
-	private static boolean editSuccess;
+	private static final ThreadLocal<boolean[]> editSuccess = ThreadLocal.withInitial(() -> new boolean[1]);
 
 	/**
-	 * <b>Returns the success flag of GTimeEdit.</b>
+	 * <b>Returns the success flag of GTimeEdit.</b><p>
+	 * The flag belongs to the current thread, therefore it marks the success of the last GTimeEdit method invoked by the same thread.
 	 * @return	the boolean value of method success.
 	 */
 	public static boolean getEditSuccess() {
-		return editSuccess;
+		return editSuccess.get()[0];
 	}
 
 	/**
-	 * <b>Returns a deep copy of GTime.</b>
+	 * <b>Stores the success flag of the current thread.</b>
+	 * @param success	the boolean value of method success.
+	 * @return			the boolean value of method success.
+	 */
+	private static boolean setEditSuccess(boolean success) {
+		editSuccess.get()[0] = success;
+		return success;
+	}
+
+	/**
+	 * <b>Stores the success flag of the current thread and records the operation for GTimeMetrics.</b>
+	 * @param success	the boolean value of method success.
+	 * @param operation	the int of measured operation.
+	 * @param start		the long of start time by GTimeMetrics.
+	 * @return			the boolean value of method success.
+	 */
+	private static boolean setEditSuccess(boolean success, int operation, long start) {
+		editSuccess.get()[0] = success;
+		recordOperation(operation, start, success);
+		return success;
+	}
+
+	/**
+	 * <b>Returns a deep copy of GTime.</b><p>
+	 * The datetime, time zone, ID and description are immutable, therefore they are shared with the original instead of being resolved again.
 	 * @param originalGTime	the GTime of original datetime.
 	 * @return				the GTime of new GTime.
 	 */
 	public static GTime cloneGTime(GTime originalGTime) {
-		GTime newGTime = new GTime(getYear(originalGTime), getMonth(originalGTime), getDay(originalGTime), getHour(originalGTime), getMinute(originalGTime), getSecond(originalGTime), getNanosecond(originalGTime), getTimeZoneID(originalGTime));
-		setID(newGTime, getID(originalGTime));
-		setDescription(newGTime, getDescription(originalGTime));
-		editSuccess = true;
+		GTime newGTime = new GTime(originalGTime.time, originalGTime.ID, originalGTime.description);
+		setEditSuccess(true);
 		return newGTime;
-		}
+	}
+
+	/**
+	 * <b>Copies datetime, time zone, ID and description of a GTime into an existing GTime.</b>
+	 * @param sourceGTime	the GTime of original datetime.
+	 * @param targetGTime	the GTime to overwrite.
+	 * @return				the boolean value of method success.
+	 */
+	public static boolean copyInto(GTime sourceGTime, GTime targetGTime) {
+		targetGTime.time = sourceGTime.time;
+		targetGTime.ID = sourceGTime.ID;
+		targetGTime.description = sourceGTime.description;
+		return setEditSuccess(true);
+	}
 
 	/**
 	 * <b>Sets the ID of GTime.</b>
 	 * @param gTime		the GTime of datetime.
 	 * @param newID		the String of new ID.
+	 * @return			the boolean value marks whether the method succeeded.
 	 */
-	public static void setID(GTime gTime, String newID) {
+	public static boolean setID(GTime gTime, String newID) {
 		gTime.ID = newID;
-		editSuccess = true;
+		return setEditSuccess(true);
 	}
 
 	/**
 	 * <b>Sets the description of GTime.</b>
 	 * @param gTime				the GTime of datetime.
 	 * @param newDescription	the String of new description.
+	 * @return					the boolean value marks whether the method succeeded.
 	 */
-	public static void setDescription(GTime gTime, String newDescription) {
+	public static boolean setDescription(GTime gTime, String newDescription) {
 		gTime.description = newDescription;
-		editSuccess = true;
+		return setEditSuccess(true);
 	}
 
 	/**
 	 * <b>Sets GTime on current local datetime and local time zone.</b>
 	 * @param gTime	the GTime of datetime.
+	 * @return		the boolean value marks whether the method succeeded.
 	 */
-	public static void setCurrentTime(GTime gTime) {
-		gTime.time = ZonedDateTime.now();
-		editSuccess = true;
+	public static boolean setCurrentTime(GTime gTime) {
+		long start = startOperation();
+		gTime.time = getCurrentTime();
+		return setEditSuccess(true, SET_CURRENT_TIME, start);
 	}
 
 	/**
@@ -93,18 +140,19 @@ public class GTimeEdit {
 	 * Time zone ID identification no.4: regional time definition in continent/city format (e.g. America/Los_Angeles); will use DST offset.<p>
 	 * Time zone ID identification no.5: short mosaic letters (e.g. CET) of time zone; due to having the same mosaic words for different zones on Earth, use it only when the ID is unique; will use DST offset.<p>
 	 * Time zone ID identification no.6: Z for the absolute zeroth time zone; will not use DST offset.<p>
-	 * In case wrong time zone is given, datetime will not change.
+	 * In case the GTime is null or wrong time zone is given, datetime will not change.
 	 * @param gTime			the GTime of datetime.
 	 * @param newTimezone	the String of new time zone.
+	 * @return				the boolean value marks whether the method succeeded.
 	 */
-	public static void setCurrentTime(GTime gTime, String newTimezone) {
-		try {
-			gTime.time = ZonedDateTime.now(ZoneId.of(newTimezone));
-			editSuccess = true;
-		}
-		catch (Exception e) {
-			editSuccess = false;
+	public static boolean setCurrentTime(GTime gTime, String newTimezone) {
+		long start = startOperation();
+		ZoneId zi = getZone(newTimezone);
+		if ((gTime == null) || (zi == null)) {
+			return setEditSuccess(false, SET_CURRENT_TIME, start);
 		}
+		gTime.time = getCurrentTime(zi);
+		return setEditSuccess(true, SET_CURRENT_TIME, start);
 	}
 
 	/**
@@ -115,7 +163,7 @@ public class GTimeEdit {
 	 * Time zone ID identification no.4: regional time definition in continent/city format (e.g. America/Los_Angeles); will use DST offset.<p>
 	 * Time zone ID identification no.5: short mosaic letters (e.g. CET) of time zone; due to having the same mosaic words for different zones on Earth, use it only when the ID is unique; will use DST offset.<p>
 	 * Time zone ID identification no.6: Z for the absolute zeroth time zone; will not use DST offset.<p>
-	 * In case wrong time zone, date or time is given, datetime will not change.
+	 * In case the GTime is null or wrong time zone, date or time is given, datetime will not change.
 	 * @param gTime			the GTime of datetime.
 	 * @param newYear		the int of new year.
 	 * @param newMonth		the int of new month.
@@ -125,21 +173,20 @@ public class GTimeEdit {
 	 * @param newSecond		the int of new second.
 	 * @param newNanosecond	the int of new nanosecond.
 	 * @param newTimezone	the String of new time zone.
+	 * @return				the boolean value marks whether the method succeeded.
 	 */
-	public static void setDateTime(GTime gTime, int newYear, int newMonth, int newDay, int newHour24, int newMinute, int newSecond, int newNanosecond, String newTimezone) {
-		ZoneId zi;
-		try {
-			zi = ZoneId.of(newTimezone);
-			try {
-				gTime.time = ZonedDateTime.of(newYear, newMonth, newDay, newHour24, newMinute, newSecond, newNanosecond, zi);
-				editSuccess = true;
-			}
-			catch (Exception e) {
-				editSuccess = false;
-			}
+	public static boolean setDateTime(GTime gTime, int newYear, int newMonth, int newDay, int newHour24, int newMinute, int newSecond, int newNanosecond, String newTimezone) {
+		long start = startOperation();
+		ZoneId zi = getZone(newTimezone);
+		if ((gTime == null) || (zi == null)) {
+			return setEditSuccess(false, SET_DATE_TIME, start);
+		}
+		if (isDate(newYear, newMonth, newDay) && isTime(newHour24, newMinute, newSecond, newNanosecond)) {
+			gTime.time = ZonedDateTime.of(newYear, newMonth, newDay, newHour24, newMinute, newSecond, newNanosecond, zi);
+			return setEditSuccess(true, SET_DATE_TIME, start);
 		}
-		catch (Exception e) {
-			editSuccess = false;
+		else {
+			return setEditSuccess(false, SET_DATE_TIME, start);
 		}
 	}
 
@@ -153,26 +200,25 @@ public class GTimeEdit {
 	 * Time zone ID identification no.4: regional time definition in continent/city format (e.g. America/Los_Angeles); will use DST offset.<p>
 	 * Time zone ID identification no.5: short mosaic letters (e.g. CET) of time zone; due to having the same mosaic words for different zones on Earth, use it only when the ID is unique; will use DST offset.<p>
 	 * Time zone ID identification no.6: Z for the absolute zeroth time zone; will not use DST offset.<p>
-	 * In case wrong time zone, date or time is given, datetime will not change.
+	 * In case the GTime is null or wrong time zone, date or time is given, datetime will not change.
 	 * @param gTime				the GTime of datetime.
 	 * @param newDateComponents	the int[] of new date components.
 	 * @param newTimeComponents	the int[] of new time components.
 	 * @param newTimezone		the String of new time zone.
+	 * @return					the boolean value marks whether the method succeeded.
 	 */
-	public static void setDateTime(GTime gTime, int[] newDateComponents, int[] newTimeComponents, String newTimezone) {
-		ZoneId zi;
-		try {
-			zi = ZoneId.of(newTimezone);
-			try {
-				gTime.time = ZonedDateTime.of(newDateComponents[0], newDateComponents[1], newDateComponents[2], newTimeComponents[0], newTimeComponents[1], newTimeComponents[2], newTimeComponents[3], zi);
-				editSuccess = true;
-			}
-			catch (Exception e) {
-				editSuccess = false;
-			}
+	public static boolean setDateTime(GTime gTime, int[] newDateComponents, int[] newTimeComponents, String newTimezone) {
+		long start = startOperation();
+		ZoneId zi = getZone(newTimezone);
+		if ((gTime == null) || (zi == null)) {
+			return setEditSuccess(false, SET_DATE_TIME, start);
 		}
-		catch (Exception e) {
-			editSuccess = false;
+		if (isDateTime(newDateComponents, newTimeComponents)) {
+			gTime.time = ZonedDateTime.of(newDateComponents[0], newDateComponents[1], newDateComponents[2], newTimeComponents[0], newTimeComponents[1], newTimeComponents[2], newTimeComponents[3], zi);
+			return setEditSuccess(true, SET_DATE_TIME, start);
+		}
+		else {
+			return setEditSuccess(false, SET_DATE_TIME, start);
 		}
 	}
 
@@ -180,14 +226,19 @@ public class GTimeEdit {
 	 * Sets the year of GTime.
 	 * @param gTime		the GTime of datetime.
 	 * @param newYear	the int of year.
+	 * @return			the boolean value marks whether the method succeeded.
 	 */
-	public static void setYear(GTime gTime, int newYear) {
-		try {
+	public static boolean setYear(GTime gTime, int newYear) {
+		long start = startOperation();
+		if (gTime == null) {
+			return setEditSuccess(false, SET_YEAR, start);
+		}
+		if ((newYear >= Year.MIN_VALUE) && (newYear <= Year.MAX_VALUE)) {
 			gTime.time = gTime.time.withYear(newYear);
-			editSuccess = true;
+			return setEditSuccess(true, SET_YEAR, start);
 		}
-		catch (Exception e) {
-			editSuccess = false;
+		else {
+			return setEditSuccess(false, SET_YEAR, start);
 		}
 	}
 
@@ -195,14 +246,19 @@ public class GTimeEdit {
 	 * Sets the month of GTime.
 	 * @param gTime		the GTime of datetime.
 	 * @param newMonth	the int of month.
+	 * @return			the boolean value marks whether the method succeeded.
 	 */
-	public static void setMonth(GTime gTime, int newMonth) {
-		try {
+	public static boolean setMonth(GTime gTime, int newMonth) {
+		long start = startOperation();
+		if (gTime == null) {
+			return setEditSuccess(false, SET_MONTH, start);
+		}
+		if ((newMonth > 0) && (newMonth < 13)) {
 			gTime.time = gTime.time.withMonth(newMonth);
-			editSuccess = true;
+			return setEditSuccess(true, SET_MONTH, start);
 		}
-		catch (Exception e) {
-			editSuccess = false;
+		else {
+			return setEditSuccess(false, SET_MONTH, start);
 		}
 	}
 
@@ -210,14 +266,19 @@ public class GTimeEdit {
 	 * Sets the day of GTime.
 	 * @param gTime		the GTime of datetime.
 	 * @param newDay	the int of day.
+	 * @return			the boolean value marks whether the method succeeded.
 	 */
-	public static void setDay(GTime gTime, int newDay) {
-		try {
+	public static boolean setDay(GTime gTime, int newDay) {
+		long start = startOperation();
+		if (gTime == null) {
+			return setEditSuccess(false, SET_DAY, start);
+		}
+		if (isDate(gTime.time.getYear(), gTime.time.getMonthValue(), newDay)) {
 			gTime.time = gTime.time.withDayOfMonth(newDay);
-			editSuccess = true;
+			return setEditSuccess(true, SET_DAY, start);
 		}
-		catch (Exception e) {
-			editSuccess = false;
+		else {
+			return setEditSuccess(false, SET_DAY, start);
 		}
 	}
 
@@ -225,14 +286,19 @@ public class GTimeEdit {
 	 * Sets the hour of GTime.
 	 * @param gTime		the GTime of datetime.
 	 * @param newHour24	the int of hour.
+	 * @return			the boolean value marks whether the method succeeded.
 	 */
-	public static void setHour(GTime gTime, int newHour24) {
-		try {
+	public static boolean setHour(GTime gTime, int newHour24) {
+		long start = startOperation();
+		if (gTime == null) {
+			return setEditSuccess(false, SET_HOUR, start);
+		}
+		if ((newHour24 >= 0) && (newHour24 < 24)) {
 			gTime.time = gTime.time.withHour(newHour24);
-			editSuccess = true;
+			return setEditSuccess(true, SET_HOUR, start);
 		}
-		catch (Exception e) {
-			editSuccess = false;
+		else {
+			return setEditSuccess(false, SET_HOUR, start);
 		}
 	}
 
@@ -240,14 +306,19 @@ public class GTimeEdit {
 	 * Sets the minute of GTime.
 	 * @param gTime		the GTime of datetime.
 	 * @param newMinute	the int of minute.
+	 * @return			the boolean value marks whether the method succeeded.
 	 */
-	public static void setMinute(GTime gTime, int newMinute) {
-		try {
+	public static boolean setMinute(GTime gTime, int newMinute) {
+		long start = startOperation();
+		if (gTime == null) {
+			return setEditSuccess(false, SET_MINUTE, start);
+		}
+		if ((newMinute >= 0) && (newMinute < 60)) {
 			gTime.time = gTime.time.withMinute(newMinute);
-			editSuccess = true;
+			return setEditSuccess(true, SET_MINUTE, start);
 		}
-		catch (Exception e) {
-			editSuccess = false;
+		else {
+			return setEditSuccess(false, SET_MINUTE, start);
 		}
 	}
 
@@ -255,14 +326,19 @@ public class GTimeEdit {
 	 * Sets the second of GTime.
 	 * @param gTime		the GTime of datetime.
 	 * @param newSecond	the int of second.
+	 * @return			the boolean value marks whether the method succeeded.
 	 */
-	public static void setSecond(GTime gTime, int newSecond) {
-		try {
+	public static boolean setSecond(GTime gTime, int newSecond) {
+		long start = startOperation();
+		if (gTime == null) {
+			return setEditSuccess(false, SET_SECOND, start);
+		}
+		if ((newSecond >= 0) && (newSecond < 60)) {
 			gTime.time = gTime.time.withSecond(newSecond);
-			editSuccess = true;
+			return setEditSuccess(true, SET_SECOND, start);
 		}
-		catch (Exception e) {
-			editSuccess = false;
+		else {
+			return setEditSuccess(false, SET_SECOND, start);
 		}
 	}
 
@@ -270,14 +346,19 @@ public class GTimeEdit {
 	 * Sets the nanosecond of GTime.
 	 * @param gTime			the GTime of datetime.
 	 * @param newNanosecond	the int of nanosecond.
+	 * @return				the boolean value marks whether the method succeeded.
 	 */
-	public static void setNanosecond(GTime gTime, int newNanosecond) {
-		try {
+	public static boolean setNanosecond(GTime gTime, int newNanosecond) {
+		long start = startOperation();
+		if (gTime == null) {
+			return setEditSuccess(false, SET_NANOSECOND, start);
+		}
+		if ((newNanosecond >= 0) && (newNanosecond < 1_000_000_000)) {
 			gTime.time = gTime.time.withNano(newNanosecond);
-			editSuccess = true;
+			return setEditSuccess(true, SET_NANOSECOND, start);
 		}
-		catch (Exception e) {
-			editSuccess = false;
+		else {
+			return setEditSuccess(false, SET_NANOSECOND, start);
 		}
 	}
 
@@ -285,14 +366,19 @@ public class GTimeEdit {
 	 * Sets the day-of-year of GTime.
 	 * @param gTime			the GTime of datetime.
 	 * @param newDayOfYear	the int of day-of-year.
+	 * @return				the boolean value marks whether the method succeeded.
 	 */
-	public static void setDayOfYear(GTime gTime, int newDayOfYear) {
-		try {
+	public static boolean setDayOfYear(GTime gTime, int newDayOfYear) {
+		long start = startOperation();
+		if (gTime == null) {
+			return setEditSuccess(false, SET_DAY_OF_YEAR, start);
+		}
+		if ((newDayOfYear > 0) && (newDayOfYear <= (isLeapYear(gTime.time.getYear()) ? 366 : 365))) {
 			gTime.time = gTime.time.withDayOfYear(newDayOfYear);
-			editSuccess = true;
+			return setEditSuccess(true, SET_DAY_OF_YEAR, start);
 		}
-		catch (Exception e) {
-			editSuccess = false;
+		else {
+			return setEditSuccess(false, SET_DAY_OF_YEAR, start);
 		}
 	}
 }
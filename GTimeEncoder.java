@@ -0,0 +1,220 @@
+package GrimmPackage.DateTime;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.time.*;
+import java.util.*;
+
+/**
+ * <b>Provides a streaming binary encoder of GTime objects.</b><p>
+ * The encoded stream starts with the magic bytes "GTIM" and a version byte, followed by records.<p>
+ * A time zone record (tag 1) defines the next index of the time zone dictionary: varint length and UTF-8 bytes of the time zone ID; it is written before the first GTime using the time zone.<p>
+ * A GTime record (tag 2) contains a flags byte (1: nanosecond, 2: ID, 4: description), the varint time zone index, the zigzag varint epoch seconds, then the varint nanosecond, and the varint length and UTF-8 bytes of ID and description, each only when flagged.<p>
+ * A null or empty ID or description is not written and is decoded as empty String.<p>
+ * Records are collected in a ByteBuffer which is written into the channel when full or when flushed; without a channel, the ByteBuffer has to have room for all records.<p>
+ * An encoder is not thread-safe; the channel is not closed by the encoder.<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeEncoder.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * GTimeEncoder(WritableByteChannel channel)<p>
+ * GTimeEncoder(WritableByteChannel channel, int bufferSize)<p>
+ * GTimeEncoder(ByteBuffer buffer)<p>
+ * writeGTime(GTimeEncoder encoder, GTime gTime)<p>
+ * flushEncoder(GTimeEncoder encoder)<p>
+ * getEncodedCount(GTimeEncoder encoder) -> long<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeEncoder {
+	static final byte[] MAGIC = new byte[]{'G', 'T', 'I', 'M'};
+	static final byte VERSION = 1;
+	static final byte TAG_ZONE = 1, TAG_GTIME = 2;
+	static final int FLAG_NANOSECOND = 1, FLAG_ID = 2, FLAG_DESCRIPTION = 4;
+	private static final int MAX_FIXED_RECORD = 1 + 1 + 5 + 10 + 5;
+
+	protected final WritableByteChannel channel;
+	protected final ByteBuffer buffer;
+	protected final HashMap<ZoneId, Integer> zoneDictionary;
+	protected ZoneId lastZone;
+	protected int lastZoneIndex;
+	protected boolean headerWritten;
+	protected long encodedCount;
+
+	/**
+	 * <b>Constructs GTimeEncoder writing into a channel (e.g. FileChannel) with a 64 KiB buffer.</b>
+	 * @param channel	the WritableByteChannel of target.
+	 */
+	public GTimeEncoder(WritableByteChannel channel) {
+		this(channel, 65_536);
+	}
+
+	/**
+	 * <b>Constructs GTimeEncoder writing into a channel (e.g. FileChannel) with a given buffer size.</b><p>
+	 * The buffer size is at least 64 bytes.
+	 * @param channel		the WritableByteChannel of target.
+	 * @param bufferSize	the int of buffer size in bytes.
+	 */
+	public GTimeEncoder(WritableByteChannel channel, int bufferSize) {
+		this.channel = channel;
+		this.buffer = ByteBuffer.allocateDirect(Math.max(bufferSize, 64));
+		this.zoneDictionary = new HashMap<>();
+	}
+
+	/**
+	 * <b>Constructs GTimeEncoder writing into a ByteBuffer, starting at its position.</b><p>
+	 * The position of the ByteBuffer moves as records are written.
+	 * @param buffer	the ByteBuffer of target.
+	 */
+	public GTimeEncoder(ByteBuffer buffer) {
+		this.channel = null;
+		this.buffer = buffer;
+		this.zoneDictionary = new HashMap<>();
+	}
+
+	/**
+	 * <b>Encodes a GTime.</b>
+	 * @param encoder	the GTimeEncoder of stream.
+	 * @param gTime		the GTime of datetime.
+	 * @throws IOException				in case the channel fails.
+	 * @throws BufferOverflowException	in case there is no channel and the ByteBuffer is full.
+	 */
+	public static void writeGTime(GTimeEncoder encoder, GTime gTime) throws IOException {
+		if (!encoder.headerWritten) {
+			ensure(encoder, MAGIC.length + 1);
+			encoder.buffer.put(MAGIC).put(VERSION);
+			encoder.headerWritten = true;
+		}
+		ZonedDateTime time = gTime.time;
+		int zoneIndex = getZoneIndex(encoder, time.getZone());
+		int nano = time.getNano();
+		boolean hasID = (gTime.ID != null) && !gTime.ID.isEmpty();
+		boolean hasDescription = (gTime.description != null) && !gTime.description.isEmpty();
+		int flags = ((nano != 0) ? FLAG_NANOSECOND : 0) | (hasID ? FLAG_ID : 0) | (hasDescription ? FLAG_DESCRIPTION : 0);
+		ensure(encoder, MAX_FIXED_RECORD);
+		ByteBuffer buffer = encoder.buffer;
+		buffer.put(TAG_GTIME).put((byte) flags);
+		writeVarint(buffer, zoneIndex);
+		long epochSecond = time.toEpochSecond();
+		writeVarint(buffer, (epochSecond << 1) ^ (epochSecond >> 63));
+		if (nano != 0) {
+			writeVarint(buffer, nano);
+		}
+		if (hasID) {
+			writeString(encoder, gTime.ID);
+		}
+		if (hasDescription) {
+			writeString(encoder, gTime.description);
+		}
+		encoder.encodedCount++;
+	}
+
+	/**
+	 * <b>Writes the buffered records into the channel.</b><p>
+	 * Without a channel, nothing happens.
+	 * @param encoder	the GTimeEncoder of stream.
+	 * @throws IOException	in case the channel fails.
+	 */
+	public static void flushEncoder(GTimeEncoder encoder) throws IOException {
+		if (encoder.channel != null) {
+			encoder.buffer.flip();
+			while (encoder.buffer.hasRemaining()) {
+				encoder.channel.write(encoder.buffer);
+			}
+			encoder.buffer.clear();
+		}
+	}
+
+	/**
+	 * <b>Returns the number of GTimes encoded.</b>
+	 * @param encoder	the GTimeEncoder of stream.
+	 * @return			the long of encoded GTimes.
+	 */
+	public static long getEncodedCount(GTimeEncoder encoder) {
+		return encoder.encodedCount;
+	}
+
+	/**
+	 * <b>Returns the dictionary index of a time zone, writing a time zone record for new time zones.</b>
+	 * @param encoder	the GTimeEncoder of stream.
+	 * @param zone		the ZoneId of time zone.
+	 * @return			the int of time zone index.
+	 * @throws IOException	in case the channel fails.
+	 */
+	private static int getZoneIndex(GTimeEncoder encoder, ZoneId zone) throws IOException {
+		if (zone == encoder.lastZone) {
+			return encoder.lastZoneIndex;
+		}
+		Integer index = encoder.zoneDictionary.get(zone);
+		if (index == null) {
+			index = encoder.zoneDictionary.size();
+			encoder.zoneDictionary.put(zone, index);
+			ensure(encoder, 1);
+			encoder.buffer.put(TAG_ZONE);
+			writeString(encoder, zone.getId());
+		}
+		encoder.lastZone = zone;
+		encoder.lastZoneIndex = index;
+		return index;
+	}
+
+	/**
+	 * <b>Writes the varint length and the UTF-8 bytes of a String.</b>
+	 * @param encoder	the GTimeEncoder of stream.
+	 * @param text		the String to write.
+	 * @throws IOException	in case the channel fails.
+	 */
+	private static void writeString(GTimeEncoder encoder, String text) throws IOException {
+		int length = text.length();
+		boolean ascii = true;
+		for (int i = 0; (i < length) && ascii; i++) {
+			ascii = text.charAt(i) < 0x80;
+		}
+		if (ascii && (length + 5 <= encoder.buffer.capacity())) {
+			ensure(encoder, length + 5);
+			writeVarint(encoder.buffer, length);
+			for (int i = 0; i < length; i++) {
+				encoder.buffer.put((byte) text.charAt(i));
+			}
+			return;
+		}
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		ensure(encoder, 5);
+		writeVarint(encoder.buffer, bytes.length);
+		int written = 0;
+		while (written < bytes.length) {
+			ensure(encoder, 1);
+			int chunk = Math.min(encoder.buffer.remaining(), bytes.length - written);
+			encoder.buffer.put(bytes, written, chunk);
+			written += chunk;
+		}
+	}
+
+	/**
+	 * <b>Makes room in the buffer by flushing it into the channel.</b>
+	 * @param encoder	the GTimeEncoder of stream.
+	 * @param bytes		the int of bytes needed.
+	 * @throws IOException	in case the channel fails.
+	 */
+	private static void ensure(GTimeEncoder encoder, int bytes) throws IOException {
+		if ((encoder.buffer.remaining() < bytes) && (encoder.channel != null)) {
+			flushEncoder(encoder);
+		}
+	}
+
+	/**
+	 * <b>Writes an unsigned LEB128 varint.</b>
+	 * @param buffer	the ByteBuffer to write into.
+	 * @param value		the long of value.
+	 */
+	static void writeVarint(ByteBuffer buffer, long value) {
+		while ((value & ~0x7FL) != 0) {
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+}
@@ -0,0 +1,601 @@
+package GrimmPackage.DateTime;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.time.*;
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * <b>Provides streaming export of GTime collections into CSV or JSON Lines.</b><p>
+ * A GTimeExport is an immutable layout of columns, therefore one instance can be shared between threads.<p>
+ * Columns: ID, description, instant (ISO-8601 in UTC, e.g. 2022-06-05T11:45:30Z), zone (time zone ID), offset (e.g. +02:00), info (the same as GTimeInfo.getInfo()), year, month, day, hour, minute, second, nanosecond.<p>
+ * The records are encoded into a fixed-size byte buffer as UTF-8, which is written into the channel when full, therefore memory use does not depend on the number of records and no String is built per record.<p>
+ * CSV values are quoted only when they contain the delimiter, quote or line break; the instant, zone, offset, info and number columns are never quoted, therefore the delimiter cannot be a character of them (letter, digit, + - . : / [ ] _ ~). JSON Lines writes one object per line, numbers unquoted.<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeExport.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * getCsvExport(char delimiter, boolean header, String... columns) -> GTimeExport<p>
+ * getJsonLinesExport(String... columns) -> GTimeExport<p>
+ * export(GTimeExport export, Iterable&lt;GTime&gt; gTimes, WritableByteChannel channel) -> long<p>
+ * export(GTimeExport export, Stream&lt;GTime&gt; gTimes, WritableByteChannel channel) -> long<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeExport {
+	protected static final String[] columnNames = new String[]{"ID", "description", "instant", "zone", "offset", "info", "year", "month", "day", "hour", "minute", "second", "nanosecond"};
+	protected static final int ID = 0, DESCRIPTION = 1, INSTANT = 2, ZONE = 3, OFFSET = 4, INFO = 5, YEAR = 6, MONTH = 7, DAY = 8, HOUR = 9, MINUTE = 10, SECOND = 11, NANOSECOND = 12;
+	private static final int BUFFER_SIZE = 65_536;
+	private static final byte[] HEX = new byte[]{'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+	private static final String RESERVED_DELIMITERS = "\"\r\n+-.:/[]_~";
+
+	protected final int[] columns;
+	protected final boolean json;
+	protected final char delimiter;
+	protected final boolean header;
+	protected final byte[][] prefixes;
+
+	/**
+	 * <b>Holds the byte buffer and the channel of one export.</b>
+	 */
+	private static final class Output {
+		private final byte[] bytes = new byte[BUFFER_SIZE];
+		private final ByteBuffer wrapper = ByteBuffer.wrap(bytes);
+		private final WritableByteChannel channel;
+		private int position;
+		private ZoneId lastZone;
+		private byte[] lastZoneBytes;
+		private ZoneOffset lastOffset;
+		private byte[] lastOffsetBytes;
+
+		private Output(WritableByteChannel channel) {
+			this.channel = channel;
+		}
+	}
+
+	/**
+	 * <b>Constructs GTimeExport on compiled columns.</b>
+	 * @param columns	the int[] of column codes.
+	 * @param json		the boolean value marks whether the output is JSON Lines instead of CSV.
+	 * @param delimiter	the char of CSV delimiter.
+	 * @param header	the boolean value marks whether the CSV output starts with a header line.
+	 */
+	protected GTimeExport(int[] columns, boolean json, char delimiter, boolean header) {
+		this.columns = columns;
+		this.json = json;
+		this.delimiter = delimiter;
+		this.header = header;
+		this.prefixes = new byte[columns.length][];
+		for (int i = 0; i < columns.length; i++) {
+			String prefix;
+			if (json) {
+				prefix = ((i == 0) ? "{\"" : ",\"") + columnNames[columns[i]] + "\":";
+			}
+			else {
+				prefix = (i == 0) ? "" : String.valueOf(delimiter);
+			}
+			this.prefixes[i] = prefix.getBytes(StandardCharsets.US_ASCII);
+		}
+	}
+
+	/**
+	 * <b>Returns a CSV layout.</b><p>
+	 * In case no column or an unknown column is given, or the delimiter is not an ASCII character, or it is a quote, a line break or a character of the unquoted values (letter, digit, + - . : / [ ] _ ~), returns null.
+	 * @param delimiter	the char of delimiter between the values (e.g. comma).
+	 * @param header	the boolean value marks whether the output starts with a header line of column names.
+	 * @param columns	the String[] of column names, in output order.
+	 * @return			the GTimeExport of layout.
+	 */
+	public static GTimeExport getCsvExport(char delimiter, boolean header, String... columns) {
+		if ((delimiter >= 0x80) || Character.isLetterOrDigit(delimiter) || (RESERVED_DELIMITERS.indexOf(delimiter) >= 0)) {
+			return null;
+		}
+		int[] codes = compile(columns);
+		return (codes == null) ? null : new GTimeExport(codes, false, delimiter, header);
+	}
+
+	/**
+	 * <b>Returns a JSON Lines layout.</b><p>
+	 * The column names are the keys of the objects.<p>
+	 * In case no column or an unknown column is given, returns null.
+	 * @param columns	the String[] of column names, in output order.
+	 * @return			the GTimeExport of layout.
+	 */
+	public static GTimeExport getJsonLinesExport(String... columns) {
+		int[] codes = compile(columns);
+		return (codes == null) ? null : new GTimeExport(codes, true, ',', false);
+	}
+
+	/**
+	 * <b>Writes GTimes into a channel (e.g. FileChannel), one line per GTime.</b><p>
+	 * The channel is not closed.
+	 * @param export	the GTimeExport of layout.
+	 * @param gTimes	the Iterable&lt;GTime&gt; of datetimes.
+	 * @param channel	the WritableByteChannel of target.
+	 * @return			the long of exported GTimes.
+	 * @throws IOException	in case the channel fails.
+	 */
+	public static long export(GTimeExport export, Iterable<GTime> gTimes, WritableByteChannel channel) throws IOException {
+		Output output = new Output(channel);
+		writeHeader(export, output);
+		long count = 0;
+		for (GTime gTime : gTimes) {
+			writeRecord(export, gTime, output);
+			count++;
+		}
+		flush(output);
+		return count;
+	}
+
+	/**
+	 * <b>Writes GTimes into a channel (e.g. FileChannel), one line per GTime.</b><p>
+	 * The stream is consumed in encounter order; the channel is not closed.
+	 * @param export	the GTimeExport of layout.
+	 * @param gTimes	the Stream&lt;GTime&gt; of datetimes.
+	 * @param channel	the WritableByteChannel of target.
+	 * @return			the long of exported GTimes.
+	 * @throws IOException	in case the channel fails.
+	 */
+	public static long export(GTimeExport export, Stream<GTime> gTimes, WritableByteChannel channel) throws IOException {
+		Iterator<GTime> iterator = gTimes.sequential().iterator();
+		return export(export, () -> iterator, channel);
+	}
+
+	/**
+	 * <b>Compiles column names into column codes.</b>
+	 * @param columns	the String[] of column names.
+	 * @return			the int[] of column codes, or null in case of wrong names.
+	 */
+	private static int[] compile(String[] columns) {
+		if ((columns == null) || (columns.length == 0)) {
+			return null;
+		}
+		int[] codes = new int[columns.length];
+		for (int i = 0; i < columns.length; i++) {
+			codes[i] = Arrays.asList(columnNames).indexOf(columns[i]);
+			if (codes[i] < 0) {
+				return null;
+			}
+		}
+		return codes;
+	}
+
+	/**
+	 * <b>Writes the CSV header line if the layout has one.</b>
+	 * @param export	the GTimeExport of layout.
+	 * @param output	the Output of export.
+	 * @throws IOException	in case the channel fails.
+	 */
+	private static void writeHeader(GTimeExport export, Output output) throws IOException {
+		if (!export.header) {
+			return;
+		}
+		for (int i = 0; i < export.columns.length; i++) {
+			if (i > 0) {
+				putByte(output, (byte) export.delimiter);
+			}
+			putText(output, columnNames[export.columns[i]], export);
+		}
+		putByte(output, (byte) '\n');
+	}
+
+	/**
+	 * <b>Writes one GTime as a line.</b>
+	 * @param export	the GTimeExport of layout.
+	 * @param gTime		the GTime of datetime.
+	 * @param output	the Output of export.
+	 * @throws IOException	in case the channel fails.
+	 */
+	private static void writeRecord(GTimeExport export, GTime gTime, Output output) throws IOException {
+		ZonedDateTime time = gTime.time;
+		int[] columns = export.columns;
+		for (int i = 0; i < columns.length; i++) {
+			putBytes(output, export.prefixes[i]);
+			switch (columns[i]) {
+				case ID:
+					putText(output, (gTime.ID == null) ? "" : gTime.ID, export);
+					break;
+				case DESCRIPTION:
+					putText(output, (gTime.description == null) ? "" : gTime.description, export);
+					break;
+				case INSTANT:
+					putInstant(output, time, export.json);
+					break;
+				case ZONE:
+					putZone(output, time.getZone(), export.json);
+					break;
+				case OFFSET:
+					putOffset(output, time.getOffset(), export.json);
+					break;
+				case INFO:
+					putInfo(output, time, export.json);
+					break;
+				case YEAR:
+					putNumber(output, time.getYear(), 1);
+					break;
+				case MONTH:
+					putNumber(output, time.getMonthValue(), 1);
+					break;
+				case DAY:
+					putNumber(output, time.getDayOfMonth(), 1);
+					break;
+				case HOUR:
+					putNumber(output, time.getHour(), 1);
+					break;
+				case MINUTE:
+					putNumber(output, time.getMinute(), 1);
+					break;
+				case SECOND:
+					putNumber(output, time.getSecond(), 1);
+					break;
+				case NANOSECOND:
+					putNumber(output, time.getNano(), 1);
+					break;
+			}
+		}
+		if (export.json) {
+			putByte(output, (byte) '}');
+		}
+		putByte(output, (byte) '\n');
+	}
+
+	/**
+	 * <b>Writes the instant of a datetime in ISO-8601 UTC form, the same as Instant.toString().</b><p>
+	 * The UTC date is derived from the local date, moving at most one day, without converting epoch days.
+	 * @param output	the Output of export.
+	 * @param time		the ZonedDateTime of datetime.
+	 * @param quoted	the boolean value marks whether the instant is written between quotes.
+	 * @throws IOException	in case the channel fails.
+	 */
+	private static void putInstant(Output output, ZonedDateTime time, boolean quoted) throws IOException {
+		ensure(output, 48);
+		if (quoted) {
+			output.bytes[output.position++] = '"';
+		}
+		int year = time.getYear();
+		int month = time.getMonthValue();
+		int day = time.getDayOfMonth();
+		int secondOfDay = time.getHour() * 3600 + time.getMinute() * 60 + time.getSecond() - time.getOffset().getTotalSeconds();
+		if (secondOfDay < 0) {
+			secondOfDay += (int) GTimeArithmetic.SECONDS_PER_DAY;
+			if (--day == 0) {
+				if (--month == 0) {
+					month = 12;
+					year--;
+				}
+				day = GTimeAnalyse.getDaysOfMonth(year, month);
+			}
+		}
+		else if (secondOfDay >= GTimeArithmetic.SECONDS_PER_DAY) {
+			secondOfDay -= (int) GTimeArithmetic.SECONDS_PER_DAY;
+			if (++day > GTimeAnalyse.getDaysOfMonth(year, month)) {
+				day = 1;
+				if (++month == 13) {
+					month = 1;
+					year++;
+				}
+			}
+		}
+		putDateTime(output, year, month, day, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, time.getNano(), true);
+		output.bytes[output.position++] = 'Z';
+		if (quoted) {
+			output.bytes[output.position++] = '"';
+		}
+	}
+
+	/**
+	 * <b>Writes a local datetime in ISO-8601 form; seconds equal to zero are omitted unless required.</b><p>
+	 * Needs 40 bytes of room.
+	 * @param output		the Output of export.
+	 * @param year			the int of year.
+	 * @param month			the int of month.
+	 * @param day			the int of day.
+	 * @param hour			the int of hour.
+	 * @param minute		the int of minute.
+	 * @param second		the int of second.
+	 * @param nano			the int of nanosecond.
+	 * @param withSeconds	the boolean value marks whether zero seconds are written.
+	 */
+	private static void putDateTime(Output output, int year, int month, int day, int hour, int minute, int second, int nano, boolean withSeconds) {
+		byte[] bytes = output.bytes;
+		if ((year >= 1000) && (year <= 9999)) {
+			putDigits(output, year, 4);
+		}
+		else if (Math.abs(year) < 1000) {
+			if (year < 0) {
+				bytes[output.position++] = '-';
+			}
+			putDigits(output, Math.abs(year), 4);
+		}
+		else {
+			bytes[output.position++] = (byte) ((year > 0) ? '+' : '-');
+			putDigits(output, Math.abs(year), 1);
+		}
+		bytes[output.position++] = '-';
+		putDigits(output, month, 2);
+		bytes[output.position++] = '-';
+		putDigits(output, day, 2);
+		bytes[output.position++] = 'T';
+		putDigits(output, hour, 2);
+		bytes[output.position++] = ':';
+		putDigits(output, minute, 2);
+		if (withSeconds || (second > 0) || (nano > 0)) {
+			bytes[output.position++] = ':';
+			putDigits(output, second, 2);
+			if (nano > 0) {
+				bytes[output.position++] = '.';
+				if (nano % 1_000_000 == 0) {
+					putDigits(output, nano / 1_000_000, 3);
+				}
+				else if (nano % 1_000 == 0) {
+					putDigits(output, nano / 1_000, 6);
+				}
+				else {
+					putDigits(output, nano, 9);
+				}
+			}
+		}
+	}
+
+	/**
+	 * <b>Writes the compact datetime information, the same as GTimeInfo.getInfo().</b><p>
+	 * The information contains no character to escape.
+	 * @param output	the Output of export.
+	 * @param time		the ZonedDateTime of datetime.
+	 * @param quoted	the boolean value marks whether the information is written between quotes.
+	 * @throws IOException	in case the channel fails.
+	 */
+	private static void putInfo(Output output, ZonedDateTime time, boolean quoted) throws IOException {
+		ensure(output, 48);
+		if (quoted) {
+			output.bytes[output.position++] = '"';
+		}
+		putDateTime(output, time.getYear(), time.getMonthValue(), time.getDayOfMonth(), time.getHour(), time.getMinute(), time.getSecond(), time.getNano(), false);
+		ZoneOffset offset = time.getOffset();
+		ZoneId zone = time.getZone();
+		putOffset(output, offset, false);
+		if (zone != offset) {
+			putByte(output, (byte) '[');
+			putZone(output, zone, false);
+			putByte(output, (byte) ']');
+		}
+		if (quoted) {
+			putByte(output, (byte) '"');
+		}
+	}
+
+	/**
+	 * <b>Writes a time zone ID, reusing the encoded bytes while the time zone does not change.</b>
+	 * @param output	the Output of export.
+	 * @param zone		the ZoneId of time zone.
+	 * @param quoted	the boolean value marks whether the ID is written between quotes.
+	 * @throws IOException	in case the channel fails.
+	 */
+	private static void putZone(Output output, ZoneId zone, boolean quoted) throws IOException {
+		if (zone != output.lastZone) {
+			output.lastZone = zone;
+			output.lastZoneBytes = zone.getId().getBytes(StandardCharsets.UTF_8);
+		}
+		putQuotedBytes(output, output.lastZoneBytes, quoted);
+	}
+
+	/**
+	 * <b>Writes an offset ID (e.g. +02:00 or Z), reusing the encoded bytes while the offset does not change.</b>
+	 * @param output	the Output of export.
+	 * @param offset	the ZoneOffset of offset.
+	 * @param quoted	the boolean value marks whether the ID is written between quotes.
+	 * @throws IOException	in case the channel fails.
+	 */
+	private static void putOffset(Output output, ZoneOffset offset, boolean quoted) throws IOException {
+		if (offset != output.lastOffset) {
+			output.lastOffset = offset;
+			output.lastOffsetBytes = offset.getId().getBytes(StandardCharsets.US_ASCII);
+		}
+		putQuotedBytes(output, output.lastOffsetBytes, quoted);
+	}
+
+	/**
+	 * <b>Writes bytes which need no escaping, optionally between quotes.</b>
+	 * @param output	the Output of export.
+	 * @param bytes		the byte[] to write.
+	 * @param quoted	the boolean value marks whether the bytes are written between quotes.
+	 * @throws IOException	in case the channel fails.
+	 */
+	private static void putQuotedBytes(Output output, byte[] bytes, boolean quoted) throws IOException {
+		if (quoted) {
+			putByte(output, (byte) '"');
+		}
+		putBytes(output, bytes);
+		if (quoted) {
+			putByte(output, (byte) '"');
+		}
+	}
+
+	/**
+	 * <b>Writes bytes.</b>
+	 * @param output	the Output of export.
+	 * @param bytes		the byte[] to write.
+	 * @throws IOException	in case the channel fails.
+	 */
+	private static void putBytes(Output output, byte[] bytes) throws IOException {
+		if (output.position + bytes.length > output.bytes.length) {
+			flush(output);
+			if (bytes.length > output.bytes.length) {
+				ByteBuffer buffer = ByteBuffer.wrap(bytes);
+				while (buffer.hasRemaining()) {
+					output.channel.write(buffer);
+				}
+				return;
+			}
+		}
+		System.arraycopy(bytes, 0, output.bytes, output.position, bytes.length);
+		output.position += bytes.length;
+	}
+
+	/**
+	 * <b>Writes a text value, quoted and escaped along the layout.</b>
+	 * @param output	the Output of export.
+	 * @param text		the String of value.
+	 * @param export	the GTimeExport of layout.
+	 * @throws IOException	in case the channel fails.
+	 */
+	private static void putText(Output output, String text, GTimeExport export) throws IOException {
+		int length = text.length();
+		boolean quoted = export.json;
+		if (!quoted) {
+			for (int i = 0; (i < length) && !quoted; i++) {
+				char c = text.charAt(i);
+				quoted = (c == export.delimiter) || (c == '"') || (c == '\r') || (c == '\n');
+			}
+		}
+		if (quoted) {
+			putByte(output, (byte) '"');
+		}
+		for (int i = 0; i < length; i++) {
+			if (output.position + 12 > output.bytes.length) {
+				flush(output);
+			}
+			char c = text.charAt(i);
+			byte[] bytes = output.bytes;
+			if (c < 0x80) {
+				if (export.json && ((c == '"') || (c == '\\') || (c < 0x20))) {
+					bytes[output.position++] = '\\';
+					if ((c == '"') || (c == '\\')) {
+						bytes[output.position++] = (byte) c;
+					}
+					else if (c == '\n') {
+						bytes[output.position++] = 'n';
+					}
+					else if (c == '\r') {
+						bytes[output.position++] = 'r';
+					}
+					else if (c == '\t') {
+						bytes[output.position++] = 't';
+					}
+					else {
+						bytes[output.position++] = 'u';
+						bytes[output.position++] = '0';
+						bytes[output.position++] = '0';
+						bytes[output.position++] = HEX[c >> 4];
+						bytes[output.position++] = HEX[c & 0xF];
+					}
+				}
+				else if (!export.json && (c == '"')) {
+					bytes[output.position++] = '"';
+					bytes[output.position++] = '"';
+				}
+				else {
+					bytes[output.position++] = (byte) c;
+				}
+			}
+			else if (c < 0x800) {
+				bytes[output.position++] = (byte) (0xC0 | (c >> 6));
+				bytes[output.position++] = (byte) (0x80 | (c & 0x3F));
+			}
+			else if (Character.isHighSurrogate(c) && (i + 1 < length) && Character.isLowSurrogate(text.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, text.charAt(++i));
+				bytes[output.position++] = (byte) (0xF0 | (codePoint >> 18));
+				bytes[output.position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+				bytes[output.position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+				bytes[output.position++] = (byte) (0x80 | (codePoint & 0x3F));
+			}
+			else if (Character.isSurrogate(c)) {
+				bytes[output.position++] = '?';
+			}
+			else {
+				bytes[output.position++] = (byte) (0xE0 | (c >> 12));
+				bytes[output.position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+				bytes[output.position++] = (byte) (0x80 | (c & 0x3F));
+			}
+		}
+		if (quoted) {
+			putByte(output, (byte) '"');
+		}
+	}
+
+	/**
+	 * <b>Writes a decimal number.</b>
+	 * @param output	the Output of export.
+	 * @param number	the int of number.
+	 * @param width		the int of minimal number of digits.
+	 * @throws IOException	in case the channel fails.
+	 */
+	private static void putNumber(Output output, int number, int width) throws IOException {
+		ensure(output, 12);
+		if (number < 0) {
+			output.bytes[output.position++] = '-';
+			number = -number;
+		}
+		putDigits(output, number, width);
+	}
+
+	/**
+	 * <b>Writes the digits of a non-negative number, padded with zeros to the given width.</b><p>
+	 * Needs 10 bytes of room.
+	 * @param output	the Output of export.
+	 * @param number	the int of number.
+	 * @param width		the int of minimal number of digits.
+	 */
+	private static void putDigits(Output output, int number, int width) {
+		if ((width == 2) && (number < 100)) {
+			output.bytes[output.position] = (byte) ('0' + number / 10);
+			output.bytes[output.position + 1] = (byte) ('0' + number % 10);
+			output.position += 2;
+			return;
+		}
+		int digits = 1;
+		for (int limit = 10; (digits < 10) && (number >= limit); limit *= 10) {
+			digits++;
+		}
+		digits = Math.max(digits, width);
+		byte[] bytes = output.bytes;
+		int end = output.position + digits;
+		for (int i = end - 1; i >= output.position; i--) {
+			bytes[i] = (byte) ('0' + number % 10);
+			number /= 10;
+		}
+		output.position = end;
+	}
+
+	/**
+	 * <b>Writes a byte.</b>
+	 * @param output	the Output of export.
+	 * @param b			the byte to write.
+	 * @throws IOException	in case the channel fails.
+	 */
+	private static void putByte(Output output, byte b) throws IOException {
+		if (output.position == output.bytes.length) {
+			flush(output);
+		}
+		output.bytes[output.position++] = b;
+	}
+
+	/**
+	 * <b>Makes room in the buffer by writing it into the channel.</b>
+	 * @param output	the Output of export.
+	 * @param bytes		the int of bytes needed.
+	 * @throws IOException	in case the channel fails.
+	 */
+	private static void ensure(Output output, int bytes) throws IOException {
+		if (output.position + bytes > output.bytes.length) {
+			flush(output);
+		}
+	}
+
+	/**
+	 * <b>Writes the buffer into the channel.</b>
+	 * @param output	the Output of export.
+	 * @throws IOException	in case the channel fails.
+	 */
+	private static void flush(Output output) throws IOException {
+		output.wrapper.clear().limit(output.position);
+		while (output.wrapper.hasRemaining()) {
+			output.channel.write(output.wrapper);
+		}
+		output.position = 0;
+	}
+}
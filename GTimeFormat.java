@@ -0,0 +1,359 @@
+package GrimmPackage.DateTime;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.time.*;
+
+import static GrimmPackage.DateTime.GTimeConstant.*;
+
+/**
+ * <b>Provides precompiled, reusable layouts for formatting GTime objects.</b><p>
+ * A GTimeFormat is immutable, therefore one instance can be shared between threads.<p>
+ * The layouts are the same as the ones of GTimeInfo.getDate(), getTime(), getInfo() and getFullInfo(), plus an ISO-8601 layout without the region.<p>
+ * Formatting writes the digits directly into the given StringBuilder, Appendable or byte[], without creating intermediate Strings.<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeFormat.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * getDateFormat(int positionYear, int positionMonth, int positionDay, boolean nameForMonth, boolean paddingWithZeros, char separator) -> GTimeFormat<p>
+ * getTimeFormat(int positionHour, int positionMinute, int positionSecond, boolean paddingWithZeros, char separator) -> GTimeFormat<p>
+ * getInfoFormat() -> GTimeFormat<p>
+ * getFullInfoFormat() -> GTimeFormat<p>
+ * getIsoOffsetFormat() -> GTimeFormat<p>
+ * format(GTimeFormat format, GTime gTime) -> String<p>
+ * format(GTimeFormat format, GTime gTime, StringBuilder builder) -> StringBuilder<p>
+ * format(GTimeFormat format, GTime gTime, Appendable appendable)<p>
+ * format(GTimeFormat format, GTime gTime, byte[] buffer, int offset) -> int<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeFormat {
+	protected static final int YEAR = 1, MONTH = 2, MONTH_NAME = 3, DAY = 4, HOUR = 5, MINUTE = 6, SECOND = 7, SEPARATOR = 8, INFO = 9, ISO_OFFSET = 10, FULL_INFO = 11;
+
+	private static final GTimeFormat infoFormat = new GTimeFormat(new int[]{INFO}, new char[1], false);
+	private static final GTimeFormat fullInfoFormat = new GTimeFormat(new int[]{FULL_INFO}, new char[1], false);
+	private static final GTimeFormat isoOffsetFormat = new GTimeFormat(new int[]{ISO_OFFSET}, new char[1], false);
+	private static final ThreadLocal<StringBuilder> byteBuilder = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+	protected final int[] fields;
+	protected final char[] separators;
+	protected final boolean paddingWithZeros;
+
+	/**
+	 * <b>Constructs GTimeFormat on compiled fields.</b>
+	 * @param fields			the int[] of field codes in output order.
+	 * @param separators		the char[] of separators, used where the field code is SEPARATOR.
+	 * @param paddingWithZeros	the boolean value marks whether the numbers should be drawn in their full width by using zeros.
+	 */
+	protected GTimeFormat(int[] fields, char[] separators, boolean paddingWithZeros) {
+		this.fields = fields;
+		this.separators = separators;
+		this.paddingWithZeros = paddingWithZeros;
+	}
+
+	/**
+	 * <b>Returns a date layout, the same as GTimeInfo.getDate() uses.</b><p>
+	 * In case of wrong position numbers, returns null.<p>
+	 * In case of name for month, ignores the given separator and uses white space instead.
+	 * @param positionYear		the int of position for the year.
+	 * @param positionMonth		the int of position for the month.
+	 * @param positionDay		the int of position for the day.
+	 * @param nameForMonth		the boolean value marks whether month name should be used instead of month number.
+	 * @param paddingWithZeros	the boolean value marks whether the numbers should be drawn in their full width by using zeros (e.g. 01 instead of 1).
+	 * @param separator			the char of separator between the date components.
+	 * @return					the GTimeFormat of layout.
+	 */
+	public static GTimeFormat getDateFormat(int positionYear, int positionMonth, int positionDay, boolean nameForMonth, boolean paddingWithZeros, char separator) {
+		if (!isPositions(positionYear, positionMonth, positionDay)) {
+			return null;
+		}
+		int[] components = new int[3];
+		components[positionYear - 1] = YEAR;
+		components[positionMonth - 1] = (nameForMonth) ? MONTH_NAME : MONTH;
+		components[positionDay - 1] = DAY;
+		return compile(components, (nameForMonth) ? ' ' : separator, paddingWithZeros);
+	}
+
+	/**
+	 * <b>Returns a time layout, the same as GTimeInfo.getTime() uses.</b><p>
+	 * In case of wrong position numbers, returns null.
+	 * @param positionHour		the int of position for the hour.
+	 * @param positionMinute	the int of position for the minute.
+	 * @param positionSecond	the int of position for the second.
+	 * @param paddingWithZeros	the boolean value marks whether the numbers should be drawn in their full width by using zeros (e.g. 01 instead of 1).
+	 * @param separator			the char of separator between the time components.
+	 * @return					the GTimeFormat of layout.
+	 */
+	public static GTimeFormat getTimeFormat(int positionHour, int positionMinute, int positionSecond, boolean paddingWithZeros, char separator) {
+		if (!isPositions(positionHour, positionMinute, positionSecond)) {
+			return null;
+		}
+		int[] components = new int[3];
+		components[positionHour - 1] = HOUR;
+		components[positionMinute - 1] = MINUTE;
+		components[positionSecond - 1] = SECOND;
+		return compile(components, separator, paddingWithZeros);
+	}
+
+	/**
+	 * <b>Returns the compact datetime layout, the same as GTimeInfo.getInfo() uses.</b><p>
+	 * The layout is ISO-8601 with offset, followed by the region in brackets when the time zone is not a fixed offset (e.g. 2022-06-05T13:45:30+02:00[Europe/Budapest]).
+	 * @return	the GTimeFormat of layout.
+	 */
+	public static GTimeFormat getInfoFormat() {
+		return infoFormat;
+	}
+
+	/**
+	 * <b>Returns the layout of ID, description and compact datetime, the same as GTimeInfo.getFullInfo() uses.</b>
+	 * @return	the GTimeFormat of layout.
+	 */
+	public static GTimeFormat getFullInfoFormat() {
+		return fullInfoFormat;
+	}
+
+	/**
+	 * <b>Returns the ISO-8601 datetime layout with offset and without region (e.g. 2022-06-05T13:45:30+02:00).</b>
+	 * @return	the GTimeFormat of layout.
+	 */
+	public static GTimeFormat getIsoOffsetFormat() {
+		return isoOffsetFormat;
+	}
+
+	/**
+	 * <b>Formats GTime into a new String.</b>
+	 * @param format	the GTimeFormat of layout.
+	 * @param gTime		the GTime of datetime.
+	 * @return			the String of formatted datetime.
+	 */
+	public static String format(GTimeFormat format, GTime gTime) {
+		return format(format, gTime, new StringBuilder(48)).toString();
+	}
+
+	/**
+	 * <b>Formats GTime to the end of a StringBuilder.</b>
+	 * @param format	the GTimeFormat of layout.
+	 * @param gTime		the GTime of datetime.
+	 * @param builder	the StringBuilder to append to.
+	 * @return			the StringBuilder, the same as the given one.
+	 */
+	public static StringBuilder format(GTimeFormat format, GTime gTime, StringBuilder builder) {
+		try {
+			write(format, gTime, builder);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return builder;
+	}
+
+	/**
+	 * <b>Formats GTime to an Appendable (e.g. a Writer).</b>
+	 * @param format		the GTimeFormat of layout.
+	 * @param gTime			the GTime of datetime.
+	 * @param appendable	the Appendable to append to.
+	 * @throws IOException	in case the Appendable fails.
+	 */
+	public static void format(GTimeFormat format, GTime gTime, Appendable appendable) throws IOException {
+		write(format, gTime, appendable);
+	}
+
+	/**
+	 * <b>Formats GTime into a byte[] as UTF-8, starting at the given offset.</b><p>
+	 * The buffer must have room for the formatted datetime.
+	 * @param format	the GTimeFormat of layout.
+	 * @param gTime		the GTime of datetime.
+	 * @param buffer	the byte[] to write into.
+	 * @param offset	the int of first position to write.
+	 * @return			the int of position after the last written byte.
+	 * @throws ArrayIndexOutOfBoundsException	in case the buffer is too small.
+	 */
+	public static int format(GTimeFormat format, GTime gTime, byte[] buffer, int offset) {
+		StringBuilder builder = byteBuilder.get();
+		builder.setLength(0);
+		format(format, gTime, builder);
+		return writeUtf8(builder, buffer, offset);
+	}
+
+	/**
+	 * <b>Copies the characters of a CharSequence into a byte[] as UTF-8.</b>
+	 * @param chars		the CharSequence of characters.
+	 * @param buffer	the byte[] to write into.
+	 * @param offset	the int of first position to write.
+	 * @return			the int of position after the last written byte.
+	 */
+	static int writeUtf8(CharSequence chars, byte[] buffer, int offset) {
+		int length = chars.length();
+		for (int i = 0; i < length; i++) {
+			char c = chars.charAt(i);
+			if (c >= 0x80) {
+				byte[] encoded = chars.subSequence(i, length).toString().getBytes(StandardCharsets.UTF_8);
+				System.arraycopy(encoded, 0, buffer, offset, encoded.length);
+				return offset + encoded.length;
+			}
+			buffer[offset++] = (byte) c;
+		}
+		return offset;
+	}
+
+	/**
+	 * <b>Checks whether three positions are a permutation of 1, 2 and 3.</b>
+	 * @param position1	the int of first position.
+	 * @param position2	the int of second position.
+	 * @param position3	the int of third position.
+	 * @return			the boolean value marks whether the positions qualify.
+	 */
+	private static boolean isPositions(int position1, int position2, int position3) {
+		return (position1 > 0) && (position1 < 4) && (position2 > 0) && (position2 < 4) && (position3 > 0) && (position3 < 4) && (position1 != position2) && (position1 != position3) && (position2 != position3);
+	}
+
+	/**
+	 * <b>Compiles three components with separators between them.</b>
+	 * @param components		the int[] of component field codes.
+	 * @param separator			the char of separator.
+	 * @param paddingWithZeros	the boolean value marks whether the numbers should be drawn in their full width by using zeros.
+	 * @return					the GTimeFormat of layout.
+	 */
+	private static GTimeFormat compile(int[] components, char separator, boolean paddingWithZeros) {
+		int[] fields = new int[]{components[0], SEPARATOR, components[1], SEPARATOR, components[2]};
+		char[] separators = new char[]{0, separator, 0, separator, 0};
+		return new GTimeFormat(fields, separators, paddingWithZeros);
+	}
+
+	/**
+	 * <b>Writes the fields of a layout.</b>
+	 * @param format		the GTimeFormat of layout.
+	 * @param gTime			the GTime of datetime.
+	 * @param appendable	the Appendable to append to.
+	 * @throws IOException	in case the Appendable fails.
+	 */
+	private static void write(GTimeFormat format, GTime gTime, Appendable appendable) throws IOException {
+		ZonedDateTime time = gTime.time;
+		boolean padding = format.paddingWithZeros;
+		for (int i = 0; i < format.fields.length; i++) {
+			switch (format.fields[i]) {
+				case YEAR:
+					writeNumber(appendable, time.getYear(), (padding) ? 4 : 1);
+					break;
+				case MONTH:
+					writeNumber(appendable, time.getMonthValue(), (padding) ? 2 : 1);
+					break;
+				case MONTH_NAME:
+					appendable.append(monthNames[time.getMonthValue() - 1]);
+					break;
+				case DAY:
+					writeNumber(appendable, time.getDayOfMonth(), (padding) ? 2 : 1);
+					break;
+				case HOUR:
+					writeNumber(appendable, time.getHour(), (padding) ? 2 : 1);
+					break;
+				case MINUTE:
+					writeNumber(appendable, time.getMinute(), (padding) ? 2 : 1);
+					break;
+				case SECOND:
+					writeNumber(appendable, time.getSecond(), (padding) ? 2 : 1);
+					break;
+				case SEPARATOR:
+					appendable.append(format.separators[i]);
+					break;
+				case INFO:
+					writeIso(appendable, time, true);
+					break;
+				case ISO_OFFSET:
+					writeIso(appendable, time, false);
+					break;
+				case FULL_INFO:
+					if (!gTime.ID.isEmpty()) {
+						appendable.append(gTime.ID).append(", ");
+					}
+					if (!gTime.description.isEmpty()) {
+						appendable.append(gTime.description).append(", ");
+					}
+					writeIso(appendable, time, true);
+					break;
+			}
+		}
+	}
+
+	/**
+	 * <b>Writes a datetime in ISO-8601 format, the same as ZonedDateTime.toString() does.</b>
+	 * @param appendable	the Appendable to append to.
+	 * @param time			the ZonedDateTime of datetime.
+	 * @param withRegion	the boolean value marks whether the region should follow the offset in brackets.
+	 * @throws IOException	in case the Appendable fails.
+	 */
+	private static void writeIso(Appendable appendable, ZonedDateTime time, boolean withRegion) throws IOException {
+		int year = time.getYear();
+		if (Math.abs(year) < 1000) {
+			if (year < 0) {
+				appendable.append('-');
+			}
+			writeNumber(appendable, Math.abs(year), 4);
+		}
+		else {
+			if (year > 9999) {
+				appendable.append('+');
+			}
+			writeNumber(appendable, year, 1);
+		}
+		appendable.append('-');
+		writeNumber(appendable, time.getMonthValue(), 2);
+		appendable.append('-');
+		writeNumber(appendable, time.getDayOfMonth(), 2);
+		appendable.append('T');
+		writeNumber(appendable, time.getHour(), 2);
+		appendable.append(':');
+		writeNumber(appendable, time.getMinute(), 2);
+		int second = time.getSecond();
+		int nano = time.getNano();
+		if ((second > 0) || (nano > 0)) {
+			appendable.append(':');
+			writeNumber(appendable, second, 2);
+			if (nano > 0) {
+				appendable.append('.');
+				if (nano % 1_000_000 == 0) {
+					writeNumber(appendable, nano / 1_000_000, 3);
+				}
+				else if (nano % 1_000 == 0) {
+					writeNumber(appendable, nano / 1_000, 6);
+				}
+				else {
+					writeNumber(appendable, nano, 9);
+				}
+			}
+		}
+		ZoneOffset offset = time.getOffset();
+		appendable.append(offset.getId());
+		ZoneId zone = time.getZone();
+		if (withRegion && (zone != offset)) {
+			appendable.append('[').append(zone.getId()).append(']');
+		}
+	}
+
+	/**
+	 * <b>Writes a number in decimal digits, padded with zeros to the given width.</b><p>
+	 * For negative numbers the minus sign is counted into the width, the same as String.format() does.
+	 * @param appendable	the Appendable to append to.
+	 * @param number		the long of number.
+	 * @param width			the int of minimal width.
+	 * @throws IOException	in case the Appendable fails.
+	 */
+	static void writeNumber(Appendable appendable, long number, int width) throws IOException {
+		if (number < 0) {
+			appendable.append('-');
+			number = -number;
+			width--;
+		}
+		long divisor = 1;
+		int digits = 1;
+		while ((divisor <= number / 10) || (digits < width)) {
+			divisor *= 10;
+			digits++;
+		}
+		while (divisor > 0) {
+			appendable.append((char) ('0' + (number / divisor) % 10));
+			divisor /= 10;
+		}
+	}
+}
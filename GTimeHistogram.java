@@ -0,0 +1,532 @@
+package GrimmPackage.DateTime;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import static GrimmPackage.DateTime.GTimeArithmetic.*;
+import static GrimmPackage.DateTime.GTimeZoneCache.*;
+
+/**
+ * <b>Provides time-bucket histograms and group-by reductions over large inputs of GTime objects or epoch seconds.</b><p>
+ * Every value is put into the bucket of its local datetime in a chosen time zone; units: second, minute, hour, day, week (ISO, starting on Monday), month, year.<p>
+ * A bucket is identified by the local epoch seconds (seconds from 1970-01-01T00:00:00 local datetime) of its start, therefore bucketing needs no object per value; the offsets come from the tables of GTimeOffsetTable.<p>
+ * Large inputs are split into parts counted in parallel on the common ForkJoinPool; every part fills its own accumulator and the accumulators are merged pairwise, so the threads share nothing while counting.<p>
+ * A user-defined reduction is given as a Collector; its combiner merges the per-part containers of a bucket.<p>
+ * A GTimeHistogram is immutable; its buckets are ordered by start, empty buckets are not listed.<p>
+ * In case wrong unit or time zone is given, the methods return null; null GTimes are skipped.<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeHistogram.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * countBuckets(List&lt;GTime&gt; gTimes, String unit, String timezone) -> GTimeHistogram&lt;Long&gt;<p>
+ * countBuckets(long[] epochSeconds, String unit, String timezone) -> GTimeHistogram&lt;Long&gt;<p>
+ * sumBuckets(long[] epochSeconds, long[] values, String unit, String timezone) -> GTimeHistogram&lt;Long&gt;<p>
+ * collectBuckets(List&lt;GTime&gt; gTimes, String unit, String timezone, Collector&lt;? super GTime, A, R&gt; collector) -> GTimeHistogram&lt;R&gt;<p>
+ * getBucketCount(GTimeHistogram&lt;R&gt; histogram) -> int<p>
+ * getBucketLocalEpochSecond(GTimeHistogram&lt;R&gt; histogram, int bucket) -> long<p>
+ * getBucketStart(GTimeHistogram&lt;R&gt; histogram, int bucket) -> GTime<p>
+ * getCount(GTimeHistogram&lt;R&gt; histogram, int bucket) -> long<p>
+ * getResult(GTimeHistogram&lt;R&gt; histogram, int bucket) -> R<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeHistogram<R> {
+	protected static final String[] unitNames = new String[]{"second", "minute", "hour", "day", "week", "month", "year"};
+	protected static final int SECOND = 0, MINUTE = 1, HOUR = 2, DAY = 3, WEEK = 4, MONTH = 5, YEAR = 6;
+	private static final int PART_SIZE = 16_384;
+	private static final int BLOCK_SIZE = 1_024;
+	private static final long EMPTY = Long.MIN_VALUE;
+
+	protected final ZoneId zone;
+	protected final int unit;
+	protected final long[] buckets;
+	protected final long[] counts;
+	protected final long[] sums;
+	protected final Object[] results;
+
+	/**
+	 * <b>Constructs GTimeHistogram from ordered buckets.</b>
+	 * @param zone		the ZoneId of time zone.
+	 * @param unit		the int of unit.
+	 * @param buckets	the long[] of local epoch seconds of bucket starts.
+	 * @param counts	the long[] of values per bucket.
+	 * @param sums		the long[] of sums per bucket, or null.
+	 * @param results	the Object[] of reduction results per bucket, or null.
+	 */
+	private GTimeHistogram(ZoneId zone, int unit, long[] buckets, long[] counts, long[] sums, Object[] results) {
+		this.zone = zone;
+		this.unit = unit;
+		this.buckets = buckets;
+		this.counts = counts;
+		this.sums = sums;
+		this.results = results;
+	}
+
+	/**
+	 * <b>Holds the count and sum of buckets in an open-addressing hash table, for one part of the input.</b>
+	 */
+	private static final class Counter {
+		private long[] keys;
+		private long[] counts;
+		private long[] sums;
+		private int size;
+		private long lastKey = EMPTY;
+		private int lastSlot;
+
+		private Counter(boolean summing) {
+			keys = new long[64];
+			Arrays.fill(keys, EMPTY);
+			counts = new long[64];
+			sums = summing ? new long[64] : null;
+		}
+
+		private void add(long key, long count, long sum) {
+			int slot = (key == lastKey) ? lastSlot : getSlot(key);
+			counts[slot] += count;
+			if (sums != null) {
+				sums[slot] += sum;
+			}
+		}
+
+		private int getSlot(long key) {
+			int mask = keys.length - 1;
+			int slot = (int) (mix(key) & mask);
+			while (keys[slot] != key) {
+				if (keys[slot] == EMPTY) {
+					if (2 * (size + 1) > keys.length) {
+						rehash();
+						return getSlot(key);
+					}
+					keys[slot] = key;
+					size++;
+					break;
+				}
+				slot = (slot + 1) & mask;
+			}
+			lastKey = key;
+			lastSlot = slot;
+			return slot;
+		}
+
+		private void rehash() {
+			long[] oldKeys = keys, oldCounts = counts, oldSums = sums;
+			keys = new long[oldKeys.length * 2];
+			Arrays.fill(keys, EMPTY);
+			counts = new long[keys.length];
+			sums = (oldSums == null) ? null : new long[keys.length];
+			size = 0;
+			lastKey = EMPTY;
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldKeys[i] != EMPTY) {
+					add(oldKeys[i], oldCounts[i], (oldSums == null) ? 0 : oldSums[i]);
+				}
+			}
+		}
+
+		private Counter merge(Counter other) {
+			if (other.size > size) {
+				return other.merge(this);
+			}
+			for (int i = 0; i < other.keys.length; i++) {
+				if (other.keys[i] != EMPTY) {
+					add(other.keys[i], other.counts[i], (other.sums == null) ? 0 : other.sums[i]);
+				}
+			}
+			return this;
+		}
+	}
+
+	/**
+	 * <b>Holds the count and the Collector container of buckets, for one part of the input.</b>
+	 */
+	private static final class Grouper<A> {
+		private final HashMap<Long, long[]> counts = new HashMap<>();
+		private final HashMap<Long, A> containers = new HashMap<>();
+		private long lastKey = EMPTY;
+		private long[] lastCount;
+		private A lastContainer;
+
+		private void add(long key, GTime gTime, Collector<? super GTime, A, ?> collector) {
+			if (key != lastKey) {
+				lastCount = counts.computeIfAbsent(key, k -> new long[1]);
+				lastContainer = containers.computeIfAbsent(key, k -> collector.supplier().get());
+				lastKey = key;
+			}
+			lastCount[0]++;
+			collector.accumulator().accept(lastContainer, gTime);
+		}
+
+		private Grouper<A> merge(Grouper<A> other, Collector<? super GTime, A, ?> collector) {
+			for (Map.Entry<Long, long[]> entry : other.counts.entrySet()) {
+				long[] count = counts.get(entry.getKey());
+				if (count == null) {
+					counts.put(entry.getKey(), entry.getValue());
+					containers.put(entry.getKey(), other.containers.get(entry.getKey()));
+				}
+				else {
+					count[0] += entry.getValue()[0];
+					containers.put(entry.getKey(), collector.combiner().apply(containers.get(entry.getKey()), other.containers.get(entry.getKey())));
+				}
+			}
+			lastKey = EMPTY;
+			return this;
+		}
+	}
+
+	/**
+	 * <b>Counts the parts of a range of input in parallel, merging the accumulators of the halves.</b>
+	 */
+	private static final class PartTask<T> extends RecursiveTask<T> {
+		private static final long serialVersionUID = 1L;
+		private final int from;
+		private final int to;
+		private final BiFunction<Integer, Integer, T> counter;
+		private final BinaryOperator<T> merger;
+
+		private PartTask(int from, int to, BiFunction<Integer, Integer, T> counter, BinaryOperator<T> merger) {
+			this.from = from;
+			this.to = to;
+			this.counter = counter;
+			this.merger = merger;
+		}
+
+		@Override
+		protected T compute() {
+			if (to - from <= PART_SIZE) {
+				return counter.apply(from, to);
+			}
+			int middle = (from + to) >>> 1;
+			PartTask<T> left = new PartTask<>(from, middle, counter, merger);
+			left.fork();
+			T right = new PartTask<>(middle, to, counter, merger).compute();
+			return merger.apply(left.join(), right);
+		}
+	}
+
+	/**
+	 * <b>Counts GTimes per bucket.</b>
+	 * @param gTimes	the List of GTimes.
+	 * @param unit		the String of unit (second, minute, hour, day, week, month, year).
+	 * @param timezone	the String of time zone.
+	 * @return			the GTimeHistogram of counts.
+	 */
+	public static GTimeHistogram<Long> countBuckets(List<GTime> gTimes, String unit, String timezone) {
+		ZoneId zi = getZone(timezone);
+		int unitIndex = GTimeCalculate.getUnitIndex(unitNames, unit);
+		if ((zi == null) || (unitIndex < 0)) {
+			return null;
+		}
+		List<GTime> input = (gTimes instanceof RandomAccess) ? gTimes : new ArrayList<>(gTimes);
+		Counter counter = run(input.size(), (from, to) -> countGTimes(input, from, to, zi, unitIndex), Counter::merge);
+		return toHistogram(counter, zi, unitIndex);
+	}
+
+	/**
+	 * <b>Counts instants per bucket.</b>
+	 * @param epochSeconds	the long[] of seconds from 1970-01-01T00:00:00Z.
+	 * @param unit			the String of unit (second, minute, hour, day, week, month, year).
+	 * @param timezone		the String of time zone.
+	 * @return				the GTimeHistogram of counts.
+	 */
+	public static GTimeHistogram<Long> countBuckets(long[] epochSeconds, String unit, String timezone) {
+		return sumBuckets(epochSeconds, null, unit, timezone);
+	}
+
+	/**
+	 * <b>Counts instants and sums their values per bucket.</b><p>
+	 * The arrays are read in parallel; value i belongs to instant i. The result of a bucket is the sum of its values.<p>
+	 * In case the arrays differ in length, returns null.
+	 * @param epochSeconds	the long[] of seconds from 1970-01-01T00:00:00Z.
+	 * @param values		the long[] of values to sum.
+	 * @param unit			the String of unit (second, minute, hour, day, week, month, year).
+	 * @param timezone		the String of time zone.
+	 * @return				the GTimeHistogram of sums.
+	 */
+	public static GTimeHistogram<Long> sumBuckets(long[] epochSeconds, long[] values, String unit, String timezone) {
+		ZoneId zi = getZone(timezone);
+		int unitIndex = GTimeCalculate.getUnitIndex(unitNames, unit);
+		if ((zi == null) || (unitIndex < 0) || ((values != null) && (values.length != epochSeconds.length))) {
+			return null;
+		}
+		Counter counter = run(epochSeconds.length, (from, to) -> countEpochSeconds(epochSeconds, values, from, to, zi, unitIndex), Counter::merge);
+		return toHistogram(counter, zi, unitIndex);
+	}
+
+	/**
+	 * <b>Reduces GTimes per bucket with a Collector.</b><p>
+	 * The Collector is applied to the GTimes of every bucket; parts of a bucket counted by different threads are merged by its combiner, therefore the order of GTimes inside a bucket is kept only by combiners which keep it (e.g. Collectors.toList()).
+	 * @param gTimes	the List of GTimes.
+	 * @param unit		the String of unit (second, minute, hour, day, week, month, year).
+	 * @param timezone	the String of time zone.
+	 * @param collector	the Collector of reduction.
+	 * @param <A>		the type of the mutable container of the Collector.
+	 * @param <R>		the type of result per bucket.
+	 * @return			the GTimeHistogram of results.
+	 */
+	public static <A, R> GTimeHistogram<R> collectBuckets(List<GTime> gTimes, String unit, String timezone, Collector<? super GTime, A, R> collector) {
+		ZoneId zi = getZone(timezone);
+		int unitIndex = GTimeCalculate.getUnitIndex(unitNames, unit);
+		if ((zi == null) || (unitIndex < 0) || (collector == null)) {
+			return null;
+		}
+		List<GTime> input = (gTimes instanceof RandomAccess) ? gTimes : new ArrayList<>(gTimes);
+		Grouper<A> grouper = run(input.size(), (from, to) -> groupGTimes(input, from, to, zi, unitIndex, collector), (left, right) -> left.merge(right, collector));
+		long[] keys = new long[grouper.counts.size()];
+		int i = 0;
+		for (Long key : grouper.counts.keySet()) {
+			keys[i++] = key;
+		}
+		Arrays.sort(keys);
+		long[] counts = new long[keys.length];
+		Object[] results = new Object[keys.length];
+		for (i = 0; i < keys.length; i++) {
+			counts[i] = grouper.counts.get(keys[i])[0];
+			results[i] = collector.finisher().apply(grouper.containers.get(keys[i]));
+		}
+		return new GTimeHistogram<>(zi, unitIndex, keys, counts, null, results);
+	}
+
+	/**
+	 * <b>Returns the number of buckets of GTimeHistogram.</b>
+	 * @param histogram	the GTimeHistogram of buckets.
+	 * @param <R>		the type of result per bucket.
+	 * @return			the int of buckets.
+	 */
+	public static <R> int getBucketCount(GTimeHistogram<R> histogram) {
+		return histogram.buckets.length;
+	}
+
+	/**
+	 * <b>Returns the start of a bucket as local epoch seconds (seconds from 1970-01-01T00:00:00 local datetime).</b><p>
+	 * In case wrong bucket is given, returns Long.MIN_VALUE.
+	 * @param histogram	the GTimeHistogram of buckets.
+	 * @param bucket	the int of bucket.
+	 * @param <R>		the type of result per bucket.
+	 * @return			the long of local epoch seconds.
+	 */
+	public static <R> long getBucketLocalEpochSecond(GTimeHistogram<R> histogram, int bucket) {
+		if ((bucket < 0) || (bucket >= histogram.buckets.length)) {
+			return Long.MIN_VALUE;
+		}
+		return histogram.buckets[bucket];
+	}
+
+	/**
+	 * <b>Returns the start of a bucket as a new GTime in the time zone of GTimeHistogram.</b><p>
+	 * In case the start falls into a Daylight Saving Time gap, it is shifted later by the length of the gap.<p>
+	 * In case wrong bucket is given, returns null.
+	 * @param histogram	the GTimeHistogram of buckets.
+	 * @param bucket	the int of bucket.
+	 * @param <R>		the type of result per bucket.
+	 * @return			the GTime of bucket start.
+	 */
+	public static <R> GTime getBucketStart(GTimeHistogram<R> histogram, int bucket) {
+		if ((bucket < 0) || (bucket >= histogram.buckets.length)) {
+			return null;
+		}
+		LocalDateTime start = LocalDateTime.ofEpochSecond(histogram.buckets[bucket], 0, ZoneOffset.UTC);
+		return new GTime(ZonedDateTime.ofLocal(start, histogram.zone, null), "", "");
+	}
+
+	/**
+	 * <b>Returns the number of values in a bucket.</b><p>
+	 * In case wrong bucket is given, returns 0.
+	 * @param histogram	the GTimeHistogram of buckets.
+	 * @param bucket	the int of bucket.
+	 * @param <R>		the type of result per bucket.
+	 * @return			the long of values.
+	 */
+	public static <R> long getCount(GTimeHistogram<R> histogram, int bucket) {
+		if ((bucket < 0) || (bucket >= histogram.buckets.length)) {
+			return 0L;
+		}
+		return histogram.counts[bucket];
+	}
+
+	/**
+	 * <b>Returns the result of a bucket: the reduction of a Collector, the sum of values, or the count.</b><p>
+	 * In case wrong bucket is given, returns null.
+	 * @param histogram	the GTimeHistogram of buckets.
+	 * @param bucket	the int of bucket.
+	 * @param <R>		the type of result per bucket.
+	 * @return			the R of result.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <R> R getResult(GTimeHistogram<R> histogram, int bucket) {
+		if ((bucket < 0) || (bucket >= histogram.buckets.length)) {
+			return null;
+		}
+		if (histogram.results != null) {
+			return (R) histogram.results[bucket];
+		}
+		return (R) Long.valueOf((histogram.sums != null) ? histogram.sums[bucket] : histogram.counts[bucket]);
+	}
+
+	/**
+	 * <b>Runs the counting of an input, in parallel when it has more than one part.</b>
+	 * @param length	the int of input length.
+	 * @param counter	the BiFunction counting a range of input into a new accumulator.
+	 * @param merger	the BinaryOperator merging two accumulators.
+	 * @param <T>		the type of accumulator.
+	 * @return			the T of accumulator.
+	 */
+	private static <T> T run(int length, BiFunction<Integer, Integer, T> counter, BinaryOperator<T> merger) {
+		if (length <= PART_SIZE) {
+			return counter.apply(0, length);
+		}
+		return ForkJoinPool.commonPool().invoke(new PartTask<>(0, length, counter, merger));
+	}
+
+	/**
+	 * <b>Returns the bucket of a local epoch second.</b>
+	 * @param localEpochSecond	the long of seconds from 1970-01-01T00:00:00 local datetime.
+	 * @param unit				the int of unit.
+	 * @return					the long of local epoch seconds of bucket start.
+	 */
+	static long getBucket(long localEpochSecond, int unit) {
+		switch (unit) {
+			case SECOND:
+				return localEpochSecond;
+			case MINUTE:
+				return Math.floorDiv(localEpochSecond, 60L) * 60L;
+			case HOUR:
+				return Math.floorDiv(localEpochSecond, 3_600L) * 3_600L;
+			case DAY:
+				return Math.floorDiv(localEpochSecond, SECONDS_PER_DAY) * SECONDS_PER_DAY;
+			case WEEK:
+				long epochDay = Math.floorDiv(localEpochSecond, SECONDS_PER_DAY);
+				return (epochDay - Math.floorMod(epochDay + 3L, 7L)) * SECONDS_PER_DAY;
+			default:
+				long day = Math.floorDiv(localEpochSecond, SECONDS_PER_DAY);
+				long date = getDateOfEpochDay(day);
+				long first = (unit == MONTH) ? day - getPackedDay(date) + 1 : getEpochDay(getPackedYear(date), 1, 1);
+				return first * SECONDS_PER_DAY;
+		}
+	}
+
+	/**
+	 * <b>Counts a range of GTimes into a new Counter, converting them to local epoch seconds block by block.</b>
+	 * @param gTimes	the List of GTimes.
+	 * @param from		the int of first index (inclusive).
+	 * @param to		the int of last index (exclusive).
+	 * @param zone		the ZoneId of time zone.
+	 * @param unit		the int of unit.
+	 * @return			the Counter of buckets.
+	 */
+	private static Counter countGTimes(List<GTime> gTimes, int from, int to, ZoneId zone, int unit) {
+		Counter counter = new Counter(false);
+		long[] block = new long[BLOCK_SIZE];
+		for (int start = from; start < to; start += BLOCK_SIZE) {
+			int length = 0;
+			for (int i = start; i < Math.min(start + BLOCK_SIZE, to); i++) {
+				GTime gTime = gTimes.get(i);
+				if (gTime != null) {
+					block[length++] = gTime.time.toEpochSecond();
+				}
+			}
+			GTimeOffsetTable.getLocalEpochSeconds(zone, block, 0, length, block);
+			for (int i = 0; i < length; i++) {
+				counter.add(getBucket(block[i], unit), 1, 0);
+			}
+		}
+		return counter;
+	}
+
+	/**
+	 * <b>Counts and sums a range of instants into a new Counter, converting them to local epoch seconds block by block.</b>
+	 * @param epochSeconds	the long[] of seconds from 1970-01-01T00:00:00Z.
+	 * @param values		the long[] of values to sum, or null.
+	 * @param from			the int of first index (inclusive).
+	 * @param to			the int of last index (exclusive).
+	 * @param zone			the ZoneId of time zone.
+	 * @param unit			the int of unit.
+	 * @return				the Counter of buckets.
+	 */
+	private static Counter countEpochSeconds(long[] epochSeconds, long[] values, int from, int to, ZoneId zone, int unit) {
+		Counter counter = new Counter(values != null);
+		long[] block = new long[BLOCK_SIZE];
+		for (int start = from; start < to; start += BLOCK_SIZE) {
+			int length = Math.min(BLOCK_SIZE, to - start);
+			System.arraycopy(epochSeconds, start, block, 0, length);
+			GTimeOffsetTable.getLocalEpochSeconds(zone, block, 0, length, block);
+			for (int i = 0; i < length; i++) {
+				counter.add(getBucket(block[i], unit), 1, (values == null) ? 0 : values[start + i]);
+			}
+		}
+		return counter;
+	}
+
+	/**
+	 * <b>Reduces a range of GTimes into a new Grouper, converting them to local epoch seconds block by block.</b>
+	 * @param gTimes	the List of GTimes.
+	 * @param from		the int of first index (inclusive).
+	 * @param to		the int of last index (exclusive).
+	 * @param zone		the ZoneId of time zone.
+	 * @param unit		the int of unit.
+	 * @param collector	the Collector of reduction.
+	 * @param <A>		the type of the mutable container of the Collector.
+	 * @return			the Grouper of buckets.
+	 */
+	private static <A> Grouper<A> groupGTimes(List<GTime> gTimes, int from, int to, ZoneId zone, int unit, Collector<? super GTime, A, ?> collector) {
+		Grouper<A> grouper = new Grouper<>();
+		long[] block = new long[BLOCK_SIZE];
+		GTime[] blockGTimes = new GTime[BLOCK_SIZE];
+		for (int start = from; start < to; start += BLOCK_SIZE) {
+			int length = 0;
+			for (int i = start; i < Math.min(start + BLOCK_SIZE, to); i++) {
+				GTime gTime = gTimes.get(i);
+				if (gTime != null) {
+					blockGTimes[length] = gTime;
+					block[length++] = gTime.time.toEpochSecond();
+				}
+			}
+			GTimeOffsetTable.getLocalEpochSeconds(zone, block, 0, length, block);
+			for (int i = 0; i < length; i++) {
+				grouper.add(getBucket(block[i], unit), blockGTimes[i], collector);
+			}
+		}
+		return grouper;
+	}
+
+	/**
+	 * <b>Orders the buckets of a Counter into a GTimeHistogram.</b>
+	 * @param counter	the Counter of buckets.
+	 * @param zone		the ZoneId of time zone.
+	 * @param unit		the int of unit.
+	 * @return			the GTimeHistogram of buckets.
+	 */
+	private static GTimeHistogram<Long> toHistogram(Counter counter, ZoneId zone, int unit) {
+		long[] keys = new long[counter.size];
+		int n = 0;
+		for (long key : counter.keys) {
+			if (key != EMPTY) {
+				keys[n++] = key;
+			}
+		}
+		Arrays.sort(keys);
+		long[] counts = new long[n];
+		long[] sums = (counter.sums == null) ? null : new long[n];
+		for (int i = 0; i < n; i++) {
+			int slot = counter.getSlot(keys[i]);
+			counts[i] = counter.counts[slot];
+			if (sums != null) {
+				sums[i] = counter.sums[slot];
+			}
+		}
+		return new GTimeHistogram<>(zone, unit, keys, counts, sums, null);
+	}
+
+	/**
+	 * <b>Spreads the bits of a key for hashing.</b>
+	 * @param key	the long of key.
+	 * @return		the long of hash.
+	 */
+	private static long mix(long key) {
+		key *= 0x9E3779B97F4A7C15L;
+		return key ^ (key >>> 32);
+	}
+}
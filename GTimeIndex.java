@@ -0,0 +1,591 @@
+package GrimmPackage.DateTime;
+
+import java.util.*;
+
+import static GrimmPackage.DateTime.GTimeArithmetic.*;
+
+/**
+ * <b>Provides a sorted index of GTime objects with floor, ceiling and range queries.</b><p>
+ * Entries are ordered by the instant of GTime as a long of nanoseconds from the epoch of 1970-01-01T00:00:00Z, which covers the instants from 1677-09-21 to 2262-04-11; GTimes outside are not indexed.<p>
+ * Equal instants keep their order of adding; GTimes are stored by reference, so the original GTime with its ID and description is returned, and changing a GTime after adding it does not re-sort the index.<p>
+ * Queries take O(log n) plus the length of the result.<p>
+ * A GTime later than all entries is appended in place; other GTimes are collected in a small sorted side run, which is merged into the main run when it reaches about 2 * sqrt(n) entries, or when a snapshot is taken.<p>
+ * Adding several GTimes at once sorts them and merges them in one pass.<p>
+ * An index is not thread-safe. A snapshot is an immutable view of the index at the time of taking it and costs no copying of entries; it can be queried by any number of threads when published safely (e.g. through a volatile field or a concurrent collection).<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeIndex.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * GTimeIndex()<p>
+ * GTimeIndex(int capacity)<p>
+ * GTimeIndex(Iterable&lt;GTime&gt; gTimes)<p>
+ * getIndexSize(GTimeIndex index) -> int<p>
+ * isSnapshot(GTimeIndex index) -> boolean<p>
+ * getSnapshot(GTimeIndex index) -> GTimeIndex<p>
+ * addGTime(GTimeIndex index, GTime gTime) -> boolean<p>
+ * addGTimes(GTimeIndex index, Iterable&lt;GTime&gt; gTimes) -> int<p>
+ * getEpochNanoseconds(GTime gTime) -> long<p>
+ * getFloor(GTimeIndex index, GTime gTime) -> GTime<p>
+ * getFloor(GTimeIndex index, long epochNanoseconds) -> GTime<p>
+ * getCeiling(GTimeIndex index, GTime gTime) -> GTime<p>
+ * getCeiling(GTimeIndex index, long epochNanoseconds) -> GTime<p>
+ * getRange(GTimeIndex index, GTime fromGTime, GTime toGTime) -> GTime[]<p>
+ * getRange(GTimeIndex index, long fromEpochNanoseconds, long toEpochNanoseconds) -> GTime[]<p>
+ * countRange(GTimeIndex index, GTime fromGTime, GTime toGTime) -> int<p>
+ * countRange(GTimeIndex index, long fromEpochNanoseconds, long toEpochNanoseconds) -> int<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeIndex {
+	private static final long MIN_KEY_SECOND = Math.floorDiv(Long.MIN_VALUE, (long) NANOSECONDS_PER_SECOND);
+	private static final long MAX_KEY_SECOND = Math.floorDiv(Long.MAX_VALUE, (long) NANOSECONDS_PER_SECOND);
+	private static final int MIN_KEY_NANOSECOND = (int) Math.floorMod(Long.MIN_VALUE, (long) NANOSECONDS_PER_SECOND);
+	private static final int MAX_KEY_NANOSECOND = (int) Math.floorMod(Long.MAX_VALUE, (long) NANOSECONDS_PER_SECOND);
+	private static final int MIN_PENDING_LIMIT = 256;
+	private static final GTime[] NO_GTIMES = new GTime[0];
+
+	protected final boolean snapshot;
+	protected long[] keys;
+	protected GTime[] values;
+	protected int size;
+	protected long[] pendingKeys;
+	protected GTime[] pendingValues;
+	protected int pendingSize;
+
+	/**
+	 * <b>Constructs an empty GTimeIndex.</b>
+	 */
+	public GTimeIndex() {
+		this(16);
+	}
+
+	/**
+	 * <b>Constructs an empty GTimeIndex with room for the given number of entries.</b><p>
+	 * The index grows when more entries are added.
+	 * @param capacity	the int of initial number of entries.
+	 */
+	public GTimeIndex(int capacity) {
+		capacity = Math.max(capacity, 1);
+		snapshot = false;
+		keys = new long[capacity];
+		values = new GTime[capacity];
+		size = 0;
+		pendingKeys = new long[MIN_PENDING_LIMIT];
+		pendingValues = new GTime[MIN_PENDING_LIMIT];
+		pendingSize = 0;
+	}
+
+	/**
+	 * <b>Constructs a GTimeIndex containing the given GTimes.</b><p>
+	 * Null GTimes and GTimes outside the indexed range are skipped.
+	 * @param gTimes	the Iterable of GTimes.
+	 */
+	public GTimeIndex(Iterable<GTime> gTimes) {
+		this((gTimes instanceof Collection) ? ((Collection<?>) gTimes).size() : 16);
+		addGTimes(this, gTimes);
+	}
+
+	/**
+	 * <b>Constructs a snapshot sharing the main run of an index.</b>
+	 * @param keys		the long[] of sorted keys.
+	 * @param values	the GTime[] of entries in the order of keys.
+	 * @param size		the int of entries.
+	 */
+	private GTimeIndex(long[] keys, GTime[] values, int size) {
+		this.snapshot = true;
+		this.keys = keys;
+		this.values = values;
+		this.size = size;
+		this.pendingKeys = null;
+		this.pendingValues = null;
+		this.pendingSize = 0;
+	}
+
+	/**
+	 * <b>Returns the number of entries of GTimeIndex.</b>
+	 * @param index	the GTimeIndex of GTimes.
+	 * @return		the int of entries.
+	 */
+	public static int getIndexSize(GTimeIndex index) {
+		return index.size + index.pendingSize;
+	}
+
+	/**
+	 * <b>Checks whether GTimeIndex is a snapshot, therefore cannot be added to.</b>
+	 * @param index	the GTimeIndex of GTimes.
+	 * @return		the boolean value marks whether the index is a snapshot.
+	 */
+	public static boolean isSnapshot(GTimeIndex index) {
+		return index.snapshot;
+	}
+
+	/**
+	 * <b>Returns an immutable snapshot of GTimeIndex.</b><p>
+	 * The snapshot shares the entries of the index; GTimes added to the index later do not appear in the snapshot.<p>
+	 * A snapshot of a snapshot is the snapshot itself.
+	 * @param index	the GTimeIndex of GTimes.
+	 * @return		the GTimeIndex of snapshot.
+	 */
+	public static GTimeIndex getSnapshot(GTimeIndex index) {
+		if (index.snapshot) {
+			return index;
+		}
+		mergePending(index);
+		return new GTimeIndex(index.keys, index.values, index.size);
+	}
+
+	/**
+	 * <b>Adds a GTime to GTimeIndex.</b><p>
+	 * In case the GTime is null, it is outside the indexed range or the index is a snapshot, nothing is added and returns false.
+	 * @param index	the GTimeIndex of GTimes.
+	 * @param gTime	the GTime of datetime.
+	 * @return		the boolean value marks whether the GTime was added.
+	 */
+	public static boolean addGTime(GTimeIndex index, GTime gTime) {
+		if ((gTime == null) || index.snapshot) {
+			return false;
+		}
+		long epochSecond = gTime.time.toEpochSecond();
+		int nanosecond = gTime.time.getNano();
+		if (!isInKeyRange(epochSecond, nanosecond)) {
+			return false;
+		}
+		long key = epochSecond * NANOSECONDS_PER_SECOND + nanosecond;
+		if ((index.pendingSize == 0) && ((index.size == 0) || (key >= index.keys[index.size - 1]))) {
+			if (index.size == index.keys.length) {
+				grow(index, index.size + 1);
+			}
+			index.keys[index.size] = key;
+			index.values[index.size] = gTime;
+			index.size++;
+			return true;
+		}
+		int position = upperBound(index.pendingKeys, 0, index.pendingSize, key);
+		System.arraycopy(index.pendingKeys, position, index.pendingKeys, position + 1, index.pendingSize - position);
+		System.arraycopy(index.pendingValues, position, index.pendingValues, position + 1, index.pendingSize - position);
+		index.pendingKeys[position] = key;
+		index.pendingValues[position] = gTime;
+		index.pendingSize++;
+		if (index.pendingSize == index.pendingKeys.length) {
+			mergePending(index);
+		}
+		return true;
+	}
+
+	/**
+	 * <b>Adds GTimes to GTimeIndex in one pass.</b><p>
+	 * Null GTimes and GTimes outside the indexed range are skipped. In case the index is a snapshot, nothing is added and returns 0.
+	 * @param index		the GTimeIndex of GTimes.
+	 * @param gTimes	the Iterable of GTimes.
+	 * @return			the int of GTimes added.
+	 */
+	public static int addGTimes(GTimeIndex index, Iterable<GTime> gTimes) {
+		if (index.snapshot) {
+			return 0;
+		}
+		int capacity = (gTimes instanceof Collection) ? Math.max(((Collection<?>) gTimes).size(), 1) : 16;
+		long[] newKeys = new long[capacity];
+		GTime[] newValues = new GTime[capacity];
+		int count = 0;
+		boolean sorted = true;
+		for (GTime gTime : gTimes) {
+			if (gTime == null) {
+				continue;
+			}
+			long epochSecond = gTime.time.toEpochSecond();
+			int nanosecond = gTime.time.getNano();
+			if (!isInKeyRange(epochSecond, nanosecond)) {
+				continue;
+			}
+			if (count == newKeys.length) {
+				newKeys = Arrays.copyOf(newKeys, count * 2);
+				newValues = Arrays.copyOf(newValues, count * 2);
+			}
+			long key = epochSecond * NANOSECONDS_PER_SECOND + nanosecond;
+			sorted &= (count == 0) || (key >= newKeys[count - 1]);
+			newKeys[count] = key;
+			newValues[count] = gTime;
+			count++;
+		}
+		if (count == 0) {
+			return 0;
+		}
+		if (!sorted) {
+			sort(newKeys, newValues, count);
+		}
+		mergePending(index);
+		if ((index.size == 0) || (newKeys[0] >= index.keys[index.size - 1])) {
+			if (index.size + count > index.keys.length) {
+				grow(index, index.size + count);
+			}
+			System.arraycopy(newKeys, 0, index.keys, index.size, count);
+			System.arraycopy(newValues, 0, index.values, index.size, count);
+			index.size += count;
+		}
+		else {
+			merge(index, newKeys, newValues, count);
+		}
+		return count;
+	}
+
+	/**
+	 * <b>Returns the instant of GTime in nanoseconds from the epoch of 1970-01-01T00:00:00Z, the key of GTimeIndex.</b><p>
+	 * In case the instant is outside the indexed range, returns Long.MIN_VALUE or Long.MAX_VALUE.
+	 * @param gTime	the GTime of datetime.
+	 * @return		the long of epoch nanoseconds.
+	 */
+	public static long getEpochNanoseconds(GTime gTime) {
+		long epochSecond = gTime.time.toEpochSecond();
+		int nanosecond = gTime.time.getNano();
+		if (isInKeyRange(epochSecond, nanosecond)) {
+			return epochSecond * NANOSECONDS_PER_SECOND + nanosecond;
+		}
+		return (epochSecond < 0) ? Long.MIN_VALUE : Long.MAX_VALUE;
+	}
+
+	/**
+	 * <b>Returns the latest GTime of GTimeIndex which is not later than the given GTime.</b><p>
+	 * Of equal instants, the last added is returned. In case there is no such entry, returns null.
+	 * @param index	the GTimeIndex of GTimes.
+	 * @param gTime	the GTime of datetime.
+	 * @return		the GTime of entry.
+	 */
+	public static GTime getFloor(GTimeIndex index, GTime gTime) {
+		long key = getEpochNanoseconds(gTime);
+		if ((key == Long.MIN_VALUE) && !isInKeyRange(gTime.time.toEpochSecond(), gTime.time.getNano())) {
+			return null;
+		}
+		return getFloor(index, key);
+	}
+
+	/**
+	 * <b>Returns the latest GTime of GTimeIndex which is not later than the given instant.</b><p>
+	 * Of equal instants, the last added is returned. In case there is no such entry, returns null.
+	 * @param index				the GTimeIndex of GTimes.
+	 * @param epochNanoseconds	the long of nanoseconds from the epoch of 1970-01-01T00:00:00Z.
+	 * @return					the GTime of entry.
+	 */
+	public static GTime getFloor(GTimeIndex index, long epochNanoseconds) {
+		int position = upperBound(index.keys, 0, index.size, epochNanoseconds) - 1;
+		int pendingPosition = upperBound(index.pendingKeys, 0, index.pendingSize, epochNanoseconds) - 1;
+		if (pendingPosition < 0) {
+			return (position < 0) ? null : index.values[position];
+		}
+		if ((position < 0) || (index.pendingKeys[pendingPosition] >= index.keys[position])) {
+			return index.pendingValues[pendingPosition];
+		}
+		return index.values[position];
+	}
+
+	/**
+	 * <b>Returns the earliest GTime of GTimeIndex which is not earlier than the given GTime.</b><p>
+	 * Of equal instants, the first added is returned. In case there is no such entry, returns null.
+	 * @param index	the GTimeIndex of GTimes.
+	 * @param gTime	the GTime of datetime.
+	 * @return		the GTime of entry.
+	 */
+	public static GTime getCeiling(GTimeIndex index, GTime gTime) {
+		long key = getEpochNanoseconds(gTime);
+		if ((key == Long.MAX_VALUE) && !isInKeyRange(gTime.time.toEpochSecond(), gTime.time.getNano())) {
+			return null;
+		}
+		return getCeiling(index, key);
+	}
+
+	/**
+	 * <b>Returns the earliest GTime of GTimeIndex which is not earlier than the given instant.</b><p>
+	 * Of equal instants, the first added is returned. In case there is no such entry, returns null.
+	 * @param index				the GTimeIndex of GTimes.
+	 * @param epochNanoseconds	the long of nanoseconds from the epoch of 1970-01-01T00:00:00Z.
+	 * @return					the GTime of entry.
+	 */
+	public static GTime getCeiling(GTimeIndex index, long epochNanoseconds) {
+		int position = lowerBound(index.keys, 0, index.size, epochNanoseconds);
+		int pendingPosition = lowerBound(index.pendingKeys, 0, index.pendingSize, epochNanoseconds);
+		if (pendingPosition == index.pendingSize) {
+			return (position == index.size) ? null : index.values[position];
+		}
+		if ((position == index.size) || (index.pendingKeys[pendingPosition] < index.keys[position])) {
+			return index.pendingValues[pendingPosition];
+		}
+		return index.values[position];
+	}
+
+	/**
+	 * <b>Returns the GTimes of GTimeIndex from the first GTime (inclusive) to the second GTime (exclusive), in order.</b><p>
+	 * In case the second is not later than the first, returns an empty array.
+	 * @param index		the GTimeIndex of GTimes.
+	 * @param fromGTime	the GTime of first datetime.
+	 * @param toGTime	the GTime of second datetime.
+	 * @return			the GTime[] of entries.
+	 */
+	public static GTime[] getRange(GTimeIndex index, GTime fromGTime, GTime toGTime) {
+		long low = getEpochNanoseconds(fromGTime), high = getHighKey(toGTime);
+		return (low > high) ? NO_GTIMES : getRangeClosed(index, low, high);
+	}
+
+	/**
+	 * <b>Returns the GTimes of GTimeIndex from the first instant (inclusive) to the second instant (exclusive), in order.</b><p>
+	 * An instant is given by its nanoseconds from the epoch of 1970-01-01T00:00:00Z.<p>
+	 * In case the second is not later than the first, returns an empty array.
+	 * @param index					the GTimeIndex of GTimes.
+	 * @param fromEpochNanoseconds	the long of first instant.
+	 * @param toEpochNanoseconds	the long of second instant.
+	 * @return						the GTime[] of entries.
+	 */
+	public static GTime[] getRange(GTimeIndex index, long fromEpochNanoseconds, long toEpochNanoseconds) {
+		return (fromEpochNanoseconds >= toEpochNanoseconds) ? NO_GTIMES : getRangeClosed(index, fromEpochNanoseconds, toEpochNanoseconds - 1);
+	}
+
+	/**
+	 * <b>Counts the GTimes of GTimeIndex from the first GTime (inclusive) to the second GTime (exclusive).</b>
+	 * @param index		the GTimeIndex of GTimes.
+	 * @param fromGTime	the GTime of first datetime.
+	 * @param toGTime	the GTime of second datetime.
+	 * @return			the int of entries.
+	 */
+	public static int countRange(GTimeIndex index, GTime fromGTime, GTime toGTime) {
+		long low = getEpochNanoseconds(fromGTime), high = getHighKey(toGTime);
+		return (low > high) ? 0 : countRangeClosed(index, low, high);
+	}
+
+	/**
+	 * <b>Counts the GTimes of GTimeIndex from the first instant (inclusive) to the second instant (exclusive).</b><p>
+	 * An instant is given by its nanoseconds from the epoch of 1970-01-01T00:00:00Z.
+	 * @param index					the GTimeIndex of GTimes.
+	 * @param fromEpochNanoseconds	the long of first instant.
+	 * @param toEpochNanoseconds	the long of second instant.
+	 * @return						the int of entries.
+	 */
+	public static int countRange(GTimeIndex index, long fromEpochNanoseconds, long toEpochNanoseconds) {
+		return (fromEpochNanoseconds >= toEpochNanoseconds) ? 0 : countRangeClosed(index, fromEpochNanoseconds, toEpochNanoseconds - 1);
+	}
+
+	/**
+	 * <b>Returns the entries between two keys, both inclusive, merging the main and the side runs.</b>
+	 * @param index	the GTimeIndex of GTimes.
+	 * @param low	the long of lowest key.
+	 * @param high	the long of highest key.
+	 * @return		the GTime[] of entries.
+	 */
+	private static GTime[] getRangeClosed(GTimeIndex index, long low, long high) {
+		int from = lowerBound(index.keys, 0, index.size, low);
+		int to = upperBound(index.keys, from, index.size, high);
+		int pendingFrom = lowerBound(index.pendingKeys, 0, index.pendingSize, low);
+		int pendingTo = upperBound(index.pendingKeys, pendingFrom, index.pendingSize, high);
+		int count = (to - from) + (pendingTo - pendingFrom);
+		if (count == 0) {
+			return NO_GTIMES;
+		}
+		GTime[] result = new GTime[count];
+		if (pendingFrom == pendingTo) {
+			System.arraycopy(index.values, from, result, 0, count);
+			return result;
+		}
+		int i = from, j = pendingFrom;
+		for (int k = 0; k < count; k++) {
+			if ((j == pendingTo) || ((i < to) && (index.keys[i] <= index.pendingKeys[j]))) {
+				result[k] = index.values[i++];
+			}
+			else {
+				result[k] = index.pendingValues[j++];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * <b>Counts the entries between two keys, both inclusive.</b>
+	 * @param index	the GTimeIndex of GTimes.
+	 * @param low	the long of lowest key.
+	 * @param high	the long of highest key.
+	 * @return		the int of entries.
+	 */
+	private static int countRangeClosed(GTimeIndex index, long low, long high) {
+		int from = lowerBound(index.keys, 0, index.size, low);
+		int pendingFrom = lowerBound(index.pendingKeys, 0, index.pendingSize, low);
+		return (upperBound(index.keys, from, index.size, high) - from) + (upperBound(index.pendingKeys, pendingFrom, index.pendingSize, high) - pendingFrom);
+	}
+
+	/**
+	 * <b>Returns the highest key before a GTime; Long.MIN_VALUE with nothing to find when the GTime is at or before the start of the indexed range.</b>
+	 * @param gTime	the GTime of datetime.
+	 * @return		the long of key.
+	 */
+	private static long getHighKey(GTime gTime) {
+		long epochSecond = gTime.time.toEpochSecond();
+		int nanosecond = gTime.time.getNano();
+		if (isInKeyRange(epochSecond, nanosecond)) {
+			long key = epochSecond * NANOSECONDS_PER_SECOND + nanosecond;
+			return (key == Long.MIN_VALUE) ? Long.MIN_VALUE : key - 1;
+		}
+		return (epochSecond < 0) ? Long.MIN_VALUE : Long.MAX_VALUE;
+	}
+
+	/**
+	 * <b>Checks whether an instant fits into a long of epoch nanoseconds.</b>
+	 * @param epochSecond	the long of epoch seconds.
+	 * @param nanosecond	the int of nanosecond.
+	 * @return				the boolean value marks whether the instant fits.
+	 */
+	private static boolean isInKeyRange(long epochSecond, int nanosecond) {
+		if ((epochSecond > MIN_KEY_SECOND) && (epochSecond < MAX_KEY_SECOND)) {
+			return true;
+		}
+		return ((epochSecond == MIN_KEY_SECOND) && (nanosecond >= MIN_KEY_NANOSECOND)) || ((epochSecond == MAX_KEY_SECOND) && (nanosecond <= MAX_KEY_NANOSECOND));
+	}
+
+	/**
+	 * <b>Merges the side run into the main run once it is full, or when forced by a snapshot or a bulk add.</b><p>
+	 * The main run is rebuilt into new arrays, so snapshots sharing the old arrays are not affected.
+	 * @param index	the GTimeIndex of GTimes.
+	 */
+	private static void mergePending(GTimeIndex index) {
+		if (index.pendingSize == 0) {
+			return;
+		}
+		merge(index, index.pendingKeys, index.pendingValues, index.pendingSize);
+		Arrays.fill(index.pendingValues, 0, index.pendingSize, null);
+		index.pendingSize = 0;
+		int limit = Math.max(MIN_PENDING_LIMIT, 2 * (int) Math.sqrt(index.size));
+		if (limit > index.pendingKeys.length) {
+			index.pendingKeys = new long[limit];
+			index.pendingValues = new GTime[limit];
+		}
+	}
+
+	/**
+	 * <b>Merges sorted entries into the main run, into new arrays.</b><p>
+	 * Of equal keys, the entries of the main run come first.
+	 * @param index		the GTimeIndex of GTimes.
+	 * @param newKeys	the long[] of sorted keys.
+	 * @param newValues	the GTime[] of entries in the order of keys.
+	 * @param count		the int of entries to merge.
+	 */
+	private static void merge(GTimeIndex index, long[] newKeys, GTime[] newValues, int count) {
+		int total = index.size + count;
+		int capacity = Math.max(total, index.keys.length);
+		long[] keys = new long[capacity];
+		GTime[] values = new GTime[capacity];
+		int start = upperBound(index.keys, 0, index.size, newKeys[0]);
+		System.arraycopy(index.keys, 0, keys, 0, start);
+		System.arraycopy(index.values, 0, values, 0, start);
+		int i = start, j = 0, k = start;
+		while ((i < index.size) && (j < count)) {
+			if (index.keys[i] <= newKeys[j]) {
+				keys[k] = index.keys[i];
+				values[k++] = index.values[i++];
+			}
+			else {
+				keys[k] = newKeys[j];
+				values[k++] = newValues[j++];
+			}
+		}
+		System.arraycopy(index.keys, i, keys, k, index.size - i);
+		System.arraycopy(index.values, i, values, k, index.size - i);
+		k += index.size - i;
+		System.arraycopy(newKeys, j, keys, k, count - j);
+		System.arraycopy(newValues, j, values, k, count - j);
+		index.keys = keys;
+		index.values = values;
+		index.size = total;
+	}
+
+	/**
+	 * <b>Grows the main run into new arrays, at least doubling them.</b>
+	 * @param index		the GTimeIndex of GTimes.
+	 * @param minimum	the int of capacity needed.
+	 */
+	private static void grow(GTimeIndex index, int minimum) {
+		int capacity = Math.max(minimum, index.keys.length * 2);
+		index.keys = Arrays.copyOf(index.keys, capacity);
+		index.values = Arrays.copyOf(index.values, capacity);
+	}
+
+	/**
+	 * <b>Sorts entries by key, keeping the order of equal keys (bottom-up merge sort).</b>
+	 * @param keys		the long[] of keys.
+	 * @param values	the GTime[] of entries in the order of keys.
+	 * @param count		the int of entries to sort.
+	 */
+	private static void sort(long[] keys, GTime[] values, int count) {
+		long[] keyBuffer = new long[count];
+		GTime[] valueBuffer = new GTime[count];
+		long[] sourceKeys = keys, targetKeys = keyBuffer;
+		GTime[] sourceValues = values, targetValues = valueBuffer;
+		for (int width = 1; width < count; width *= 2) {
+			for (int from = 0; from < count; from += 2 * width) {
+				int middle = Math.min(from + width, count), to = Math.min(from + 2 * width, count);
+				int i = from, j = middle, k = from;
+				while ((i < middle) && (j < to)) {
+					if (sourceKeys[i] <= sourceKeys[j]) {
+						targetKeys[k] = sourceKeys[i];
+						targetValues[k++] = sourceValues[i++];
+					}
+					else {
+						targetKeys[k] = sourceKeys[j];
+						targetValues[k++] = sourceValues[j++];
+					}
+				}
+				System.arraycopy(sourceKeys, i, targetKeys, k, middle - i);
+				System.arraycopy(sourceValues, i, targetValues, k, middle - i);
+				k += middle - i;
+				System.arraycopy(sourceKeys, j, targetKeys, k, to - j);
+				System.arraycopy(sourceValues, j, targetValues, k, to - j);
+			}
+			long[] swapKeys = sourceKeys;
+			sourceKeys = targetKeys;
+			targetKeys = swapKeys;
+			GTime[] swapValues = sourceValues;
+			sourceValues = targetValues;
+			targetValues = swapValues;
+		}
+		if (sourceKeys != keys) {
+			System.arraycopy(sourceKeys, 0, keys, 0, count);
+			System.arraycopy(sourceValues, 0, values, 0, count);
+		}
+	}
+
+	/**
+	 * <b>Returns the first position in a sorted range whose key is not less than the given key.</b>
+	 * @param keys	the long[] of sorted keys.
+	 * @param from	the int of first position (inclusive).
+	 * @param to	the int of last position (exclusive).
+	 * @param key	the long of key.
+	 * @return		the int of position.
+	 */
+	private static int lowerBound(long[] keys, int from, int to, long key) {
+		while (from < to) {
+			int middle = (from + to) >>> 1;
+			if (keys[middle] < key) {
+				from = middle + 1;
+			}
+			else {
+				to = middle;
+			}
+		}
+		return from;
+	}
+
+	/**
+	 * <b>Returns the first position in a sorted range whose key is greater than the given key.</b>
+	 * @param keys	the long[] of sorted keys.
+	 * @param from	the int of first position (inclusive).
+	 * @param to	the int of last position (exclusive).
+	 * @param key	the long of key.
+	 * @return		the int of position.
+	 */
+	private static int upperBound(long[] keys, int from, int to, long key) {
+		while (from < to) {
+			int middle = (from + to) >>> 1;
+			if (keys[middle] <= key) {
+				from = middle + 1;
+			}
+			else {
+				to = middle;
+			}
+		}
+		return from;
+	}
+}
@@ -1,10 +1,12 @@
 package GrimmPackage.DateTime;
 
 import java.time.*;
-import java.time.temporal.*;
 import java.util.*;
 
 import static GrimmPackage.DateTime.GTimeConstant.*;
+import static GrimmPackage.DateTime.GTimeFormat.*;
+import static GrimmPackage.DateTime.GTimeWeekRule.getWeekRule;
+import static GrimmPackage.DateTime.GTimeYearTable.*;
 
 /**
  * <b>Provides information helper methods for GTime objects.</b><p>
@@ -35,9 +37,13 @@ import static GrimmPackage.DateTime.GTimeConstant.*;
  * getDayOfYear(GTime gTime) -> int<p>
  * getWeekOfYear(GTime gTime) -> int<p>
  * getFirstDayOfWeek(GTime gTime) -> int<p>
+ * getFirstDayOfWeek(int year) -> int<p>
  * getLastDayOfWeek(GTime gTime) -> int<p>
+ * getLastDayOfWeek(int year) -> int<p>
  * getDaysOfYear(GTime gTime) -> int<p>
+ * getDaysOfYear(int year) -> int<p>
  * getWeeksOfYear(GTime gTime) -> int<p>
+ * getWeeksOfYear(int year) -> int<p>
  * getMonthName(int month) -> String<p>
  * getDayOfWeekName(int dayOfWeek) -> String<p>
  *
@@ -51,15 +57,7 @@ public class GTimeInfo {
 	 * @return		the String of information.
 	 */
 	public static String getFullInfo(GTime gTime) {
-		String info = "";
-		if (!gTime.ID.isEmpty()) {
-			info += gTime.ID + ", ";
-		}
-		if (!gTime.description.isEmpty()) {
-			info += gTime.description + ", ";
-		}
-		info += getInfo(gTime);
-		return info;
+		return format(getFullInfoFormat(), gTime);
 	}
 
 	/**
@@ -86,7 +84,7 @@ public class GTimeInfo {
 	 * @return		the String of information.
 	 */
 	public static String getInfo(GTime gTime) {
-		return gTime.time.toString();
+		return format(getInfoFormat(), gTime);
 	}
 
 	/**
@@ -162,19 +160,8 @@ public class GTimeInfo {
 	 * @return					the String of date.
 	 */
 	public static String getDate(GTime gTime, int positionYear, int positionMonth, int positionDay, boolean nameForMonth, boolean paddingWithZeros, char separator) {
-		if ((positionYear > 0) && (positionYear < 4) && (positionMonth > 0) && (positionMonth < 4) && (positionDay > 0) && (positionDay < 4) && (positionYear != positionMonth) && (positionYear != positionDay) && (positionMonth != positionDay)) {
-			String[] dateParts = new String[3];
-			dateParts[positionYear - 1] = (paddingWithZeros) ? String.format("%04d", getYear(gTime)) : String.valueOf(getYear(gTime));
-			dateParts[positionMonth - 1] = (nameForMonth) ? getMonthName(getMonth(gTime)) : (paddingWithZeros) ? String.format("%02d", getMonth(gTime)) : String.valueOf(getMonth(gTime));
-			dateParts[positionDay - 1] = (paddingWithZeros) ? String.format("%02d", getDay(gTime)) : String.valueOf(getDay(gTime));
-			if (nameForMonth) {
-				separator = ' ';
-			}
-			return dateParts[0] + separator + dateParts[1] + separator + dateParts[2];
-		}
-		else {
-			return "";
-		}
+		GTimeFormat dateFormat = getDateFormat(positionYear, positionMonth, positionDay, nameForMonth, paddingWithZeros, separator);
+		return (dateFormat == null) ? "" : format(dateFormat, gTime);
 	}
 
 	/**
@@ -235,16 +222,8 @@ public class GTimeInfo {
 	 * @return					the String of time.
 	 */
 	public static String getTime(GTime gTime, int positionHour, int positionMinute, int positionSecond, boolean paddingWithZeros, char separator) {
-		if ((positionHour > 0) && (positionHour < 4) && (positionMinute > 0) && (positionMinute < 4) && (positionSecond > 0) && (positionSecond < 4) && (positionHour != positionMinute) && (positionHour != positionSecond) && (positionMinute != positionSecond)) {
-			String[] dateParts = new String[3];
-			dateParts[positionHour - 1] = (paddingWithZeros) ? String.format("%02d", getHour(gTime)) : String.valueOf(getHour(gTime));
-			dateParts[positionMinute - 1] = (paddingWithZeros) ? String.format("%02d", getMinute(gTime)) : String.valueOf(getMinute(gTime));
-			dateParts[positionSecond - 1] = (paddingWithZeros) ? String.format("%02d", getSecond(gTime)) : String.valueOf(getSecond(gTime));
-			return dateParts[0] + separator + dateParts[1] + separator + dateParts[2];
-		}
-		else {
-			return "";
-		}
+		GTimeFormat timeFormat = getTimeFormat(positionHour, positionMinute, positionSecond, paddingWithZeros, separator);
+		return (timeFormat == null) ? "" : format(timeFormat, gTime);
 	}
 
 	/**
@@ -276,34 +255,49 @@ public class GTimeInfo {
 	}
 
 	/**
-	 * <b>Returns the week-of-year of GTime.</b>
+	 * <b>Returns the week-of-year of GTime.</b><p>
+	 * Uses the week rules of the default locale; for explicit week rules, use GTimeWeekRule.
 	 * @param gTime	the GTime of datetime.
 	 * @return		the int of week-of-year.
 	 */
 	public static int getWeekOfYear(GTime gTime) {
-		LocalDate ld = gTime.time.toLocalDate();
-		WeekFields weekFields = WeekFields.of(Locale.getDefault());
-		return ld.get(weekFields.weekOfWeekBasedYear());
+		return GTimeWeekRule.getWeekOfYear(getWeekRule(Locale.getDefault()), gTime);
 	}
 
 	/**
 	 * <b>Returns the day-of-week for the first day of the year of GTime.</b>
 	 * @param gTime	the GTime of datetime.
-	 * @return		the int of day-of-year.
+	 * @return		the int of day-of-week.
 	 */
 	public static int getFirstDayOfWeek(GTime gTime) {
-		GTime first = new GTime(getYear(gTime), 1, 1, 1, 0, 0, 0, getTimeZoneID(gTime));
-		return getDayOfWeek(first);
+		return getYearFirstDayOfWeek(gTime.time.getYear());
+	}
+
+	/**
+	 * <b>Returns the day-of-week for the first day of a year.</b>
+	 * @param year	the int of year.
+	 * @return		the int of day-of-week.
+	 */
+	public static int getFirstDayOfWeek(int year) {
+		return getYearFirstDayOfWeek(year);
 	}
 
 	/**
 	 * <b>Returns the day-of-week for the last day of the year of GTime.</b>
 	 * @param gTime	the GTime of datetime.
-	 * @return		the int of day-of-year.
+	 * @return		the int of day-of-week.
 	 */
 	public static int getLastDayOfWeek(GTime gTime) {
-		GTime last = new GTime(getYear(gTime), 12, 31, 1, 0, 0, 0, getTimeZoneID(gTime));
-		return getDayOfWeek(last);
+		return getYearLastDayOfWeek(gTime.time.getYear());
+	}
+
+	/**
+	 * <b>Returns the day-of-week for the last day of a year.</b>
+	 * @param year	the int of year.
+	 * @return		the int of day-of-week.
+	 */
+	public static int getLastDayOfWeek(int year) {
+		return getYearLastDayOfWeek(year);
 	}
 
 	/**
@@ -312,18 +306,36 @@ public class GTimeInfo {
 	 * @return		the int of number-of-days-in-year.
 	 */
 	public static int getDaysOfYear(GTime gTime) {
-		GTime lastDay = new GTime(getYear(gTime), 12, 31, 1, 0, 0, 0, getTimeZoneID(gTime));
-		return getDayOfYear(lastDay);
+		return getYearDays(gTime.time.getYear());
 	}
 
 	/**
-	 * <b>Returns the number-of-weeks-in-year of GTime.</b>
+	 * <b>Returns the number-of-days-in-year of a year.</b>
+	 * @param year	the int of year.
+	 * @return		the int of number-of-days-in-year.
+	 */
+	public static int getDaysOfYear(int year) {
+		return getYearDays(year);
+	}
+
+	/**
+	 * <b>Returns the number-of-weeks-in-year of GTime.</b><p>
+	 * Counts the weeks of the week-based year having the same number as the year of GTime, along the week rules of getWeekOfYear.
 	 * @param gTime	the GTime of datetime.
 	 * @return		the int of number-of-weeks-in-year.
 	 */
 	public static int getWeeksOfYear(GTime gTime) {
-		GTime lastDay = new GTime(getYear(gTime), 12, 31, 1, 0, 0, 0, getTimeZoneID(gTime));
-		return getWeekOfYear(lastDay);
+		return getWeeksOfYear(gTime.time.getYear());
+	}
+
+	/**
+	 * <b>Returns the number-of-weeks-in-year of a year.</b><p>
+	 * Counts the weeks of the week-based year, along the week rules of getWeekOfYear.
+	 * @param year	the int of year.
+	 * @return		the int of number-of-weeks-in-year.
+	 */
+	public static int getWeeksOfYear(int year) {
+		return GTimeWeekRule.getWeeksOfYear(getWeekRule(Locale.getDefault()), year);
 	}
 
 	/**
@@ -333,7 +345,7 @@ public class GTimeInfo {
 	 * @return		the String of month.
 	 */
 	public static String getMonthName(int month) {
-		if ((month > -1) && (month < monthNames.length)) {
+		if ((month > 0) && (month < monthNames.length + 1)) {
 			return monthNames[month - 1];
 		}
 		else {
@@ -0,0 +1,251 @@
+package GrimmPackage.DateTime;
+
+import java.util.*;
+
+/**
+ * <b>Provides half-open intervals of time between two GTimes, with merge, intersect and subtract operations.</b><p>
+ * An interval contains the instants from its start (inclusive) to its end (exclusive), and it is never empty: its start is earlier than its end. Instants are compared as nanoseconds from the epoch of 1970-01-01T00:00:00Z, the key of GTimeIndex, therefore intervals are limited to the instants from 1677-09-21 to 2262-04-11.<p>
+ * The start and the end keep their own timezone, ID and description; operations resulting in new intervals take the endpoints from the intervals they come from.<p>
+ * A GTimeInterval is immutable: the GTimes are copied when the interval is created and when they are returned, therefore intervals can be shared between threads.<p>
+ * Intervals can be indexed by GTimeIntervalIndex.<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeInterval.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * getInterval(GTime start, GTime end) -> GTimeInterval<p>
+ * getIntervalStart(GTimeInterval interval) -> GTime<p>
+ * getIntervalEnd(GTimeInterval interval) -> GTime<p>
+ * getStartEpochNanoseconds(GTimeInterval interval) -> long<p>
+ * getEndEpochNanoseconds(GTimeInterval interval) -> long<p>
+ * getIntervalNanoseconds(GTimeInterval interval) -> long<p>
+ * isContaining(GTimeInterval interval, GTime gTime) -> boolean<p>
+ * isContaining(GTimeInterval interval, GTimeInterval other) -> boolean<p>
+ * isOverlapping(GTimeInterval interval1, GTimeInterval interval2) -> boolean<p>
+ * intersect(GTimeInterval interval1, GTimeInterval interval2) -> GTimeInterval<p>
+ * merge(GTimeInterval interval1, GTimeInterval interval2) -> GTimeInterval<p>
+ * mergeAll(Iterable&lt;GTimeInterval&gt; intervals) -> GTimeInterval[]<p>
+ * subtract(GTimeInterval interval, GTimeInterval other) -> GTimeInterval[]<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeInterval {
+	private static final GTimeInterval[] NO_INTERVALS = new GTimeInterval[0];
+
+	protected final GTime start;
+	protected final GTime end;
+	protected final long startKey;
+	protected final long endKey;
+
+	/**
+	 * <b>Constructs GTimeInterval of private GTimes.</b>
+	 * @param start		the GTime of start, not shared.
+	 * @param end		the GTime of end, not shared.
+	 * @param startKey	the long of start in epoch nanoseconds.
+	 * @param endKey	the long of end in epoch nanoseconds.
+	 */
+	private GTimeInterval(GTime start, GTime end, long startKey, long endKey) {
+		this.start = start;
+		this.end = end;
+		this.startKey = startKey;
+		this.endKey = endKey;
+	}
+
+	/**
+	 * <b>Returns the interval from a GTime (inclusive) to another GTime (exclusive).</b><p>
+	 * In case a GTime is null, the end is not later than the start, or a GTime is outside the range of epoch nanoseconds, returns null.
+	 * @param start	the GTime of start.
+	 * @param end	the GTime of end.
+	 * @return		the GTimeInterval of instants.
+	 */
+	public static GTimeInterval getInterval(GTime start, GTime end) {
+		if ((start == null) || (end == null)) {
+			return null;
+		}
+		long startKey = GTimeIndex.getEpochNanoseconds(start);
+		long endKey = GTimeIndex.getEpochNanoseconds(end);
+		if ((startKey == Long.MIN_VALUE) || (endKey == Long.MAX_VALUE) || (startKey >= endKey)) {
+			return null;
+		}
+		return new GTimeInterval(copy(start), copy(end), startKey, endKey);
+	}
+
+	/**
+	 * <b>Returns a copy of the start of GTimeInterval.</b>
+	 * @param interval	the GTimeInterval of instants.
+	 * @return			the GTime of start.
+	 */
+	public static GTime getIntervalStart(GTimeInterval interval) {
+		return copy(interval.start);
+	}
+
+	/**
+	 * <b>Returns a copy of the end of GTimeInterval.</b>
+	 * @param interval	the GTimeInterval of instants.
+	 * @return			the GTime of end.
+	 */
+	public static GTime getIntervalEnd(GTimeInterval interval) {
+		return copy(interval.end);
+	}
+
+	/**
+	 * <b>Returns the start of GTimeInterval in nanoseconds from the epoch of 1970-01-01T00:00:00Z.</b>
+	 * @param interval	the GTimeInterval of instants.
+	 * @return			the long of epoch nanoseconds.
+	 */
+	public static long getStartEpochNanoseconds(GTimeInterval interval) {
+		return interval.startKey;
+	}
+
+	/**
+	 * <b>Returns the end of GTimeInterval in nanoseconds from the epoch of 1970-01-01T00:00:00Z.</b>
+	 * @param interval	the GTimeInterval of instants.
+	 * @return			the long of epoch nanoseconds.
+	 */
+	public static long getEndEpochNanoseconds(GTimeInterval interval) {
+		return interval.endKey;
+	}
+
+	/**
+	 * <b>Returns the length of GTimeInterval in nanoseconds.</b><p>
+	 * In case the length exceeds the range of long, returns Long.MAX_VALUE.
+	 * @param interval	the GTimeInterval of instants.
+	 * @return			the long of nanoseconds.
+	 */
+	public static long getIntervalNanoseconds(GTimeInterval interval) {
+		long length = interval.endKey - interval.startKey;
+		return (length < 0) ? Long.MAX_VALUE : length;
+	}
+
+	/**
+	 * <b>Checks whether GTimeInterval contains the instant of GTime.</b>
+	 * @param interval	the GTimeInterval of instants.
+	 * @param gTime		the GTime of instant.
+	 * @return			the boolean value marks whether the instant is in the interval.
+	 */
+	public static boolean isContaining(GTimeInterval interval, GTime gTime) {
+		long key = GTimeIndex.getEpochNanoseconds(gTime);
+		return (key >= interval.startKey) && (key < interval.endKey);
+	}
+
+	/**
+	 * <b>Checks whether GTimeInterval contains all instants of another interval.</b>
+	 * @param interval	the GTimeInterval of instants.
+	 * @param other		the GTimeInterval of contained instants.
+	 * @return			the boolean value marks whether the other interval is in the interval.
+	 */
+	public static boolean isContaining(GTimeInterval interval, GTimeInterval other) {
+		return (other.startKey >= interval.startKey) && (other.endKey <= interval.endKey);
+	}
+
+	/**
+	 * <b>Checks whether two intervals have common instants.</b><p>
+	 * Intervals where one ends at the start of the other do not overlap.
+	 * @param interval1	the GTimeInterval of first instants.
+	 * @param interval2	the GTimeInterval of second instants.
+	 * @return			the boolean value marks whether the intervals overlap.
+	 */
+	public static boolean isOverlapping(GTimeInterval interval1, GTimeInterval interval2) {
+		return (interval1.startKey < interval2.endKey) && (interval2.startKey < interval1.endKey);
+	}
+
+	/**
+	 * <b>Returns the common instants of two intervals.</b><p>
+	 * In case the intervals do not overlap, returns null.
+	 * @param interval1	the GTimeInterval of first instants.
+	 * @param interval2	the GTimeInterval of second instants.
+	 * @return			the GTimeInterval of common instants.
+	 */
+	public static GTimeInterval intersect(GTimeInterval interval1, GTimeInterval interval2) {
+		if (!isOverlapping(interval1, interval2)) {
+			return null;
+		}
+		GTimeInterval first = (interval1.startKey >= interval2.startKey) ? interval1 : interval2;
+		GTimeInterval last = (interval1.endKey <= interval2.endKey) ? interval1 : interval2;
+		return new GTimeInterval(first.start, last.end, first.startKey, last.endKey);
+	}
+
+	/**
+	 * <b>Returns the union of two intervals.</b><p>
+	 * In case there is a gap between the intervals, returns null; intervals where one ends at the start of the other are merged.
+	 * @param interval1	the GTimeInterval of first instants.
+	 * @param interval2	the GTimeInterval of second instants.
+	 * @return			the GTimeInterval of all instants.
+	 */
+	public static GTimeInterval merge(GTimeInterval interval1, GTimeInterval interval2) {
+		if ((interval1.startKey > interval2.endKey) || (interval2.startKey > interval1.endKey)) {
+			return null;
+		}
+		GTimeInterval first = (interval1.startKey <= interval2.startKey) ? interval1 : interval2;
+		GTimeInterval last = (interval1.endKey >= interval2.endKey) ? interval1 : interval2;
+		return new GTimeInterval(first.start, last.end, first.startKey, last.endKey);
+	}
+
+	/**
+	 * <b>Returns the union of intervals as the fewest intervals, in order.</b><p>
+	 * Overlapping intervals and intervals where one ends at the start of the other are merged. Null elements are skipped.
+	 * @param intervals	the Iterable of GTimeIntervals.
+	 * @return			the GTimeInterval[] of disjoint intervals.
+	 */
+	public static GTimeInterval[] mergeAll(Iterable<GTimeInterval> intervals) {
+		List<GTimeInterval> sorted = new ArrayList<>();
+		for (GTimeInterval interval : intervals) {
+			if (interval != null) {
+				sorted.add(interval);
+			}
+		}
+		if (sorted.isEmpty()) {
+			return NO_INTERVALS;
+		}
+		sorted.sort((interval1, interval2) -> Long.compare(interval1.startKey, interval2.startKey));
+		List<GTimeInterval> merged = new ArrayList<>();
+		GTimeInterval current = sorted.get(0);
+		for (int i = 1; i < sorted.size(); i++) {
+			GTimeInterval next = sorted.get(i);
+			if (next.startKey <= current.endKey) {
+				if (next.endKey > current.endKey) {
+					current = new GTimeInterval(current.start, next.end, current.startKey, next.endKey);
+				}
+			}
+			else {
+				merged.add(current);
+				current = next;
+			}
+		}
+		merged.add(current);
+		return merged.toArray(NO_INTERVALS);
+	}
+
+	/**
+	 * <b>Returns the instants of GTimeInterval which are not in another interval, as 0, 1 or 2 intervals in order.</b>
+	 * @param interval	the GTimeInterval of instants.
+	 * @param other		the GTimeInterval of instants to remove.
+	 * @return			the GTimeInterval[] of remaining intervals.
+	 */
+	public static GTimeInterval[] subtract(GTimeInterval interval, GTimeInterval other) {
+		if (!isOverlapping(interval, other)) {
+			return new GTimeInterval[]{interval};
+		}
+		boolean before = interval.startKey < other.startKey;
+		boolean after = interval.endKey > other.endKey;
+		if (before && after) {
+			return new GTimeInterval[]{new GTimeInterval(interval.start, other.start, interval.startKey, other.startKey), new GTimeInterval(other.end, interval.end, other.endKey, interval.endKey)};
+		}
+		if (before) {
+			return new GTimeInterval[]{new GTimeInterval(interval.start, other.start, interval.startKey, other.startKey)};
+		}
+		if (after) {
+			return new GTimeInterval[]{new GTimeInterval(other.end, interval.end, other.endKey, interval.endKey)};
+		}
+		return NO_INTERVALS;
+	}
+
+	/**
+	 * <b>Returns a copy of GTime with its datetime, timezone, ID and description.</b>
+	 * @param gTime	the GTime of datetime.
+	 * @return		the GTime of copy.
+	 */
+	private static GTime copy(GTime gTime) {
+		return new GTime(gTime.time, gTime.ID, gTime.description);
+	}
+}
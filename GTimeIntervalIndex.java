@@ -0,0 +1,380 @@
+package GrimmPackage.DateTime;
+
+import java.util.*;
+
+/**
+ * <b>Provides an index of GTimeIntervals answering which intervals overlap an interval or contain an instant.</b><p>
+ * Intervals are kept in a few sorted runs of geometrically decreasing sizes. Every run is an augmented search tree laid out in a sorted array: the node in the middle of each range also stores the latest end within the range, so that ranges ending before the query are skipped as a whole.<p>
+ * A query takes O(log n) per run, and there are O(log n) runs, plus the work of reporting the result; results are ordered by start, equal starts in the order of adding.<p>
+ * New intervals are collected in a small buffer; a full buffer becomes a run, and runs of similar sizes are merged, so adding takes O(log n) amortized time. Adding several intervals at once sorts them and merges them in one pass.<p>
+ * An index is not thread-safe. A snapshot is an immutable view of the index at the time of taking it and costs no copying of intervals; it can be queried by any number of threads when published safely (e.g. through a volatile field or a concurrent collection).<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeIntervalIndex.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * GTimeIntervalIndex()<p>
+ * GTimeIntervalIndex(Iterable&lt;GTimeInterval&gt; intervals)<p>
+ * getIndexSize(GTimeIntervalIndex index) -> int<p>
+ * isSnapshot(GTimeIntervalIndex index) -> boolean<p>
+ * getSnapshot(GTimeIntervalIndex index) -> GTimeIntervalIndex<p>
+ * addInterval(GTimeIntervalIndex index, GTimeInterval interval) -> boolean<p>
+ * addIntervals(GTimeIntervalIndex index, Iterable&lt;GTimeInterval&gt; intervals) -> int<p>
+ * getOverlapping(GTimeIntervalIndex index, GTimeInterval interval) -> GTimeInterval[]<p>
+ * getOverlapping(GTimeIntervalIndex index, long fromEpochNanoseconds, long toEpochNanoseconds) -> GTimeInterval[]<p>
+ * hasOverlapping(GTimeIntervalIndex index, GTimeInterval interval) -> boolean<p>
+ * getContaining(GTimeIntervalIndex index, GTime gTime) -> GTimeInterval[]<p>
+ * getContaining(GTimeIntervalIndex index, long epochNanoseconds) -> GTimeInterval[]<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeIntervalIndex {
+	private static final int BUFFER_SIZE = 64;
+	private static final GTimeInterval[] NO_INTERVALS = new GTimeInterval[0];
+
+	protected final boolean snapshot;
+	protected final List<Run> runs;
+	protected GTimeInterval[] buffer;
+	protected int bufferSize;
+
+	/**
+	 * <b>Holds intervals sorted by start, with the latest end of every range of the implicit search tree.</b>
+	 */
+	private static final class Run {
+		private final GTimeInterval[] intervals;
+		private final long[] starts;
+		private final long[] ends;
+		private final long[] maxEnds;
+
+		private Run(GTimeInterval[] intervals) {
+			this.intervals = intervals;
+			int size = intervals.length;
+			starts = new long[size];
+			ends = new long[size];
+			maxEnds = new long[size];
+			for (int i = 0; i < size; i++) {
+				starts[i] = intervals[i].startKey;
+				ends[i] = intervals[i].endKey;
+			}
+			fillMaxEnds(0, size);
+		}
+
+		/**
+		 * <b>Stores the latest end of a range at its middle position, and returns it.</b>
+		 * @param from	the int of first position (inclusive).
+		 * @param to	the int of last position (exclusive).
+		 * @return		the long of latest end, or Long.MIN_VALUE for an empty range.
+		 */
+		private long fillMaxEnds(int from, int to) {
+			if (from >= to) {
+				return Long.MIN_VALUE;
+			}
+			int middle = (from + to) >>> 1;
+			long maxEnd = Math.max(ends[middle], Math.max(fillMaxEnds(from, middle), fillMaxEnds(middle + 1, to)));
+			maxEnds[middle] = maxEnd;
+			return maxEnd;
+		}
+	}
+
+	/**
+	 * <b>Constructs an empty GTimeIntervalIndex.</b>
+	 */
+	public GTimeIntervalIndex() {
+		snapshot = false;
+		runs = new ArrayList<>();
+		buffer = new GTimeInterval[BUFFER_SIZE];
+		bufferSize = 0;
+	}
+
+	/**
+	 * <b>Constructs a GTimeIntervalIndex containing the given intervals.</b><p>
+	 * Null intervals are skipped.
+	 * @param intervals	the Iterable of GTimeIntervals.
+	 */
+	public GTimeIntervalIndex(Iterable<GTimeInterval> intervals) {
+		this();
+		addIntervals(this, intervals);
+	}
+
+	/**
+	 * <b>Constructs a snapshot sharing the runs of an index.</b>
+	 * @param runs	the List of runs.
+	 */
+	private GTimeIntervalIndex(List<Run> runs) {
+		this.snapshot = true;
+		this.runs = runs;
+		this.buffer = NO_INTERVALS;
+		this.bufferSize = 0;
+	}
+
+	/**
+	 * <b>Returns the number of intervals of GTimeIntervalIndex.</b>
+	 * @param index	the GTimeIntervalIndex of intervals.
+	 * @return		the int of intervals.
+	 */
+	public static int getIndexSize(GTimeIntervalIndex index) {
+		int size = index.bufferSize;
+		for (Run run : index.runs) {
+			size += run.intervals.length;
+		}
+		return size;
+	}
+
+	/**
+	 * <b>Checks whether GTimeIntervalIndex is a snapshot, therefore cannot be added to.</b>
+	 * @param index	the GTimeIntervalIndex of intervals.
+	 * @return		the boolean value marks whether the index is a snapshot.
+	 */
+	public static boolean isSnapshot(GTimeIntervalIndex index) {
+		return index.snapshot;
+	}
+
+	/**
+	 * <b>Returns an immutable snapshot of GTimeIntervalIndex.</b><p>
+	 * The snapshot shares the runs of the index; intervals added to the index later do not appear in the snapshot.<p>
+	 * A snapshot of a snapshot is the snapshot itself.
+	 * @param index	the GTimeIntervalIndex of intervals.
+	 * @return		the GTimeIntervalIndex of snapshot.
+	 */
+	public static GTimeIntervalIndex getSnapshot(GTimeIntervalIndex index) {
+		if (index.snapshot) {
+			return index;
+		}
+		flushBuffer(index);
+		return new GTimeIntervalIndex(List.copyOf(index.runs));
+	}
+
+	/**
+	 * <b>Adds an interval to GTimeIntervalIndex.</b><p>
+	 * In case the interval is null or the index is a snapshot, nothing is added and returns false.
+	 * @param index		the GTimeIntervalIndex of intervals.
+	 * @param interval	the GTimeInterval of instants.
+	 * @return			the boolean value marks whether the interval was added.
+	 */
+	public static boolean addInterval(GTimeIntervalIndex index, GTimeInterval interval) {
+		if ((interval == null) || index.snapshot) {
+			return false;
+		}
+		index.buffer[index.bufferSize++] = interval;
+		if (index.bufferSize == BUFFER_SIZE) {
+			flushBuffer(index);
+		}
+		return true;
+	}
+
+	/**
+	 * <b>Adds intervals to GTimeIntervalIndex in one pass.</b><p>
+	 * Null intervals are skipped. In case the index is a snapshot, nothing is added and returns 0.
+	 * @param index		the GTimeIntervalIndex of intervals.
+	 * @param intervals	the Iterable of GTimeIntervals.
+	 * @return			the int of intervals added.
+	 */
+	public static int addIntervals(GTimeIntervalIndex index, Iterable<GTimeInterval> intervals) {
+		if (index.snapshot) {
+			return 0;
+		}
+		List<GTimeInterval> added = new ArrayList<>();
+		for (GTimeInterval interval : intervals) {
+			if (interval != null) {
+				added.add(interval);
+			}
+		}
+		if (added.isEmpty()) {
+			return 0;
+		}
+		flushBuffer(index);
+		GTimeInterval[] sorted = added.toArray(NO_INTERVALS);
+		Arrays.sort(sorted, (interval1, interval2) -> Long.compare(interval1.startKey, interval2.startKey));
+		addRun(index, sorted);
+		return sorted.length;
+	}
+
+	/**
+	 * <b>Returns the intervals of GTimeIntervalIndex which overlap an interval, ordered by start.</b><p>
+	 * Intervals where one ends at the start of the other do not overlap.
+	 * @param index		the GTimeIntervalIndex of intervals.
+	 * @param interval	the GTimeInterval of instants.
+	 * @return			the GTimeInterval[] of overlapping intervals.
+	 */
+	public static GTimeInterval[] getOverlapping(GTimeIntervalIndex index, GTimeInterval interval) {
+		return getOverlapping(index, interval.startKey, interval.endKey);
+	}
+
+	/**
+	 * <b>Returns the intervals of GTimeIntervalIndex which overlap the instants from the first instant (inclusive) to the second instant (exclusive), ordered by start.</b><p>
+	 * An instant is given by its nanoseconds from the epoch of 1970-01-01T00:00:00Z.<p>
+	 * In case the second is not later than the first, returns an empty array.
+	 * @param index					the GTimeIntervalIndex of intervals.
+	 * @param fromEpochNanoseconds	the long of first instant.
+	 * @param toEpochNanoseconds	the long of second instant.
+	 * @return						the GTimeInterval[] of overlapping intervals.
+	 */
+	public static GTimeInterval[] getOverlapping(GTimeIntervalIndex index, long fromEpochNanoseconds, long toEpochNanoseconds) {
+		if (fromEpochNanoseconds >= toEpochNanoseconds) {
+			return NO_INTERVALS;
+		}
+		List<GTimeInterval> result = new ArrayList<>();
+		for (Run run : index.runs) {
+			collect(run, 0, run.intervals.length, fromEpochNanoseconds, toEpochNanoseconds, result);
+		}
+		for (int i = 0; i < index.bufferSize; i++) {
+			GTimeInterval interval = index.buffer[i];
+			if ((interval.startKey < toEpochNanoseconds) && (interval.endKey > fromEpochNanoseconds)) {
+				result.add(interval);
+			}
+		}
+		if ((index.runs.size() > 1) || (index.bufferSize > 0)) {
+			result.sort((interval1, interval2) -> Long.compare(interval1.startKey, interval2.startKey));
+		}
+		return result.toArray(NO_INTERVALS);
+	}
+
+	/**
+	 * <b>Checks whether any interval of GTimeIntervalIndex overlaps an interval.</b><p>
+	 * Intervals where one ends at the start of the other do not overlap.
+	 * @param index		the GTimeIntervalIndex of intervals.
+	 * @param interval	the GTimeInterval of instants.
+	 * @return			the boolean value marks whether there is an overlapping interval.
+	 */
+	public static boolean hasOverlapping(GTimeIntervalIndex index, GTimeInterval interval) {
+		long from = interval.startKey, to = interval.endKey;
+		for (Run run : index.runs) {
+			if (contains(run, 0, run.intervals.length, from, to)) {
+				return true;
+			}
+		}
+		for (int i = 0; i < index.bufferSize; i++) {
+			if ((index.buffer[i].startKey < to) && (index.buffer[i].endKey > from)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * <b>Returns the intervals of GTimeIntervalIndex which contain the instant of GTime, ordered by start.</b><p>
+	 * In case the instant is outside the range of epoch nanoseconds, returns an empty array.
+	 * @param index	the GTimeIntervalIndex of intervals.
+	 * @param gTime	the GTime of instant.
+	 * @return		the GTimeInterval[] of containing intervals.
+	 */
+	public static GTimeInterval[] getContaining(GTimeIntervalIndex index, GTime gTime) {
+		long key = GTimeIndex.getEpochNanoseconds(gTime);
+		return ((key == Long.MIN_VALUE) || (key == Long.MAX_VALUE)) ? NO_INTERVALS : getOverlapping(index, key, key + 1);
+	}
+
+	/**
+	 * <b>Returns the intervals of GTimeIntervalIndex which contain an instant, ordered by start.</b><p>
+	 * An instant is given by its nanoseconds from the epoch of 1970-01-01T00:00:00Z.
+	 * @param index				the GTimeIntervalIndex of intervals.
+	 * @param epochNanoseconds	the long of instant.
+	 * @return					the GTimeInterval[] of containing intervals.
+	 */
+	public static GTimeInterval[] getContaining(GTimeIntervalIndex index, long epochNanoseconds) {
+		return (epochNanoseconds == Long.MAX_VALUE) ? NO_INTERVALS : getOverlapping(index, epochNanoseconds, epochNanoseconds + 1);
+	}
+
+	/**
+	 * <b>Collects the intervals of a range of a run which overlap the given instants, in order.</b>
+	 * @param run		the Run of intervals.
+	 * @param from		the int of first position (inclusive).
+	 * @param to		the int of last position (exclusive).
+	 * @param low		the long of first instant (inclusive).
+	 * @param high		the long of last instant (exclusive).
+	 * @param result	the List of overlapping intervals.
+	 */
+	private static void collect(Run run, int from, int to, long low, long high, List<GTimeInterval> result) {
+		while (from < to) {
+			int middle = (from + to) >>> 1;
+			if (run.maxEnds[middle] <= low) {
+				return;
+			}
+			collect(run, from, middle, low, high, result);
+			if (run.starts[middle] >= high) {
+				return;
+			}
+			if (run.ends[middle] > low) {
+				result.add(run.intervals[middle]);
+			}
+			from = middle + 1;
+		}
+	}
+
+	/**
+	 * <b>Checks whether any interval of a range of a run overlaps the given instants.</b>
+	 * @param run	the Run of intervals.
+	 * @param from	the int of first position (inclusive).
+	 * @param to	the int of last position (exclusive).
+	 * @param low	the long of first instant (inclusive).
+	 * @param high	the long of last instant (exclusive).
+	 * @return		the boolean value marks whether there is an overlapping interval.
+	 */
+	private static boolean contains(Run run, int from, int to, long low, long high) {
+		while (from < to) {
+			int middle = (from + to) >>> 1;
+			if (run.maxEnds[middle] <= low) {
+				return false;
+			}
+			if (run.starts[middle] >= high) {
+				to = middle;
+			}
+			else if (run.ends[middle] > low) {
+				return true;
+			}
+			else if (contains(run, from, middle, low, high)) {
+				return true;
+			}
+			else {
+				from = middle + 1;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * <b>Turns the buffer into a run.</b>
+	 * @param index	the GTimeIntervalIndex of intervals.
+	 */
+	private static void flushBuffer(GTimeIntervalIndex index) {
+		if (index.bufferSize == 0) {
+			return;
+		}
+		GTimeInterval[] sorted = Arrays.copyOf(index.buffer, index.bufferSize);
+		Arrays.sort(sorted, (interval1, interval2) -> Long.compare(interval1.startKey, interval2.startKey));
+		Arrays.fill(index.buffer, 0, index.bufferSize, null);
+		index.bufferSize = 0;
+		addRun(index, sorted);
+	}
+
+	/**
+	 * <b>Adds sorted intervals as the newest run, then merges the newest runs while the newer one is at least half as large as the older one.</b>
+	 * @param index		the GTimeIntervalIndex of intervals.
+	 * @param sorted	the GTimeInterval[] of intervals sorted by start.
+	 */
+	private static void addRun(GTimeIntervalIndex index, GTimeInterval[] sorted) {
+		GTimeInterval[] merged = sorted;
+		int last = index.runs.size() - 1;
+		while ((last >= 0) && (index.runs.get(last).intervals.length <= 2 * merged.length)) {
+			merged = merge(index.runs.remove(last).intervals, merged);
+			last--;
+		}
+		index.runs.add(new Run(merged));
+	}
+
+	/**
+	 * <b>Merges two runs of intervals sorted by start; of equal starts, the intervals of the older run come first.</b>
+	 * @param older	the GTimeInterval[] of older intervals.
+	 * @param newer	the GTimeInterval[] of newer intervals.
+	 * @return		the GTimeInterval[] of merged intervals.
+	 */
+	private static GTimeInterval[] merge(GTimeInterval[] older, GTimeInterval[] newer) {
+		GTimeInterval[] merged = new GTimeInterval[older.length + newer.length];
+		int i = 0, j = 0, k = 0;
+		while ((i < older.length) && (j < newer.length)) {
+			merged[k++] = (older[i].startKey <= newer[j].startKey) ? older[i++] : newer[j++];
+		}
+		System.arraycopy(older, i, merged, k, older.length - i);
+		System.arraycopy(newer, j, merged, k + older.length - i, newer.length - j);
+		return merged;
+	}
+}
@@ -0,0 +1,384 @@
+package GrimmPackage.DateTime;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * <b>Provides optional instrumentation of GTime operations: counters, latency histograms, fallback and time zone resolution counts, a listener SPI and JFR events.</b><p>
+ * Measured operations are the methods of GTimeCalculate and the failing-capable setters of GTimeEdit; fallbacks are the cases where a GTime constructor replaced an unknown time zone by the local one ("timezone") or a wrong date or time by the current datetime ("datetime"); time zone resolutions are the lookups of GTimeZoneCache, valid or invalid.<p>
+ * The metrics are disabled by default, and then cost one read of a volatile flag per operation. They can be enabled by setMetricsEnabled(), or at startup by the system property GrimmPackage.DateTime.metrics=true.<p>
+ * While enabled, every measurement is counted here, passed to the listener (if any), and committed as a JFR event when a flight recording is running. The JFR events are GrimmPackage.DateTime.Fallback and GrimmPackage.DateTime.InvalidZone, enabled with stack traces so that the callers feeding wrong input can be found, and GrimmPackage.DateTime.Operation, disabled by default because of its rate.<p>
+ * Latency histograms have 64 buckets: bucket i counts the operations which took from 2^i to 2^(i+1)-1 nanoseconds (bucket 0 also counts 0).<p>
+ * All methods are static and thread-safe.<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeMetrics.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * isMetricsEnabled() -> boolean<p>
+ * setMetricsEnabled(boolean enabled)<p>
+ * getMetricsListener() -> GTimeMetricsListener<p>
+ * setMetricsListener(GTimeMetricsListener listener)<p>
+ * getOperationNames() -> String[]<p>
+ * getOperationCount(String operation) -> long<p>
+ * getOperationFailures(String operation) -> long<p>
+ * getOperationNanoseconds(String operation) -> long<p>
+ * getOperationLatencies(String operation) -> long[]<p>
+ * getFallbackCount(String kind) -> long<p>
+ * getZoneResolutionCount(boolean valid) -> long<p>
+ * resetMetrics()<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeMetrics {
+	protected static final String[] operationNames = new String[]{"increaseYear", "increaseMonth", "increaseWeek", "increaseDay", "increaseHour", "increaseMinute", "increaseSecond", "increaseNanosecond", "changeTimezone", "increaseAll", "changeTimezoneAll",
+			"setCurrentTime", "setDateTime", "setYear", "setMonth", "setDay", "setHour", "setMinute", "setSecond", "setNanosecond", "setDayOfYear"};
+	protected static final String[] fallbackNames = new String[]{"timezone", "datetime"};
+	static final int INCREASE_YEAR = 0, INCREASE_MONTH = 1, INCREASE_WEEK = 2, INCREASE_DAY = 3, INCREASE_HOUR = 4, INCREASE_MINUTE = 5, INCREASE_SECOND = 6, INCREASE_NANOSECOND = 7, CHANGE_TIMEZONE = 8, INCREASE_ALL = 9, CHANGE_TIMEZONE_ALL = 10;
+	static final int SET_CURRENT_TIME = 11, SET_DATE_TIME = 12, SET_YEAR = 13, SET_MONTH = 14, SET_DAY = 15, SET_HOUR = 16, SET_MINUTE = 17, SET_SECOND = 18, SET_NANOSECOND = 19, SET_DAY_OF_YEAR = 20;
+	static final int TIMEZONE_FALLBACK = 0, DATETIME_FALLBACK = 1;
+	private static final int LATENCY_BUCKETS = 64;
+	private static final boolean jfrAvailable = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+	static volatile boolean metricsEnabled = Boolean.getBoolean("GrimmPackage.DateTime.metrics");
+	private static volatile GTimeMetricsListener listener = null;
+	private static final LongAdder[] operationCounts = newAdders(operationNames.length);
+	private static final LongAdder[] operationFailures = newAdders(operationNames.length);
+	private static final LongAdder[] operationNanoseconds = newAdders(operationNames.length);
+	private static final LongAdder[][] operationLatencies = new LongAdder[operationNames.length][];
+	private static final LongAdder[] fallbackCounts = newAdders(fallbackNames.length);
+	private static final LongAdder validZones = new LongAdder();
+	private static final LongAdder invalidZones = new LongAdder();
+
+	static {
+		for (int i = 0; i < operationNames.length; i++) {
+			operationLatencies[i] = newAdders(LATENCY_BUCKETS);
+		}
+	}
+
+	/**
+	 * <b>Defines and commits the JFR events; loaded only when the jdk.jfr module is present.</b>
+	 */
+	private static final class Events {
+
+		@jdk.jfr.Name("GrimmPackage.DateTime.Operation")
+		@jdk.jfr.Label("GTime Operation")
+		@jdk.jfr.Category("GTime")
+		@jdk.jfr.Description("A measured GTimeCalculate or GTimeEdit operation")
+		@jdk.jfr.Enabled(false)
+		@jdk.jfr.StackTrace(false)
+		private static final class OperationEvent extends jdk.jfr.Event {
+			@jdk.jfr.Label("Operation")
+			private String operation;
+			@jdk.jfr.Label("Latency")
+			@jdk.jfr.Timespan(jdk.jfr.Timespan.NANOSECONDS)
+			private long latency;
+			@jdk.jfr.Label("Success")
+			private boolean success;
+		}
+
+		@jdk.jfr.Name("GrimmPackage.DateTime.Fallback")
+		@jdk.jfr.Label("GTime Fallback")
+		@jdk.jfr.Category("GTime")
+		@jdk.jfr.Description("A GTime constructor replaced wrong input by a default")
+		private static final class FallbackEvent extends jdk.jfr.Event {
+			@jdk.jfr.Label("Kind")
+			private String kind;
+			@jdk.jfr.Label("Time Zone")
+			private String timezone;
+		}
+
+		@jdk.jfr.Name("GrimmPackage.DateTime.InvalidZone")
+		@jdk.jfr.Label("GTime Invalid Time Zone")
+		@jdk.jfr.Category("GTime")
+		@jdk.jfr.Description("An unknown time zone ID was resolved")
+		private static final class InvalidZoneEvent extends jdk.jfr.Event {
+			@jdk.jfr.Label("Time Zone")
+			private String timezone;
+			@jdk.jfr.Label("Cached")
+			private boolean cached;
+		}
+
+		private static void commitOperation(int operation, long nanoseconds, boolean success) {
+			OperationEvent event = new OperationEvent();
+			if (event.isEnabled()) {
+				event.operation = operationNames[operation];
+				event.latency = nanoseconds;
+				event.success = success;
+				event.commit();
+			}
+		}
+
+		private static void commitFallback(int kind, String timezone) {
+			FallbackEvent event = new FallbackEvent();
+			if (event.isEnabled()) {
+				event.kind = fallbackNames[kind];
+				event.timezone = timezone;
+				event.commit();
+			}
+		}
+
+		private static void commitInvalidZone(String timezone, boolean cached) {
+			InvalidZoneEvent event = new InvalidZoneEvent();
+			if (event.isEnabled()) {
+				event.timezone = timezone;
+				event.cached = cached;
+				event.commit();
+			}
+		}
+	}
+
+	/**
+	 * <b>Checks whether the metrics are enabled.</b>
+	 * @return	the boolean value marks whether the metrics are enabled.
+	 */
+	public static boolean isMetricsEnabled() {
+		return metricsEnabled;
+	}
+
+	/**
+	 * <b>Enables or disables the metrics.</b><p>
+	 * Disabling keeps the counted values.
+	 * @param enabled	the boolean value marks whether the metrics are enabled.
+	 */
+	public static void setMetricsEnabled(boolean enabled) {
+		metricsEnabled = enabled;
+	}
+
+	/**
+	 * <b>Returns the listener of the metrics.</b><p>
+	 * In case there is no listener, returns null.
+	 * @return	the GTimeMetricsListener of measurements.
+	 */
+	public static GTimeMetricsListener getMetricsListener() {
+		return listener;
+	}
+
+	/**
+	 * <b>Sets the listener of the metrics.</b><p>
+	 * Giving null removes the listener.
+	 * @param newListener	the GTimeMetricsListener of measurements.
+	 */
+	public static void setMetricsListener(GTimeMetricsListener newListener) {
+		listener = newListener;
+	}
+
+	/**
+	 * <b>Returns the names of measured operations.</b>
+	 * @return	the String[] of operation names.
+	 */
+	public static String[] getOperationNames() {
+		return operationNames.clone();
+	}
+
+	/**
+	 * <b>Returns the number of times an operation was measured.</b><p>
+	 * In case wrong operation name is given, returns -1.
+	 * @param operation	the String of operation name.
+	 * @return			the long of operations.
+	 */
+	public static long getOperationCount(String operation) {
+		int index = getIndex(operationNames, operation);
+		return (index < 0) ? -1 : operationCounts[index].sum();
+	}
+
+	/**
+	 * <b>Returns the number of times a measured operation failed.</b><p>
+	 * In case wrong operation name is given, returns -1.
+	 * @param operation	the String of operation name.
+	 * @return			the long of failed operations.
+	 */
+	public static long getOperationFailures(String operation) {
+		int index = getIndex(operationNames, operation);
+		return (index < 0) ? -1 : operationFailures[index].sum();
+	}
+
+	/**
+	 * <b>Returns the total nanoseconds spent in a measured operation.</b><p>
+	 * In case wrong operation name is given, returns -1.
+	 * @param operation	the String of operation name.
+	 * @return			the long of nanoseconds.
+	 */
+	public static long getOperationNanoseconds(String operation) {
+		int index = getIndex(operationNames, operation);
+		return (index < 0) ? -1 : operationNanoseconds[index].sum();
+	}
+
+	/**
+	 * <b>Returns the latency histogram of a measured operation.</b><p>
+	 * Element i counts the operations which took from 2^i to 2^(i+1)-1 nanoseconds.<p>
+	 * In case wrong operation name is given, returns null.
+	 * @param operation	the String of operation name.
+	 * @return			the long[] of 64 buckets.
+	 */
+	public static long[] getOperationLatencies(String operation) {
+		int index = getIndex(operationNames, operation);
+		if (index < 0) {
+			return null;
+		}
+		long[] latencies = new long[LATENCY_BUCKETS];
+		for (int i = 0; i < LATENCY_BUCKETS; i++) {
+			latencies[i] = operationLatencies[index][i].sum();
+		}
+		return latencies;
+	}
+
+	/**
+	 * <b>Returns the number of fallbacks of GTime constructors of a kind.</b><p>
+	 * In case wrong kind is given, returns -1.
+	 * @param kind	the String of fallback kind (timezone, datetime).
+	 * @return		the long of fallbacks.
+	 */
+	public static long getFallbackCount(String kind) {
+		int index = getIndex(fallbackNames, kind);
+		return (index < 0) ? -1 : fallbackCounts[index].sum();
+	}
+
+	/**
+	 * <b>Returns the number of time zone resolutions of valid or invalid time zone IDs.</b>
+	 * @param valid	the boolean value marks whether the valid or the invalid resolutions are counted.
+	 * @return		the long of resolutions.
+	 */
+	public static long getZoneResolutionCount(boolean valid) {
+		return valid ? validZones.sum() : invalidZones.sum();
+	}
+
+	/**
+	 * <b>Sets all counted values to zero.</b>
+	 */
+	public static void resetMetrics() {
+		for (int i = 0; i < operationNames.length; i++) {
+			operationCounts[i].reset();
+			operationFailures[i].reset();
+			operationNanoseconds[i].reset();
+			for (LongAdder bucket : operationLatencies[i]) {
+				bucket.reset();
+			}
+		}
+		for (LongAdder count : fallbackCounts) {
+			count.reset();
+		}
+		validZones.reset();
+		invalidZones.reset();
+	}
+
+	/**
+	 * <b>Returns the start time of a measured operation, or 0 when the metrics are disabled.</b>
+	 * @return	the long of nanoTime, 0 for not measured.
+	 */
+	static long startOperation() {
+		if (!metricsEnabled) {
+			return 0L;
+		}
+		long start = System.nanoTime();
+		return (start == 0L) ? 1L : start;
+	}
+
+	/**
+	 * <b>Records a measured operation.</b><p>
+	 * In case the operation was not measured (its start is 0), does nothing.
+	 * @param operation	the int of operation.
+	 * @param start		the long of start time by startOperation().
+	 * @param success	the boolean value marks whether the operation succeeded.
+	 */
+	static void recordOperation(int operation, long start, boolean success) {
+		if (start == 0L) {
+			return;
+		}
+		long nanoseconds = Math.max(System.nanoTime() - start, 0L);
+		operationCounts[operation].increment();
+		if (!success) {
+			operationFailures[operation].increment();
+		}
+		operationNanoseconds[operation].add(nanoseconds);
+		operationLatencies[operation][(nanoseconds == 0L) ? 0 : 63 - Long.numberOfLeadingZeros(nanoseconds)].increment();
+		GTimeMetricsListener currentListener = listener;
+		if (currentListener != null) {
+			try {
+				currentListener.onOperation(operationNames[operation], nanoseconds, success);
+			}
+			catch (Exception e) {
+				// listener failures do not affect the operation
+			}
+		}
+		if (jfrAvailable) {
+			Events.commitOperation(operation, nanoseconds, success);
+		}
+	}
+
+	/**
+	 * <b>Records a fallback of a GTime constructor.</b>
+	 * @param kind		the int of fallback kind.
+	 * @param timezone	the String of time zone given to the constructor.
+	 */
+	static void recordFallback(int kind, String timezone) {
+		if (!metricsEnabled) {
+			return;
+		}
+		fallbackCounts[kind].increment();
+		GTimeMetricsListener currentListener = listener;
+		if (currentListener != null) {
+			try {
+				currentListener.onFallback(fallbackNames[kind], timezone);
+			}
+			catch (Exception e) {
+				// listener failures do not affect the operation
+			}
+		}
+		if (jfrAvailable) {
+			Events.commitFallback(kind, timezone);
+		}
+	}
+
+	/**
+	 * <b>Records a time zone resolution of GTimeZoneCache.</b>
+	 * @param timezone	the String of time zone ID.
+	 * @param cached	the boolean value marks whether the result came from the cache.
+	 * @param valid		the boolean value marks whether the time zone ID is known.
+	 */
+	static void recordZoneResolution(String timezone, boolean cached, boolean valid) {
+		if (!metricsEnabled) {
+			return;
+		}
+		(valid ? validZones : invalidZones).increment();
+		GTimeMetricsListener currentListener = listener;
+		if (currentListener != null) {
+			try {
+				currentListener.onZoneResolution(timezone, cached, valid);
+			}
+			catch (Exception e) {
+				// listener failures do not affect the operation
+			}
+		}
+		if (jfrAvailable && !valid) {
+			Events.commitInvalidZone(timezone, cached);
+		}
+	}
+
+	/**
+	 * <b>Returns the index of a name.</b>
+	 * @param names	the String[] of names.
+	 * @param name	the String of name.
+	 * @return		the int of index, -1 for wrong name.
+	 */
+	private static int getIndex(String[] names, String name) {
+		for (int i = 0; i < names.length; i++) {
+			if (names[i].equals(name)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * <b>Returns an array of new LongAdders.</b>
+	 * @param length	the int of adders.
+	 * @return			the LongAdder[] of adders.
+	 */
+	private static LongAdder[] newAdders(int length) {
+		LongAdder[] adders = new LongAdder[length];
+		for (int i = 0; i < length; i++) {
+			adders[i] = new LongAdder();
+		}
+		return adders;
+	}
+}
@@ -0,0 +1,40 @@
+package GrimmPackage.DateTime;
+
+/**
+ * <b>Receives the measurements of GTimeMetrics, to forward them to a metrics system.</b><p>
+ * A listener is set by GTimeMetrics.setMetricsListener() and it is called only while the metrics are enabled.<p>
+ * Methods are called on the thread which executed the measured operation, therefore they must be thread-safe and fast; exceptions thrown by them are ignored.<p>
+ * All methods do nothing by default, so that a listener implements only what it needs.<p>
+ * Operations are named after the methods measured (e.g. increaseDay, setDateTime, changeTimezoneAll); fallback kinds are "timezone" (an unknown time zone was replaced by the local time zone) and "datetime" (a wrong date or time was replaced by the current datetime).
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public interface GTimeMetricsListener {
+
+	/**
+	 * <b>Called when a measured operation has finished.</b>
+	 * @param operation		the String of operation name.
+	 * @param nanoseconds	the long of elapsed nanoseconds.
+	 * @param success		the boolean value marks whether the operation succeeded.
+	 */
+	default void onOperation(String operation, long nanoseconds, boolean success) {
+	}
+
+	/**
+	 * <b>Called when a GTime constructor fell back to a default because of wrong input.</b>
+	 * @param kind		the String of fallback kind (timezone, datetime).
+	 * @param timezone	the String of time zone given to the constructor.
+	 */
+	default void onFallback(String kind, String timezone) {
+	}
+
+	/**
+	 * <b>Called when a time zone ID has been resolved by GTimeZoneCache.</b>
+	 * @param timezone	the String of time zone ID.
+	 * @param cached	the boolean value marks whether the result came from the cache.
+	 * @param valid		the boolean value marks whether the time zone ID is known.
+	 */
+	default void onZoneResolution(String timezone, boolean cached, boolean valid) {
+	}
+}
@@ -0,0 +1,342 @@
+package GrimmPackage.DateTime;
+
+import java.time.*;
+import java.time.zone.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static GrimmPackage.DateTime.GTimeZoneCache.*;
+
+/**
+ * <b>Provides precomputed offset transition tables of time zones, for converting instants to local datetimes by numbers.</b><p>
+ * For every time zone, on first use, the transitions between the first and the last year of a configurable range (by default 1900-2100) are collected into a sorted long[] of epoch seconds and an int[] of offsets.<p>
+ * An offset lookup inside the range is a binary search; outside the range, the ZoneRules of the time zone are used.<p>
+ * The bulk methods reuse the interval of the previous lookup, therefore ordered or clustered instants mostly skip the search.<p>
+ * All methods are static and thread-safe.<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeOffsetTable.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * getZoneOffsetSeconds(String timezone, long epochSecond) -> int<p>
+ * getZoneOffsetSeconds(ZoneId zone, long epochSecond) -> int<p>
+ * getZoneOffsetSeconds(String timezone, long[] epochSeconds) -> int[]<p>
+ * getZoneOffsetSeconds(ZoneId zone, long[] epochSeconds, int offset, int length, int[] offsets)<p>
+ * getLocalEpochSeconds(String timezone, long[] epochSeconds) -> long[]<p>
+ * getLocalEpochSeconds(ZoneId zone, long[] epochSeconds, int offset, int length, long[] localEpochSeconds)<p>
+ * getOffsetTableFirstYear() -> int<p>
+ * getOffsetTableLastYear() -> int<p>
+ * setOffsetTableRange(int firstYear, int lastYear) -> boolean<p>
+ * clearOffsetTables()<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeOffsetTable {
+	private static final int MAX_TABLE_YEARS = 10_000;
+	private static final long MAX_OFFSET_SECONDS = 64_800L;
+	private static final ConcurrentHashMap<ZoneId, ZoneTable> tables = new ConcurrentHashMap<>();
+	private static volatile TableRange range = new TableRange(1900, 2100);
+
+	/**
+	 * <b>Holds the range of the tables.</b><p>
+	 * A new instance is set on every change or clearing, and every table keeps the instance it was built for, so a table built for a former range is never used.
+	 */
+	private static final class TableRange {
+		private final int firstYear;
+		private final int lastYear;
+
+		private TableRange(int firstYear, int lastYear) {
+			this.firstYear = firstYear;
+			this.lastYear = lastYear;
+		}
+	}
+
+	/**
+	 * <b>Holds the transitions and offsets of a time zone.</b><p>
+	 * offsets[i] is valid from transitions[i - 1] (inclusive) to transitions[i] (exclusive), inside the span.<p>
+	 * In local epoch seconds, offsets[i] is used before localTransitions[i], the later of the local datetimes of transition i measured before and after it; therefore a local datetime in a gap or an overlap gets the offset before the transition.
+	 */
+	private static final class ZoneTable {
+		private final TableRange range;
+		private final ZoneRules rules;
+		private final long spanStart;
+		private final long spanEnd;
+		private final long[] transitions;
+		private final int[] offsets;
+		private final long[] localTransitions;
+
+		private ZoneTable(TableRange range, ZoneRules rules, long spanStart, long spanEnd, long[] transitions, int[] offsets) {
+			this.range = range;
+			this.rules = rules;
+			this.spanStart = spanStart;
+			this.spanEnd = spanEnd;
+			this.transitions = transitions;
+			this.offsets = offsets;
+			this.localTransitions = new long[transitions.length];
+			for (int i = 0; i < transitions.length; i++) {
+				localTransitions[i] = transitions[i] + Math.max(offsets[i], offsets[i + 1]);
+			}
+		}
+	}
+
+	/**
+	 * <b>Returns the offset of a time zone at an instant, in seconds.</b><p>
+	 * In case wrong time zone is given, returns Integer.MIN_VALUE.
+	 * @param timezone		the String of time zone.
+	 * @param epochSecond	the long of seconds from 1970-01-01T00:00:00Z.
+	 * @return				the int of offset seconds.
+	 */
+	public static int getZoneOffsetSeconds(String timezone, long epochSecond) {
+		ZoneId zone = getZone(timezone);
+		if (zone == null) {
+			return Integer.MIN_VALUE;
+		}
+		return getZoneOffsetSeconds(zone, epochSecond);
+	}
+
+	/**
+	 * <b>Returns the offset of a time zone at an instant, in seconds.</b>
+	 * @param zone			the ZoneId of time zone.
+	 * @param epochSecond	the long of seconds from 1970-01-01T00:00:00Z.
+	 * @return				the int of offset seconds.
+	 */
+	public static int getZoneOffsetSeconds(ZoneId zone, long epochSecond) {
+		if (zone instanceof ZoneOffset) {
+			return ((ZoneOffset) zone).getTotalSeconds();
+		}
+		ZoneTable table = getZoneTable(zone);
+		if ((epochSecond < table.spanStart) || (epochSecond >= table.spanEnd)) {
+			return table.rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+		}
+		return table.offsets[getOffsetIndex(table, epochSecond)];
+	}
+
+	/**
+	 * <b>Returns the offsets of a time zone at instants, in seconds.</b><p>
+	 * In case wrong time zone is given, returns null.
+	 * @param timezone		the String of time zone.
+	 * @param epochSeconds	the long[] of seconds from 1970-01-01T00:00:00Z.
+	 * @return				the int[] of offset seconds.
+	 */
+	public static int[] getZoneOffsetSeconds(String timezone, long[] epochSeconds) {
+		ZoneId zone = getZone(timezone);
+		if (zone == null) {
+			return null;
+		}
+		int[] offsets = new int[epochSeconds.length];
+		getZoneOffsetSeconds(zone, epochSeconds, 0, epochSeconds.length, offsets);
+		return offsets;
+	}
+
+	/**
+	 * <b>Writes the offsets of a time zone at a range of instants, in seconds.</b><p>
+	 * The offsets are written at the same indexes as the instants.
+	 * @param zone			the ZoneId of time zone.
+	 * @param epochSeconds	the long[] of seconds from 1970-01-01T00:00:00Z.
+	 * @param offset		the int of first index.
+	 * @param length		the int of number of instants.
+	 * @param offsets		the int[] of offset seconds.
+	 */
+	public static void getZoneOffsetSeconds(ZoneId zone, long[] epochSeconds, int offset, int length, int[] offsets) {
+		if (zone instanceof ZoneOffset) {
+			Arrays.fill(offsets, offset, offset + length, ((ZoneOffset) zone).getTotalSeconds());
+			return;
+		}
+		ZoneTable table = getZoneTable(zone);
+		long from = 0;
+		long to = 0;
+		int current = 0;
+		for (int i = offset; i < offset + length; i++) {
+			long epochSecond = epochSeconds[i];
+			if ((epochSecond < from) || (epochSecond >= to)) {
+				if ((epochSecond < table.spanStart) || (epochSecond >= table.spanEnd)) {
+					offsets[i] = table.rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+					continue;
+				}
+				int index = getOffsetIndex(table, epochSecond);
+				from = (index == 0) ? table.spanStart : table.transitions[index - 1];
+				to = (index == table.transitions.length) ? table.spanEnd : table.transitions[index];
+				current = table.offsets[index];
+			}
+			offsets[i] = current;
+		}
+	}
+
+	/**
+	 * <b>Returns the local epoch seconds (seconds from 1970-01-01T00:00:00 local datetime) of instants in a time zone.</b><p>
+	 * In case wrong time zone is given, returns null.
+	 * @param timezone		the String of time zone.
+	 * @param epochSeconds	the long[] of seconds from 1970-01-01T00:00:00Z.
+	 * @return				the long[] of local epoch seconds.
+	 */
+	public static long[] getLocalEpochSeconds(String timezone, long[] epochSeconds) {
+		ZoneId zone = getZone(timezone);
+		if (zone == null) {
+			return null;
+		}
+		long[] localEpochSeconds = new long[epochSeconds.length];
+		getLocalEpochSeconds(zone, epochSeconds, 0, epochSeconds.length, localEpochSeconds);
+		return localEpochSeconds;
+	}
+
+	/**
+	 * <b>Writes the local epoch seconds (seconds from 1970-01-01T00:00:00 local datetime) of a range of instants in a time zone.</b><p>
+	 * The local epoch seconds are written at the same indexes as the instants; the source and target array can be the same.
+	 * @param zone				the ZoneId of time zone.
+	 * @param epochSeconds		the long[] of seconds from 1970-01-01T00:00:00Z.
+	 * @param offset			the int of first index.
+	 * @param length			the int of number of instants.
+	 * @param localEpochSeconds	the long[] of local epoch seconds.
+	 */
+	public static void getLocalEpochSeconds(ZoneId zone, long[] epochSeconds, int offset, int length, long[] localEpochSeconds) {
+		if (zone instanceof ZoneOffset) {
+			int fixedOffset = ((ZoneOffset) zone).getTotalSeconds();
+			for (int i = offset; i < offset + length; i++) {
+				localEpochSeconds[i] = epochSeconds[i] + fixedOffset;
+			}
+			return;
+		}
+		ZoneTable table = getZoneTable(zone);
+		long from = 0;
+		long to = 0;
+		int current = 0;
+		for (int i = offset; i < offset + length; i++) {
+			long epochSecond = epochSeconds[i];
+			if ((epochSecond < from) || (epochSecond >= to)) {
+				if ((epochSecond < table.spanStart) || (epochSecond >= table.spanEnd)) {
+					localEpochSeconds[i] = epochSecond + table.rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+					continue;
+				}
+				int index = getOffsetIndex(table, epochSecond);
+				from = (index == 0) ? table.spanStart : table.transitions[index - 1];
+				to = (index == table.transitions.length) ? table.spanEnd : table.transitions[index];
+				current = table.offsets[index];
+			}
+			localEpochSeconds[i] = epochSecond + current;
+		}
+	}
+
+	/**
+	 * <b>Returns the first year of the table range.</b>
+	 * @return	the int of year.
+	 */
+	public static int getOffsetTableFirstYear() {
+		return range.firstYear;
+	}
+
+	/**
+	 * <b>Returns the last year of the table range.</b>
+	 * @return	the int of year.
+	 */
+	public static int getOffsetTableLastYear() {
+		return range.lastYear;
+	}
+
+	/**
+	 * <b>Sets the range of the tables.</b><p>
+	 * The existing tables are dropped and are built again on next use.<p>
+	 * In case the range is reversed, exceeds 10000 years or exceeds the year range of GTime, returns false and the range is not changed.
+	 * @param newFirstYear	the int of first year.
+	 * @param newLastYear	the int of last year.
+	 * @return				the boolean value marks whether the range was set.
+	 */
+	public static synchronized boolean setOffsetTableRange(int newFirstYear, int newLastYear) {
+		if ((newFirstYear > newLastYear) || (newFirstYear < Year.MIN_VALUE) || (newLastYear > Year.MAX_VALUE) || ((long) newLastYear - newFirstYear >= MAX_TABLE_YEARS)) {
+			return false;
+		}
+		range = new TableRange(newFirstYear, newLastYear);
+		tables.clear();
+		return true;
+	}
+
+	/**
+	 * <b>Drops all tables, e.g. after the time zone rules were updated.</b>
+	 */
+	public static synchronized void clearOffsetTables() {
+		range = new TableRange(range.firstYear, range.lastYear);
+		tables.clear();
+	}
+
+	/**
+	 * <b>Returns the offset of a time zone at a local datetime, in seconds.</b><p>
+	 * In a Daylight Saving Time gap or overlap, the offset before the transition is returned, the same as ZoneRules.getOffset(LocalDateTime).
+	 * @param zone				the ZoneId of time zone.
+	 * @param localEpochSecond	the long of seconds from 1970-01-01T00:00:00 local datetime.
+	 * @return					the int of offset seconds.
+	 */
+	static int getLocalOffsetSeconds(ZoneId zone, long localEpochSecond) {
+		if (zone instanceof ZoneOffset) {
+			return ((ZoneOffset) zone).getTotalSeconds();
+		}
+		ZoneTable table = getZoneTable(zone);
+		if ((localEpochSecond < table.spanStart + MAX_OFFSET_SECONDS) || (localEpochSecond >= table.spanEnd - MAX_OFFSET_SECONDS)) {
+			return table.rules.getOffset(LocalDateTime.ofEpochSecond(localEpochSecond, 0, ZoneOffset.UTC)).getTotalSeconds();
+		}
+		int index = Arrays.binarySearch(table.localTransitions, localEpochSecond);
+		return table.offsets[(index >= 0) ? index + 1 : -index - 1];
+	}
+
+	/**
+	 * <b>Returns the index of the offset valid at an instant inside the span.</b>
+	 * @param table			the ZoneTable of time zone.
+	 * @param epochSecond	the long of seconds from 1970-01-01T00:00:00Z.
+	 * @return				the int of offset index.
+	 */
+	private static int getOffsetIndex(ZoneTable table, long epochSecond) {
+		int index = Arrays.binarySearch(table.transitions, epochSecond);
+		return (index >= 0) ? index + 1 : -index - 1;
+	}
+
+	/**
+	 * <b>Returns the table of a time zone, building it on first use.</b><p>
+	 * A table built for a former range, e.g. by a build overlapping with setOffsetTableRange(), is built again and replaced.
+	 * @param zone	the ZoneId of time zone.
+	 * @return		the ZoneTable of time zone.
+	 */
+	private static ZoneTable getZoneTable(ZoneId zone) {
+		TableRange currentRange = range;
+		ZoneTable table = tables.get(zone);
+		if ((table == null) || (table.range != currentRange)) {
+			ZoneTable newTable = buildZoneTable(zone, currentRange);
+			if (table == null) {
+				tables.putIfAbsent(zone, newTable);
+			}
+			else {
+				tables.replace(zone, table, newTable);
+			}
+			table = newTable;
+		}
+		return table;
+	}
+
+	/**
+	 * <b>Collects the transitions of a time zone inside the range.</b>
+	 * @param zone			the ZoneId of time zone.
+	 * @param tableRange	the TableRange of first and last year.
+	 * @return				the ZoneTable of time zone.
+	 */
+	private static ZoneTable buildZoneTable(ZoneId zone, TableRange tableRange) {
+		ZoneRules rules = zone.getRules();
+		if (rules.isFixedOffset()) {
+			return new ZoneTable(tableRange, rules, Long.MIN_VALUE, Long.MAX_VALUE, new long[0], new int[]{rules.getOffset(Instant.EPOCH).getTotalSeconds()});
+		}
+		long spanStart = GTimeArithmetic.getEpochDay(tableRange.firstYear, 1, 1) * GTimeArithmetic.SECONDS_PER_DAY;
+		long spanEnd = GTimeArithmetic.getEpochDay(tableRange.lastYear + 1, 1, 1) * GTimeArithmetic.SECONDS_PER_DAY;
+		long[] transitions = new long[64];
+		int[] offsets = new int[65];
+		Instant instant = Instant.ofEpochSecond(spanStart);
+		offsets[0] = rules.getOffset(instant).getTotalSeconds();
+		int count = 0;
+		ZoneOffsetTransition transition = rules.nextTransition(instant);
+		while ((transition != null) && (transition.toEpochSecond() < spanEnd)) {
+			if (count == transitions.length) {
+				transitions = Arrays.copyOf(transitions, count * 2);
+				offsets = Arrays.copyOf(offsets, count * 2 + 1);
+			}
+			transitions[count] = transition.toEpochSecond();
+			offsets[++count] = transition.getOffsetAfter().getTotalSeconds();
+			transition = rules.nextTransition(transition.getInstant());
+		}
+		return new ZoneTable(tableRange, rules, spanStart, spanEnd, Arrays.copyOf(transitions, count), Arrays.copyOf(offsets, count + 1));
+	}
+}
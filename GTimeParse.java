@@ -0,0 +1,692 @@
+package GrimmPackage.DateTime;
+
+import java.nio.*;
+import java.time.*;
+
+import static GrimmPackage.DateTime.GTimeAnalyse.*;
+import static GrimmPackage.DateTime.GTimeArithmetic.*;
+import static GrimmPackage.DateTime.GTimeConstant.*;
+import static GrimmPackage.DateTime.GTimeZoneCache.*;
+
+/**
+ * <b>Provides parsing helper methods creating or updating GTime objects from text.</b><p>
+ * All methods are static and thread-safe.<p>
+ * Text can be given as a CharSequence, a byte[] slice or a ByteBuffer slice; bytes are read as ASCII.<p>
+ * ISO-8601 text is accepted in the format of GTimeInfo.getInfo(): date, optionally followed by 'T' (or white space) and time with optional fraction, optional offset ('Z' or +HH:MM[:SS]) and optional region in brackets (e.g. 2022-06-05T13:45:30.5+02:00[Europe/Budapest]).<p>
+ * In case the ISO-8601 text has neither offset nor region, local time zone is used; in case it has no time, midnight is used.<p>
+ * The layouts of GTimeFormat.getDateFormat() and getTimeFormat() (the ones of GTimeInfo.getDate() and getTime()) are accepted as well; the full info layout is not parsed because ID and description can not be separated reliably.<p>
+ * Parsing never throws on wrong text: the methods return null or false, and getParseErrorIndex() returns the position where parsing stopped. A byte slice out of its array or buffer fails at position 0.<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeParse.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * getParseErrorIndex() -> int<p>
+ * parse(CharSequence text) -> GTime<p>
+ * parse(byte[] bytes, int offset, int length) -> GTime<p>
+ * parse(ByteBuffer buffer, int offset, int length) -> GTime<p>
+ * parseInto(GTime gTime, CharSequence text) -> boolean<p>
+ * parseInto(GTime gTime, byte[] bytes, int offset, int length) -> boolean<p>
+ * parseInto(GTime gTime, ByteBuffer buffer, int offset, int length) -> boolean<p>
+ * parse(GTimeFormat format, CharSequence text, String timezone) -> GTime<p>
+ * parse(GTimeFormat format, byte[] bytes, int offset, int length, String timezone) -> GTime<p>
+ * parseInto(GTime gTime, GTimeFormat format, CharSequence text) -> boolean<p>
+ * parseInto(GTime gTime, GTimeFormat format, byte[] bytes, int offset, int length) -> boolean<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeParse {
+	private static final int NO_OFFSET = Integer.MIN_VALUE;
+	private static final ThreadLocal<ParseState> parseState = ThreadLocal.withInitial(ParseState::new);
+
+	/**
+	 * <b>Returns the position where the last parsing of the current thread stopped.</b><p>
+	 * Returns -1 in case the last parsing succeeded.
+	 * @return	the int of error position, relative to the beginning of the text.
+	 */
+	public static int getParseErrorIndex() {
+		return parseState.get().errorIndex;
+	}
+
+	/**
+	 * <b>Parses ISO-8601 text into a new GTime.</b><p>
+	 * In case the text is wrong, returns null.
+	 * @param text	the CharSequence of text.
+	 * @return		the GTime of datetime.
+	 */
+	public static GTime parse(CharSequence text) {
+		ParseState state = parseState.get();
+		ZonedDateTime time = release(state, parseIso(state, text, 0, text.length()));
+		return (time == null) ? null : new GTime(time, "", "");
+	}
+
+	/**
+	 * <b>Parses ISO-8601 text of ASCII bytes into a new GTime.</b><p>
+	 * In case the text is wrong, returns null.
+	 * @param bytes		the byte[] of text.
+	 * @param offset	the int of first byte of text.
+	 * @param length	the int of number of bytes of text.
+	 * @return			the GTime of datetime.
+	 */
+	public static GTime parse(byte[] bytes, int offset, int length) {
+		ParseState state = parseState.get();
+		CharSequence text = wrap(state, bytes, offset, length);
+		ZonedDateTime time = (text == null) ? null : release(state, parseIso(state, text, 0, length));
+		return (time == null) ? null : new GTime(time, "", "");
+	}
+
+	/**
+	 * <b>Parses ISO-8601 text of ASCII bytes into a new GTime.</b><p>
+	 * The bytes are read by absolute positions, the position of the ByteBuffer does not change.<p>
+	 * In case the text is wrong, returns null.
+	 * @param buffer	the ByteBuffer of text.
+	 * @param offset	the int of first byte of text.
+	 * @param length	the int of number of bytes of text.
+	 * @return			the GTime of datetime.
+	 */
+	public static GTime parse(ByteBuffer buffer, int offset, int length) {
+		ParseState state = parseState.get();
+		CharSequence text = wrap(state, buffer, offset, length);
+		ZonedDateTime time = (text == null) ? null : release(state, parseIso(state, text, 0, length));
+		return (time == null) ? null : new GTime(time, "", "");
+	}
+
+	/**
+	 * <b>Parses ISO-8601 text into an existing GTime.</b><p>
+	 * ID and description of GTime do not change.<p>
+	 * In case the text is wrong, GTime does not change.
+	 * @param gTime	the GTime of datetime.
+	 * @param text	the CharSequence of text.
+	 * @return		the boolean value marks whether the method succeeded.
+	 */
+	public static boolean parseInto(GTime gTime, CharSequence text) {
+		ParseState state = parseState.get();
+		return setTime(gTime, release(state, parseIso(state, text, 0, text.length())));
+	}
+
+	/**
+	 * <b>Parses ISO-8601 text of ASCII bytes into an existing GTime.</b><p>
+	 * ID and description of GTime do not change.<p>
+	 * In case the text is wrong, GTime does not change.
+	 * @param gTime		the GTime of datetime.
+	 * @param bytes		the byte[] of text.
+	 * @param offset	the int of first byte of text.
+	 * @param length	the int of number of bytes of text.
+	 * @return			the boolean value marks whether the method succeeded.
+	 */
+	public static boolean parseInto(GTime gTime, byte[] bytes, int offset, int length) {
+		ParseState state = parseState.get();
+		CharSequence text = wrap(state, bytes, offset, length);
+		return (text != null) && setTime(gTime, release(state, parseIso(state, text, 0, length)));
+	}
+
+	/**
+	 * <b>Parses ISO-8601 text of ASCII bytes into an existing GTime.</b><p>
+	 * The bytes are read by absolute positions, the position of the ByteBuffer does not change.<p>
+	 * ID and description of GTime do not change.<p>
+	 * In case the text is wrong, GTime does not change.
+	 * @param gTime		the GTime of datetime.
+	 * @param buffer	the ByteBuffer of text.
+	 * @param offset	the int of first byte of text.
+	 * @param length	the int of number of bytes of text.
+	 * @return			the boolean value marks whether the method succeeded.
+	 */
+	public static boolean parseInto(GTime gTime, ByteBuffer buffer, int offset, int length) {
+		ParseState state = parseState.get();
+		CharSequence text = wrap(state, buffer, offset, length);
+		return (text != null) && setTime(gTime, release(state, parseIso(state, text, 0, length)));
+	}
+
+	/**
+	 * <b>Parses text of a GTimeFormat layout into a new GTime on given time zone.</b><p>
+	 * Date layouts result midnight, time layouts result the current date of the time zone.<p>
+	 * The info layouts ignore the given time zone and use the one of the text.<p>
+	 * In case wrong time zone is given, local time zone will be used.<p>
+	 * In case the text is wrong, returns null.
+	 * @param format	the GTimeFormat of layout.
+	 * @param text		the CharSequence of text.
+	 * @param timezone	the String of time zone.
+	 * @return			the GTime of datetime.
+	 */
+	public static GTime parse(GTimeFormat format, CharSequence text, String timezone) {
+		ParseState state = parseState.get();
+		ZonedDateTime time = release(state, parseLayout(state, format, text, text.length(), null, timezone));
+		return (time == null) ? null : new GTime(time, "", "");
+	}
+
+	/**
+	 * <b>Parses text of ASCII bytes of a GTimeFormat layout into a new GTime on given time zone.</b><p>
+	 * Date layouts result midnight, time layouts result the current date of the time zone.<p>
+	 * The info layouts ignore the given time zone and use the one of the text.<p>
+	 * In case wrong time zone is given, local time zone will be used.<p>
+	 * In case the text is wrong, returns null.
+	 * @param format	the GTimeFormat of layout.
+	 * @param bytes		the byte[] of text.
+	 * @param offset	the int of first byte of text.
+	 * @param length	the int of number of bytes of text.
+	 * @param timezone	the String of time zone.
+	 * @return			the GTime of datetime.
+	 */
+	public static GTime parse(GTimeFormat format, byte[] bytes, int offset, int length, String timezone) {
+		ParseState state = parseState.get();
+		CharSequence text = wrap(state, bytes, offset, length);
+		ZonedDateTime time = (text == null) ? null : release(state, parseLayout(state, format, text, length, null, timezone));
+		return (time == null) ? null : new GTime(time, "", "");
+	}
+
+	/**
+	 * <b>Parses text of a GTimeFormat layout into an existing GTime.</b><p>
+	 * Date layouts change the date only, time layouts change the time only (nanosecond becomes zero); the time zone does not change.<p>
+	 * ID and description of GTime do not change.<p>
+	 * In case the text is wrong, GTime does not change.
+	 * @param gTime		the GTime of datetime.
+	 * @param format	the GTimeFormat of layout.
+	 * @param text		the CharSequence of text.
+	 * @return			the boolean value marks whether the method succeeded.
+	 */
+	public static boolean parseInto(GTime gTime, GTimeFormat format, CharSequence text) {
+		ParseState state = parseState.get();
+		return setTime(gTime, release(state, parseLayout(state, format, text, text.length(), gTime.time, null)));
+	}
+
+	/**
+	 * <b>Parses text of ASCII bytes of a GTimeFormat layout into an existing GTime.</b><p>
+	 * Date layouts change the date only, time layouts change the time only (nanosecond becomes zero); the time zone does not change.<p>
+	 * ID and description of GTime do not change.<p>
+	 * In case the text is wrong, GTime does not change.
+	 * @param gTime		the GTime of datetime.
+	 * @param format	the GTimeFormat of layout.
+	 * @param bytes		the byte[] of text.
+	 * @param offset	the int of first byte of text.
+	 * @param length	the int of number of bytes of text.
+	 * @return			the boolean value marks whether the method succeeded.
+	 */
+	public static boolean parseInto(GTime gTime, GTimeFormat format, byte[] bytes, int offset, int length) {
+		ParseState state = parseState.get();
+		CharSequence text = wrap(state, bytes, offset, length);
+		return (text != null) && setTime(gTime, release(state, parseLayout(state, format, text, length, gTime.time, null)));
+	}
+
+	/**
+	 * <b>Sets the parsed datetime of GTime.</b>
+	 * @param gTime	the GTime of datetime.
+	 * @param time	the ZonedDateTime of parsed datetime, null in case of failure.
+	 * @return		the boolean value marks whether the parsing succeeded.
+	 */
+	private static boolean setTime(GTime gTime, ZonedDateTime time) {
+		if (time == null) {
+			return false;
+		}
+		gTime.time = time;
+		return true;
+	}
+
+	/**
+	 * <b>Parses ISO-8601 text.</b>
+	 * @param state	the ParseState of the current thread.
+	 * @param text	the CharSequence of text.
+	 * @param start	the int of first character.
+	 * @param end	the int of position after the last character.
+	 * @return		the ZonedDateTime of datetime, null in case of failure.
+	 */
+	private static ZonedDateTime parseIso(ParseState state, CharSequence text, int start, int end) {
+		state.text = text;
+		state.index = start;
+		state.end = end;
+		state.errorIndex = -1;
+		boolean negative = (start < end) && (text.charAt(start) == '-');
+		if ((start < end) && ((text.charAt(start) == '+') || negative)) {
+			state.index++;
+		}
+		int yearStart = state.index;
+		long year = readNumber(state, 4, 10);
+		if ((year < 0) || (!negative && (state.index - yearStart > 4) && (text.charAt(start) != '+'))) {
+			return fail(state, yearStart);
+		}
+		year = (negative) ? -year : year;
+		int month, day, hour = 0, minute = 0, second = 0, nano = 0;
+		if (!expect(state, '-') || ((month = (int) readNumber(state, 2, 2)) < 0) || !expect(state, '-') || ((day = (int) readNumber(state, 2, 2)) < 0)) {
+			return fail(state, state.index);
+		}
+		if ((year < Year.MIN_VALUE) || (year > Year.MAX_VALUE) || !isDate((int) year, month, day)) {
+			return fail(state, yearStart);
+		}
+		int offsetSeconds = NO_OFFSET;
+		ZoneId zone = null;
+		if (state.index < end) {
+			char c = text.charAt(state.index);
+			if ((c != 'T') && (c != 't') && (c != ' ')) {
+				return fail(state, state.index);
+			}
+			state.index++;
+			int timeStart = state.index;
+			if (((hour = (int) readNumber(state, 2, 2)) < 0) || !expect(state, ':') || ((minute = (int) readNumber(state, 2, 2)) < 0)) {
+				return fail(state, state.index);
+			}
+			if ((state.index < end) && (text.charAt(state.index) == ':')) {
+				state.index++;
+				if ((second = (int) readNumber(state, 2, 2)) < 0) {
+					return fail(state, state.index);
+				}
+				if ((state.index < end) && ((text.charAt(state.index) == '.') || (text.charAt(state.index) == ','))) {
+					state.index++;
+					int fractionStart = state.index;
+					long fraction = readNumber(state, 1, 9);
+					if (fraction < 0) {
+						return fail(state, state.index);
+					}
+					for (int digits = state.index - fractionStart; digits < 9; digits++) {
+						fraction *= 10;
+					}
+					nano = (int) fraction;
+				}
+			}
+			if (!isTime(hour, minute, second, nano)) {
+				return fail(state, timeStart);
+			}
+			if (state.index < end) {
+				c = text.charAt(state.index);
+				if ((c == 'Z') || (c == 'z')) {
+					offsetSeconds = 0;
+					state.index++;
+				}
+				else if ((c == '+') || (c == '-')) {
+					int offsetStart = state.index;
+					offsetSeconds = readOffset(state);
+					if (offsetSeconds == NO_OFFSET) {
+						return fail(state, offsetStart);
+					}
+				}
+			}
+			if ((state.index < end) && (text.charAt(state.index) == '[')) {
+				int zoneStart = ++state.index;
+				while ((state.index < end) && (text.charAt(state.index) != ']')) {
+					state.index++;
+				}
+				if ((state.index == end) || ((zone = readZone(state, zoneStart, state.index)) == null)) {
+					return fail(state, zoneStart);
+				}
+				state.index++;
+			}
+			if (state.index != end) {
+				return fail(state, state.index);
+			}
+		}
+		return resolve(state, (int) year, month, day, hour, minute, second, nano, offsetSeconds, zone);
+	}
+
+	/**
+	 * <b>Parses text of a GTimeFormat layout.</b>
+	 * @param state		the ParseState of the current thread.
+	 * @param format	the GTimeFormat of layout.
+	 * @param text		the CharSequence of text.
+	 * @param end		the int of position after the last character.
+	 * @param base		the ZonedDateTime providing the components missing from the layout, null for a new datetime.
+	 * @param timezone	the String of time zone of a new datetime.
+	 * @return			the ZonedDateTime of datetime, null in case of failure.
+	 */
+	private static ZonedDateTime parseLayout(ParseState state, GTimeFormat format, CharSequence text, int end, ZonedDateTime base, String timezone) {
+		int[] fields = format.fields;
+		if ((fields[0] == GTimeFormat.INFO) || (fields[0] == GTimeFormat.ISO_OFFSET)) {
+			return parseIso(state, text, 0, end);
+		}
+		state.text = text;
+		state.index = 0;
+		state.end = end;
+		state.errorIndex = -1;
+		if (fields[0] == GTimeFormat.FULL_INFO) {
+			return fail(state, 0);
+		}
+		int year = Integer.MIN_VALUE, month = 0, day = 0, hour = -1, minute = 0, second = 0;
+		for (int i = 0; i < fields.length; i++) {
+			int fieldStart = state.index;
+			long value = 0;
+			switch (fields[i]) {
+				case GTimeFormat.SEPARATOR:
+					if (!expect(state, format.separators[i])) {
+						return fail(state, fieldStart);
+					}
+					continue;
+				case GTimeFormat.MONTH_NAME:
+					value = readMonthName(state);
+					break;
+				case GTimeFormat.YEAR:
+					boolean negative = (state.index < end) && (text.charAt(state.index) == '-');
+					if (negative) {
+						state.index++;
+					}
+					value = readNumber(state, 1, 10);
+					if ((value >= 0) && negative) {
+						value = -value;
+					}
+					else if (value < 0) {
+						value = Long.MIN_VALUE;
+					}
+					break;
+				default:
+					value = readNumber(state, 1, 10);
+			}
+			if ((value == Long.MIN_VALUE) || ((fields[i] != GTimeFormat.YEAR) && (value < 0)) || (value < Year.MIN_VALUE) || (value > Year.MAX_VALUE)) {
+				return fail(state, fieldStart);
+			}
+			switch (fields[i]) {
+				case GTimeFormat.YEAR:
+					year = (int) value;
+					break;
+				case GTimeFormat.MONTH:
+				case GTimeFormat.MONTH_NAME:
+					month = (int) value;
+					break;
+				case GTimeFormat.DAY:
+					day = (int) value;
+					break;
+				case GTimeFormat.HOUR:
+					hour = (int) value;
+					break;
+				case GTimeFormat.MINUTE:
+					minute = (int) value;
+					break;
+				case GTimeFormat.SECOND:
+					second = (int) value;
+					break;
+			}
+		}
+		if (state.index != end) {
+			return fail(state, state.index);
+		}
+		ZoneId zone;
+		if (base != null) {
+			zone = base.getZone();
+		}
+		else {
+			zone = getZone(timezone);
+			if (zone == null) {
+				zone = ZoneId.systemDefault();
+			}
+		}
+		if (year != Integer.MIN_VALUE) {
+			if (!isDate(year, month, day)) {
+				return fail(state, 0);
+			}
+			if (base == null) {
+				return ZonedDateTime.of(year, month, day, 0, 0, 0, 0, zone);
+			}
+			return ZonedDateTime.of(year, month, day, base.getHour(), base.getMinute(), base.getSecond(), base.getNano(), zone);
+		}
+		if (!isTime(hour, minute, second, 0)) {
+			return fail(state, 0);
+		}
+		LocalDate date = (base == null) ? GTimeClock.getCurrentTime(zone).toLocalDate() : base.toLocalDate();
+		return ZonedDateTime.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), hour, minute, second, 0, zone);
+	}
+
+	/**
+	 * <b>Creates the datetime of parsed components.</b>
+	 * @param state			the ParseState of the current thread.
+	 * @param year			the int of year.
+	 * @param month			the int of month.
+	 * @param day			the int of day.
+	 * @param hour			the int of hour.
+	 * @param minute		the int of minute.
+	 * @param second		the int of second.
+	 * @param nano			the int of nanosecond.
+	 * @param offsetSeconds	the int of offset seconds, NO_OFFSET in case no offset was given.
+	 * @param zone			the ZoneId of region, null in case no region was given.
+	 * @return				the ZonedDateTime of datetime, null in case of failure.
+	 */
+	private static ZonedDateTime resolve(ParseState state, int year, int month, int day, int hour, int minute, int second, int nano, int offsetSeconds, ZoneId zone) {
+		if (offsetSeconds == NO_OFFSET) {
+			return ZonedDateTime.of(year, month, day, hour, minute, second, nano, (zone == null) ? ZoneId.systemDefault() : zone);
+		}
+		ZoneOffset offset = ZoneOffset.ofTotalSeconds(offsetSeconds);
+		if (zone == null) {
+			return ZonedDateTime.of(year, month, day, hour, minute, second, nano, offset);
+		}
+		long epochSecond = getEpochDay(year, month, day) * SECONDS_PER_DAY + hour * 3_600L + minute * 60L + second - offsetSeconds;
+		long localSecond = epochSecond + getOffsetSeconds(zone, epochSecond);
+		if ((localSecond < MIN_LOCAL_SECOND) || (localSecond > MAX_LOCAL_SECOND)) {
+			return fail(state, 0);
+		}
+		return ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), zone);
+	}
+
+	/**
+	 * <b>Reads a decimal number of a given number of digits.</b><p>
+	 * Reads as many digits as possible up to the maximum.
+	 * @param state		the ParseState of the current thread.
+	 * @param minDigits	the int of minimal number of digits.
+	 * @param maxDigits	the int of maximal number of digits.
+	 * @return			the long of number, -1 in case there are not enough digits.
+	 */
+	private static long readNumber(ParseState state, int minDigits, int maxDigits) {
+		long number = 0;
+		int digits = 0;
+		while ((state.index < state.end) && (digits < maxDigits)) {
+			char c = state.text.charAt(state.index);
+			if ((c < '0') || (c > '9')) {
+				break;
+			}
+			number = number * 10 + (c - '0');
+			digits++;
+			state.index++;
+		}
+		return (digits < minDigits) ? -1 : number;
+	}
+
+	/**
+	 * <b>Reads a signed offset in +HH:MM[:SS], +HHMM or +HH format.</b>
+	 * @param state	the ParseState of the current thread.
+	 * @return		the int of offset seconds, NO_OFFSET in case of failure.
+	 */
+	private static int readOffset(ParseState state) {
+		int sign = (state.text.charAt(state.index++) == '-') ? -1 : 1;
+		long hours = readNumber(state, 2, 2), minutes = 0, seconds = 0;
+		if (hours < 0) {
+			return NO_OFFSET;
+		}
+		boolean colon = (state.index < state.end) && (state.text.charAt(state.index) == ':');
+		if (colon) {
+			state.index++;
+		}
+		if (colon || ((state.index < state.end) && Character.isDigit(state.text.charAt(state.index)))) {
+			minutes = readNumber(state, 2, 2);
+			if (minutes < 0) {
+				return NO_OFFSET;
+			}
+			if (colon && (state.index < state.end) && (state.text.charAt(state.index) == ':')) {
+				state.index++;
+				seconds = readNumber(state, 2, 2);
+				if (seconds < 0) {
+					return NO_OFFSET;
+				}
+			}
+		}
+		if ((hours > 18) || (minutes > 59) || (seconds > 59) || ((hours == 18) && ((minutes > 0) || (seconds > 0)))) {
+			return NO_OFFSET;
+		}
+		return sign * (int) (hours * 3_600L + minutes * 60L + seconds);
+	}
+
+	/**
+	 * <b>Reads an English month name, ignoring the case.</b>
+	 * @param state	the ParseState of the current thread.
+	 * @return		the long of month, -1 in case of failure.
+	 */
+	private static long readMonthName(ParseState state) {
+		for (int month = 0; month < monthNames.length; month++) {
+			String name = monthNames[month];
+			int length = name.length();
+			if (state.index + length <= state.end) {
+				int i = 0;
+				while ((i < length) && (Character.toLowerCase(state.text.charAt(state.index + i)) == Character.toLowerCase(name.charAt(i)))) {
+					i++;
+				}
+				if (i == length) {
+					state.index += length;
+					return month + 1;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * <b>Resolves the time zone ID between two positions.</b><p>
+	 * The last resolved time zone of the thread is reused without creating a String when the text is the same.
+	 * @param state	the ParseState of the current thread.
+	 * @param start	the int of first character of time zone ID.
+	 * @param end	the int of position after the last character of time zone ID.
+	 * @return		the ZoneId of time zone, null in case of wrong time zone.
+	 */
+	private static ZoneId readZone(ParseState state, int start, int end) {
+		String last = state.lastZoneText;
+		if ((last != null) && (last.length() == end - start)) {
+			int i = 0;
+			while ((i < last.length()) && (last.charAt(i) == state.text.charAt(start + i))) {
+				i++;
+			}
+			if (i == last.length()) {
+				return state.lastZone;
+			}
+		}
+		String zoneText = state.text.subSequence(start, end).toString();
+		ZoneId zone = getZone(zoneText);
+		if (zone != null) {
+			state.lastZoneText = zoneText;
+			state.lastZone = zone;
+		}
+		return zone;
+	}
+
+	/**
+	 * <b>Reads an expected character.</b>
+	 * @param state		the ParseState of the current thread.
+	 * @param expected	the char of expected character.
+	 * @return			the boolean value marks whether the expected character was found.
+	 */
+	private static boolean expect(ParseState state, char expected) {
+		if ((state.index < state.end) && (state.text.charAt(state.index) == expected)) {
+			state.index++;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * <b>Marks a failed parsing.</b>
+	 * @param state	the ParseState of the current thread.
+	 * @param index	the int of error position.
+	 * @return		null.
+	 */
+	private static ZonedDateTime fail(ParseState state, int index) {
+		state.errorIndex = index;
+		return null;
+	}
+
+	/**
+	 * <b>Wraps a slice of a byte[] into the ByteSequence of the state.</b><p>
+	 * In case the array is null or the slice is out of it, marks a failed parsing at position 0 and returns null.
+	 * @param state		the ParseState of the current thread.
+	 * @param bytes		the byte[] of text.
+	 * @param offset	the int of first byte of text.
+	 * @param length	the int of number of bytes of text.
+	 * @return			the CharSequence of text.
+	 */
+	private static CharSequence wrap(ParseState state, byte[] bytes, int offset, int length) {
+		if ((bytes == null) || (offset < 0) || (length < 0) || (offset > bytes.length - length)) {
+			fail(state, 0);
+			return null;
+		}
+		return state.bytes.wrap(bytes, offset, length);
+	}
+
+	/**
+	 * <b>Wraps a slice of a ByteBuffer into the ByteSequence of the state.</b><p>
+	 * In case the buffer is null or the slice is out of its limit, marks a failed parsing at position 0 and returns null.
+	 * @param state		the ParseState of the current thread.
+	 * @param buffer	the ByteBuffer of text.
+	 * @param offset	the int of first byte of text.
+	 * @param length	the int of number of bytes of text.
+	 * @return			the CharSequence of text.
+	 */
+	private static CharSequence wrap(ParseState state, ByteBuffer buffer, int offset, int length) {
+		if ((buffer == null) || (offset < 0) || (length < 0) || (offset > buffer.limit() - length)) {
+			fail(state, 0);
+			return null;
+		}
+		return state.bytes.wrap(buffer, offset, length);
+	}
+
+	/**
+	 * <b>Drops the references of the state to the parsed text, so that the thread does not keep it.</b>
+	 * @param state	the ParseState of the current thread.
+	 * @param time	the ZonedDateTime of parsing result.
+	 * @return		the ZonedDateTime of parsing result.
+	 */
+	private static ZonedDateTime release(ParseState state, ZonedDateTime time) {
+		state.text = null;
+		state.bytes.wrap((byte[]) null, 0, 0);
+		return time;
+	}
+
+	/**
+	 * <b>Holds the reusable parsing state of a thread.</b>
+	 */
+	private static final class ParseState {
+		private final ByteSequence bytes = new ByteSequence();
+		private CharSequence text;
+		private int index, end;
+		private int errorIndex = -1;
+		private String lastZoneText;
+		private ZoneId lastZone;
+	}
+
+	/**
+	 * <b>Presents a slice of ASCII bytes as a CharSequence, without copying.</b>
+	 */
+	private static final class ByteSequence implements CharSequence {
+		private byte[] array;
+		private ByteBuffer buffer;
+		private int offset, length;
+
+		private ByteSequence wrap(byte[] array, int offset, int length) {
+			this.array = array;
+			this.buffer = null;
+			this.offset = offset;
+			this.length = length;
+			return this;
+		}
+
+		private ByteSequence wrap(ByteBuffer buffer, int offset, int length) {
+			this.array = null;
+			this.buffer = buffer;
+			this.offset = offset;
+			this.length = length;
+			return this;
+		}
+
+		@Override
+		public int length() {
+			return length;
+		}
+
+		@Override
+		public char charAt(int index) {
+			return (char) (((array != null) ? array[offset + index] : buffer.get(offset + index)) & 0xFF);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			char[] chars = new char[end - start];
+			for (int i = start; i < end; i++) {
+				chars[i - start] = charAt(i);
+			}
+			return new String(chars);
+		}
+
+		@Override
+		public String toString() {
+			return subSequence(0, length).toString();
+		}
+	}
+}
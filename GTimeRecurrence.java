@@ -0,0 +1,682 @@
+package GrimmPackage.DateTime;
+
+import java.time.*;
+import java.util.*;
+import java.util.stream.*;
+
+import static GrimmPackage.DateTime.GTimeAnalyse.*;
+import static GrimmPackage.DateTime.GTimeArithmetic.*;
+
+/**
+ * <b>Provides lazy recurrences of GTime objects by daily, weekly and monthly rules.</b><p>
+ * A recurrence starts at a GTime and repeats its local time-of-day on matching days, in the time zone of the start; the rule has an interval of periods, days of week, days of month, and a count or an until limit, as in the RRULE of RFC 5545.<p>
+ * Days of week are 1 (Monday) to 7 (Sunday); days of month are 1 to 31, or -1 (last day) to -31 counted from the end of the month. A month not having the given day has no occurrence that day, so no day is clamped.<p>
+ * Without days of week a weekly rule uses the day-of-week of the start; without days a monthly rule uses the day-of-month of the start. Weeks start on Monday.<p>
+ * Occurrences are the matching local datetimes not earlier than the start; the start itself is an occurrence only when it matches. A local datetime in a Daylight Saving Time gap is shifted later by the length of the gap, in an overlap the earlier offset is used.<p>
+ * Occurrences are generated lazily, period by period, as GTimes or as epoch seconds (with the offsets of GTimeOffsetTable); the Nth occurrence and the first occurrence after an instant are found without iterating, by counting occurrences over the 400-year cycle of the calendar.<p>
+ * A GTimeRecurrence is immutable and thread-safe. In case wrong rule is given, the factory methods return null.<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeRecurrence.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * getRecurrence(GTime start, String rule) -> GTimeRecurrence<p>
+ * getRecurrence(GTime start, String frequency, int interval, int[] daysOfWeek, int[] daysOfMonth, long count, GTime until) -> GTimeRecurrence<p>
+ * getOccurrences(GTimeRecurrence recurrence) -> Stream&lt;GTime&gt;<p>
+ * getOccurrenceIterator(GTimeRecurrence recurrence) -> Iterator&lt;GTime&gt;<p>
+ * getEpochSeconds(GTimeRecurrence recurrence) -> LongStream<p>
+ * getOccurrence(GTimeRecurrence recurrence, long index) -> GTime<p>
+ * getFirstAfter(GTimeRecurrence recurrence, GTime gTime) -> GTime<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeRecurrence {
+	protected static final String[] frequencyNames = new String[]{"daily", "weekly", "monthly"};
+	protected static final int DAILY = 0, WEEKLY = 1, MONTHLY = 2;
+	private static final String[] dayNames = new String[]{"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+	private static final long MIN_DAY = LocalDate.MIN.toEpochDay();
+	private static final long MAX_DAY = LocalDate.MAX.toEpochDay();
+	private static final long NONE = Long.MIN_VALUE;
+
+	protected final ZoneId zone;
+	protected final String ID, description;
+	protected final long startDay;
+	protected final int startSecondOfDay;
+	protected final int startNano;
+	protected final long startEpochSecond;
+	protected final int frequency;
+	protected final int interval;
+	protected final int daysOfWeek;
+	protected final int positiveDays;
+	protected final int negativeDays;
+	protected final long count;
+	protected final long untilEpochSecond;
+	protected final int untilNano;
+	protected final long basePeriod;
+	protected final int skipped;
+	protected final int cyclePeriods;
+	protected final long maxPeriod;
+	private volatile int[] cycleCounts;
+
+	/**
+	 * <b>Holds the state of iterating the occurrences of a recurrence.</b>
+	 */
+	private static final class Cursor {
+		private final GTimeRecurrence recurrence;
+		private final long[] days = new long[31];
+		private long period;
+		private int dayCount;
+		private int position;
+		private int toSkip;
+		private long index;
+		private boolean done;
+		private long epochSecond;
+
+		private Cursor(GTimeRecurrence recurrence) {
+			this.recurrence = recurrence;
+			this.toSkip = recurrence.skipped;
+		}
+
+		/**
+		 * <b>Moves to the next occurrence and returns its day, or NONE at the end.</b>
+		 */
+		private long nextDay() {
+			if (done) {
+				return NONE;
+			}
+			if (index >= recurrence.count) {
+				done = true;
+				return NONE;
+			}
+			int emptyPeriods = 0;
+			while (position == dayCount) {
+				if (emptyPeriods > recurrence.cyclePeriods) {
+					done = true;
+					return NONE;
+				}
+				dayCount = getPeriodDays(recurrence, period++, days);
+				position = 0;
+				if (dayCount < 0) {
+					done = true;
+					return NONE;
+				}
+				if (toSkip > 0) {
+					position = Math.min(toSkip, dayCount);
+					toSkip -= position;
+				}
+				emptyPeriods = (position == dayCount) ? emptyPeriods + 1 : 0;
+			}
+			long day = days[position++];
+			epochSecond = getEpochSecond(recurrence, day);
+			if (isAfterUntil(recurrence, epochSecond)) {
+				done = true;
+				return NONE;
+			}
+			index++;
+			return day;
+		}
+	}
+
+	/**
+	 * <b>Constructs GTimeRecurrence from a checked rule.</b>
+	 * @param start			the GTime of start.
+	 * @param frequency		the int of frequency.
+	 * @param interval		the int of periods between occurring periods.
+	 * @param daysOfWeek	the int of day-of-week bits.
+	 * @param positiveDays	the int of day-of-month bits, counted from the start of the month.
+	 * @param negativeDays	the int of day-of-month bits, counted from the end of the month.
+	 * @param count			the long of maximal occurrences.
+	 * @param untilSecond	the long of epoch seconds of the latest occurrence.
+	 * @param untilNano		the int of nanosecond of the latest occurrence.
+	 */
+	private GTimeRecurrence(GTime start, int frequency, int interval, int daysOfWeek, int positiveDays, int negativeDays, long count, long untilSecond, int untilNano) {
+		ZonedDateTime time = start.time;
+		this.zone = time.getZone();
+		this.ID = start.ID;
+		this.description = start.description;
+		this.startDay = time.toLocalDate().toEpochDay();
+		this.startSecondOfDay = time.toLocalTime().toSecondOfDay();
+		this.startNano = time.getNano();
+		this.startEpochSecond = time.toEpochSecond();
+		this.frequency = frequency;
+		this.interval = interval;
+		if ((frequency == WEEKLY) && (daysOfWeek == 0)) {
+			daysOfWeek = 1 << time.getDayOfWeek().getValue();
+		}
+		if ((frequency == MONTHLY) && (daysOfWeek == 0) && (positiveDays == 0) && (negativeDays == 0)) {
+			positiveDays = 1 << time.getDayOfMonth();
+		}
+		this.daysOfWeek = daysOfWeek;
+		this.positiveDays = positiveDays;
+		this.negativeDays = negativeDays;
+		this.count = count;
+		this.untilEpochSecond = untilSecond;
+		this.untilNano = untilNano;
+		boolean monthFilter = (positiveDays != 0) || (negativeDays != 0);
+		int cycle;
+		switch (frequency) {
+			case DAILY:
+				basePeriod = startDay;
+				cycle = monthFilter ? 146_097 : ((daysOfWeek != 0) ? 7 : 1);
+				break;
+			case WEEKLY:
+				basePeriod = startDay - getDayOfWeekOfEpochDay(startDay) + 1;
+				cycle = 1;
+				break;
+			default:
+				basePeriod = time.getYear() * 12L + time.getMonthValue() - 1;
+				cycle = ((daysOfWeek == 0) && (negativeDays == 0) && ((positiveDays & ~0x1FFFFFFE) == 0)) ? 1 : 4_800;
+		}
+		this.cyclePeriods = cycle / gcd(cycle, interval);
+		this.maxPeriod = (frequency == MONTHLY) ? ((long) Year.MAX_VALUE - Year.MIN_VALUE) * 12L / interval : (MAX_DAY - MIN_DAY) / ((frequency == WEEKLY) ? 7L * interval : interval);
+		long[] days = new long[31];
+		int dayCount = Math.max(getPeriodDays(this, 0, days), 0);
+		int before = 0;
+		while ((before < dayCount) && (days[before] < startDay)) {
+			before++;
+		}
+		this.skipped = before;
+	}
+
+	/**
+	 * <b>Returns a recurrence given by an RRULE of RFC 5545.</b><p>
+	 * Supported parts: FREQ (DAILY, WEEKLY, MONTHLY), INTERVAL, BYDAY (e.g. MO,WE,FR, without ordinals), BYMONTHDAY (e.g. 1,15,-1), COUNT, UNTIL (e.g. 20261231, 20261231T235959 in the time zone of the start, or 20261231T225959Z in UTC), WKST=MO; the "RRULE:" prefix is optional.<p>
+	 * BYMONTHDAY is not allowed with FREQ=WEEKLY. In case wrong rule is given, returns null.
+	 * @param start	the GTime of start.
+	 * @param rule	the String of rule (e.g. FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE;COUNT=10).
+	 * @return		the GTimeRecurrence of rule.
+	 */
+	public static GTimeRecurrence getRecurrence(GTime start, String rule) {
+		if ((start == null) || (rule == null)) {
+			return null;
+		}
+		if (rule.startsWith("RRULE:")) {
+			rule = rule.substring(6);
+		}
+		int frequency = -1, interval = 1, daysOfWeek = 0, positiveDays = 0, negativeDays = 0;
+		long count = Long.MAX_VALUE, untilSecond = Long.MAX_VALUE;
+		int untilNano = NANOSECONDS_PER_SECOND - 1;
+		try {
+			for (String part : rule.split(";")) {
+				int equals = part.indexOf('=');
+				if (equals < 0) {
+					return null;
+				}
+				String name = part.substring(0, equals), value = part.substring(equals + 1);
+				switch (name) {
+					case "FREQ":
+						frequency = getFrequencyIndex(value.toLowerCase(Locale.ROOT));
+						break;
+					case "INTERVAL":
+						interval = Integer.parseInt(value);
+						break;
+					case "BYDAY":
+						for (String day : value.split(",")) {
+							int dayOfWeek = Arrays.asList(dayNames).indexOf(day) + 1;
+							if (dayOfWeek == 0) {
+								return null;
+							}
+							daysOfWeek |= 1 << dayOfWeek;
+						}
+						break;
+					case "BYMONTHDAY":
+						for (String day : value.split(",")) {
+							int dayOfMonth = Integer.parseInt(day);
+							if ((dayOfMonth == 0) || (dayOfMonth < -31) || (dayOfMonth > 31)) {
+								return null;
+							}
+							if (dayOfMonth > 0) {
+								positiveDays |= 1 << dayOfMonth;
+							}
+							else {
+								negativeDays |= 1 << -dayOfMonth;
+							}
+						}
+						break;
+					case "COUNT":
+						count = Long.parseLong(value);
+						if (count < 1) {
+							return null;
+						}
+						break;
+					case "UNTIL":
+						long[] until = parseUntil(value, start.time.getZone());
+						if (until == null) {
+							return null;
+						}
+						untilSecond = until[0];
+						untilNano = (int) until[1];
+						break;
+					case "WKST":
+						if (!value.equals("MO")) {
+							return null;
+						}
+						break;
+					default:
+						return null;
+				}
+			}
+		}
+		catch (NumberFormatException e) {
+			return null;
+		}
+		if ((frequency < 0) || (interval < 1) || ((frequency == WEEKLY) && ((positiveDays | negativeDays) != 0))) {
+			return null;
+		}
+		return new GTimeRecurrence(start, frequency, interval, daysOfWeek, positiveDays, negativeDays, count, untilSecond, untilNano);
+	}
+
+	/**
+	 * <b>Returns a recurrence given by its parts.</b><p>
+	 * Days of month are not allowed with weekly frequency. In case wrong rule is given, returns null.
+	 * @param start			the GTime of start.
+	 * @param frequency		the String of frequency (daily, weekly, monthly).
+	 * @param interval		the int of periods between occurring periods, 1 for every period.
+	 * @param daysOfWeek	the int[] of days of week (1-7), null or empty for none.
+	 * @param daysOfMonth	the int[] of days of month (1-31 or -1 to -31), null or empty for none.
+	 * @param count			the long of maximal occurrences, 0 for no limit.
+	 * @param until			the GTime of latest occurrence (inclusive), null for no limit.
+	 * @return				the GTimeRecurrence of rule.
+	 */
+	public static GTimeRecurrence getRecurrence(GTime start, String frequency, int interval, int[] daysOfWeek, int[] daysOfMonth, long count, GTime until) {
+		int frequencyIndex = getFrequencyIndex(frequency);
+		if ((start == null) || (frequencyIndex < 0) || (interval < 1) || (count < 0)) {
+			return null;
+		}
+		int weekBits = 0, positiveDays = 0, negativeDays = 0;
+		if (daysOfWeek != null) {
+			for (int dayOfWeek : daysOfWeek) {
+				if ((dayOfWeek < 1) || (dayOfWeek > 7)) {
+					return null;
+				}
+				weekBits |= 1 << dayOfWeek;
+			}
+		}
+		if (daysOfMonth != null) {
+			for (int dayOfMonth : daysOfMonth) {
+				if ((dayOfMonth == 0) || (dayOfMonth < -31) || (dayOfMonth > 31) || (frequencyIndex == WEEKLY)) {
+					return null;
+				}
+				if (dayOfMonth > 0) {
+					positiveDays |= 1 << dayOfMonth;
+				}
+				else {
+					negativeDays |= 1 << -dayOfMonth;
+				}
+			}
+		}
+		long untilSecond = (until == null) ? Long.MAX_VALUE : until.time.toEpochSecond();
+		int untilNano = (until == null) ? NANOSECONDS_PER_SECOND - 1 : until.time.getNano();
+		return new GTimeRecurrence(start, frequencyIndex, interval, weekBits, positiveDays, negativeDays, (count == 0) ? Long.MAX_VALUE : count, untilSecond, untilNano);
+	}
+
+	/**
+	 * <b>Returns the occurrences of a recurrence as a lazy Stream of new GTimes.</b><p>
+	 * The GTimes get the ID and description of the start. Without count and until, the Stream is infinite.
+	 * @param recurrence	the GTimeRecurrence of rule.
+	 * @return				the Stream of occurrences.
+	 */
+	public static Stream<GTime> getOccurrences(GTimeRecurrence recurrence) {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(getOccurrenceIterator(recurrence), Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	/**
+	 * <b>Returns the occurrences of a recurrence as a lazy Iterator of new GTimes.</b><p>
+	 * The GTimes get the ID and description of the start.
+	 * @param recurrence	the GTimeRecurrence of rule.
+	 * @return				the Iterator of occurrences.
+	 */
+	public static Iterator<GTime> getOccurrenceIterator(GTimeRecurrence recurrence) {
+		Cursor cursor = new Cursor(recurrence);
+		return new Iterator<GTime>() {
+			private long next = cursor.nextDay();
+
+			@Override
+			public boolean hasNext() {
+				return next != NONE;
+			}
+
+			@Override
+			public GTime next() {
+				if (next == NONE) {
+					throw new NoSuchElementException();
+				}
+				GTime gTime = toGTime(recurrence, cursor.epochSecond);
+				next = cursor.nextDay();
+				return gTime;
+			}
+		};
+	}
+
+	/**
+	 * <b>Returns the occurrences of a recurrence as a lazy LongStream of epoch seconds (seconds from 1970-01-01T00:00:00Z).</b><p>
+	 * No object is created per occurrence; the nanosecond of every occurrence is the nanosecond of the start.
+	 * @param recurrence	the GTimeRecurrence of rule.
+	 * @return				the LongStream of epoch seconds.
+	 */
+	public static LongStream getEpochSeconds(GTimeRecurrence recurrence) {
+		Cursor cursor = new Cursor(recurrence);
+		PrimitiveIterator.OfLong iterator = new PrimitiveIterator.OfLong() {
+			private boolean ready = cursor.nextDay() != NONE;
+
+			@Override
+			public boolean hasNext() {
+				return ready;
+			}
+
+			@Override
+			public long nextLong() {
+				if (!ready) {
+					throw new NoSuchElementException();
+				}
+				long epochSecond = cursor.epochSecond;
+				ready = cursor.nextDay() != NONE;
+				return epochSecond;
+			}
+		};
+		return StreamSupport.longStream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	/**
+	 * <b>Returns an occurrence of a recurrence by its index, without iterating the previous occurrences.</b><p>
+	 * The first occurrence has index 0. In case there is no such occurrence, returns null.
+	 * @param recurrence	the GTimeRecurrence of rule.
+	 * @param index			the long of index.
+	 * @return				the GTime of occurrence.
+	 */
+	public static GTime getOccurrence(GTimeRecurrence recurrence, long index) {
+		if ((index < 0) || (index >= recurrence.count) || (index > Long.MAX_VALUE - recurrence.skipped)) {
+			return null;
+		}
+		int[] counts = getCycleCounts(recurrence);
+		int perCycle = counts[recurrence.cyclePeriods];
+		if (perCycle == 0) {
+			return null;
+		}
+		long position = index + recurrence.skipped;
+		long cycles = position / perCycle;
+		int rest = (int) (position % perCycle);
+		int periodInCycle = upperBound(counts, rest) - 1;
+		if (cycles > recurrence.maxPeriod / recurrence.cyclePeriods) {
+			return null;
+		}
+		long[] days = new long[31];
+		if (getPeriodDays(recurrence, cycles * recurrence.cyclePeriods + periodInCycle, days) < 0) {
+			return null;
+		}
+		long epochSecond = getEpochSecond(recurrence, days[rest - counts[periodInCycle]]);
+		return isAfterUntil(recurrence, epochSecond) ? null : toGTime(recurrence, epochSecond);
+	}
+
+	/**
+	 * <b>Returns the first occurrence of a recurrence later than a GTime, without iterating the previous occurrences.</b><p>
+	 * In case there is no such occurrence, returns null.
+	 * @param recurrence	the GTimeRecurrence of rule.
+	 * @param gTime			the GTime of datetime.
+	 * @return				the GTime of occurrence.
+	 */
+	public static GTime getFirstAfter(GTimeRecurrence recurrence, GTime gTime) {
+		long epochSecond = gTime.time.toEpochSecond();
+		int nano = gTime.time.getNano();
+		if ((epochSecond < recurrence.startEpochSecond) || ((epochSecond == recurrence.startEpochSecond) && (nano < recurrence.startNano))) {
+			return getOccurrence(recurrence, 0);
+		}
+		int[] counts = getCycleCounts(recurrence);
+		int perCycle = counts[recurrence.cyclePeriods];
+		if (perCycle == 0) {
+			return null;
+		}
+		long localDay = Math.floorDiv(epochSecond + GTimeOffsetTable.getZoneOffsetSeconds(recurrence.zone, epochSecond), SECONDS_PER_DAY);
+		long period = Math.max(getPeriod(recurrence, localDay) - 1, 0L);
+		long position = (period / recurrence.cyclePeriods) * perCycle + counts[(int) (period % recurrence.cyclePeriods)];
+		long[] days = new long[31];
+		for (int emptyPeriods = 0; emptyPeriods <= recurrence.cyclePeriods; period++) {
+			int dayCount = getPeriodDays(recurrence, period, days);
+			if (dayCount < 0) {
+				return null;
+			}
+			emptyPeriods = (dayCount == 0) ? emptyPeriods + 1 : 0;
+			for (int i = 0; i < dayCount; i++, position++) {
+				if (position < recurrence.skipped) {
+					continue;
+				}
+				long occurrenceSecond = getEpochSecond(recurrence, days[i]);
+				if ((occurrenceSecond > epochSecond) || ((occurrenceSecond == epochSecond) && (recurrence.startNano > nano))) {
+					if ((position - recurrence.skipped >= recurrence.count) || isAfterUntil(recurrence, occurrenceSecond)) {
+						return null;
+					}
+					return toGTime(recurrence, occurrenceSecond);
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * <b>Returns the index of a frequency name.</b>
+	 * @param frequency	the String of frequency.
+	 * @return			the int of frequency, -1 for wrong frequency.
+	 */
+	private static int getFrequencyIndex(String frequency) {
+		for (int i = 0; i < frequencyNames.length; i++) {
+			if (frequencyNames[i].equals(frequency)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * <b>Parses the UNTIL part of an RRULE into epoch seconds and nanosecond.</b><p>
+	 * A date means the end of that day in the time zone.
+	 * @param value	the String of UNTIL value.
+	 * @param zone	the ZoneId of time zone.
+	 * @return		the long[] of epoch seconds and nanosecond, or null for wrong value.
+	 */
+	private static long[] parseUntil(String value, ZoneId zone) {
+		try {
+			if (value.length() == 8) {
+				LocalDate date = LocalDate.of(Integer.parseInt(value.substring(0, 4)), Integer.parseInt(value.substring(4, 6)), Integer.parseInt(value.substring(6, 8)));
+				return new long[]{ZonedDateTime.of(date, LocalTime.MAX, zone).toEpochSecond(), NANOSECONDS_PER_SECOND - 1};
+			}
+			if (((value.length() == 15) || ((value.length() == 16) && (value.charAt(15) == 'Z'))) && (value.charAt(8) == 'T')) {
+				LocalDateTime dateTime = LocalDateTime.of(Integer.parseInt(value.substring(0, 4)), Integer.parseInt(value.substring(4, 6)), Integer.parseInt(value.substring(6, 8)),
+						Integer.parseInt(value.substring(9, 11)), Integer.parseInt(value.substring(11, 13)), Integer.parseInt(value.substring(13, 15)));
+				return new long[]{ZonedDateTime.of(dateTime, (value.length() == 16) ? ZoneOffset.UTC : zone).toEpochSecond(), 0};
+			}
+		}
+		catch (RuntimeException e) {
+			return null;
+		}
+		return null;
+	}
+
+	/**
+	 * <b>Collects the occurring days of a period, in order.</b><p>
+	 * Period 0 is the period of the start; days before the start are included.
+	 * @param recurrence	the GTimeRecurrence of rule.
+	 * @param period		the long of period.
+	 * @param days			the long[] of at least 31 elements to fill with epoch days.
+	 * @return				the int of days, -1 when the period is out of the GTime range.
+	 */
+	private static int getPeriodDays(GTimeRecurrence recurrence, long period, long[] days) {
+		if (period > recurrence.maxPeriod) {
+			return -1;
+		}
+		switch (recurrence.frequency) {
+			case DAILY: {
+				long day = recurrence.basePeriod + period * recurrence.interval;
+				if (day > MAX_DAY) {
+					return -1;
+				}
+				if ((recurrence.daysOfWeek != 0) && ((recurrence.daysOfWeek & (1 << getDayOfWeekOfEpochDay(day))) == 0)) {
+					return 0;
+				}
+				if ((recurrence.positiveDays | recurrence.negativeDays) != 0) {
+					long date = getDateOfEpochDay(day);
+					int dayOfMonth = getPackedDay(date);
+					if (!isMonthDay(recurrence, dayOfMonth, getDaysOfMonth(getPackedYear(date), getPackedMonth(date)))) {
+						return 0;
+					}
+				}
+				days[0] = day;
+				return 1;
+			}
+			case WEEKLY: {
+				long monday = recurrence.basePeriod + period * recurrence.interval * 7L;
+				if (monday + 6 > MAX_DAY) {
+					return -1;
+				}
+				int n = 0;
+				for (int dayOfWeek = 1; dayOfWeek <= 7; dayOfWeek++) {
+					if ((recurrence.daysOfWeek & (1 << dayOfWeek)) != 0) {
+						days[n++] = monday + dayOfWeek - 1;
+					}
+				}
+				return n;
+			}
+			default: {
+				long month = recurrence.basePeriod + period * recurrence.interval;
+				long year = Math.floorDiv(month, 12L);
+				if (year > Year.MAX_VALUE) {
+					return -1;
+				}
+				int monthOfYear = (int) Math.floorMod(month, 12L) + 1;
+				int length = getDaysOfMonth((int) year, monthOfYear);
+				long first = getEpochDay((int) year, monthOfYear, 1);
+				int firstDayOfWeek = getDayOfWeekOfEpochDay(first);
+				boolean monthFilter = (recurrence.positiveDays | recurrence.negativeDays) != 0;
+				int n = 0;
+				for (int dayOfMonth = 1; dayOfMonth <= length; dayOfMonth++) {
+					if (monthFilter && !isMonthDay(recurrence, dayOfMonth, length)) {
+						continue;
+					}
+					if ((recurrence.daysOfWeek != 0) && ((recurrence.daysOfWeek & (1 << ((firstDayOfWeek + dayOfMonth - 2) % 7 + 1))) == 0)) {
+						continue;
+					}
+					days[n++] = first + dayOfMonth - 1;
+				}
+				return n;
+			}
+		}
+	}
+
+	/**
+	 * <b>Returns the period of a day, at least 0.</b><p>
+	 * The first occurrence after an instant is searched from the period before the local day of the instant, since a local time in a Daylight Saving Time gap at the end of a day moves into the next day.
+	 * @param recurrence	the GTimeRecurrence of rule.
+	 * @param day			the long of epoch day.
+	 * @return				the long of period.
+	 */
+	private static long getPeriod(GTimeRecurrence recurrence, long day) {
+		long periods;
+		switch (recurrence.frequency) {
+			case DAILY:
+				periods = day - recurrence.basePeriod;
+				break;
+			case WEEKLY:
+				periods = (day - getDayOfWeekOfEpochDay(day) + 1 - recurrence.basePeriod) / 7L;
+				break;
+			default:
+				long date = getDateOfEpochDay(day);
+				periods = getPackedYear(date) * 12L + getPackedMonth(date) - 1 - recurrence.basePeriod;
+		}
+		return Math.max(Math.floorDiv(periods, recurrence.interval), 0L);
+	}
+
+	/**
+	 * <b>Returns the number of occurring days before every period of a cycle, computed on first use.</b><p>
+	 * The last element is the number of occurring days of the whole cycle; the numbers repeat in every cycle.
+	 * @param recurrence	the GTimeRecurrence of rule.
+	 * @return				the int[] of cumulated numbers of days.
+	 */
+	private static int[] getCycleCounts(GTimeRecurrence recurrence) {
+		int[] counts = recurrence.cycleCounts;
+		if (counts == null) {
+			counts = new int[recurrence.cyclePeriods + 1];
+			long[] days = new long[31];
+			for (int period = 0; period < recurrence.cyclePeriods; period++) {
+				counts[period + 1] = counts[period] + Math.max(getPeriodDays(recurrence, period, days), 0);
+			}
+			recurrence.cycleCounts = counts;
+		}
+		return counts;
+	}
+
+	/**
+	 * <b>Checks whether a day of month matches the days of month of the rule.</b>
+	 * @param recurrence	the GTimeRecurrence of rule.
+	 * @param dayOfMonth	the int of day-of-month.
+	 * @param length		the int of days of the month.
+	 * @return				the boolean value marks whether the day matches.
+	 */
+	private static boolean isMonthDay(GTimeRecurrence recurrence, int dayOfMonth, int length) {
+		return ((recurrence.positiveDays & (1 << dayOfMonth)) != 0) || ((recurrence.negativeDays & (1 << (length - dayOfMonth + 1))) != 0);
+	}
+
+	/**
+	 * <b>Returns the epoch seconds of the occurrence on a day.</b>
+	 * @param recurrence	the GTimeRecurrence of rule.
+	 * @param day			the long of epoch day.
+	 * @return				the long of epoch seconds.
+	 */
+	private static long getEpochSecond(GTimeRecurrence recurrence, long day) {
+		long localSecond = day * SECONDS_PER_DAY + recurrence.startSecondOfDay;
+		return localSecond - GTimeOffsetTable.getLocalOffsetSeconds(recurrence.zone, localSecond);
+	}
+
+	/**
+	 * <b>Checks whether an occurrence is later than the until limit of the rule.</b>
+	 * @param recurrence	the GTimeRecurrence of rule.
+	 * @param epochSecond	the long of epoch seconds of occurrence.
+	 * @return				the boolean value marks whether the occurrence is out of the limit.
+	 */
+	private static boolean isAfterUntil(GTimeRecurrence recurrence, long epochSecond) {
+		return (epochSecond > recurrence.untilEpochSecond) || ((epochSecond == recurrence.untilEpochSecond) && (recurrence.startNano > recurrence.untilNano));
+	}
+
+	/**
+	 * <b>Returns the occurrence at an instant as a new GTime.</b>
+	 * @param recurrence	the GTimeRecurrence of rule.
+	 * @param epochSecond	the long of epoch seconds of occurrence.
+	 * @return				the GTime of occurrence.
+	 */
+	private static GTime toGTime(GTimeRecurrence recurrence, long epochSecond) {
+		return new GTime(ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, recurrence.startNano), recurrence.zone), recurrence.ID, recurrence.description);
+	}
+
+	/**
+	 * <b>Returns the first position whose value is greater than the given value.</b>
+	 * @param values	the int[] of ascending values.
+	 * @param value		the int of value.
+	 * @return			the int of position.
+	 */
+	private static int upperBound(int[] values, int value) {
+		int from = 0, to = values.length;
+		while (from < to) {
+			int middle = (from + to) >>> 1;
+			if (values[middle] <= value) {
+				from = middle + 1;
+			}
+			else {
+				to = middle;
+			}
+		}
+		return from;
+	}
+
+	/**
+	 * <b>Returns the greatest common divisor of two positive numbers.</b>
+	 * @param a	the int of first number.
+	 * @param b	the int of second number.
+	 * @return	the int of greatest common divisor.
+	 */
+	private static int gcd(int a, int b) {
+		while (b != 0) {
+			int rest = a % b;
+			a = b;
+			b = rest;
+		}
+		return a;
+	}
+}
@@ -0,0 +1,529 @@
+package GrimmPackage.DateTime;
+
+import java.time.*;
+import java.time.zone.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+
+/**
+ * <b>Provides a scheduler which runs callbacks at GTime instants, stored in a hierarchical timing wheel.</b><p>
+ * The wheel has 11 levels of 64 slots; level 0 holds the timers due in the next 64 ticks, every further level covers 64 times the span of the previous one. A timer is placed on the level of the highest bit in which its tick differs from the current tick, and falls to lower levels as the current tick reaches its slot.<p>
+ * Scheduling and cancelling take O(1) regardless of the number of pending timers; time passes in jumps to the next occupied slot, so an idle wheel costs nothing.<p>
+ * A timer never runs before its instant: instants are rounded up to the next tick (1 millisecond by default), and the current time is read from GTimeClock.<p>
+ * A timer scheduled by local time keeps the local datetime and timezone of the GTime, and its instant is resolved again by the current rules of the timezone (as ZoneRulesProvider gives them) whenever the timer moves between levels and before it runs. A local time in a DST gap is shifted forward by the length of the gap, in a DST overlap the earlier offset is used.<p>
+ * A timer whose instant has already passed runs immediately.<p>
+ * Callbacks run on the executor of the scheduler; by default it starts a virtual thread per callback where the runtime provides virtual threads, otherwise it is the common ForkJoinPool. Callbacks rejected by the executor are dropped.<p>
+ * The wheel is driven by a daemon thread of its own. All methods are thread-safe.<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeScheduler.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * GTimeScheduler()<p>
+ * GTimeScheduler(long tickMilliseconds, Executor executor)<p>
+ * getDefaultExecutor() -> Executor<p>
+ * schedule(GTimeScheduler scheduler, GTime gTime, Runnable task) -> Timer<p>
+ * schedule(GTimeScheduler scheduler, long epochMillisecond, Runnable task) -> Timer<p>
+ * scheduleLocal(GTimeScheduler scheduler, GTime gTime, Runnable task) -> Timer<p>
+ * cancel(GTimeScheduler scheduler, Timer timer) -> boolean<p>
+ * isPending(Timer timer) -> boolean<p>
+ * getPendingCount(GTimeScheduler scheduler) -> int<p>
+ * stopScheduler(GTimeScheduler scheduler) -> int<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeScheduler {
+	private static final int SLOT_BITS = 6;
+	private static final int SLOTS = 1 << SLOT_BITS;
+	private static final int SLOT_MASK = SLOTS - 1;
+	private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+	private static final long MAX_WAIT_MILLISECONDS = 1_000L;
+	private static final byte PENDING = 0, CANCELLED = 1, EXPIRED = 2;
+	private static final Executor defaultExecutor = createDefaultExecutor();
+
+	protected final long tickMilliseconds;
+	protected final long originMillisecond;
+	protected final Executor executor;
+	protected final Timer[][] heads;
+	protected final Timer[][] tails;
+	protected final long[] occupied;
+	protected final Object lock;
+	protected final Thread wheel;
+	protected long currentTick;
+	protected long wakeTick;
+	protected int pendingCount;
+	protected volatile boolean running;
+
+	/**
+	 * <b>Represents a callback scheduled on a GTimeScheduler.</b><p>
+	 * A timer is pending until it runs or it is cancelled.
+	 */
+	public static final class Timer {
+		private final GTimeScheduler scheduler;
+		private final Runnable task;
+		private final ZonedDateTime localTime;
+		private long deadlineTick;
+		private Timer previous;
+		private Timer next;
+		private byte level;
+		private byte slot;
+		private volatile byte state;
+
+		private Timer(GTimeScheduler scheduler, Runnable task, ZonedDateTime localTime) {
+			this.scheduler = scheduler;
+			this.task = task;
+			this.localTime = localTime;
+			this.state = PENDING;
+		}
+	}
+
+	/**
+	 * <b>Constructs a GTimeScheduler with ticks of 1 millisecond and the default executor.</b>
+	 */
+	public GTimeScheduler() {
+		this(1L, defaultExecutor);
+	}
+
+	/**
+	 * <b>Constructs a GTimeScheduler with the given tick and executor.</b><p>
+	 * A tick shorter than 1 millisecond is taken as 1 millisecond. In case the executor is null, the default executor is used.
+	 * @param tickMilliseconds	the long of milliseconds of a tick.
+	 * @param executor			the Executor of callbacks.
+	 */
+	public GTimeScheduler(long tickMilliseconds, Executor executor) {
+		this.tickMilliseconds = Math.max(tickMilliseconds, 1L);
+		this.originMillisecond = GTimeClock.getClock().millis();
+		this.executor = (executor == null) ? defaultExecutor : executor;
+		this.heads = new Timer[LEVELS][SLOTS];
+		this.tails = new Timer[LEVELS][SLOTS];
+		this.occupied = new long[LEVELS];
+		this.lock = new Object();
+		this.currentTick = 0L;
+		this.wakeTick = Long.MAX_VALUE;
+		this.pendingCount = 0;
+		this.running = true;
+		this.wheel = new Thread(this::runWheel, "GTimeScheduler-wheel");
+		this.wheel.setDaemon(true);
+		this.wheel.start();
+	}
+
+	/**
+	 * <b>Creates the executor which starts a virtual thread per callback, or returns the common ForkJoinPool where the runtime has no virtual threads.</b>
+	 * @return	the Executor of callbacks.
+	 */
+	private static Executor createDefaultExecutor() {
+		try {
+			return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		}
+		catch (Exception | LinkageError e) {
+			return ForkJoinPool.commonPool();
+		}
+	}
+
+	/**
+	 * <b>Returns the executor used by schedulers constructed without one.</b><p>
+	 * It starts a virtual thread per callback where the runtime provides virtual threads, otherwise it is the common ForkJoinPool.
+	 * @return	the Executor of callbacks.
+	 */
+	public static Executor getDefaultExecutor() {
+		return defaultExecutor;
+	}
+
+	/**
+	 * <b>Schedules a callback at the instant of a GTime.</b><p>
+	 * Later changes of the GTime do not move the timer.<p>
+	 * In case the GTime or the task is null, or the scheduler is stopped, nothing is scheduled and returns null.
+	 * @param scheduler	the GTimeScheduler of timers.
+	 * @param gTime		the GTime of instant.
+	 * @param task		the Runnable of callback.
+	 * @return			the Timer of callback.
+	 */
+	public static Timer schedule(GTimeScheduler scheduler, GTime gTime, Runnable task) {
+		if ((gTime == null) || (task == null)) {
+			return null;
+		}
+		return addTimer(scheduler, new Timer(scheduler, task, null), getEpochMillisecond(gTime.time.toEpochSecond(), gTime.time.getNano()));
+	}
+
+	/**
+	 * <b>Schedules a callback at an instant given in milliseconds from the epoch of 1970-01-01T00:00:00Z.</b><p>
+	 * In case the task is null or the scheduler is stopped, nothing is scheduled and returns null.
+	 * @param scheduler			the GTimeScheduler of timers.
+	 * @param epochMillisecond	the long of milliseconds from the epoch.
+	 * @param task				the Runnable of callback.
+	 * @return					the Timer of callback.
+	 */
+	public static Timer schedule(GTimeScheduler scheduler, long epochMillisecond, Runnable task) {
+		if (task == null) {
+			return null;
+		}
+		return addTimer(scheduler, new Timer(scheduler, task, null), epochMillisecond);
+	}
+
+	/**
+	 * <b>Schedules a callback at the local datetime of a GTime in its timezone.</b><p>
+	 * The instant is resolved again by the then-current rules of the timezone while the timer is pending, so the callback runs at the local datetime even if the rules change meanwhile.<p>
+	 * Later changes of the GTime do not move the timer.<p>
+	 * In case the GTime or the task is null, or the scheduler is stopped, nothing is scheduled and returns null.
+	 * @param scheduler	the GTimeScheduler of timers.
+	 * @param gTime		the GTime of local datetime and timezone.
+	 * @param task		the Runnable of callback.
+	 * @return			the Timer of callback.
+	 */
+	public static Timer scheduleLocal(GTimeScheduler scheduler, GTime gTime, Runnable task) {
+		if ((gTime == null) || (task == null)) {
+			return null;
+		}
+		ZonedDateTime localTime = gTime.time;
+		return addTimer(scheduler, new Timer(scheduler, task, localTime), getLocalEpochMillisecond(localTime));
+	}
+
+	/**
+	 * <b>Cancels a pending timer.</b><p>
+	 * In case the timer is null, it belongs to another scheduler, it has already run or it has been cancelled, returns false.
+	 * @param scheduler	the GTimeScheduler of timers.
+	 * @param timer		the Timer of callback.
+	 * @return			the boolean value marks whether the timer was cancelled.
+	 */
+	public static boolean cancel(GTimeScheduler scheduler, Timer timer) {
+		if ((timer == null) || (timer.scheduler != scheduler)) {
+			return false;
+		}
+		synchronized (scheduler.lock) {
+			if (timer.state != PENDING) {
+				return false;
+			}
+			unlink(scheduler, timer);
+			timer.state = CANCELLED;
+		}
+		return true;
+	}
+
+	/**
+	 * <b>Checks whether a timer is pending, therefore it has neither run nor been cancelled.</b><p>
+	 * In case the timer is null, returns false.
+	 * @param timer	the Timer of callback.
+	 * @return		the boolean value marks whether the timer is pending.
+	 */
+	public static boolean isPending(Timer timer) {
+		return (timer != null) && (timer.state == PENDING);
+	}
+
+	/**
+	 * <b>Returns the number of pending timers of GTimeScheduler.</b>
+	 * @param scheduler	the GTimeScheduler of timers.
+	 * @return			the int of pending timers.
+	 */
+	public static int getPendingCount(GTimeScheduler scheduler) {
+		synchronized (scheduler.lock) {
+			return scheduler.pendingCount;
+		}
+	}
+
+	/**
+	 * <b>Stops GTimeScheduler, cancelling all pending timers.</b><p>
+	 * Callbacks already handed over to the executor are not affected. A stopped scheduler does not accept timers any more.<p>
+	 * In case the scheduler is already stopped, returns 0.
+	 * @param scheduler	the GTimeScheduler of timers.
+	 * @return			the int of cancelled timers.
+	 */
+	public static int stopScheduler(GTimeScheduler scheduler) {
+		int count;
+		synchronized (scheduler.lock) {
+			if (!scheduler.running) {
+				return 0;
+			}
+			scheduler.running = false;
+			for (int level = 0; level < LEVELS; level++) {
+				for (int slot = 0; slot < SLOTS; slot++) {
+					Timer timer = scheduler.heads[level][slot];
+					while (timer != null) {
+						Timer next = timer.next;
+						timer.previous = null;
+						timer.next = null;
+						timer.state = CANCELLED;
+						timer = next;
+					}
+					scheduler.heads[level][slot] = null;
+					scheduler.tails[level][slot] = null;
+				}
+				scheduler.occupied[level] = 0L;
+			}
+			count = scheduler.pendingCount;
+			scheduler.pendingCount = 0;
+		}
+		LockSupport.unpark(scheduler.wheel);
+		return count;
+	}
+
+	/**
+	 * <b>Adds a timer to the wheel, or runs it when its instant has already passed.</b>
+	 * @param scheduler			the GTimeScheduler of timers.
+	 * @param timer				the Timer of callback.
+	 * @param epochMillisecond	the long of milliseconds from the epoch.
+	 * @return					the Timer of callback, or null when the scheduler is stopped.
+	 */
+	private static Timer addTimer(GTimeScheduler scheduler, Timer timer, long epochMillisecond) {
+		boolean expired;
+		boolean waking = false;
+		synchronized (scheduler.lock) {
+			if (!scheduler.running) {
+				return null;
+			}
+			timer.deadlineTick = scheduler.getDeadlineTick(epochMillisecond);
+			expired = timer.deadlineTick <= scheduler.currentTick;
+			if (expired) {
+				timer.state = EXPIRED;
+			}
+			else {
+				link(scheduler, timer);
+				if (timer.deadlineTick < scheduler.wakeTick) {
+					scheduler.wakeTick = timer.deadlineTick;
+					waking = true;
+				}
+			}
+		}
+		if (expired) {
+			execute(scheduler, timer);
+		}
+		else if (waking) {
+			LockSupport.unpark(scheduler.wheel);
+		}
+		return timer;
+	}
+
+	/**
+	 * <b>Drives the wheel: runs the expired timers, then sleeps until the next occupied tick or until an earlier timer is added.</b>
+	 */
+	private void runWheel() {
+		List<Timer> expired = new ArrayList<>();
+		while (running) {
+			long nowMillisecond = GTimeClock.getClock().millis();
+			long waitMilliseconds;
+			synchronized (lock) {
+				if (!running) {
+					break;
+				}
+				advance(getTick(nowMillisecond), expired);
+				wakeTick = getNextTick();
+				waitMilliseconds = getWaitMilliseconds(wakeTick, nowMillisecond);
+			}
+			for (Timer timer : expired) {
+				execute(this, timer);
+			}
+			expired.clear();
+			if (waitMilliseconds > 0L) {
+				LockSupport.parkNanos(this, waitMilliseconds * 1_000_000L);
+			}
+		}
+	}
+
+	/**
+	 * <b>Moves the current tick up to the given tick, collecting the timers which expire meanwhile.</b>
+	 * @param nowTick	the long of tick to reach.
+	 * @param expired	the List of expired timers.
+	 */
+	private void advance(long nowTick, List<Timer> expired) {
+		long nextTick;
+		while ((nextTick = getNextTick()) <= nowTick) {
+			currentTick = nextTick;
+			for (int level = LEVELS - 1; level > 0; level--) {
+				int shift = level * SLOT_BITS;
+				if ((nextTick & ((1L << shift) - 1L)) == 0L) {
+					processSlot(level, (int) (nextTick >>> shift) & SLOT_MASK, expired);
+				}
+			}
+			processSlot(0, (int) nextTick & SLOT_MASK, expired);
+		}
+		if (nowTick > currentTick) {
+			currentTick = nowTick;
+		}
+	}
+
+	/**
+	 * <b>Empties a slot, moving its timers to lower levels or collecting them as expired.</b>
+	 * @param level		the int of level.
+	 * @param slot		the int of slot.
+	 * @param expired	the List of expired timers.
+	 */
+	private void processSlot(int level, int slot, List<Timer> expired) {
+		Timer timer = heads[level][slot];
+		if (timer == null) {
+			return;
+		}
+		heads[level][slot] = null;
+		tails[level][slot] = null;
+		occupied[level] &= ~(1L << slot);
+		while (timer != null) {
+			Timer next = timer.next;
+			timer.previous = null;
+			timer.next = null;
+			pendingCount--;
+			if (timer.localTime != null) {
+				timer.deadlineTick = getDeadlineTick(getLocalEpochMillisecond(timer.localTime));
+			}
+			if (timer.deadlineTick <= currentTick) {
+				timer.state = EXPIRED;
+				expired.add(timer);
+			}
+			else {
+				link(this, timer);
+			}
+			timer = next;
+		}
+	}
+
+	/**
+	 * <b>Returns the next tick at which a slot has to be processed, or Long.MAX_VALUE when the wheel is empty.</b><p>
+	 * The timers of a level lie in slots after the slot of the current tick, within the current round of the level above; a lower level always comes due earlier than a higher one.
+	 * @return	the long of tick.
+	 */
+	private long getNextTick() {
+		for (int level = 0; level < LEVELS; level++) {
+			int shift = level * SLOT_BITS;
+			int currentSlot = (int) (currentTick >>> shift) & SLOT_MASK;
+			long slots = (currentSlot == SLOT_MASK) ? 0L : occupied[level] & (-1L << (currentSlot + 1));
+			if (slots != 0L) {
+				int roundShift = shift + SLOT_BITS;
+				long round = (roundShift >= Long.SIZE) ? 0L : (currentTick >>> roundShift) << roundShift;
+				return round | ((long) Long.numberOfTrailingZeros(slots) << shift);
+			}
+		}
+		return Long.MAX_VALUE;
+	}
+
+	/**
+	 * <b>Returns the milliseconds to sleep until the given tick, at most MAX_WAIT_MILLISECONDS so that clock changes are noticed.</b>
+	 * @param tick				the long of tick.
+	 * @param nowMillisecond	the long of current milliseconds from the epoch.
+	 * @return					the long of milliseconds.
+	 */
+	private long getWaitMilliseconds(long tick, long nowMillisecond) {
+		if (tick - currentTick > MAX_WAIT_MILLISECONDS / tickMilliseconds) {
+			return MAX_WAIT_MILLISECONDS;
+		}
+		return Math.min(originMillisecond + tick * tickMilliseconds - nowMillisecond, MAX_WAIT_MILLISECONDS);
+	}
+
+	/**
+	 * <b>Returns the tick which has passed at the given instant.</b>
+	 * @param epochMillisecond	the long of milliseconds from the epoch.
+	 * @return					the long of tick.
+	 */
+	private long getTick(long epochMillisecond) {
+		return (epochMillisecond <= originMillisecond) ? 0L : (epochMillisecond - originMillisecond) / tickMilliseconds;
+	}
+
+	/**
+	 * <b>Returns the first tick at or after the given instant, so that no timer runs early.</b>
+	 * @param epochMillisecond	the long of milliseconds from the epoch.
+	 * @return					the long of tick.
+	 */
+	private long getDeadlineTick(long epochMillisecond) {
+		return (epochMillisecond <= originMillisecond) ? 0L : (epochMillisecond - originMillisecond - 1L) / tickMilliseconds + 1L;
+	}
+
+	/**
+	 * <b>Links a timer to the end of the slot of its tick.</b>
+	 * @param scheduler	the GTimeScheduler of timers.
+	 * @param timer		the Timer of callback.
+	 */
+	private static void link(GTimeScheduler scheduler, Timer timer) {
+		int level = (Long.SIZE - 1 - Long.numberOfLeadingZeros(timer.deadlineTick ^ scheduler.currentTick)) / SLOT_BITS;
+		int slot = (int) (timer.deadlineTick >>> (level * SLOT_BITS)) & SLOT_MASK;
+		Timer tail = scheduler.tails[level][slot];
+		timer.level = (byte) level;
+		timer.slot = (byte) slot;
+		timer.previous = tail;
+		timer.next = null;
+		if (tail == null) {
+			scheduler.heads[level][slot] = timer;
+			scheduler.occupied[level] |= 1L << slot;
+		}
+		else {
+			tail.next = timer;
+		}
+		scheduler.tails[level][slot] = timer;
+		scheduler.pendingCount++;
+	}
+
+	/**
+	 * <b>Unlinks a timer from its slot.</b>
+	 * @param scheduler	the GTimeScheduler of timers.
+	 * @param timer		the Timer of callback.
+	 */
+	private static void unlink(GTimeScheduler scheduler, Timer timer) {
+		int level = timer.level;
+		int slot = timer.slot;
+		if (timer.previous == null) {
+			scheduler.heads[level][slot] = timer.next;
+		}
+		else {
+			timer.previous.next = timer.next;
+		}
+		if (timer.next == null) {
+			scheduler.tails[level][slot] = timer.previous;
+		}
+		else {
+			timer.next.previous = timer.previous;
+		}
+		if (scheduler.heads[level][slot] == null) {
+			scheduler.occupied[level] &= ~(1L << slot);
+		}
+		timer.previous = null;
+		timer.next = null;
+		scheduler.pendingCount--;
+	}
+
+	/**
+	 * <b>Hands the callback of an expired timer over to the executor.</b>
+	 * @param scheduler	the GTimeScheduler of timers.
+	 * @param timer		the Timer of callback.
+	 */
+	private static void execute(GTimeScheduler scheduler, Timer timer) {
+		try {
+			scheduler.executor.execute(timer.task);
+		}
+		catch (RejectedExecutionException e) {
+			// dropped, as documented
+		}
+	}
+
+	/**
+	 * <b>Resolves a local datetime by the current rules of its timezone, in milliseconds from the epoch.</b><p>
+	 * The rules of a region are asked from ZoneRulesProvider without caching, so that rules refreshed meanwhile are used.
+	 * @param localTime	the ZonedDateTime of local datetime and timezone.
+	 * @return			the long of milliseconds from the epoch.
+	 */
+	private static long getLocalEpochMillisecond(ZonedDateTime localTime) {
+		ZoneId zone = localTime.getZone();
+		ZoneRules rules;
+		try {
+			rules = (zone instanceof ZoneOffset) ? zone.getRules() : ZoneRulesProvider.getRules(zone.getId(), false);
+		}
+		catch (Exception e) {
+			rules = zone.getRules();
+		}
+		LocalDateTime local = localTime.toLocalDateTime();
+		List<ZoneOffset> offsets = rules.getValidOffsets(local);
+		ZoneOffset offset = offsets.isEmpty() ? rules.getTransition(local).getOffsetBefore() : offsets.get(0);
+		return getEpochMillisecond(local.toEpochSecond(offset), local.getNano());
+	}
+
+	/**
+	 * <b>Returns an instant in milliseconds from the epoch, rounded up and saturated at the long range.</b>
+	 * @param epochSecond	the long of seconds from the epoch.
+	 * @param nanosecond	the int of nanoseconds of the second.
+	 * @return				the long of milliseconds from the epoch.
+	 */
+	private static long getEpochMillisecond(long epochSecond, int nanosecond) {
+		if (epochSecond >= Long.MAX_VALUE / 1_000L) {
+			return Long.MAX_VALUE;
+		}
+		if (epochSecond <= Long.MIN_VALUE / 1_000L) {
+			return Long.MIN_VALUE;
+		}
+		return epochSecond * 1_000L + (nanosecond + 999_999) / 1_000_000;
+	}
+}
@@ -0,0 +1,783 @@
+package GrimmPackage.DateTime;
+
+import java.io.*;
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import static GrimmPackage.DateTime.GTimeArithmetic.*;
+import static GrimmPackage.DateTime.GTimeZoneCache.*;
+
+/**
+ * <b>Provides an append-only store of GTime rows in memory-mapped files, for datasets which do not fit on the heap.</b><p>
+ * The data file starts with a header: the magic bytes "GTST", a version byte, the number of rows (long at byte 8), the number of time zones (int at byte 16), and a dictionary of up to 1024 time zones in slots of 64 bytes (length byte and UTF-8 bytes of the time zone ID) from byte 64. Rows of 24 bytes follow from byte 65600: epoch second (long), nanosecond (int), time zone index (int) and the offset of ID and description in the text file (long, 0 for none). All numbers are little-endian.<p>
+ * The text file is the data file name followed by ".text". It starts with the magic bytes "GTSX" and a version byte, padded to 8 bytes; an entry has the byte lengths of ID and description (ints) followed by their UTF-8 bytes. Only rows with a non-empty ID or description have an entry.<p>
+ * Opening a store reads the header and maps the rows without reading them, therefore it takes the same time for any number of rows. Rows are mapped in segments of 2^25 rows (768 MiB); while appending, the mapping of the last segment doubles as it fills, so the data file is at most about twice the size of its rows. A replaced mapping is released at once where the runtime allows it, otherwise by the garbage collector.<p>
+ * Rows are read by index, or scanned in order into a reused GTime or into a callback of primitives, which reads no text and creates no objects.<p>
+ * ID and description are read through a window of 64 KiB of the text file, kept per thread, therefore an ordered scan reads the text file in blocks and does not allocate buffers per row. A window holds no reference to its store: it is marked by the number of the store, and it is read again when the thread reads another store; each reading thread keeps one window for all stores.<p>
+ * Appending writes the text entry, then the row, then the number of rows, so after a crash of the process the store contains the rows counted in its header. The operating system writes the mapped pages back in any order, therefore after an operating system crash or power failure only the rows forced by flushStore() are safe, and a row count written back earlier than its rows can count rows which were not stored.<p>
+ * In case a GTime has a time zone which does not fit into the dictionary (more than 1024 time zones, or an ID longer than 63 bytes), it is not appended and -1 is returned.<p>
+ * A store is not thread-safe for appending. Reading uses absolute positions, therefore any number of threads can read a store while no thread appends; the callback of a scan must not append either. After closing, the store has no rows.<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeStore.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * openStore(Path path) -> GTimeStore<p>
+ * openStore(Path path, boolean readOnly) -> GTimeStore<p>
+ * flushStore(GTimeStore store)<p>
+ * closeStore(GTimeStore store)<p>
+ * getStoreSize(GTimeStore store) -> long<p>
+ * isReadOnly(GTimeStore store) -> boolean<p>
+ * appendGTime(GTimeStore store, GTime gTime) -> long<p>
+ * appendInstant(GTimeStore store, long epochSecond, int nanosecond, String timezone) -> long<p>
+ * getGTime(GTimeStore store, long row) -> GTime<p>
+ * readGTimeInto(GTimeStore store, long row, GTime gTime) -> boolean<p>
+ * getEpochSecond(GTimeStore store, long row) -> long<p>
+ * getNanosecond(GTimeStore store, long row) -> int<p>
+ * getZoneIndex(GTimeStore store, long row) -> int<p>
+ * getZoneCount(GTimeStore store) -> int<p>
+ * getTimezone(GTimeStore store, int zoneIndex) -> String<p>
+ * scanStore(GTimeStore store, long fromRow, long toRow, InstantConsumer consumer) -> long<p>
+ * scanStore(GTimeStore store, long fromRow, long toRow, GTime gTime, Consumer&lt;GTime&gt; consumer) -> long<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeStore {
+	static final byte[] MAGIC = new byte[]{'G', 'T', 'S', 'T'};
+	static final byte[] TEXT_MAGIC = new byte[]{'G', 'T', 'S', 'X'};
+	static final byte VERSION = 1;
+	private static final int ROW_COUNT = 8, ZONE_COUNT = 16, ZONE_TABLE = 64;
+	private static final int MAX_ZONES = 1024, ZONE_SLOT_BYTES = 64;
+	private static final long HEADER_BYTES = ZONE_TABLE + (long) MAX_ZONES * ZONE_SLOT_BYTES;
+	private static final int TEXT_HEADER_BYTES = 8;
+	private static final int RECORD_BYTES = 24;
+	private static final int SEGMENT_SHIFT = 25;
+	private static final int SEGMENT_ROWS = 1 << SEGMENT_SHIFT;
+	private static final int MIN_MAPPED_ROWS = 4_096;
+	private static final int TEXT_WINDOW_BYTES = 65_536;
+	private static final MethodHandle UNMAP = getUnmapHandle();
+	private static final AtomicLong storeNumbers = new AtomicLong();
+	private static final ThreadLocal<TextWindow> textWindow = ThreadLocal.withInitial(TextWindow::new);
+
+	protected final FileChannel dataChannel;
+	protected final FileChannel textChannel;
+	protected final boolean readOnly;
+	protected final MappedByteBuffer header;
+	protected MappedByteBuffer[] segments;
+	protected int segmentCount;
+	protected int lastMappedRows;
+	protected long size;
+	protected long textSize;
+	protected ZoneId[] zones;
+	protected int zoneCount;
+	protected final HashMap<ZoneId, Integer> zoneIndexes;
+	protected final long storeNumber;
+	protected boolean closed;
+
+	/**
+	 * <b>Holds a block of the text file of a store read by a thread, from start (inclusive) for length bytes.</b><p>
+	 * The text file is only appended, therefore the bytes of a window never change while it belongs to the same store.
+	 */
+	private static final class TextWindow {
+		private final ByteBuffer buffer = ByteBuffer.allocate(TEXT_WINDOW_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		private long storeNumber;
+		private long start;
+		private int length;
+	}
+
+	/**
+	 * <b>Receives the rows of a scan as primitives.</b>
+	 */
+	@FunctionalInterface
+	public interface InstantConsumer {
+
+		/**
+		 * <b>Called for each row of the scan, in order.</b>
+		 * @param row			the long of row index.
+		 * @param epochSecond	the long of epoch second.
+		 * @param nanosecond	the int of nanosecond.
+		 * @param zoneIndex		the int of time zone index (see getTimezone()).
+		 */
+		void accept(long row, long epochSecond, int nanosecond, int zoneIndex);
+	}
+
+	/**
+	 * <b>Constructs GTimeStore on open channels, creating or checking the headers.</b>
+	 * @param dataChannel	the FileChannel of data file.
+	 * @param textChannel	the FileChannel of text file.
+	 * @param readOnly		the boolean value marks whether the store is read-only.
+	 * @throws IOException	in case the files fail or they are not a GTime store.
+	 */
+	private GTimeStore(FileChannel dataChannel, FileChannel textChannel, boolean readOnly) throws IOException {
+		this.dataChannel = dataChannel;
+		this.textChannel = textChannel;
+		this.readOnly = readOnly;
+		this.zones = new ZoneId[16];
+		this.zoneIndexes = new HashMap<>();
+		this.storeNumber = storeNumbers.incrementAndGet();
+		long dataLength = dataChannel.size();
+		if (readOnly && (dataLength < HEADER_BYTES)) {
+			throw new IOException("Not a GTime store.");
+		}
+		boolean created = dataLength == 0;
+		if (!created && (dataLength < HEADER_BYTES)) {
+			throw new IOException("Not a GTime store.");
+		}
+		header = dataChannel.map(readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+		header.order(ByteOrder.LITTLE_ENDIAN);
+		if (created) {
+			header.put(0, MAGIC[0]).put(1, MAGIC[1]).put(2, MAGIC[2]).put(3, MAGIC[3]).put(4, VERSION);
+			header.putLong(ROW_COUNT, 0L).putInt(ZONE_COUNT, 0);
+		}
+		else {
+			readHeader(dataLength);
+		}
+		textSize = textChannel.size();
+		if ((textSize == 0) && !readOnly) {
+			ByteBuffer textHeader = ByteBuffer.allocate(TEXT_HEADER_BYTES).put(TEXT_MAGIC).put(VERSION);
+			textHeader.clear();
+			writeFully(textChannel, textHeader, 0);
+			textSize = TEXT_HEADER_BYTES;
+		}
+		else {
+			ByteBuffer textHeader = ByteBuffer.allocate(TEXT_HEADER_BYTES);
+			if ((textSize < TEXT_HEADER_BYTES) || (readFully(textChannel, textHeader, 0) < TEXT_HEADER_BYTES) || !isMagic(textHeader, TEXT_MAGIC) || (textHeader.get(4) < 1) || (textHeader.get(4) > VERSION)) {
+				throw new IOException("Not a GTime store text file.");
+			}
+		}
+		segments = new MappedByteBuffer[Math.max((int) ((size + SEGMENT_ROWS - 1) >>> SEGMENT_SHIFT), 4)];
+		while (((long) segmentCount << SEGMENT_SHIFT) < size) {
+			int rows = (int) Math.min(size - ((long) segmentCount << SEGMENT_SHIFT), SEGMENT_ROWS);
+			if (!readOnly && (rows < SEGMENT_ROWS)) {
+				rows = Math.min(Math.max(Integer.highestOneBit(rows - 1) << 1, MIN_MAPPED_ROWS), SEGMENT_ROWS);
+			}
+			segments[segmentCount] = mapSegment(segmentCount, rows);
+			lastMappedRows = rows;
+			segmentCount++;
+		}
+	}
+
+	/**
+	 * <b>Checks the header of an existing data file and reads the number of rows and the time zones.</b>
+	 * @param dataLength	the long of data file length.
+	 * @throws IOException	in case the header is not of a GTime store.
+	 */
+	private void readHeader(long dataLength) throws IOException {
+		if (!isMagic(header, MAGIC)) {
+			throw new IOException("Not a GTime store.");
+		}
+		byte version = header.get(4);
+		if ((version < 1) || (version > VERSION)) {
+			throw new IOException("Unsupported GTime store version: " + version + ".");
+		}
+		size = header.getLong(ROW_COUNT);
+		if ((size < 0) || (size > (dataLength - HEADER_BYTES) / RECORD_BYTES)) {
+			throw new IOException("Invalid row count in GTime store: " + size + ".");
+		}
+		int count = header.getInt(ZONE_COUNT);
+		if ((count < 0) || (count > MAX_ZONES)) {
+			throw new IOException("Invalid time zone count in GTime store: " + count + ".");
+		}
+		byte[] zoneBytes = new byte[ZONE_SLOT_BYTES];
+		for (int i = 0; i < count; i++) {
+			int slot = ZONE_TABLE + i * ZONE_SLOT_BYTES;
+			int length = header.get(slot) & 0xFF;
+			if (length >= ZONE_SLOT_BYTES) {
+				throw new IOException("Invalid time zone in GTime store at index " + i + ".");
+			}
+			header.get(slot + 1, zoneBytes, 0, length);
+			String zoneID = new String(zoneBytes, 0, length, StandardCharsets.UTF_8);
+			ZoneId zone = getZone(zoneID);
+			if (zone == null) {
+				throw new IOException("Unknown time zone in GTime store: " + zoneID + ".");
+			}
+			addZone(zone);
+		}
+	}
+
+	/**
+	 * <b>Opens a GTime store for reading and appending, creating it when the data file does not exist.</b>
+	 * @param path	the Path of data file; the text file is next to it.
+	 * @return		the GTimeStore of rows.
+	 * @throws IOException	in case the files fail or they are not a GTime store.
+	 */
+	public static GTimeStore openStore(Path path) throws IOException {
+		return openStore(path, false);
+	}
+
+	/**
+	 * <b>Opens a GTime store.</b><p>
+	 * A read-only store has to exist; otherwise the store is created when the data file does not exist.
+	 * @param path		the Path of data file; the text file is next to it.
+	 * @param readOnly	the boolean value marks whether the store is opened for reading only.
+	 * @return			the GTimeStore of rows.
+	 * @throws IOException	in case the files fail or they are not a GTime store.
+	 */
+	public static GTimeStore openStore(Path path, boolean readOnly) throws IOException {
+		Path textPath = path.resolveSibling(path.getFileName() + ".text");
+		OpenOption[] options = readOnly ? new OpenOption[]{StandardOpenOption.READ} : new OpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE};
+		FileChannel dataChannel = FileChannel.open(path, options);
+		FileChannel textChannel = null;
+		try {
+			textChannel = FileChannel.open(textPath, options);
+			return new GTimeStore(dataChannel, textChannel, readOnly);
+		}
+		catch (IOException | RuntimeException e) {
+			dataChannel.close();
+			if (textChannel != null) {
+				textChannel.close();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * <b>Forces the appended rows and texts onto the disk.</b><p>
+	 * On a read-only or closed store, nothing happens.
+	 * @param store	the GTimeStore of rows.
+	 * @throws IOException	in case the files fail.
+	 */
+	public static void flushStore(GTimeStore store) throws IOException {
+		if (store.readOnly || store.closed) {
+			return;
+		}
+		store.textChannel.force(false);
+		for (int i = 0; i < store.segmentCount; i++) {
+			store.segments[i].force();
+		}
+		store.header.force();
+	}
+
+	/**
+	 * <b>Flushes and closes the store.</b><p>
+	 * Closing a closed store does nothing.
+	 * @param store	the GTimeStore of rows.
+	 * @throws IOException	in case the files fail.
+	 */
+	public static void closeStore(GTimeStore store) throws IOException {
+		if (store.closed) {
+			return;
+		}
+		try {
+			flushStore(store);
+		}
+		finally {
+			store.closed = true;
+			store.size = 0;
+			store.segments = new MappedByteBuffer[0];
+			store.segmentCount = 0;
+			try {
+				store.dataChannel.close();
+			}
+			finally {
+				store.textChannel.close();
+			}
+		}
+	}
+
+	/**
+	 * <b>Returns the number of rows of the store.</b>
+	 * @param store	the GTimeStore of rows.
+	 * @return		the long of rows.
+	 */
+	public static long getStoreSize(GTimeStore store) {
+		return store.size;
+	}
+
+	/**
+	 * <b>Checks whether the store was opened for reading only.</b>
+	 * @param store	the GTimeStore of rows.
+	 * @return		the boolean value marks whether the store is read-only.
+	 */
+	public static boolean isReadOnly(GTimeStore store) {
+		return store.readOnly;
+	}
+
+	/**
+	 * <b>Appends a GTime with its instant, time zone, ID and description.</b><p>
+	 * In case the store is read-only or the time zone does not fit into the dictionary, nothing is appended and returns -1.
+	 * @param store	the GTimeStore of rows.
+	 * @param gTime	the GTime of datetime.
+	 * @return		the long of row index.
+	 * @throws IOException	in case the files fail or the store is closed.
+	 */
+	public static long appendGTime(GTimeStore store, GTime gTime) throws IOException {
+		ZonedDateTime time = gTime.time;
+		return appendRow(store, time.toEpochSecond(), time.getNano(), time.getZone(), gTime.ID, gTime.description);
+	}
+
+	/**
+	 * <b>Appends an instant on a given time zone, without ID and description.</b><p>
+	 * In case the store is read-only, wrong time zone or nanosecond is given, or the time zone does not fit into the dictionary, nothing is appended and returns -1.
+	 * @param store			the GTimeStore of rows.
+	 * @param epochSecond	the long of epoch second.
+	 * @param nanosecond	the int of nanosecond.
+	 * @param timezone		the String of time zone.
+	 * @return				the long of row index.
+	 * @throws IOException	in case the files fail or the store is closed.
+	 */
+	public static long appendInstant(GTimeStore store, long epochSecond, int nanosecond, String timezone) throws IOException {
+		ZoneId zi = getZone(timezone);
+		if ((zi == null) || (nanosecond < 0) || (nanosecond >= NANOSECONDS_PER_SECOND)) {
+			return -1;
+		}
+		return appendRow(store, epochSecond, nanosecond, zi, null, null);
+	}
+
+	/**
+	 * <b>Returns a new GTime of a row.</b><p>
+	 * In case wrong row is given, returns null.
+	 * @param store	the GTimeStore of rows.
+	 * @param row	the long of row index.
+	 * @return		the GTime of datetime.
+	 * @throws IOException	in case the text file fails or the row is malformed.
+	 */
+	public static GTime getGTime(GTimeStore store, long row) throws IOException {
+		GTime gTime = new GTime(null, "", "");
+		return readGTimeInto(store, row, gTime) ? gTime : null;
+	}
+
+	/**
+	 * <b>Reads a row into an existing GTime.</b><p>
+	 * In case wrong row is given, the GTime is not changed and returns false.
+	 * @param store	the GTimeStore of rows.
+	 * @param row	the long of row index.
+	 * @param gTime	the GTime to overwrite.
+	 * @return		the boolean value marks whether the row was read.
+	 * @throws IOException	in case the text file fails or the row is malformed.
+	 */
+	public static boolean readGTimeInto(GTimeStore store, long row, GTime gTime) throws IOException {
+		if ((row < 0) || (row >= store.size)) {
+			return false;
+		}
+		ByteBuffer segment = store.segments[(int) (row >>> SEGMENT_SHIFT)];
+		readRow(store, segment, (int) (row & (SEGMENT_ROWS - 1)) * RECORD_BYTES, gTime);
+		return true;
+	}
+
+	/**
+	 * <b>Returns the epoch second of a row.</b><p>
+	 * In case wrong row is given, returns Long.MIN_VALUE.
+	 * @param store	the GTimeStore of rows.
+	 * @param row	the long of row index.
+	 * @return		the long of epoch second.
+	 */
+	public static long getEpochSecond(GTimeStore store, long row) {
+		if ((row < 0) || (row >= store.size)) {
+			return Long.MIN_VALUE;
+		}
+		return store.segments[(int) (row >>> SEGMENT_SHIFT)].getLong((int) (row & (SEGMENT_ROWS - 1)) * RECORD_BYTES);
+	}
+
+	/**
+	 * <b>Returns the nanosecond of a row.</b><p>
+	 * In case wrong row is given, returns -1.
+	 * @param store	the GTimeStore of rows.
+	 * @param row	the long of row index.
+	 * @return		the int of nanosecond.
+	 */
+	public static int getNanosecond(GTimeStore store, long row) {
+		if ((row < 0) || (row >= store.size)) {
+			return -1;
+		}
+		return store.segments[(int) (row >>> SEGMENT_SHIFT)].getInt((int) (row & (SEGMENT_ROWS - 1)) * RECORD_BYTES + 8);
+	}
+
+	/**
+	 * <b>Returns the time zone index of a row.</b><p>
+	 * In case wrong row is given, returns -1.
+	 * @param store	the GTimeStore of rows.
+	 * @param row	the long of row index.
+	 * @return		the int of time zone index.
+	 */
+	public static int getZoneIndex(GTimeStore store, long row) {
+		if ((row < 0) || (row >= store.size)) {
+			return -1;
+		}
+		return store.segments[(int) (row >>> SEGMENT_SHIFT)].getInt((int) (row & (SEGMENT_ROWS - 1)) * RECORD_BYTES + 12);
+	}
+
+	/**
+	 * <b>Returns the number of time zones in the dictionary of the store.</b>
+	 * @param store	the GTimeStore of rows.
+	 * @return		the int of time zones.
+	 */
+	public static int getZoneCount(GTimeStore store) {
+		return store.zoneCount;
+	}
+
+	/**
+	 * <b>Returns the time zone ID of a time zone index.</b><p>
+	 * In case wrong index is given, returns null.
+	 * @param store		the GTimeStore of rows.
+	 * @param zoneIndex	the int of time zone index.
+	 * @return			the String of time zone.
+	 */
+	public static String getTimezone(GTimeStore store, int zoneIndex) {
+		if ((zoneIndex < 0) || (zoneIndex >= store.zoneCount)) {
+			return null;
+		}
+		return store.zones[zoneIndex].getId();
+	}
+
+	/**
+	 * <b>Scans rows in order and passes them to a callback as primitives.</b><p>
+	 * The range is limited to the rows of the store; ID and description are not read.<p>
+	 * The callback must not append to the store: appending can map a segment again and release the mapping which the scan reads, and reading a released mapping crashes the JVM instead of throwing an exception.
+	 * @param store		the GTimeStore of rows.
+	 * @param fromRow	the long of first row (inclusive).
+	 * @param toRow		the long of last row (exclusive).
+	 * @param consumer	the InstantConsumer of rows.
+	 * @return			the long of scanned rows.
+	 */
+	public static long scanStore(GTimeStore store, long fromRow, long toRow, InstantConsumer consumer) {
+		long from = Math.max(fromRow, 0L);
+		long to = Math.min(toRow, store.size);
+		long row = from;
+		while (row < to) {
+			ByteBuffer segment = store.segments[(int) (row >>> SEGMENT_SHIFT)];
+			long segmentEnd = Math.min(to, ((row >>> SEGMENT_SHIFT) + 1) << SEGMENT_SHIFT);
+			int position = (int) (row & (SEGMENT_ROWS - 1)) * RECORD_BYTES;
+			for (; row < segmentEnd; row++, position += RECORD_BYTES) {
+				consumer.accept(row, segment.getLong(position), segment.getInt(position + 8), segment.getInt(position + 12));
+			}
+		}
+		return Math.max(to - from, 0L);
+	}
+
+	/**
+	 * <b>Scans rows in order, reading each into the same GTime and passing it to a callback.</b><p>
+	 * The range is limited to the rows of the store. The GTime is overwritten by the next row, therefore the callback has to copy it (e.g. by GTimeEdit.cloneGTime()) in order to keep it.<p>
+	 * The callback must not append to the store: appending can map a segment again and release the mapping which the scan reads, and reading a released mapping crashes the JVM instead of throwing an exception.
+	 * @param store		the GTimeStore of rows.
+	 * @param fromRow	the long of first row (inclusive).
+	 * @param toRow		the long of last row (exclusive).
+	 * @param gTime		the GTime to overwrite by each row.
+	 * @param consumer	the Consumer of GTime.
+	 * @return			the long of scanned rows.
+	 * @throws IOException	in case the text file fails or a row is malformed.
+	 */
+	public static long scanStore(GTimeStore store, long fromRow, long toRow, GTime gTime, Consumer<GTime> consumer) throws IOException {
+		long from = Math.max(fromRow, 0L);
+		long to = Math.min(toRow, store.size);
+		long row = from;
+		while (row < to) {
+			ByteBuffer segment = store.segments[(int) (row >>> SEGMENT_SHIFT)];
+			long segmentEnd = Math.min(to, ((row >>> SEGMENT_SHIFT) + 1) << SEGMENT_SHIFT);
+			int position = (int) (row & (SEGMENT_ROWS - 1)) * RECORD_BYTES;
+			for (; row < segmentEnd; row++, position += RECORD_BYTES) {
+				readRow(store, segment, position, gTime);
+				consumer.accept(gTime);
+			}
+		}
+		return Math.max(to - from, 0L);
+	}
+
+	/**
+	 * <b>Appends a row, writing its text entry first and the number of rows last.</b>
+	 * @param store			the GTimeStore of rows.
+	 * @param epochSecond	the long of epoch second.
+	 * @param nanosecond	the int of nanosecond.
+	 * @param zone			the ZoneId of time zone.
+	 * @param ID			the String of ID.
+	 * @param description	the String of description.
+	 * @return				the long of row index, -1 for not appended.
+	 * @throws IOException	in case the files fail or the store is closed.
+	 */
+	private static long appendRow(GTimeStore store, long epochSecond, int nanosecond, ZoneId zone, String ID, String description) throws IOException {
+		if (store.closed) {
+			throw new ClosedChannelException();
+		}
+		if (store.readOnly) {
+			return -1;
+		}
+		int zoneIndex = getDictionaryIndex(store, zone);
+		if (zoneIndex < 0) {
+			return -1;
+		}
+		long textOffset = 0L;
+		boolean hasID = (ID != null) && !ID.isEmpty();
+		boolean hasDescription = (description != null) && !description.isEmpty();
+		if (hasID || hasDescription) {
+			textOffset = writeText(store, hasID ? ID : "", hasDescription ? description : "");
+		}
+		long row = store.size;
+		ByteBuffer segment = getWritableSegment(store, row);
+		int position = (int) (row & (SEGMENT_ROWS - 1)) * RECORD_BYTES;
+		segment.putLong(position, epochSecond).putInt(position + 8, nanosecond).putInt(position + 12, zoneIndex).putLong(position + 16, textOffset);
+		store.size = row + 1;
+		store.header.putLong(ROW_COUNT, store.size);
+		return row;
+	}
+
+	/**
+	 * <b>Returns the segment of a new row, mapping a new segment or a larger last segment when needed.</b>
+	 * @param store	the GTimeStore of rows.
+	 * @param row	the long of row index.
+	 * @return		the MappedByteBuffer of segment.
+	 * @throws IOException	in case the data file fails.
+	 */
+	private static MappedByteBuffer getWritableSegment(GTimeStore store, long row) throws IOException {
+		int index = (int) (row >>> SEGMENT_SHIFT);
+		int rowInSegment = (int) (row & (SEGMENT_ROWS - 1));
+		if (index == store.segmentCount) {
+			if (index == store.segments.length) {
+				store.segments = Arrays.copyOf(store.segments, index * 2);
+			}
+			store.segments[index] = store.mapSegment(index, MIN_MAPPED_ROWS);
+			store.lastMappedRows = MIN_MAPPED_ROWS;
+			store.segmentCount++;
+		}
+		else if (rowInSegment >= store.lastMappedRows) {
+			int rows = Math.min(store.lastMappedRows * 2, SEGMENT_ROWS);
+			MappedByteBuffer oldSegment = store.segments[index];
+			store.segments[index] = store.mapSegment(index, rows);
+			store.lastMappedRows = rows;
+			unmap(oldSegment);
+		}
+		return store.segments[index];
+	}
+
+	/**
+	 * <b>Maps the first rows of a segment.</b>
+	 * @param index	the int of segment index.
+	 * @param rows	the int of rows to map.
+	 * @return		the MappedByteBuffer of segment.
+	 * @throws IOException	in case the data file fails.
+	 */
+	private MappedByteBuffer mapSegment(int index, int rows) throws IOException {
+		MappedByteBuffer segment = dataChannel.map(readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE, HEADER_BYTES + ((long) index << SEGMENT_SHIFT) * RECORD_BYTES, (long) rows * RECORD_BYTES);
+		segment.order(ByteOrder.LITTLE_ENDIAN);
+		return segment;
+	}
+
+	/**
+	 * <b>Reads a row into GTime.</b>
+	 * @param store		the GTimeStore of rows.
+	 * @param segment	the ByteBuffer of segment.
+	 * @param position	the int of row position in the segment.
+	 * @param gTime		the GTime to overwrite.
+	 * @throws IOException	in case the text file fails or the row is malformed.
+	 */
+	private static void readRow(GTimeStore store, ByteBuffer segment, int position, GTime gTime) throws IOException {
+		long epochSecond = segment.getLong(position);
+		int nanosecond = segment.getInt(position + 8);
+		int zoneIndex = segment.getInt(position + 12);
+		long textOffset = segment.getLong(position + 16);
+		if ((zoneIndex < 0) || (zoneIndex >= store.zoneCount)) {
+			throw new IOException("Undefined time zone index in GTime store: " + zoneIndex + ".");
+		}
+		if ((nanosecond < 0) || (nanosecond >= NANOSECONDS_PER_SECOND)) {
+			throw new IOException("Invalid nanosecond in GTime store: " + nanosecond + ".");
+		}
+		ZonedDateTime time;
+		try {
+			time = ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nanosecond), store.zones[zoneIndex]);
+		}
+		catch (DateTimeException e) {
+			throw new IOException("Invalid epoch second in GTime store: " + epochSecond + ".");
+		}
+		String ID = "";
+		String description = "";
+		if (textOffset != 0L) {
+			if ((textOffset < TEXT_HEADER_BYTES) || (textOffset > store.textSize - 8)) {
+				throw new IOException("Invalid text offset in GTime store: " + textOffset + ".");
+			}
+			TextWindow window = textWindow.get();
+			int textPosition = readTextWindow(store, window, textOffset, 8);
+			int IDLength = window.buffer.getInt(textPosition);
+			int descriptionLength = window.buffer.getInt(textPosition + 4);
+			if ((IDLength < 0) || (descriptionLength < 0) || ((long) IDLength + descriptionLength > store.textSize - textOffset - 8)) {
+				throw new IOException("Invalid text lengths in GTime store at offset " + textOffset + ".");
+			}
+			byte[] textBytes;
+			if (IDLength + descriptionLength <= TEXT_WINDOW_BYTES) {
+				textPosition = readTextWindow(store, window, textOffset + 8, IDLength + descriptionLength);
+				textBytes = window.buffer.array();
+			}
+			else {
+				ByteBuffer text = ByteBuffer.allocate(IDLength + descriptionLength);
+				if (readFully(store.textChannel, text, textOffset + 8) < text.capacity()) {
+					throw new EOFException("Truncated GTime store text file.");
+				}
+				textPosition = 0;
+				textBytes = text.array();
+			}
+			ID = new String(textBytes, textPosition, IDLength, StandardCharsets.UTF_8);
+			description = new String(textBytes, textPosition + IDLength, descriptionLength, StandardCharsets.UTF_8);
+		}
+		gTime.time = time;
+		gTime.ID = ID;
+		gTime.description = description;
+	}
+
+	/**
+	 * <b>Makes a range of the text file available in the window of the thread, reading a new block from the start of the range when needed.</b>
+	 * @param store		the GTimeStore of rows.
+	 * @param window	the TextWindow of thread.
+	 * @param offset	the long of text file position.
+	 * @param length	the int of bytes, at most the window size.
+	 * @return			the int of range position in the window.
+	 * @throws IOException	in case the text file fails or it is truncated.
+	 */
+	private static int readTextWindow(GTimeStore store, TextWindow window, long offset, int length) throws IOException {
+		if ((window.storeNumber != store.storeNumber) || (offset < window.start) || (offset + length > window.start + window.length)) {
+			window.buffer.clear().limit((int) Math.min(TEXT_WINDOW_BYTES, store.textSize - offset));
+			window.storeNumber = store.storeNumber;
+			window.start = offset;
+			window.length = 0;
+			window.length = readFully(store.textChannel, window.buffer, offset);
+			if (window.length < length) {
+				throw new EOFException("Truncated GTime store text file.");
+			}
+		}
+		return (int) (offset - window.start);
+	}
+
+	/**
+	 * <b>Appends a text entry of ID and description.</b>
+	 * @param store			the GTimeStore of rows.
+	 * @param ID			the String of ID.
+	 * @param description	the String of description.
+	 * @return				the long of text offset.
+	 * @throws IOException	in case the text file fails.
+	 */
+	private static long writeText(GTimeStore store, String ID, String description) throws IOException {
+		byte[] IDBytes = ID.getBytes(StandardCharsets.UTF_8);
+		byte[] descriptionBytes = description.getBytes(StandardCharsets.UTF_8);
+		ByteBuffer text = ByteBuffer.allocate(8 + IDBytes.length + descriptionBytes.length).order(ByteOrder.LITTLE_ENDIAN);
+		text.putInt(IDBytes.length).putInt(descriptionBytes.length).put(IDBytes).put(descriptionBytes);
+		text.flip();
+		long offset = store.textSize;
+		writeFully(store.textChannel, text, offset);
+		store.textSize = offset + text.capacity();
+		return offset;
+	}
+
+	/**
+	 * <b>Returns the dictionary index of a time zone, adding it to the dictionary when needed.</b>
+	 * @param store	the GTimeStore of rows.
+	 * @param zone	the ZoneId of time zone.
+	 * @return		the int of time zone index, -1 for not fitting into the dictionary.
+	 */
+	private static int getDictionaryIndex(GTimeStore store, ZoneId zone) {
+		Integer index = store.zoneIndexes.get(zone);
+		if (index != null) {
+			return index;
+		}
+		byte[] zoneBytes = zone.getId().getBytes(StandardCharsets.UTF_8);
+		if ((store.zoneCount == MAX_ZONES) || (zoneBytes.length >= ZONE_SLOT_BYTES)) {
+			return -1;
+		}
+		int slot = ZONE_TABLE + store.zoneCount * ZONE_SLOT_BYTES;
+		store.header.put(slot, (byte) zoneBytes.length);
+		store.header.put(slot + 1, zoneBytes);
+		int zoneIndex = store.addZone(zone);
+		store.header.putInt(ZONE_COUNT, store.zoneCount);
+		return zoneIndex;
+	}
+
+	/**
+	 * <b>Adds a time zone to the dictionary in memory.</b>
+	 * @param zone	the ZoneId of time zone.
+	 * @return		the int of time zone index.
+	 */
+	private int addZone(ZoneId zone) {
+		if (zoneCount == zones.length) {
+			zones = Arrays.copyOf(zones, zoneCount * 2);
+		}
+		zones[zoneCount] = zone;
+		zoneIndexes.put(zone, zoneCount);
+		return zoneCount++;
+	}
+
+	/**
+	 * <b>Returns the handle of sun.misc.Unsafe.invokeCleaner(), which releases a mapping at once.</b>
+	 * @return	the MethodHandle of release, null in case the runtime does not provide it.
+	 */
+	private static MethodHandle getUnmapHandle() {
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+			unsafeField.setAccessible(true);
+			return MethodHandles.lookup().findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class)).bindTo(unsafeField.get(null));
+		}
+		catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * <b>Releases a replaced mapping, leaving it to the garbage collector when it cannot be released at once.</b><p>
+	 * The mapping must not be used afterwards; appending does not run together with reading, therefore no reader holds it.
+	 * @param segment	the MappedByteBuffer of segment.
+	 */
+	private static void unmap(MappedByteBuffer segment) {
+		if (UNMAP == null) {
+			return;
+		}
+		try {
+			UNMAP.invokeExact((ByteBuffer) segment);
+		}
+		catch (Throwable e) {
+			// the garbage collector releases the mapping
+		}
+	}
+
+	/**
+	 * <b>Checks whether a buffer starts with magic bytes.</b>
+	 * @param buffer	the ByteBuffer of header.
+	 * @param magic		the byte[] of magic bytes.
+	 * @return			the boolean value marks whether the magic bytes match.
+	 */
+	private static boolean isMagic(ByteBuffer buffer, byte[] magic) {
+		for (int i = 0; i < magic.length; i++) {
+			if (buffer.get(i) != magic[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * <b>Reads from a position of a channel until the buffer is full or the end of file.</b>
+	 * @param channel	the FileChannel of source.
+	 * @param buffer	the ByteBuffer of target.
+	 * @param position	the long of file position.
+	 * @return			the int of bytes read.
+	 * @throws IOException	in case the channel fails.
+	 */
+	private static int readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		int read = 0;
+		while (buffer.hasRemaining()) {
+			int count = channel.read(buffer, position + read);
+			if (count < 0) {
+				break;
+			}
+			read += count;
+		}
+		return read;
+	}
+
+	/**
+	 * <b>Writes a buffer to a position of a channel.</b>
+	 * @param channel	the FileChannel of target.
+	 * @param buffer	the ByteBuffer of source.
+	 * @param position	the long of file position.
+	 * @throws IOException	in case the channel fails.
+	 */
+	private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		long written = 0;
+		while (buffer.hasRemaining()) {
+			written += channel.write(buffer, position + written);
+		}
+	}
+}
@@ -0,0 +1,287 @@
+package GrimmPackage.DateTime;
+
+import java.time.*;
+import java.time.temporal.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static GrimmPackage.DateTime.GTimeArithmetic.*;
+import static GrimmPackage.DateTime.GTimeYearTable.*;
+
+/**
+ * <b>Provides week numbering along explicit week rules.</b><p>
+ * A week rule consists of the first day-of-week (Monday is 1, Sunday is 7) and the minimal number of days of the first week in the year (1-7).<p>
+ * Week 1 of a week-based year is the first week which has at least the minimal days in the year; days before it belong to the last week of the previous week-based year.<p>
+ * A GTimeWeekRule is immutable and all instances are cached, therefore rules can be shared between threads and compared by identity.<p>
+ * Week numbers are computed arithmetically from epoch days (days from 1970-01-01); the bulk methods reuse the bounds of the previous week-based year, therefore ordered or clustered days are the fastest.<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeWeekRule.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * getIsoWeekRule() -> GTimeWeekRule<p>
+ * getUsWeekRule() -> GTimeWeekRule<p>
+ * getWeekRule(int firstDayOfWeek, int minimalDays) -> GTimeWeekRule<p>
+ * getWeekRule(Locale locale) -> GTimeWeekRule<p>
+ * getWeekRuleFirstDay(GTimeWeekRule rule) -> int<p>
+ * getWeekRuleMinimalDays(GTimeWeekRule rule) -> int<p>
+ * getWeekOfYear(GTimeWeekRule rule, GTime gTime) -> int<p>
+ * getWeekOfYear(GTimeWeekRule rule, long epochDay) -> int<p>
+ * getWeekBasedYear(GTimeWeekRule rule, GTime gTime) -> int<p>
+ * getWeekBasedYear(GTimeWeekRule rule, long epochDay) -> int<p>
+ * getWeeksOfYear(GTimeWeekRule rule, int weekBasedYear) -> int<p>
+ * getWeekOfYear(GTimeWeekRule rule, long[] epochDays) -> int[]<p>
+ * getWeekBasedYear(GTimeWeekRule rule, long[] epochDays) -> int[]<p>
+ * getWeekOfYear(GTimeWeekRule rule, long[] epochDays, int offset, int length, int[] weeks, int[] weekBasedYears)<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeWeekRule {
+	private static final GTimeWeekRule[] rules = new GTimeWeekRule[49];
+	private static final ConcurrentHashMap<Locale, GTimeWeekRule> localeRules = new ConcurrentHashMap<>();
+
+	static {
+		for (int firstDayOfWeek = 1; firstDayOfWeek <= 7; firstDayOfWeek++) {
+			for (int minimalDays = 1; minimalDays <= 7; minimalDays++) {
+				rules[(firstDayOfWeek - 1) * 7 + minimalDays - 1] = new GTimeWeekRule(firstDayOfWeek, minimalDays);
+			}
+		}
+	}
+
+	protected final int firstDayOfWeek;
+	protected final int minimalDays;
+
+	/**
+	 * <b>Constructs GTimeWeekRule.</b>
+	 * @param firstDayOfWeek	the int of first day-of-week.
+	 * @param minimalDays		the int of minimal days in the first week.
+	 */
+	private GTimeWeekRule(int firstDayOfWeek, int minimalDays) {
+		this.firstDayOfWeek = firstDayOfWeek;
+		this.minimalDays = minimalDays;
+	}
+
+	/**
+	 * <b>Returns the ISO-8601 week rule: weeks start on Monday, the first week has at least 4 days.</b>
+	 * @return	the GTimeWeekRule of week rule.
+	 */
+	public static GTimeWeekRule getIsoWeekRule() {
+		return rules[3];
+	}
+
+	/**
+	 * <b>Returns the US week rule: weeks start on Sunday, the first week has at least 1 day.</b>
+	 * @return	the GTimeWeekRule of week rule.
+	 */
+	public static GTimeWeekRule getUsWeekRule() {
+		return rules[42];
+	}
+
+	/**
+	 * <b>Returns a week rule.</b><p>
+	 * In case the first day-of-week is not 1-7 or the minimal days are not 1-7, returns null.
+	 * @param firstDayOfWeek	the int of first day-of-week (Monday is 1, Sunday is 7).
+	 * @param minimalDays		the int of minimal days in the first week.
+	 * @return					the GTimeWeekRule of week rule.
+	 */
+	public static GTimeWeekRule getWeekRule(int firstDayOfWeek, int minimalDays) {
+		if ((firstDayOfWeek < 1) || (firstDayOfWeek > 7) || (minimalDays < 1) || (minimalDays > 7)) {
+			return null;
+		}
+		return rules[(firstDayOfWeek - 1) * 7 + minimalDays - 1];
+	}
+
+	/**
+	 * <b>Returns the week rule of a locale.</b><p>
+	 * In case the locale is null, returns null.
+	 * @param locale	the Locale of week rule.
+	 * @return			the GTimeWeekRule of week rule.
+	 */
+	public static GTimeWeekRule getWeekRule(Locale locale) {
+		if (locale == null) {
+			return null;
+		}
+		GTimeWeekRule rule = localeRules.get(locale);
+		if (rule == null) {
+			WeekFields weekFields = WeekFields.of(locale);
+			rule = getWeekRule(weekFields.getFirstDayOfWeek().getValue(), weekFields.getMinimalDaysInFirstWeek());
+			localeRules.putIfAbsent(locale, rule);
+		}
+		return rule;
+	}
+
+	/**
+	 * <b>Returns the first day-of-week of a week rule.</b>
+	 * @param rule	the GTimeWeekRule of week rule.
+	 * @return		the int of day-of-week (Monday is 1, Sunday is 7).
+	 */
+	public static int getWeekRuleFirstDay(GTimeWeekRule rule) {
+		return rule.firstDayOfWeek;
+	}
+
+	/**
+	 * <b>Returns the minimal days in the first week of a week rule.</b>
+	 * @param rule	the GTimeWeekRule of week rule.
+	 * @return		the int of minimal days.
+	 */
+	public static int getWeekRuleMinimalDays(GTimeWeekRule rule) {
+		return rule.minimalDays;
+	}
+
+	/**
+	 * <b>Returns the week-of-week-based-year of GTime.</b>
+	 * @param rule	the GTimeWeekRule of week rule.
+	 * @param gTime	the GTime of datetime.
+	 * @return		the int of week-of-year.
+	 */
+	public static int getWeekOfYear(GTimeWeekRule rule, GTime gTime) {
+		LocalDate date = gTime.time.toLocalDate();
+		return getWeekOfYear(rule, date.getYear(), date.toEpochDay());
+	}
+
+	/**
+	 * <b>Returns the week-of-week-based-year of an epoch day.</b>
+	 * @param rule		the GTimeWeekRule of week rule.
+	 * @param epochDay	the long of days from 1970-01-01.
+	 * @return			the int of week-of-year.
+	 */
+	public static int getWeekOfYear(GTimeWeekRule rule, long epochDay) {
+		return getWeekOfYear(rule, getPackedYear(getDateOfEpochDay(epochDay)), epochDay);
+	}
+
+	/**
+	 * <b>Returns the week-of-week-based-year of an epoch day of a known year.</b>
+	 * @param rule		the GTimeWeekRule of week rule.
+	 * @param year		the int of year of the epoch day.
+	 * @param epochDay	the long of days from 1970-01-01.
+	 * @return			the int of week-of-year.
+	 */
+	private static int getWeekOfYear(GTimeWeekRule rule, int year, long epochDay) {
+		long start = getWeekBasedYearStart(rule, year);
+		if (epochDay < start) {
+			start = getWeekBasedYearStart(rule, year - 1);
+		}
+		else {
+			long next = getWeekBasedYearStart(rule, year + 1);
+			if (epochDay >= next) {
+				start = next;
+			}
+		}
+		return (int) ((epochDay - start) / 7) + 1;
+	}
+
+	/**
+	 * <b>Returns the week-based year of GTime.</b><p>
+	 * Around the turn of the year, the week-based year can differ from the year.
+	 * @param rule	the GTimeWeekRule of week rule.
+	 * @param gTime	the GTime of datetime.
+	 * @return		the int of week-based year.
+	 */
+	public static int getWeekBasedYear(GTimeWeekRule rule, GTime gTime) {
+		LocalDate date = gTime.time.toLocalDate();
+		return getWeekBasedYear(rule, date.getYear(), date.toEpochDay());
+	}
+
+	/**
+	 * <b>Returns the week-based year of an epoch day.</b><p>
+	 * Around the turn of the year, the week-based year can differ from the year.
+	 * @param rule		the GTimeWeekRule of week rule.
+	 * @param epochDay	the long of days from 1970-01-01.
+	 * @return			the int of week-based year.
+	 */
+	public static int getWeekBasedYear(GTimeWeekRule rule, long epochDay) {
+		return getWeekBasedYear(rule, getPackedYear(getDateOfEpochDay(epochDay)), epochDay);
+	}
+
+	/**
+	 * <b>Returns the week-based year of an epoch day of a known year.</b>
+	 * @param rule		the GTimeWeekRule of week rule.
+	 * @param year		the int of year of the epoch day.
+	 * @param epochDay	the long of days from 1970-01-01.
+	 * @return			the int of week-based year.
+	 */
+	private static int getWeekBasedYear(GTimeWeekRule rule, int year, long epochDay) {
+		if (epochDay < getWeekBasedYearStart(rule, year)) {
+			return year - 1;
+		}
+		if (epochDay >= getWeekBasedYearStart(rule, year + 1)) {
+			return year + 1;
+		}
+		return year;
+	}
+
+	/**
+	 * <b>Returns the number of weeks of a week-based year.</b>
+	 * @param rule			the GTimeWeekRule of week rule.
+	 * @param weekBasedYear	the int of week-based year.
+	 * @return				the int of number-of-weeks-in-year.
+	 */
+	public static int getWeeksOfYear(GTimeWeekRule rule, int weekBasedYear) {
+		return getYearWeeks(weekBasedYear, rule.firstDayOfWeek, rule.minimalDays);
+	}
+
+	/**
+	 * <b>Returns the week-of-week-based-year of epoch days.</b>
+	 * @param rule		the GTimeWeekRule of week rule.
+	 * @param epochDays	the long[] of days from 1970-01-01.
+	 * @return			the int[] of week-of-year.
+	 */
+	public static int[] getWeekOfYear(GTimeWeekRule rule, long[] epochDays) {
+		int[] weeks = new int[epochDays.length];
+		getWeekOfYear(rule, epochDays, 0, epochDays.length, weeks, null);
+		return weeks;
+	}
+
+	/**
+	 * <b>Returns the week-based years of epoch days.</b>
+	 * @param rule		the GTimeWeekRule of week rule.
+	 * @param epochDays	the long[] of days from 1970-01-01.
+	 * @return			the int[] of week-based year.
+	 */
+	public static int[] getWeekBasedYear(GTimeWeekRule rule, long[] epochDays) {
+		int[] weekBasedYears = new int[epochDays.length];
+		getWeekOfYear(rule, epochDays, 0, epochDays.length, null, weekBasedYears);
+		return weekBasedYears;
+	}
+
+	/**
+	 * <b>Writes the week-of-week-based-year and the week-based year of a range of epoch days.</b><p>
+	 * The results are written at the same indexes as the epoch days; a null target array is skipped.
+	 * @param rule				the GTimeWeekRule of week rule.
+	 * @param epochDays			the long[] of days from 1970-01-01.
+	 * @param offset			the int of first index.
+	 * @param length			the int of number of epoch days.
+	 * @param weeks				the int[] of week-of-year, or null.
+	 * @param weekBasedYears	the int[] of week-based year, or null.
+	 */
+	public static void getWeekOfYear(GTimeWeekRule rule, long[] epochDays, int offset, int length, int[] weeks, int[] weekBasedYears) {
+		long start = 0;
+		long end = 0;
+		int year = 0;
+		for (int i = offset; i < offset + length; i++) {
+			long epochDay = epochDays[i];
+			if ((epochDay < start) || (epochDay >= end)) {
+				year = getWeekBasedYear(rule, epochDay);
+				start = getWeekBasedYearStart(rule, year);
+				end = start + 7L * getYearWeeks(year, rule.firstDayOfWeek, rule.minimalDays);
+			}
+			if (weeks != null) {
+				weeks[i] = (int) ((epochDay - start) / 7) + 1;
+			}
+			if (weekBasedYears != null) {
+				weekBasedYears[i] = year;
+			}
+		}
+	}
+
+	/**
+	 * <b>Returns the epoch day of the first day of week 1 of a week-based year.</b>
+	 * @param rule	the GTimeWeekRule of week rule.
+	 * @param year	the int of week-based year.
+	 * @return		the long of days from 1970-01-01.
+	 */
+	static long getWeekBasedYearStart(GTimeWeekRule rule, int year) {
+		int offset = (getYearFirstDayOfWeek(year) - rule.firstDayOfWeek + 7) % 7;
+		return getEpochDay(year, 1, 1) - offset + ((7 - offset >= rule.minimalDays) ? 0 : 7);
+	}
+}
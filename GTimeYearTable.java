@@ -0,0 +1,167 @@
+package GrimmPackage.DateTime;
+
+/**
+ * <b>Provides a shared table of calendar metadata per year.</b><p>
+ * For every year of a configurable range (by default 1900-2200), the table holds whether the year is leap year, the day-of-week of the first and the last day, the number of days and the number of ISO weeks, packed into one int.<p>
+ * Entries are filled lazily on first access and never change afterwards; years outside the range are computed on each call.<p>
+ * All methods are static and thread-safe.<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeYearTable.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * getYearTableFirstYear() -> int<p>
+ * getYearTableLastYear() -> int<p>
+ * setYearTableRange(int firstYear, int lastYear) -> boolean<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeYearTable {
+	private static final int MAX_TABLE_YEARS = 1_000_000;
+	private static final int FILLED = 1 << 8;
+	private static volatile Table table = new Table(1900, 2200);
+
+	/**
+	 * <b>Holds the range and the entries of the table.</b>
+	 */
+	private static final class Table {
+		private final int firstYear;
+		private final int[] entries;
+
+		private Table(int firstYear, int lastYear) {
+			this.firstYear = firstYear;
+			this.entries = new int[lastYear - firstYear + 1];
+		}
+	}
+
+	/**
+	 * <b>Returns the first year of the table range.</b>
+	 * @return	the int of year.
+	 */
+	public static int getYearTableFirstYear() {
+		return table.firstYear;
+	}
+
+	/**
+	 * <b>Returns the last year of the table range.</b>
+	 * @return	the int of year.
+	 */
+	public static int getYearTableLastYear() {
+		Table current = table;
+		return current.firstYear + current.entries.length - 1;
+	}
+
+	/**
+	 * <b>Sets the range of the table.</b><p>
+	 * The new table is empty and is filled lazily again.<p>
+	 * In case the range is reversed, exceeds 1000000 years or exceeds the year range of GTime, returns false and the table is not changed.
+	 * @param firstYear	the int of first year.
+	 * @param lastYear	the int of last year.
+	 * @return			the boolean value marks whether the range was set.
+	 */
+	public static boolean setYearTableRange(int firstYear, int lastYear) {
+		if ((firstYear > lastYear) || (firstYear < java.time.Year.MIN_VALUE) || (lastYear > java.time.Year.MAX_VALUE) || ((long) lastYear - firstYear >= MAX_TABLE_YEARS)) {
+			return false;
+		}
+		table = new Table(firstYear, lastYear);
+		return true;
+	}
+
+	/**
+	 * <b>Returns the packed metadata of a year.</b><p>
+	 * Bit 0: leap year; bits 1-3: day-of-week of January 1; bits 4-6: day-of-week of December 31; bit 7: 53 ISO weeks; bit 8: filled.
+	 * @param year	the int of year.
+	 * @return		the int of packed metadata.
+	 */
+	static int getYearEntry(int year) {
+		Table current = table;
+		int index = year - current.firstYear;
+		if ((index >= 0) && (index < current.entries.length)) {
+			int entry = current.entries[index];
+			if (entry == 0) {
+				entry = computeYearEntry(year);
+				current.entries[index] = entry;
+			}
+			return entry;
+		}
+		return computeYearEntry(year);
+	}
+
+	/**
+	 * <b>Computes the packed metadata of a year.</b>
+	 * @param year	the int of year.
+	 * @return		the int of packed metadata.
+	 */
+	private static int computeYearEntry(int year) {
+		boolean leap = GTimeAnalyse.isLeapYear(year);
+		int first = GTimeArithmetic.getDayOfWeekOfEpochDay(GTimeArithmetic.getEpochDay(year, 1, 1));
+		int last = (leap) ? (first % 7) + 1 : first;
+		boolean longIsoYear = (first == 4) || (last == 4);
+		return FILLED | ((longIsoYear) ? 1 << 7 : 0) | (last << 4) | (first << 1) | ((leap) ? 1 : 0);
+	}
+
+	/**
+	 * <b>Checks whether a year is leap year.</b>
+	 * @param year	the int of year.
+	 * @return		the boolean value marks whether the year is leap year.
+	 */
+	static boolean isYearLeap(int year) {
+		return (getYearEntry(year) & 1) != 0;
+	}
+
+	/**
+	 * <b>Returns the day-of-week of January 1 of a year.</b>
+	 * @param year	the int of year.
+	 * @return		the int of day-of-week.
+	 */
+	static int getYearFirstDayOfWeek(int year) {
+		return (getYearEntry(year) >>> 1) & 7;
+	}
+
+	/**
+	 * <b>Returns the day-of-week of December 31 of a year.</b>
+	 * @param year	the int of year.
+	 * @return		the int of day-of-week.
+	 */
+	static int getYearLastDayOfWeek(int year) {
+		return (getYearEntry(year) >>> 4) & 7;
+	}
+
+	/**
+	 * <b>Returns the number of days of a year.</b>
+	 * @param year	the int of year.
+	 * @return		the int of number-of-days-in-year.
+	 */
+	static int getYearDays(int year) {
+		return 365 + (getYearEntry(year) & 1);
+	}
+
+	/**
+	 * <b>Returns the number of ISO weeks of a week-based year.</b>
+	 * @param year	the int of week-based year.
+	 * @return		the int of number-of-weeks-in-year.
+	 */
+	static int getYearIsoWeeks(int year) {
+		return 52 + ((getYearEntry(year) >>> 7) & 1);
+	}
+
+	/**
+	 * <b>Returns the number of weeks of a week-based year for given week rules.</b><p>
+	 * Week 1 is the first week which has at least the minimal days in the year.
+	 * @param year				the int of week-based year.
+	 * @param firstDayOfWeek	the int of first day-of-week (Monday is 1, Sunday is 7).
+	 * @param minimalDays		the int of minimal days in the first week (1-7).
+	 * @return					the int of number-of-weeks-in-year.
+	 */
+	static int getYearWeeks(int year, int firstDayOfWeek, int minimalDays) {
+		if ((firstDayOfWeek == 1) && (minimalDays == 4)) {
+			return getYearIsoWeeks(year);
+		}
+		int entry = getYearEntry(year);
+		int firstOffset = (((entry >>> 1) & 7) - firstDayOfWeek + 7) % 7;
+		int nextOffset = ((((entry >>> 4) & 7) % 7) + 1 - firstDayOfWeek + 7) % 7;
+		int start = -firstOffset + ((7 - firstOffset >= minimalDays) ? 0 : 7);
+		int nextStart = 365 + (entry & 1) - nextOffset + ((7 - nextOffset >= minimalDays) ? 0 : 7);
+		return (nextStart - start) / 7;
+	}
+}
@@ -0,0 +1,175 @@
+package GrimmPackage.DateTime;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * <b>Provides a shared, bounded cache for resolving time zone IDs.</b><p>
+ * All methods are static and thread-safe.<p>
+ * Both known and unknown time zone IDs are cached, therefore a wrong time zone given repeatedly is rejected without creating an exception each time.<p>
+ * The number of cached time zone IDs never exceeds the capacity. When the cache is full, unknown time zone IDs are evicted first; a new unknown time zone ID is not cached when only known ones are left, therefore a flood of wrong time zones cannot evict the known ones. Known time zone IDs are evicted arbitrarily when there are more of them than the capacity.<p>
+ * Resolutions are counted by GTimeMetrics while it is enabled.<p>
+ * In order to use the methods without addressing this class, copy-paste the following line into your import session:<p>
+ * <i>import static GrimmPackage.DateTime.GTimeZoneCache.*;</i><p>
+ * <p><p>
+ * PUBLIC METHODS:<p>
+ * getZone(String timezone) -> ZoneId<p>
+ * isTimezone(String timezone) -> boolean<p>
+ * getZoneCacheHits() -> long<p>
+ * getZoneCacheMisses() -> long<p>
+ * getZoneCacheSize() -> int<p>
+ * getZoneCacheCapacity() -> int<p>
+ * setZoneCacheCapacity(int capacity)<p>
+ * clearZoneCache()<p>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+public class GTimeZoneCache {
+	private static final ConcurrentHashMap<String, ZoneId> knownZones = new ConcurrentHashMap<>();
+	private static final Set<String> unknownZones = ConcurrentHashMap.newKeySet();
+	private static final LongAdder hits = new LongAdder();
+	private static final LongAdder misses = new LongAdder();
+	private static volatile int capacity = 1024;
+
+	/**
+	 * <b>Returns the ZoneId of a time zone ID.</b><p>
+	 * Time zone ID identification no.1: offset from Greenwich Mean Time (e.g. GMT+01:30); will not use Daylight Saving Time (DST) offset.<p>
+	 * Time zone ID identification no.2: offset from Universal Coordinated Time (e.g. UTM+01:30); will not use DST offset.<p>
+	 * Time zone ID identification no.3: offset from Universal Time (e.g. UT+01:30); will not use DST offset.<p>
+	 * Time zone ID identification no.4: regional time definition in continent/city format (e.g. America/Los_Angeles); will use DST offset.<p>
+	 * Time zone ID identification no.5: short mosaic letters (e.g. CET) of time zone; due to having the same mosaic words for different zones on Earth, use it only when the ID is unique; will use DST offset.<p>
+	 * Time zone ID identification no.6: Z for the absolute zeroth time zone; will not use DST offset.<p>
+	 * In case wrong time zone is given, returns null.
+	 * @param timezone	the String of time zone.
+	 * @return			the ZoneId of time zone.
+	 */
+	public static ZoneId getZone(String timezone) {
+		if (timezone == null) {
+			return null;
+		}
+		ZoneId zone = knownZones.get(timezone);
+		if (zone != null) {
+			hits.increment();
+			GTimeMetrics.recordZoneResolution(timezone, true, true);
+			return zone;
+		}
+		if (unknownZones.contains(timezone)) {
+			hits.increment();
+			GTimeMetrics.recordZoneResolution(timezone, true, false);
+			return null;
+		}
+		misses.increment();
+		try {
+			zone = ZoneId.of(timezone);
+		}
+		catch (Exception e) {
+			zone = null;
+		}
+		if (zone != null) {
+			if (getZoneCacheSize() >= capacity) {
+				trim(capacity - 1);
+			}
+			knownZones.putIfAbsent(timezone, zone);
+			trim(capacity);
+		}
+		else if ((getZoneCacheSize() < capacity) || evict(unknownZones)) {
+			unknownZones.add(timezone);
+			trim(capacity);
+		}
+		GTimeMetrics.recordZoneResolution(timezone, false, zone != null);
+		return zone;
+	}
+
+	/**
+	 * <b>Checks whether the given time zone ID is legal.</b>
+	 * @param timezone	the String of time zone.
+	 * @return			the boolean value marks whether the time zone qualifies.
+	 */
+	public static boolean isTimezone(String timezone) {
+		return getZone(timezone) != null;
+	}
+
+	/**
+	 * <b>Returns the number of time zone resolutions answered from the cache.</b>
+	 * @return	the long of cache hits.
+	 */
+	public static long getZoneCacheHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * <b>Returns the number of time zone resolutions which had to be computed.</b>
+	 * @return	the long of cache misses.
+	 */
+	public static long getZoneCacheMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * <b>Returns the number of cached time zone IDs, including the unknown ones.</b>
+	 * @return	the int of cache size.
+	 */
+	public static int getZoneCacheSize() {
+		return knownZones.size() + unknownZones.size();
+	}
+
+	/**
+	 * <b>Returns the maximal number of cached time zone IDs.</b>
+	 * @return	the int of cache capacity.
+	 */
+	public static int getZoneCacheCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * <b>Sets the maximal number of cached time zone IDs.</b><p>
+	 * In case the capacity is less than 1, the capacity will not change.
+	 * @param newCapacity	the int of cache capacity.
+	 */
+	public static void setZoneCacheCapacity(int newCapacity) {
+		if (newCapacity > 0) {
+			capacity = newCapacity;
+			trim(newCapacity);
+		}
+	}
+
+	/**
+	 * <b>Removes all cached time zone IDs and resets the hit and miss counters.</b>
+	 */
+	public static void clearZoneCache() {
+		knownZones.clear();
+		unknownZones.clear();
+		hits.reset();
+		misses.reset();
+	}
+
+	/**
+	 * <b>Evicts cached time zone IDs until their number is not more than a limit, unknown ones first.</b>
+	 * @param limit	the int of cached time zone IDs to keep.
+	 */
+	private static void trim(int limit) {
+		while (getZoneCacheSize() > limit) {
+			if (!evict(unknownZones) && !evict(knownZones.keySet())) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * <b>Removes an arbitrary time zone ID of a part of the cache.</b>
+	 * @param timezones	the Set of cached time zone IDs.
+	 * @return			the boolean value marks whether a time zone ID was removed.
+	 */
+	private static boolean evict(Set<String> timezones) {
+		Iterator<String> iterator = timezones.iterator();
+		if (iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+			return true;
+		}
+		return false;
+	}
+}
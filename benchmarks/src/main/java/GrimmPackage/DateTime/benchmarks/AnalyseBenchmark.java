@@ -0,0 +1,84 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures the cost of the GTimeAnalyse methods.</b>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AnalyseBenchmark {
+	private GTime gTime1, gTime2;
+	private final long[] differences = new long[5];
+
+	@Setup
+	public void setUp() {
+		gTime1 = new GTime(2022, 6, 5, 13, 45, 30, 123456789, "Europe/Budapest");
+		gTime2 = new GTime(2023, 3, 26, 1, 15, 0, 987654321, "America/Los_Angeles");
+	}
+
+	@Benchmark
+	public long differenceInDays() {
+		return GTimeAnalyse.differenceInDays(gTime1, gTime2);
+	}
+
+	@Benchmark
+	public long differenceInHours() {
+		return GTimeAnalyse.differenceInHours(gTime1, gTime2);
+	}
+
+	@Benchmark
+	public long differenceInMinutes() {
+		return GTimeAnalyse.differenceInMinutes(gTime1, gTime2);
+	}
+
+	@Benchmark
+	public long differenceInSeconds() {
+		return GTimeAnalyse.differenceInSeconds(gTime1, gTime2);
+	}
+
+	@Benchmark
+	public long differenceInNanoseconds() {
+		return GTimeAnalyse.differenceInNanoseconds(gTime1, gTime2);
+	}
+
+	@Benchmark
+	public long[] difference() {
+		return GTimeAnalyse.difference(gTime1, gTime2);
+	}
+
+	@Benchmark
+	public long[] differenceIntoArray() {
+		return GTimeAnalyse.difference(gTime1, gTime2, differences);
+	}
+
+	@Benchmark
+	public boolean isEqualForDays() {
+		return GTimeAnalyse.isEqualForDays(gTime1, gTime2);
+	}
+
+	@Benchmark
+	public boolean isDateValid() {
+		return GTimeAnalyse.isDate(2024, 2, 29);
+	}
+
+	@Benchmark
+	public boolean isDateInvalid() {
+		return GTimeAnalyse.isDate(2023, 2, 29);
+	}
+
+	@Benchmark
+	public boolean isLeapYear() {
+		return GTimeAnalyse.isLeapYear(gTime1);
+	}
+}
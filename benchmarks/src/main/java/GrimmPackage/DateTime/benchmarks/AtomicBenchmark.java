@@ -0,0 +1,69 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures AtomicGTime shared by all available cores, as a watermark and as a counter.</b><p>
+ * Every thread reports its own increasing instants to the shared watermark, so most reports lose to a later instant of another thread. The striped watermark takes the same reports into one cell per stripe.<p>
+ * The thread count can be overridden with the -t option of the benchmark runner.
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class AtomicBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class Shared {
+		private AtomicGTime watermark;
+		private AtomicGTime stripedWatermark;
+		private AtomicGTime counter;
+
+		@Setup(Level.Iteration)
+		public void setUp() {
+			watermark = AtomicGTime.getAtomicGTime(0L, "UTC");
+			stripedWatermark = AtomicGTime.getStripedAtomicGTime(0L, "UTC", true);
+			counter = AtomicGTime.getAtomicGTime(0L, "UTC");
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Local {
+		private long instant;
+	}
+
+	@Benchmark
+	public boolean accumulateMax(Shared shared, Local local) {
+		local.instant += 1_000L;
+		return AtomicGTime.accumulateMax(shared.watermark, local.instant);
+	}
+
+	@Benchmark
+	public boolean accumulateMaxStriped(Shared shared, Local local) {
+		local.instant += 1_000L;
+		return AtomicGTime.accumulateMax(shared.stripedWatermark, local.instant);
+	}
+
+	@Benchmark
+	public long getAndIncreaseSecond(Shared shared) {
+		return AtomicGTime.getAndIncrease(shared.counter, "second", 1L);
+	}
+
+	@Benchmark
+	public long getEpochNanoseconds(Shared shared) {
+		return AtomicGTime.getEpochNanoseconds(shared.watermark);
+	}
+
+	@Benchmark
+	public long getEpochNanosecondsStriped(Shared shared) {
+		return AtomicGTime.getEpochNanoseconds(shared.stripedWatermark);
+	}
+}
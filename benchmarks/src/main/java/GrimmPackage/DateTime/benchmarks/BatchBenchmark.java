@@ -0,0 +1,100 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <b>Compares the bulk methods of GTimeBatch with loops over GTime objects.</b>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchBenchmark {
+	@Param({"1000000"})
+	public int rows;
+
+	private GTime[] gTimes, otherGTimes;
+	private GTimeBatch batch, otherBatch;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		String[] timezones = new String[]{"Europe/Budapest", "America/Los_Angeles", "GMT+00:00", "Asia/Kolkata"};
+		Random random = new Random(42);
+		gTimes = new GTime[rows];
+		otherGTimes = new GTime[rows];
+		for (int i = 0; i < rows; i++) {
+			gTimes[i] = new GTime(2000 + random.nextInt(50), 1 + random.nextInt(12), 1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), random.nextInt(60), 0, timezones[i & 3]);
+			otherGTimes[i] = new GTime(2000 + random.nextInt(50), 1 + random.nextInt(12), 1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), random.nextInt(60), 0, timezones[(i + 1) & 3]);
+		}
+		batch = new GTimeBatch(Arrays.asList(gTimes));
+		otherBatch = new GTimeBatch(Arrays.asList(otherGTimes));
+	}
+
+	@Benchmark
+	public BitSet batchIncreaseHour() {
+		return GTimeBatch.increaseHour(batch, 1L);
+	}
+
+	@Benchmark
+	public GTime[] loopIncreaseHour() {
+		for (GTime gTime : gTimes) {
+			GTimeCalculate.increaseHour(gTime, 1L);
+		}
+		return gTimes;
+	}
+
+	@Benchmark
+	public BitSet batchIncreaseDay() {
+		return GTimeBatch.increaseDay(batch, 1L);
+	}
+
+	@Benchmark
+	public GTime[] loopIncreaseDay() {
+		for (GTime gTime : gTimes) {
+			GTimeCalculate.increaseDay(gTime, 1L);
+		}
+		return gTimes;
+	}
+
+	@Benchmark
+	public int[] batchGetYears() {
+		return GTimeBatch.getYears(batch);
+	}
+
+	@Benchmark
+	public int[] loopGetYears() {
+		int[] years = new int[rows];
+		for (int i = 0; i < rows; i++) {
+			years[i] = GTimeInfo.getYear(gTimes[i]);
+		}
+		return years;
+	}
+
+	@Benchmark
+	public long[] batchDifferenceInSeconds() {
+		return GTimeBatch.differenceInSeconds(batch, otherBatch);
+	}
+
+	@Benchmark
+	public long[] loopDifferenceInSeconds() {
+		long[] differences = new long[rows];
+		for (int i = 0; i < rows; i++) {
+			differences[i] = GTimeAnalyse.differenceInSeconds(gTimes[i], otherGTimes[i]);
+		}
+		return differences;
+	}
+
+	@Benchmark
+	public boolean batchChangeTimezone() {
+		return GTimeBatch.changeTimezone(batch, "Asia/Tokyo");
+	}
+}
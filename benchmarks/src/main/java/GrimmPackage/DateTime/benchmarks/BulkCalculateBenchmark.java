@@ -0,0 +1,72 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures the parallel bulk methods of GTimeCalculate against a serial loop of the single methods.</b><p>
+ * Every invocation shifts the days forward and back, so that the GTimes stay in place.
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkCalculateBenchmark {
+	private static final int ENTRIES = 1_000_000;
+	private final List<GTime> gTimes = new ArrayList<>();
+
+	@Setup
+	public void setUp() {
+		for (int i = 0; i < ENTRIES; i++) {
+			gTimes.add(new GTime(2022, 1 + i % 12, 1 + i % 28, i % 24, i % 60, i % 60, i, "Europe/Budapest"));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(2 * ENTRIES)
+	public BitSet increaseAllDays() {
+		GTimeCalculate.increaseAll(gTimes, "day", 1L);
+		return GTimeCalculate.increaseAll(gTimes, "day", -1L);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(2 * ENTRIES)
+	public boolean serialIncreaseDay() {
+		boolean success = true;
+		for (GTime gTime : gTimes) {
+			success &= GTimeCalculate.increaseDay(gTime, 1L);
+		}
+		for (GTime gTime : gTimes) {
+			success &= GTimeCalculate.increaseDay(gTime, -1L);
+		}
+		return success;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(2 * ENTRIES)
+	public BitSet changeTimezoneAll() {
+		GTimeCalculate.changeTimezoneAll(gTimes, "Asia/Tokyo");
+		return GTimeCalculate.changeTimezoneAll(gTimes, "Europe/Budapest");
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(2 * ENTRIES)
+	public boolean serialChangeTimezone() {
+		boolean success = true;
+		for (GTime gTime : gTimes) {
+			success &= GTimeCalculate.changeTimezone(gTime, "Asia/Tokyo");
+		}
+		for (GTime gTime : gTimes) {
+			success &= GTimeCalculate.changeTimezone(gTime, "Europe/Budapest");
+		}
+		return success;
+	}
+}
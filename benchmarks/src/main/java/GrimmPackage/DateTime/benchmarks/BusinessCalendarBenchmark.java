@@ -0,0 +1,81 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures GTimeBusinessCalendar against looping GTimeCalculate.increaseDay with a day-of-week and holiday check.</b>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BusinessCalendarBenchmark {
+	private static final int BUSINESS_DAYS = 250;
+	private final List<GTime> holidays = new ArrayList<>();
+	private final Set<Long> holidayDays = new HashSet<>();
+	private GTimeBusinessCalendar calendar;
+	private GTime trade, maturity;
+
+	@Setup
+	public void setUp() {
+		int[][] dates = {{1, 1}, {3, 15}, {5, 1}, {8, 20}, {10, 23}, {11, 1}, {12, 25}, {12, 26}};
+		for (int year = 2000; year <= 2050; year++) {
+			for (int[] date : dates) {
+				GTime holiday = new GTime(year, date[0], date[1], 0, 0, 0, 0, "Europe/Budapest");
+				holidays.add(holiday);
+				holidayDays.add(java.time.LocalDate.of(year, date[0], date[1]).toEpochDay());
+			}
+		}
+		calendar = GTimeBusinessCalendar.getBusinessCalendar(holidays);
+		trade = new GTime(2026, 10, 16, 14, 30, 0, 0, "Europe/Budapest");
+		maturity = new GTime(2036, 10, 16, 14, 30, 0, 0, "Europe/Budapest");
+	}
+
+	@Benchmark
+	public GTime calendarAdd() {
+		GTime gTime = GTimeEdit.cloneGTime(trade);
+		GTimeBusinessCalendar.addBusinessDays(calendar, gTime, BUSINESS_DAYS);
+		return gTime;
+	}
+
+	@Benchmark
+	public GTime loopAdd() {
+		GTime gTime = GTimeEdit.cloneGTime(trade);
+		int count = 0;
+		while (count < BUSINESS_DAYS) {
+			GTimeCalculate.increaseDay(gTime, 1);
+			if ((GTimeInfo.getDayOfWeek(gTime) < 6) && !holidayDays.contains(java.time.LocalDate.of(GTimeInfo.getYear(gTime), GTimeInfo.getMonth(gTime), GTimeInfo.getDay(gTime)).toEpochDay())) {
+				count++;
+			}
+		}
+		return gTime;
+	}
+
+	@Benchmark
+	public long calendarBetween() {
+		return GTimeBusinessCalendar.getBusinessDaysBetween(calendar, trade, maturity);
+	}
+
+	@Benchmark
+	public long loopBetween() {
+		GTime gTime = GTimeEdit.cloneGTime(trade);
+		long days = GTimeAnalyse.differenceInDays(trade, maturity);
+		long count = 0;
+		for (long day = 0; day < days; day++) {
+			if ((GTimeInfo.getDayOfWeek(gTime) < 6) && !holidayDays.contains(java.time.LocalDate.of(GTimeInfo.getYear(gTime), GTimeInfo.getMonth(gTime), GTimeInfo.getDay(gTime)).toEpochDay())) {
+				count++;
+			}
+			GTimeCalculate.increaseDay(gTime, 1);
+		}
+		return count;
+	}
+}
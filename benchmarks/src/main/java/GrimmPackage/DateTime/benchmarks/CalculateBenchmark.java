@@ -0,0 +1,94 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+import static GrimmPackage.DateTime.GTimeCalculate.*;
+
+/**
+ * <b>Measures the cost of the GTimeCalculate methods.</b><p>
+ * The GTime is reset before every iteration so that the repeated increasing stays in the legal range.
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CalculateBenchmark {
+	private GTime gTime;
+	private int zoneIndex;
+	private final String[] timezones = new String[]{"Europe/Budapest", "America/Los_Angeles", "GMT+00:00", "Asia/Kolkata"};
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		gTime = new GTime(2022, 6, 5, 13, 45, 30, 123456789, "Europe/Budapest");
+		zoneIndex = 0;
+	}
+
+	@Benchmark
+	public GTime increaseYear() {
+		GTimeCalculate.increaseYear(gTime, 1L);
+		return gTime;
+	}
+
+	@Benchmark
+	public GTime increaseMonth() {
+		GTimeCalculate.increaseMonth(gTime, 1L);
+		return gTime;
+	}
+
+	@Benchmark
+	public GTime increaseWeek() {
+		GTimeCalculate.increaseWeek(gTime, 1L);
+		return gTime;
+	}
+
+	@Benchmark
+	public GTime increaseDay() {
+		GTimeCalculate.increaseDay(gTime, 1L);
+		return gTime;
+	}
+
+	@Benchmark
+	public GTime increaseHour() {
+		GTimeCalculate.increaseHour(gTime, 1L);
+		return gTime;
+	}
+
+	@Benchmark
+	public GTime increaseMinute() {
+		GTimeCalculate.increaseMinute(gTime, 1L);
+		return gTime;
+	}
+
+	@Benchmark
+	public GTime increaseSecond() {
+		GTimeCalculate.increaseSecond(gTime, 1L);
+		return gTime;
+	}
+
+	@Benchmark
+	public GTime increaseNanosecond() {
+		GTimeCalculate.increaseNanosecond(gTime, 1L);
+		return gTime;
+	}
+
+	@Benchmark
+	public GTime changeTimezone() {
+		zoneIndex = (zoneIndex + 1) & 3;
+		GTimeCalculate.changeTimezone(gTime, timezones[zoneIndex]);
+		return gTime;
+	}
+
+	@Benchmark
+	public boolean changeTimezoneWrong() {
+		GTimeCalculate.changeTimezone(gTime, "Wrong/Zone");
+		return getCalculateSuccess();
+	}
+}
@@ -0,0 +1,55 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures GTime creation on current datetime with the system clock and the coarse clock of GTimeClock.</b>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClockBenchmark {
+	@Param({"system", "coarse"})
+	public String clock;
+
+	private final GTime gTime = new GTime();
+
+	@Setup
+	public void setUp() {
+		if (clock.equals("coarse")) {
+			GTimeClock.setCoarseClock(1);
+		}
+		else {
+			GTimeClock.setSystemClock();
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		GTimeClock.setSystemClock();
+	}
+
+	@Benchmark
+	public GTime now() {
+		return new GTime();
+	}
+
+	@Benchmark
+	public GTime nowOnTimezone() {
+		return new GTime("Europe/Budapest");
+	}
+
+	@Benchmark
+	public boolean setCurrentTime() {
+		return GTimeEdit.setCurrentTime(gTime, "Europe/Budapest");
+	}
+}
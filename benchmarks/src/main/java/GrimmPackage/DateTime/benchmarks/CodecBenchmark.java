@@ -0,0 +1,82 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.*;
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures GTimeEncoder and GTimeDecoder against the String round trip of GTimeFormat and GTimeParse.</b>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+	private static final int RECORDS = 1_000;
+	private final GTime[] gTimes = new GTime[RECORDS];
+	private final ByteBuffer buffer = ByteBuffer.allocate(RECORDS * 64);
+	private final byte[] bytes = new byte[RECORDS * 64];
+	private final GTime target = new GTime();
+	private final int[] offsets = new int[RECORDS + 1];
+	private final GTimeFormat infoFormat = GTimeFormat.getInfoFormat();
+	private int encodedLength;
+
+	@Setup
+	public void setup() throws IOException {
+		String[] zones = new String[]{"Europe/Budapest", "UTC", "America/New_York", "Asia/Tokyo"};
+		for (int i = 0; i < RECORDS; i++) {
+			gTimes[i] = new GTime(2000 + i % 50, 1 + i % 12, 1 + i % 28, i % 24, i % 60, i % 60, i * 1_000, zones[i % zones.length]);
+		}
+		encodedLength = encodeRecords();
+		for (int i = 0; i < RECORDS; i++) {
+			offsets[i + 1] = GTimeFormat.format(infoFormat, gTimes[i], bytes, offsets[i]);
+		}
+	}
+
+	@Benchmark
+	public int encodeRecords() throws IOException {
+		buffer.clear();
+		GTimeEncoder encoder = new GTimeEncoder(buffer);
+		for (GTime gTime : gTimes) {
+			GTimeEncoder.writeGTime(encoder, gTime);
+		}
+		return buffer.position();
+	}
+
+	@Benchmark
+	public long decodeRecordsInto() throws IOException {
+		buffer.position(0).limit(encodedLength);
+		GTimeDecoder decoder = new GTimeDecoder(buffer);
+		while (GTimeDecoder.readGTimeInto(decoder, target)) {
+		}
+		return GTimeDecoder.getDecodedCount(decoder);
+	}
+
+	@Benchmark
+	public int formatRecords() {
+		int offset = 0;
+		for (GTime gTime : gTimes) {
+			offset = GTimeFormat.format(infoFormat, gTime, bytes, offset);
+		}
+		return offset;
+	}
+
+	@Benchmark
+	public int parseRecordsInto() {
+		int parsed = 0;
+		for (int i = 0; i < RECORDS; i++) {
+			if (GTimeParse.parseInto(target, bytes, offsets[i], offsets[i + 1] - offsets[i])) {
+				parsed++;
+			}
+		}
+		return parsed;
+	}
+}
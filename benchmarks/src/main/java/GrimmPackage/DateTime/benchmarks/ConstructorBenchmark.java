@@ -0,0 +1,53 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures the cost of the GTime constructors.</b><p>
+ * Covers the valid and the fallback (wrong time zone, wrong date) paths.
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConstructorBenchmark {
+	@Param({"Europe/Budapest", "GMT+01:30", "Wrong/Zone"})
+	public String timezone;
+
+	private final int[] dateComponents = new int[]{2022, 6, 5};
+	private final int[] timeComponents = new int[]{13, 45, 30, 123456789};
+	private final int[] wrongDateComponents = new int[]{2022, 2, 30};
+
+	@Benchmark
+	public GTime now() {
+		return new GTime();
+	}
+
+	@Benchmark
+	public GTime nowOnTimezone() {
+		return new GTime(timezone);
+	}
+
+	@Benchmark
+	public GTime components() {
+		return new GTime(2022, 6, 5, 13, 45, 30, 123456789, timezone);
+	}
+
+	@Benchmark
+	public GTime componentArrays() {
+		return new GTime(dateComponents, timeComponents, timezone);
+	}
+
+	@Benchmark
+	public GTime wrongDate() {
+		return new GTime(wrongDateComponents, timeComponents, timezone);
+	}
+}
@@ -0,0 +1,64 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures the GTime helper methods when all available cores call them at once.</b><p>
+ * Every thread works on its own GTime, therefore any loss of scaling compared to the single-thread benchmarks comes from state shared inside the library.<p>
+ * The thread count can be overridden with the -t option of the benchmark runner.
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Thread)
+public class ContentionBenchmark {
+	private GTime gTime1, gTime2;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		gTime1 = new GTime(2022, 6, 5, 13, 45, 30, 123456789, "Europe/Budapest");
+		gTime2 = new GTime(2023, 3, 26, 1, 15, 0, 987654321, "America/Los_Angeles");
+	}
+
+	@Benchmark
+	public GTime constructor() {
+		return new GTime(2022, 6, 5, 13, 45, 30, 123456789, "Europe/Budapest");
+	}
+
+	@Benchmark
+	public boolean increaseDay() {
+		GTimeCalculate.increaseDay(gTime1, 1L);
+		return GTimeCalculate.getCalculateSuccess();
+	}
+
+	@Benchmark
+	public boolean changeTimezone() {
+		GTimeCalculate.changeTimezone(gTime2, "Asia/Kolkata");
+		return GTimeCalculate.getCalculateSuccess();
+	}
+
+	@Benchmark
+	public boolean setDateTime() {
+		GTimeEdit.setDateTime(gTime2, 2023, 3, 26, 1, 15, 0, 987654321, "America/Los_Angeles");
+		return GTimeEdit.getEditSuccess();
+	}
+
+	@Benchmark
+	public long differenceInNanoseconds() {
+		return GTimeAnalyse.differenceInNanoseconds(gTime1, gTime2);
+	}
+
+	@Benchmark
+	public String getDate() {
+		return GTimeInfo.getDate(gTime1, 1, 2, 3, false, true, '-');
+	}
+}
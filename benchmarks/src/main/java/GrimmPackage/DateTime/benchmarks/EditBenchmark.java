@@ -0,0 +1,65 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures the cost of the GTimeEdit methods.</b>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EditBenchmark {
+	private GTime gTime;
+	private final GTime target = new GTime();
+
+	@Setup
+	public void setUp() {
+		gTime = new GTime(2022, 6, 5, 13, 45, 30, 123456789, "Europe/Budapest");
+		GTimeEdit.setID(gTime, "id-1");
+		GTimeEdit.setDescription(gTime, "benchmark");
+	}
+
+	@Benchmark
+	public GTime cloneGTime() {
+		return GTimeEdit.cloneGTime(gTime);
+	}
+
+	@Benchmark
+	public GTime copyInto() {
+		GTimeEdit.copyInto(gTime, target);
+		return target;
+	}
+
+	@Benchmark
+	public GTime setCurrentTime() {
+		GTimeEdit.setCurrentTime(gTime, "Europe/Budapest");
+		return gTime;
+	}
+
+	@Benchmark
+	public GTime setDateTime() {
+		GTimeEdit.setDateTime(gTime, 2022, 6, 5, 13, 45, 30, 123456789, "Europe/Budapest");
+		return gTime;
+	}
+
+	@Benchmark
+	public boolean setDateTimeWrong() {
+		GTimeEdit.setDateTime(gTime, 2022, 2, 30, 13, 45, 30, 123456789, "Europe/Budapest");
+		return GTimeEdit.getEditSuccess();
+	}
+
+	@Benchmark
+	public GTime setDay() {
+		GTimeEdit.setDay(gTime, 5);
+		return gTime;
+	}
+}
@@ -0,0 +1,80 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures GTimeExport against building a String per record, into a channel discarding the bytes.</b>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExportBenchmark {
+	private static final int RECORDS = 10_000;
+	private final List<GTime> gTimes = new ArrayList<>();
+	private final GTimeExport csvExport = GTimeExport.getCsvExport(',', false, "ID", "description", "info");
+	private final GTimeExport jsonExport = GTimeExport.getJsonLinesExport("ID", "instant", "zone", "year", "month", "day", "hour", "minute", "second");
+	private final WritableByteChannel channel = new WritableByteChannel() {
+		@Override
+		public int write(ByteBuffer source) {
+			int remaining = source.remaining();
+			source.position(source.limit());
+			return remaining;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return true;
+		}
+
+		@Override
+		public void close() {
+		}
+	};
+
+	@Setup
+	public void setUp() {
+		for (int i = 0; i < RECORDS; i++) {
+			GTime gTime = new GTime(2022, 1 + i % 12, 1 + i % 28, i % 24, i % 60, i % 60, i * 1_000, "Europe/Budapest");
+			GTimeEdit.setID(gTime, "id-" + i);
+			GTimeEdit.setDescription(gTime, "benchmark");
+			gTimes.add(gTime);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(RECORDS)
+	public long exportCsv() throws IOException {
+		return GTimeExport.export(csvExport, gTimes, channel);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(RECORDS)
+	public long exportJsonLines() throws IOException {
+		return GTimeExport.export(jsonExport, gTimes, channel);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(RECORDS)
+	public long fullInfoStrings() throws IOException {
+		long count = 0;
+		for (GTime gTime : gTimes) {
+			channel.write(ByteBuffer.wrap((GTimeInfo.getFullInfo(gTime) + "\n").getBytes(StandardCharsets.UTF_8)));
+			count++;
+		}
+		return count;
+	}
+}
@@ -0,0 +1,65 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures GTimeHistogram bucketing against grouping converted clones by their local hour in a HashMap.</b>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HistogramBenchmark {
+	private static final int ENTRIES = 1_000_000;
+	private final List<GTime> gTimes = new ArrayList<>();
+	private final long[] epochSeconds = new long[ENTRIES];
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(1);
+		for (int i = 0; i < ENTRIES; i++) {
+			epochSeconds[i] = 1_640_995_200L + random.nextInt(31_536_000);
+		}
+		GTimeBatch batch = new GTimeBatch(ENTRIES);
+		for (long epochSecond : epochSeconds) {
+			GTimeBatch.addInstant(batch, epochSecond, 0, "Europe/Budapest");
+		}
+		for (int i = 0; i < ENTRIES; i++) {
+			gTimes.add(GTimeBatch.getGTime(batch, i));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ENTRIES)
+	public GTimeHistogram<Long> countGTimesByHour() {
+		return GTimeHistogram.countBuckets(gTimes, "hour", "America/New_York");
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ENTRIES)
+	public GTimeHistogram<Long> countEpochSecondsByHour() {
+		return GTimeHistogram.countBuckets(epochSeconds, "hour", "America/New_York");
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ENTRIES)
+	public Map<LocalDateTime, Long> hashMapByHour() {
+		Map<LocalDateTime, Long> counts = new HashMap<>();
+		for (GTime gTime : gTimes) {
+			GTime local = GTimeEdit.cloneGTime(gTime);
+			GTimeCalculate.changeTimezone(local, "America/New_York");
+			counts.merge(LocalDateTime.of(GTimeInfo.getYear(local), GTimeInfo.getMonth(local), GTimeInfo.getDay(local), GTimeInfo.getHour(local), 0), 1L, Long::sum);
+		}
+		return counts;
+	}
+}
@@ -0,0 +1,78 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures GTimeIndex range queries against a linear scan, and adding out-of-order GTimes.</b>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IndexBenchmark {
+	private static final int ENTRIES = 1_000_000;
+	private final List<GTime> gTimes = new ArrayList<>();
+	private final List<GTime> shuffled = new ArrayList<>();
+	private GTimeIndex snapshot;
+	private GTime from, to;
+
+	@Setup
+	public void setUp() {
+		for (int i = 0; i < ENTRIES; i++) {
+			gTimes.add(new GTime(2022, 1 + i % 12, 1 + i % 28, i % 24, i % 60, i % 60, i, "Europe/Budapest"));
+		}
+		shuffled.addAll(gTimes.subList(0, 100_000));
+		Collections.shuffle(shuffled, new Random(1));
+		snapshot = GTimeIndex.getSnapshot(new GTimeIndex(gTimes));
+		from = new GTime(2022, 6, 5, 12, 0, 0, 0, "Europe/Budapest");
+		to = new GTime(2022, 6, 5, 13, 0, 0, 0, "Europe/Budapest");
+	}
+
+	@Benchmark
+	public GTime[] indexRange() {
+		return GTimeIndex.getRange(snapshot, from, to);
+	}
+
+	@Benchmark
+	public List<GTime> linearScanRange() {
+		List<GTime> result = new ArrayList<>();
+		for (GTime gTime : gTimes) {
+			if ((GTimeAnalyse.differenceInNanoseconds(from, gTime) >= 0) && (GTimeAnalyse.differenceInNanoseconds(gTime, to) > 0)) {
+				result.add(gTime);
+			}
+		}
+		return result;
+	}
+
+	@Benchmark
+	public GTime indexFloor() {
+		return GTimeIndex.getFloor(snapshot, to);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(100_000)
+	public GTimeIndex addShuffled() {
+		GTimeIndex index = new GTimeIndex();
+		for (GTime gTime : shuffled) {
+			GTimeIndex.addGTime(index, gTime);
+		}
+		return index;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(100_000)
+	public GTimeIndex addShuffledBulk() {
+		GTimeIndex index = new GTimeIndex();
+		GTimeIndex.addGTimes(index, shuffled);
+		return index;
+	}
+}
@@ -0,0 +1,98 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures the cost of the GTimeInfo formatters and calendar getters.</b>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InfoBenchmark {
+	private GTime gTime;
+	private final GTimeFormat dateFormat = GTimeFormat.getDateFormat(1, 2, 3, false, true, '-');
+	private final StringBuilder builder = new StringBuilder(64);
+	private final byte[] buffer = new byte[128];
+
+	@Setup
+	public void setUp() {
+		gTime = new GTime(2022, 6, 5, 13, 45, 30, 123456789, "Europe/Budapest");
+		GTimeEdit.setID(gTime, "id-1");
+		GTimeEdit.setDescription(gTime, "benchmark");
+	}
+
+	@Benchmark
+	public String getDatePadded() {
+		return GTimeInfo.getDate(gTime, 1, 2, 3, false, true, '-');
+	}
+
+	@Benchmark
+	public StringBuilder formatDateIntoBuilder() {
+		builder.setLength(0);
+		return GTimeFormat.format(dateFormat, gTime, builder);
+	}
+
+	@Benchmark
+	public int formatFullInfoIntoBytes() {
+		return GTimeFormat.format(GTimeFormat.getFullInfoFormat(), gTime, buffer, 0);
+	}
+
+	@Benchmark
+	public String getDateMonthName() {
+		return GTimeInfo.getDate(gTime, 3, 2, 1, true, false, '.');
+	}
+
+	@Benchmark
+	public String getTimePadded() {
+		return GTimeInfo.getTime(gTime, 1, 2, 3, true, ':');
+	}
+
+	@Benchmark
+	public String getFullInfo() {
+		return GTimeInfo.getFullInfo(gTime);
+	}
+
+	@Benchmark
+	public String getInfo() {
+		return GTimeInfo.getInfo(gTime);
+	}
+
+	@Benchmark
+	public float getTimeZoneOffsetHours() {
+		return GTimeInfo.getTimeZoneOffsetHours(gTime);
+	}
+
+	@Benchmark
+	public int[] getDateComponents() {
+		return GTimeInfo.getDate(gTime);
+	}
+
+	@Benchmark
+	public int getWeekOfYear() {
+		return GTimeInfo.getWeekOfYear(gTime);
+	}
+
+	@Benchmark
+	public int getFirstDayOfWeek() {
+		return GTimeInfo.getFirstDayOfWeek(gTime);
+	}
+
+	@Benchmark
+	public int getDaysOfYear() {
+		return GTimeInfo.getDaysOfYear(gTime);
+	}
+
+	@Benchmark
+	public int getWeeksOfYear() {
+		return GTimeInfo.getWeeksOfYear(gTime);
+	}
+}
@@ -0,0 +1,71 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures GTimeIntervalIndex overlap queries against a linear scan of hand-written comparisons, and adding intervals.</b>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Thread)
+public class IntervalBenchmark {
+	private static final int RESERVATIONS = 1_000_000;
+	private final List<GTimeInterval> reservations = new ArrayList<>();
+	private GTimeIntervalIndex snapshot;
+	private GTimeInterval request;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(1);
+		for (int i = 0; i < RESERVATIONS; i++) {
+			GTime start = new GTime(2020 + random.nextInt(10), 1 + random.nextInt(12), 1 + random.nextInt(28), random.nextInt(24), 0, 0, 0, "Europe/Budapest");
+			GTime end = GTimeEdit.cloneGTime(start);
+			GTimeCalculate.increaseHour(end, 1 + random.nextInt(72));
+			reservations.add(GTimeInterval.getInterval(start, end));
+		}
+		snapshot = GTimeIntervalIndex.getSnapshot(new GTimeIntervalIndex(reservations));
+		request = GTimeInterval.getInterval(new GTime(2024, 6, 5, 12, 0, 0, 0, "Europe/Budapest"), new GTime(2024, 6, 5, 14, 0, 0, 0, "Europe/Budapest"));
+	}
+
+	@Benchmark
+	public GTimeInterval[] indexOverlapping() {
+		return GTimeIntervalIndex.getOverlapping(snapshot, request);
+	}
+
+	@Benchmark
+	public boolean indexHasOverlapping() {
+		return GTimeIntervalIndex.hasOverlapping(snapshot, request);
+	}
+
+	@Benchmark
+	public List<GTimeInterval> linearScanOverlapping() {
+		GTime from = GTimeInterval.getIntervalStart(request), to = GTimeInterval.getIntervalEnd(request);
+		List<GTimeInterval> result = new ArrayList<>();
+		for (GTimeInterval reservation : reservations) {
+			if ((GTimeAnalyse.differenceInNanoseconds(GTimeInterval.getIntervalStart(reservation), to) > 0) && (GTimeAnalyse.differenceInNanoseconds(from, GTimeInterval.getIntervalEnd(reservation)) > 0)) {
+				result.add(reservation);
+			}
+		}
+		return result;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(100_000)
+	public GTimeIntervalIndex addOneByOne() {
+		GTimeIntervalIndex index = new GTimeIntervalIndex();
+		for (int i = 0; i < 100_000; i++) {
+			GTimeIntervalIndex.addInterval(index, reservations.get(i));
+		}
+		return index;
+	}
+}
@@ -0,0 +1,50 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures the cost of GTimeMetrics on a GTimeCalculate method, with the metrics disabled and enabled.</b><p>
+ * The GTime is reset before every iteration so that the repeated increasing stays in the legal range.
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MetricsBenchmark {
+	@Param({"false", "true"})
+	private boolean enabled;
+
+	private GTime gTime;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		GTimeMetrics.setMetricsEnabled(enabled);
+		gTime = new GTime(2022, 6, 5, 13, 45, 30, 123456789, "Europe/Budapest");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		GTimeMetrics.setMetricsEnabled(false);
+		GTimeMetrics.resetMetrics();
+	}
+
+	@Benchmark
+	public GTime increaseDay() {
+		GTimeCalculate.increaseDay(gTime, 1L);
+		return gTime;
+	}
+
+	@Benchmark
+	public GTime setDateTimeWrong() {
+		GTimeEdit.setDateTime(gTime, 2022, 13, 5, 13, 45, 30, 0, "Europe/Budapest");
+		return gTime;
+	}
+}
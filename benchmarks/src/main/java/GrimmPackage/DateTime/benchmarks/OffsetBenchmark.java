@@ -0,0 +1,65 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.*;
+import java.time.zone.*;
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures GTimeOffsetTable against ZoneRules, per instant and in bulk.</b>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OffsetBenchmark {
+	private static final int INSTANTS = 10_000;
+	private final ZoneId zone = ZoneId.of("America/New_York");
+	private final ZoneRules rules = zone.getRules();
+	private final long[] epochSeconds = new long[INSTANTS];
+	private final long[] localEpochSeconds = new long[INSTANTS];
+	private int next;
+
+	@Setup
+	public void setUp() {
+		long first = LocalDate.of(2022, 1, 1).toEpochDay() * 86_400L;
+		for (int i = 0; i < INSTANTS; i++) {
+			epochSeconds[i] = first + i * 3_163L;
+		}
+	}
+
+	@Benchmark
+	public int offsetTable() {
+		next = (next + 1) % INSTANTS;
+		return GTimeOffsetTable.getZoneOffsetSeconds(zone, epochSeconds[next]);
+	}
+
+	@Benchmark
+	public int zoneRules() {
+		next = (next + 1) % INSTANTS;
+		return rules.getOffset(Instant.ofEpochSecond(epochSeconds[next])).getTotalSeconds();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(INSTANTS)
+	public long[] bulkLocalEpochSeconds() {
+		GTimeOffsetTable.getLocalEpochSeconds(zone, epochSeconds, 0, INSTANTS, localEpochSeconds);
+		return localEpochSeconds;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(INSTANTS)
+	public long[] bulkZoneRules() {
+		for (int i = 0; i < INSTANTS; i++) {
+			localEpochSeconds[i] = epochSeconds[i] + rules.getOffset(Instant.ofEpochSecond(epochSeconds[i])).getTotalSeconds();
+		}
+		return localEpochSeconds;
+	}
+}
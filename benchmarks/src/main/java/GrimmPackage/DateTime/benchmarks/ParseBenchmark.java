@@ -0,0 +1,47 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.*;
+import java.time.*;
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures GTimeParse against the parser of ZonedDateTime.</b>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParseBenchmark {
+	private final String text = "2022-06-05T13:45:30.123456789+02:00[Europe/Budapest]";
+	private final byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+	private final GTime gTime = new GTime();
+	private final GTimeFormat dateFormat = GTimeFormat.getDateFormat(1, 2, 3, false, true, '-');
+
+	@Benchmark
+	public GTime parse() {
+		return GTimeParse.parse(text);
+	}
+
+	@Benchmark
+	public boolean parseBytesInto() {
+		return GTimeParse.parseInto(gTime, bytes, 0, bytes.length);
+	}
+
+	@Benchmark
+	public GTime parseDateLayout() {
+		return GTimeParse.parse(dateFormat, "2022-06-05", "Europe/Budapest");
+	}
+
+	@Benchmark
+	public ZonedDateTime zonedDateTimeParse() {
+		return ZonedDateTime.parse(text);
+	}
+}
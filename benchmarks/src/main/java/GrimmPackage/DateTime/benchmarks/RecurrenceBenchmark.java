@@ -0,0 +1,66 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures GTimeRecurrence against stepping a cloned GTime with GTimeCalculate.</b>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RecurrenceBenchmark {
+	private static final int OCCURRENCES = 1_000;
+	private final GTime start = new GTime(2022, 6, 6, 9, 30, 0, 0, "Europe/Budapest");
+	private final GTime after = new GTime(2100, 3, 1, 12, 0, 0, 0, "Europe/Budapest");
+	private final GTimeRecurrence weekly = GTimeRecurrence.getRecurrence(start, "FREQ=WEEKLY");
+	private final GTimeRecurrence monthly = GTimeRecurrence.getRecurrence(start, "FREQ=MONTHLY;BYDAY=MO,FR;BYMONTHDAY=1,2,3,4,5,6,7");
+
+	@Benchmark
+	@OperationsPerInvocation(OCCURRENCES)
+	public long weeklyEpochSeconds() {
+		return GTimeRecurrence.getEpochSeconds(weekly).limit(OCCURRENCES).sum();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OCCURRENCES)
+	public long weeklyGTimes() {
+		return GTimeRecurrence.getOccurrences(weekly).limit(OCCURRENCES).count();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OCCURRENCES)
+	public long weeklyCloneAndIncrease() {
+		GTime gTime = GTimeEdit.cloneGTime(start);
+		long count = 0;
+		for (int i = 0; i < OCCURRENCES; i++) {
+			gTime = GTimeEdit.cloneGTime(gTime);
+			GTimeCalculate.increaseWeek(gTime, 1L);
+			count++;
+		}
+		return count;
+	}
+
+	@Benchmark
+	public GTime monthlyOccurrence10000() {
+		return GTimeRecurrence.getOccurrence(monthly, 10_000L);
+	}
+
+	@Benchmark
+	public GTime monthlyIterate10000() {
+		return GTimeRecurrence.getOccurrences(monthly).skip(10_000L).findFirst().orElse(null);
+	}
+
+	@Benchmark
+	public GTime monthlyFirstAfter() {
+		return GTimeRecurrence.getFirstAfter(monthly, after);
+	}
+}
@@ -0,0 +1,137 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+
+/**
+ * <b>Measures GTimeScheduler against ScheduledThreadPoolExecutor with 10M pending timers: schedule-and-cancel throughput and firing latency.</b><p>
+ * The latency benchmarks schedule a callback 1 millisecond ahead and wait for it, so their times include that millisecond.
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class SchedulerBenchmark {
+	private static final int PENDING = 10_000_000;
+	private static final long HORIZON_MILLISECONDS = 30L * 24 * 3_600_000;
+	private static final Runnable NOTHING = () -> { };
+
+	@State(Scope.Benchmark)
+	public static class WheelState {
+		GTimeScheduler scheduler;
+		long now;
+
+		@Setup
+		public void setUp() {
+			scheduler = new GTimeScheduler();
+			now = System.currentTimeMillis();
+			Random random = new Random(1);
+			for (int i = 0; i < PENDING; i++) {
+				GTimeScheduler.schedule(scheduler, now + 60_000L + (long) (random.nextDouble() * HORIZON_MILLISECONDS), NOTHING);
+			}
+		}
+
+		@TearDown
+		public void tearDown() {
+			GTimeScheduler.stopScheduler(scheduler);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class ExecutorState {
+		ScheduledThreadPoolExecutor executor;
+
+		@Setup
+		public void setUp() {
+			executor = new ScheduledThreadPoolExecutor(1);
+			executor.setRemoveOnCancelPolicy(true);
+			Random random = new Random(1);
+			for (int i = 0; i < PENDING; i++) {
+				executor.schedule(NOTHING, 60_000L + (long) (random.nextDouble() * HORIZON_MILLISECONDS), TimeUnit.MILLISECONDS);
+			}
+		}
+
+		@TearDown
+		public void tearDown() {
+			executor.shutdownNow();
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Offsets {
+		final long[] delays = new long[1 << 16];
+		int next;
+
+		@Setup
+		public void setUp() {
+			Random random = new Random(2);
+			for (int i = 0; i < delays.length; i++) {
+				delays[i] = 60_000L + (long) (random.nextDouble() * HORIZON_MILLISECONDS);
+			}
+		}
+
+		long nextDelay() {
+			return delays[next++ & (delays.length - 1)];
+		}
+	}
+
+	@Benchmark
+	public boolean wheelScheduleCancel(WheelState state, Offsets offsets) {
+		GTimeScheduler.Timer timer = GTimeScheduler.schedule(state.scheduler, state.now + offsets.nextDelay(), NOTHING);
+		return GTimeScheduler.cancel(state.scheduler, timer);
+	}
+
+	@Benchmark
+	public boolean executorScheduleCancel(ExecutorState state, Offsets offsets) {
+		return state.executor.schedule(NOTHING, offsets.nextDelay(), TimeUnit.MILLISECONDS).cancel(false);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SampleTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public void wheelLatency(WheelState state) {
+		Thread waiter = Thread.currentThread();
+		boolean[] fired = new boolean[1];
+		GTimeScheduler.schedule(state.scheduler, System.currentTimeMillis() + 1L, () -> {
+			synchronized (fired) {
+				fired[0] = true;
+			}
+			LockSupport.unpark(waiter);
+		});
+		await(fired);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SampleTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public void executorLatency(ExecutorState state) {
+		Thread waiter = Thread.currentThread();
+		boolean[] fired = new boolean[1];
+		state.executor.schedule(() -> {
+			synchronized (fired) {
+				fired[0] = true;
+			}
+			LockSupport.unpark(waiter);
+		}, 1L, TimeUnit.MILLISECONDS);
+		await(fired);
+	}
+
+	private static void await(boolean[] fired) {
+		while (true) {
+			synchronized (fired) {
+				if (fired[0]) {
+					return;
+				}
+			}
+			LockSupport.park();
+		}
+	}
+}
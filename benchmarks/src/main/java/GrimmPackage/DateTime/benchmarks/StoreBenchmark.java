@@ -0,0 +1,103 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures GTimeStore on 10 million rows: opening, random reads, appending and scans.</b><p>
+ * The store is written once into a temporary directory and deleted at the end.
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StoreBenchmark {
+	private static final int ROWS = 10_000_000;
+	private final String[] zones = new String[]{"Europe/Budapest", "UTC", "America/New_York", "Asia/Tokyo"};
+	private final GTime target = new GTime();
+	private Path directory;
+	private Path path;
+	private GTimeStore store;
+	private GTimeStore appendStore;
+	private long[] rows;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("gtimestore");
+		path = directory.resolve("rows.gts");
+		GTimeStore writer = GTimeStore.openStore(path);
+		for (int i = 0; i < ROWS; i++) {
+			GTimeStore.appendInstant(writer, 1_600_000_000L + i, i % 1_000_000_000, zones[i & 3]);
+		}
+		GTimeStore.closeStore(writer);
+		store = GTimeStore.openStore(path, true);
+		appendStore = GTimeStore.openStore(directory.resolve("append.gts"));
+		Random random = new Random(42);
+		rows = new long[1_024];
+		for (int i = 0; i < rows.length; i++) {
+			rows[i] = random.nextInt(ROWS);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		GTimeStore.closeStore(store);
+		GTimeStore.closeStore(appendStore);
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+			for (Path file : files) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(directory);
+	}
+
+	@Benchmark
+	public long openAndClose() throws IOException {
+		GTimeStore opened = GTimeStore.openStore(path, true);
+		long size = GTimeStore.getStoreSize(opened);
+		GTimeStore.closeStore(opened);
+		return size;
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public GTime readRandomRow() throws IOException {
+		GTimeStore.readGTimeInto(store, rows[next++ & 1_023], target);
+		return target;
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public long appendInstant() throws IOException {
+		return GTimeStore.appendInstant(appendStore, 1_600_000_000L + next++, 0, "UTC");
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public long scanPrimitives() {
+		long[] sum = new long[1];
+		GTimeStore.scanStore(store, 0, ROWS, (row, epochSecond, nanosecond, zoneIndex) -> sum[0] += epochSecond + nanosecond);
+		return sum[0];
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public long scanGTimes() throws IOException {
+		long[] count = new long[1];
+		GTimeStore.scanStore(store, 0, ROWS, target, gTime -> count[0]++);
+		return count[0];
+	}
+}
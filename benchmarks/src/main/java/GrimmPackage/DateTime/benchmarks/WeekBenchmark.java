@@ -0,0 +1,70 @@
+package GrimmPackage.DateTime.benchmarks;
+
+import GrimmPackage.DateTime.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.*;
+import java.time.temporal.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <b>Measures GTimeWeekRule against WeekFields, per GTime and in bulk over epoch days.</b>
+ *
+ * @author	Laszlo Karoly Grimm
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WeekBenchmark {
+	private static final int DAYS = 10_000;
+	private final GTime gTime = new GTime(2022, 6, 5, 13, 45, 30, 0, "Europe/Budapest");
+	private final GTimeWeekRule isoRule = GTimeWeekRule.getIsoWeekRule();
+	private final long[] epochDays = new long[DAYS];
+	private final int[] weeks = new int[DAYS];
+	private final int[] weekBasedYears = new int[DAYS];
+
+	@Setup
+	public void setUp() {
+		long first = LocalDate.of(2020, 1, 1).toEpochDay();
+		for (int i = 0; i < DAYS; i++) {
+			epochDays[i] = first + i / 4;
+		}
+	}
+
+	@Benchmark
+	public int getWeekOfYearDefaultLocale() {
+		return GTimeInfo.getWeekOfYear(gTime);
+	}
+
+	@Benchmark
+	public int getWeekOfYearIsoRule() {
+		return GTimeWeekRule.getWeekOfYear(isoRule, gTime);
+	}
+
+	@Benchmark
+	public int localDateWeekFields() {
+		return LocalDate.of(2022, 6, 5).get(WeekFields.of(Locale.getDefault()).weekOfWeekBasedYear());
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(DAYS)
+	public int[] bulkWeekOfYear() {
+		GTimeWeekRule.getWeekOfYear(isoRule, epochDays, 0, DAYS, weeks, weekBasedYears);
+		return weeks;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(DAYS)
+	public int[] bulkWeekFields() {
+		TemporalField field = WeekFields.ISO.weekOfWeekBasedYear();
+		for (int i = 0; i < DAYS; i++) {
+			weeks[i] = LocalDate.ofEpochDay(epochDays[i]).get(field);
+		}
+		return weeks;
+	}
+}